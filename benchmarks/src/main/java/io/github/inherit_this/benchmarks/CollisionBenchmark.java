@@ -0,0 +1,93 @@
+package io.github.inherit_this.benchmarks;
+
+import io.github.inherit_this.util.Constants;
+import io.github.inherit_this.world.DungeonConfig;
+import io.github.inherit_this.world.DungeonConfig.DungeonLayout;
+import io.github.inherit_this.world.DungeonConfig.DungeonStyle;
+import io.github.inherit_this.world.DungeonWorld;
+import io.github.inherit_this.world.ProceduralWorld;
+import io.github.inherit_this.world.StaticWorld;
+import io.github.inherit_this.world.WorldProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures isSolidAtPosition, the collision query the player runs several times per frame.
+ * Each invocation checks a fixed set of random positions around the spawn area.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int QUERIES = 1024;
+    // Queries cover a 64x64 tile area, enough to span many chunks
+    private static final int AREA_TILES = 64;
+
+    @Param({"dungeon", "static", "procedural"})
+    public String worldType;
+
+    private WorldProvider world;
+    private final float[] xs = new float[QUERIES];
+    private final float[] ys = new float[QUERIES];
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.init();
+        int originX = 0;
+        int originY = 0;
+        switch (worldType) {
+            case "dungeon":
+                world = new DungeonWorld(new DungeonConfig(12345L, 10, DungeonStyle.OPEN, DungeonLayout.WINDING));
+                break;
+            case "static":
+                StaticWorld staticWorld = new StaticWorld("maps/default_map.json");
+                originX = staticWorld.getSpawnX() - AREA_TILES / 2;
+                originY = staticWorld.getSpawnY() - AREA_TILES / 2;
+                world = staticWorld;
+                break;
+            default:
+                world = new ProceduralWorld();
+                originX = -AREA_TILES / 2;
+                originY = -AREA_TILES / 2;
+                break;
+        }
+
+        Random random = new Random(42L);
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = (originX + random.nextFloat() * AREA_TILES) * Constants.TILE_SIZE;
+            ys[i] = (originY + random.nextFloat() * AREA_TILES) * Constants.TILE_SIZE;
+        }
+
+        // Touch every position once so lazily built chunks and masks exist before measuring
+        isSolidAtPosition();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int isSolidAtPosition() {
+        int solid = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            if (world.isSolidAtPosition(xs[i], ys[i])) {
+                solid++;
+            }
+        }
+        return solid;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.inherit_this.benchmarks;
+
+import io.github.inherit_this.world.DungeonConfig;
+import io.github.inherit_this.world.DungeonConfig.DungeonLayout;
+import io.github.inherit_this.world.DungeonConfig.DungeonStyle;
+import io.github.inherit_this.world.DungeonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dungeon layout generation for every dungeon style, at the default 64x64 chunk size and
+ * for a very large 512x512 chunk level, on one thread and on four.
+ * Uses a fixed seed so every run generates the same layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DungeonGenerationBenchmark {
+
+    private static final long SEED = 12345L;
+
+    @Param({"OPEN", "NARROW"})
+    public DungeonStyle style;
+
+    @Param({"WINDING", "STRAIGHT"})
+    public DungeonLayout layout;
+
+    @Param({"64", "512"})
+    public int sizeInChunks;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private DungeonConfig config;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        config = new DungeonConfig(SEED, 10, sizeInChunks, sizeInChunks, style, layout);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public DungeonGenerator generate() {
+        DungeonGenerator generator = new DungeonGenerator(config, pool);
+        generator.generate();
+        return generator;
+    }
+}
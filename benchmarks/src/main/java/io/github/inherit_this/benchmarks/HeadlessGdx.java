@@ -0,0 +1,47 @@
+package io.github.inherit_this.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Starts a headless LibGDX application so benchmarks can use core code that loads files and textures.
+ * GL calls go to a no-op GL20, so textures are decoded but never uploaded.
+ */
+public final class HeadlessGdx {
+
+    private static HeadlessApplication application;
+
+    private HeadlessGdx() {
+    }
+
+    /**
+     * Initializes LibGDX once per benchmark JVM. Safe to call from every benchmark setup.
+     */
+    public static synchronized void init() {
+        if (application != null) {
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // No render loop: benchmarks call into core code directly
+        config.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> defaultValue(method.getReturnType()));
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
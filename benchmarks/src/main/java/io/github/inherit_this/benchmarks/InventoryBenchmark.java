@@ -0,0 +1,84 @@
+package io.github.inherit_this.benchmarks;
+
+import io.github.inherit_this.items.Inventory;
+import io.github.inherit_this.items.Item;
+import io.github.inherit_this.items.ItemRarity;
+import io.github.inherit_this.items.ItemStack;
+import io.github.inherit_this.items.ItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Inventory.addItem on a full grid, the worst case hit every time loot is picked up
+ * with a full inventory. The inventory stays full, so every invocation does the same work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryBenchmark {
+
+    // Same grid size as the player's inventory
+    private static final int GRID_WIDTH = 8;
+    private static final int GRID_HEIGHT = 6;
+
+    /**
+     * single: 1x1 unstackable item, stackable: item whose existing stacks are all full, large: 2x2 item
+     */
+    @Param({"single", "stackable", "large"})
+    public String itemKind;
+
+    private Inventory inventory;
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        inventory = new Inventory(GRID_WIDTH, GRID_HEIGHT);
+        Item filler = new Item("rock", "Rock", "Filler", ItemType.MATERIAL, ItemRarity.COMMON,
+            null, 1, 1, 1, 1);
+        Item coins = new Item("coin_pouch", "Coin Pouch", "Stacks to 20", ItemType.MATERIAL, ItemRarity.COMMON,
+            null, 1, 1, 20, 1);
+
+        for (int x = 0; x < GRID_WIDTH; x++) {
+            for (int y = 0; y < GRID_HEIGHT; y++) {
+                if (itemKind.equals("stackable")) {
+                    inventory.placeItem(new ItemStack(coins, coins.getMaxStackSize()), x, y);
+                } else {
+                    inventory.placeItem(new ItemStack(filler, 1), x, y);
+                }
+            }
+        }
+
+        switch (itemKind) {
+            case "stackable":
+                item = coins;
+                break;
+            case "large":
+                item = new Item("tower_shield", "Tower Shield", "Takes 2x2 cells", ItemType.ARMOR, ItemRarity.COMMON,
+                    null, 2, 2, 1, 1);
+                break;
+            default:
+                item = new Item("gem", "Gem", "Unstackable", ItemType.MATERIAL, ItemRarity.COMMON,
+                    null, 1, 1, 1, 1);
+                break;
+        }
+    }
+
+    @Benchmark
+    public boolean addItemToFullGrid() {
+        return inventory.addItem(item, 1);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.inherit_this.benchmarks;
+
+import io.github.inherit_this.entities.BreakableObject;
+import io.github.inherit_this.loot.LootTableGenerator;
+import io.github.inherit_this.loot.LootTableGenerator.ObjectType;
+import io.github.inherit_this.loot.ScaledLootTable;
+import io.github.inherit_this.world.TileTextureManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loot table generation (run whenever a breakable object is spawned)
+ * and loot rolls (run whenever one breaks), for every object type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LootBenchmark {
+
+    @Param({"POT", "CRATE", "BARREL", "CHEST"})
+    public ObjectType objectType;
+
+    @Param({"1", "50"})
+    public int level;
+
+    private LootTableGenerator generator;
+    private BreakableObject object;
+
+    @Setup
+    public void setUp() {
+        // The item registry loads item icons on first use
+        HeadlessGdx.init();
+        generator = LootTableGenerator.getInstance();
+
+        // Same setup as BreakableObjectFactory, without the 3D model
+        ScaledLootTable table = generator.generateLootTable(level, level, objectType);
+        object = new BreakableObject(TileTextureManager.getInstance().getTexture("tiles/stone_1.png"),
+            0, 0, 1, table.getGoldMin(), table.getGoldMax());
+        object.setXPReward(table.getXP());
+        for (ScaledLootTable.ItemDrop drop : table.getItemDrops()) {
+            object.addLoot(drop.getItem(), drop.getMinQuantity(), drop.getMaxQuantity(), drop.getDropChance());
+        }
+    }
+
+    @Benchmark
+    public ScaledLootTable generateLootTable() {
+        return generator.generateLootTable(level, level, objectType);
+    }
+
+    @Benchmark
+    public List<BreakableObject.LootResult> generateLoot() {
+        return object.generateLoot();
+    }
+}
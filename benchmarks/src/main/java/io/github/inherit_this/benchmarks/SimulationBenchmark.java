@@ -0,0 +1,93 @@
+package io.github.inherit_this.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import io.github.inherit_this.entities.Enemy;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.simulation.MoveToCommand;
+import io.github.inherit_this.simulation.Simulation;
+import io.github.inherit_this.util.Constants;
+import io.github.inherit_this.world.DungeonConfig;
+import io.github.inherit_this.world.DungeonConfig.DungeonLayout;
+import io.github.inherit_this.world.DungeonConfig.DungeonStyle;
+import io.github.inherit_this.world.DungeonWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one simulation tick (player movement, NPC AI and combat) in a dungeon with a growing enemy count.
+ * The player keeps walking between two points so enemies keep chasing, searching paths around the walls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark {
+
+    // Enemies are spread over a square of this many tiles around the spawn, wider than the
+    // full-rate view radius so the far ones run at a reduced rate
+    private static final int SPAWN_AREA_TILES = 96;
+
+    @Param({"10", "100", "1000"})
+    public int enemyCount;
+
+    // Parallel NPC updates on or off; results are the same either way
+    @Param({"true", "false"})
+    public boolean parallelNPCs;
+
+    private Simulation simulation;
+    private int[] spawn;
+    private boolean walkingEast;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.init();
+        DungeonWorld world = new DungeonWorld(new DungeonConfig(12345L, 10, DungeonStyle.OPEN, DungeonLayout.WINDING));
+        // Spawn position is in pixels, the simulation works in tiles
+        int[] spawnPixels = world.getSpawnPosition();
+        spawn = new int[]{spawnPixels[0] / Constants.TILE_SIZE, spawnPixels[1] / Constants.TILE_SIZE};
+        Texture texture = new Texture("character.png");
+
+        // Load the chunks enemies stand in, otherwise the far ones would be frozen as dormant
+        int half = SPAWN_AREA_TILES / 2;
+        for (int cx = Math.floorDiv(spawn[0] - half, Constants.CHUNK_SIZE); cx <= Math.floorDiv(spawn[0] + half, Constants.CHUNK_SIZE); cx++) {
+            for (int cy = Math.floorDiv(spawn[1] - half, Constants.CHUNK_SIZE); cy <= Math.floorDiv(spawn[1] + half, Constants.CHUNK_SIZE); cy++) {
+                world.getOrCreateChunk(cx, cy);
+            }
+        }
+
+        Player player = new Player(spawn[0], spawn[1], texture, world);
+        simulation = new Simulation(world, player, 42L);
+        simulation.getCombatManager().getUpdater().setParallel(parallelNPCs);
+
+        Random random = new Random(42L);
+        for (int i = 0; i < enemyCount; i++) {
+            float x = spawn[0] + (random.nextFloat() - 0.5f) * SPAWN_AREA_TILES;
+            float y = spawn[1] + (random.nextFloat() - 0.5f) * SPAWN_AREA_TILES;
+            simulation.getCombatManager().getAllNPCs().add(new Enemy(texture, x, y, "Skeleton", world));
+        }
+    }
+
+    @Benchmark
+    public long tick() {
+        if (simulation.getTick() % 120 == 0) {
+            walkingEast = !walkingEast;
+            simulation.submit(new MoveToCommand(spawn[0] + (walkingEast ? 8 : -8), spawn[1]));
+        }
+        simulation.tick();
+        return simulation.getTick();
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.inherit_this.benchmarks;
+
+import io.github.inherit_this.util.Constants;
+import io.github.inherit_this.world.StaticChunk;
+import io.github.inherit_this.world.StaticWorld;
+import io.github.inherit_this.world.StaticWorld.StaticMapData;
+import io.github.inherit_this.world.TileTextureManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a StaticChunk from JSON map data, cycling through every chunk of the map.
+ * Every tile texture is loaded during setup, so texture loading never falls into the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StaticChunkBenchmark {
+
+    @Param({"maps/default_map.json", "maps/town_1764396018686.json"})
+    public String mapPath;
+
+    private StaticMapData mapData;
+    private int chunksX;
+    private int chunkCount;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.init();
+        // Load every tile texture up front, so chunks only ever hit the texture cache
+        TileTextureManager.getInstance().preloadAllTileTextures();
+        StaticWorld world = new StaticWorld(mapPath);
+        mapData = world.getMapData();
+        chunksX = (int) Math.ceil((double) mapData.width / Constants.CHUNK_SIZE);
+        int chunksY = (int) Math.ceil((double) mapData.height / Constants.CHUNK_SIZE);
+        chunkCount = chunksX * chunksY;
+    }
+
+    @Benchmark
+    public StaticChunk buildChunk() {
+        int index = next;
+        next = (next + 1) % chunkCount;
+        return new StaticChunk(index % chunksX, index / chunksX, mapData);
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.inherit_this.combat;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Vector2;
 import io.github.inherit_this.entities.Enemy;
 import io.github.inherit_this.entities.NPC;
 import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.util.SpatialGrid;
 import io.github.inherit_this.world.WorldProvider;
 
 import java.util.ArrayList;
@@ -14,25 +17,123 @@ import java.util.List;
  * Extracted from GameScreen to reduce complexity.
  */
 public class CombatManager {
-    private final List<NPC> npcs;
+    // Grid cell size in tiles; about the range of a melee or click query
+    private static final float NPC_CELL_SIZE = 4f;
+
+    private final NPCList npcs;
     private final Player player;
+    // Spatial index over the NPC list, kept in step as NPCs move, spawn and die
+    private final SpatialGrid<NPC> npcIndex = new SpatialGrid<>(NPC_CELL_SIZE);
+    // NPC list modification count the index was last synced at
+    private int indexedModCount;
+    // Decides which NPCs update each tick, by distance to the player
+    private final NPCUpdateScheduler scheduler = new NPCUpdateScheduler();
+    // Runs the due NPC updates across cores
+    private final ParallelNPCUpdater updater = new ParallelNPCUpdater();
+    // Moves NPCs by the velocities their updates set; null leaves them in place
+    private EntitySystem movementSystem;
+    private WorldProvider world;
+    // Seeds the random source of each NPC along with its id
+    private final long seed;
+    // Id given to the next NPC that joins
+    private int nextNPCId = 0;
 
     public CombatManager(Player player) {
+        this(player, 0L);
+    }
+
+    /**
+     * @param seed Seed NPC random sources are derived from, see {@link NPC#assignId}
+     */
+    public CombatManager(Player player, long seed) {
         this.player = player;
-        this.npcs = new ArrayList<>();
+        this.seed = seed;
+        this.npcs = new NPCList();
+        this.indexedModCount = npcs.getModCount();
     }
 
     /**
-     * Update all NPCs (AI, movement, combat).
+     * Update NPCs (AI, movement, combat). Far away NPCs update less often, see {@link NPCUpdateScheduler}.
+     * Large groups of NPCs update in parallel, see {@link ParallelNPCUpdater}. The movement system then
+     * moves them, before the spatial index is brought up to date.
      */
     public void update(float delta) {
-        // Update all NPCs
-        for (NPC npc : npcs) {
-            npc.update(delta, player);
+        syncIndex();
+        scheduler.schedule(npcs, player.getPosition(), world, delta);
+        updater.update(scheduler, player, world);
+        if (movementSystem != null) {
+            movementSystem.update(delta);
+        }
+
+        // Move living NPCs in the spatial index and drop dead ones
+        boolean anyDead = false;
+        for (int i = 0; i < npcs.size(); i++) {
+            NPC npc = npcs.get(i);
+            if (npc.isDead()) {
+                npcIndex.remove(npc);
+                anyDead = true;
+                continue;
+            }
+            Vector2 position = npc.getPosition();
+            if (position != null) {
+                npcIndex.update(npc, position.x, position.y);
+            }
         }
 
         // Remove dead NPCs
-        npcs.removeIf(NPC::isDead);
+        if (anyDead) {
+            npcs.removeIf(NPC::isDead);
+        }
+        // The index was updated along with the removal above
+        indexedModCount = npcs.getModCount();
+    }
+
+    /**
+     * Rebuilds the spatial index if NPCs were added to, removed from or replaced in the list
+     * since it was last synced, e.g. through {@link #getAllNPCs()}. New NPCs get their ids in list order.
+     */
+    private void syncIndex() {
+        if (indexedModCount == npcs.getModCount()) {
+            return;
+        }
+
+        npcIndex.clear();
+        for (int i = 0; i < npcs.size(); i++) {
+            NPC npc = npcs.get(i);
+            if (npc.getId() == NPC.NO_ID) {
+                npc.assignId(nextNPCId++, seed);
+            }
+            Vector2 position = npc.getPosition();
+            if (position != null) {
+                npcIndex.insert(npc, position.x, position.y);
+            }
+        }
+        indexedModCount = npcs.getModCount();
+    }
+
+    /**
+     * Sets the world NPCs live in. NPCs in chunks the world hasn't loaded are frozen;
+     * without a world, no NPC is frozen.
+     */
+    public void setWorld(WorldProvider world) {
+        this.world = world;
+    }
+
+    /**
+     * Sets the system that moves NPCs after their updates, e.g. an
+     * {@link io.github.inherit_this.ecs.MovementSystem} in the simulation's engine.
+     * @param movementSystem System, or null to leave NPCs where their updates found them
+     */
+    public void setMovementSystem(EntitySystem movementSystem) {
+        this.movementSystem = movementSystem;
+    }
+
+    public NPCUpdateScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public ParallelNPCUpdater getUpdater() {
+        return updater;
     }
 
     /**
@@ -48,23 +149,26 @@ public class CombatManager {
      * Find the nearest NPC to a world position within a maximum distance.
      */
     public NPC findNearestNPC(float worldX, float worldZ, float maxDistance) {
-        NPC nearest = null;
-        float nearestDist = Float.MAX_VALUE;
-
-        for (NPC npc : npcs) {
-            if (npc.isDead()) continue;
-
-            float dx = npc.getPosition().x - worldX;
-            float dy = npc.getPosition().y - worldZ;
-            float dist = (float) Math.sqrt(dx * dx + dy * dy);
+        syncIndex();
+        return npcIndex.nearest(worldX, worldZ, maxDistance, npc -> !npc.isDead());
+    }
 
-            if (dist < nearestDist && dist <= maxDistance) {
-                nearest = npc;
-                nearestDist = dist;
+    /**
+     * Find all living NPCs within a distance of a position.
+     * @param out List the NPCs are added to
+     * @return The given list
+     */
+    public List<NPC> findNPCsInRadius(float x, float y, float radius, List<NPC> out) {
+        syncIndex();
+        int start = out.size();
+        npcIndex.queryRadius(x, y, radius, out);
+        // The index may still hold NPCs that died since the last update
+        for (int i = out.size() - 1; i >= start; i--) {
+            if (out.get(i).isDead()) {
+                out.remove(i);
             }
         }
-
-        return nearest;
+        return out;
     }
 
     /**
@@ -72,6 +176,15 @@ public class CombatManager {
      */
     public void clearAll() {
         npcs.clear();
+        npcIndex.clear();
+        indexedModCount = npcs.getModCount();
+    }
+
+    /**
+     * Count that changes whenever NPCs are added to, removed from or replaced in the NPC list.
+     */
+    public int getModCount() {
+        return npcs.getModCount();
     }
 
     /**
@@ -87,4 +200,22 @@ public class CombatManager {
     public int getNPCCount() {
         return npcs.size();
     }
+
+    /**
+     * NPC list that exposes its modification count, so changes made through {@link #getAllNPCs()}
+     * are noticed even when they leave the size unchanged.
+     */
+    private static final class NPCList extends ArrayList<NPC> {
+
+        @Override
+        public NPC set(int index, NPC npc) {
+            // ArrayList doesn't count replacements as modifications, but the index must see them
+            modCount++;
+            return super.set(index, npc);
+        }
+
+        int getModCount() {
+            return modCount;
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package io.github.inherit_this.combat;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.world.WorldProvider;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AI level of detail: decides how often each NPC updates, so CPU cost follows what is near the player
+ * rather than how many NPCs a level holds. Every tick each NPC is put in a tier:
+ * <ul>
+ *   <li>FULL - close to the player (within its detection range plus a margin, or on screen), busy chasing,
+ *       attacking or fleeing, or without a position. Updated every tick.</li>
+ *   <li>REDUCED - farther away. Updated every {@link #REDUCED_INTERVAL} ticks, staggered by NPC id so
+ *       the same share of NPCs updates each tick, whatever happens to the list order. Skipped time is passed on in the next update.</li>
+ *   <li>DORMANT - standing in a chunk the world hasn't loaded. Frozen until the chunk loads.</li>
+ * </ul>
+ */
+public class NPCUpdateScheduler {
+
+    public enum Tier {
+        FULL,
+        REDUCED,
+        DORMANT
+    }
+
+    public static final int REDUCED_INTERVAL = 8;
+    // Roughly the area visible at the default camera distance, in tiles
+    public static final float DEFAULT_VIEW_RADIUS = 32f;
+    // Keep NPCs about to notice the player at full rate, in tiles
+    private static final float FULL_RATE_MARGIN = 4f;
+
+    private float viewRadius = DEFAULT_VIEW_RADIUS;
+    private long tick = 0;
+
+    private int fullCount = 0;
+    private int reducedCount = 0;
+    private int dormantCount = 0;
+
+    // NPCs due this tick in list order, with the time each update covers
+    private NPC[] due = new NPC[64];
+    private float[] dueDelta = new float[64];
+    private int dueCount = 0;
+
+    /**
+     * Updates the NPCs that are due this tick, one after another.
+     * @param world World used to freeze NPCs in unloaded chunks; null to never freeze
+     */
+    public void update(List<NPC> npcs, Player player, WorldProvider world, float delta) {
+        schedule(npcs, player.getPosition(), world, delta);
+        for (int i = 0; i < dueCount; i++) {
+            due[i].update(dueDelta[i], player);
+        }
+    }
+
+    /**
+     * Picks the NPCs due this tick without updating them; read them with {@link #getDueNPC} and
+     * {@link #getDueDelta}. NPCs skipped this tick are told so.
+     * @param world World used to freeze NPCs in unloaded chunks; null to never freeze
+     */
+    public void schedule(List<NPC> npcs, Vector2 playerPosition, WorldProvider world, float delta) {
+        fullCount = 0;
+        reducedCount = 0;
+        dormantCount = 0;
+        clearDue();
+
+        for (int i = 0; i < npcs.size(); i++) {
+            NPC npc = npcs.get(i);
+            switch (getTier(npc, playerPosition, world)) {
+                case FULL:
+                    fullCount++;
+                    addDue(npc, delta + npc.takeSkippedTime());
+                    break;
+                case REDUCED:
+                    reducedCount++;
+                    if ((tick + getPhase(npc)) % REDUCED_INTERVAL == 0) {
+                        addDue(npc, delta + npc.takeSkippedTime());
+                    } else {
+                        npc.skipUpdate(delta);
+                    }
+                    break;
+                case DORMANT:
+                    dormantCount++;
+                    break;
+            }
+        }
+        tick++;
+    }
+
+    /**
+     * Stable offset of an NPC's reduced-rate updates, so removing or reordering other NPCs
+     * doesn't make it skip or repeat an update.
+     */
+    private static int getPhase(NPC npc) {
+        int id = npc.getId();
+        // NPCs outside a simulation have no id yet
+        return (id != NPC.NO_ID ? id : System.identityHashCode(npc)) & Integer.MAX_VALUE;
+    }
+
+    private void addDue(NPC npc, float delta) {
+        if (dueCount == due.length) {
+            due = Arrays.copyOf(due, dueCount * 2);
+            dueDelta = Arrays.copyOf(dueDelta, dueCount * 2);
+        }
+        due[dueCount] = npc;
+        dueDelta[dueCount] = delta;
+        dueCount++;
+    }
+
+    private void clearDue() {
+        // Don't keep removed NPCs alive
+        Arrays.fill(due, 0, dueCount, null);
+        dueCount = 0;
+    }
+
+    /**
+     * Picks the update tier of an NPC.
+     */
+    public Tier getTier(NPC npc, Vector2 playerPosition, WorldProvider world) {
+        Vector2 position = npc.getPosition();
+        if (position == null || playerPosition == null) {
+            return Tier.FULL;
+        }
+
+        NPC.NPCState state = npc.getState();
+        if (state == NPC.NPCState.CHASE || state == NPC.NPCState.ATTACK || state == NPC.NPCState.FLEE) {
+            return Tier.FULL;
+        }
+
+        float dx = position.x - playerPosition.x;
+        float dy = position.y - playerPosition.y;
+        float fullRange = Math.max(npc.getDetectionRange() + FULL_RATE_MARGIN, viewRadius);
+        if (dx * dx + dy * dy <= fullRange * fullRange) {
+            return Tier.FULL;
+        }
+
+        if (world != null && world.getActiveChunk((int) Math.floor(position.x), (int) Math.floor(position.y)) == null) {
+            return Tier.DORMANT;
+        }
+        return Tier.REDUCED;
+    }
+
+    /**
+     * Number of NPCs due in the last {@link #schedule}.
+     */
+    public int getDueCount() {
+        return dueCount;
+    }
+
+    /**
+     * NPC due this tick, in list order.
+     */
+    public NPC getDueNPC(int index) {
+        return due[index];
+    }
+
+    /**
+     * Time the update of a due NPC covers, including ticks it skipped.
+     */
+    public float getDueDelta(int index) {
+        return dueDelta[index];
+    }
+
+    /**
+     * Sets the distance from the player (in tiles) within which NPCs are on screen and update every tick.
+     */
+    public void setViewRadius(float viewRadius) {
+        this.viewRadius = viewRadius;
+    }
+
+    public float getViewRadius() {
+        return viewRadius;
+    }
+
+    /**
+     * Number of NPCs updated every tick during the last update.
+     */
+    public int getFullRateCount() {
+        return fullCount;
+    }
+
+    /**
+     * Number of NPCs updated at a reduced rate during the last update.
+     */
+    public int getReducedRateCount() {
+        return reducedCount;
+    }
+
+    /**
+     * Number of NPCs frozen in unloaded chunks during the last update.
+     */
+    public int getDormantCount() {
+        return dormantCount;
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.inherit_this.combat;
+
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.NPCCommands;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.world.WorldProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the NPC updates due in a tick on a fork-join pool.
+ *
+ * An NPC update reads the player and the world and writes only the NPC itself; its effects on shared
+ * state (damage to the player, path searches) go to an {@link NPCCommands} buffer. Due NPCs are split
+ * by list position into batches of {@link #BATCH_SIZE}, each with its own buffer, and the batches run
+ * in parallel. The buffers are then applied on the calling thread, batch by batch in list order.
+ * Batches never depend on the thread count or timing, so the result is the same as updating serially,
+ * which this class does when there are too few NPCs for a second batch or parallel updates are off.
+ */
+public class ParallelNPCUpdater {
+
+    public static final int BATCH_SIZE = 32;
+
+    private final ForkJoinPool pool;
+    private final List<NPCCommands> buffers = new ArrayList<>();
+    private boolean parallel = true;
+
+    // State of the running update, read by the batch tasks
+    private NPCUpdateScheduler scheduler;
+    private Player player;
+
+    /**
+     * Uses the common fork-join pool.
+     */
+    public ParallelNPCUpdater() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelNPCUpdater(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Updates the NPCs picked by the scheduler's last {@link NPCUpdateScheduler#schedule}.
+     * @param world World the NPCs live in; null if they have none
+     */
+    public void update(NPCUpdateScheduler scheduler, Player player, WorldProvider world) {
+        int dueCount = scheduler.getDueCount();
+        int batchCount = (dueCount + BATCH_SIZE - 1) / BATCH_SIZE;
+        while (buffers.size() < batchCount) {
+            buffers.add(new NPCCommands());
+        }
+
+        this.scheduler = scheduler;
+        this.player = player;
+        try {
+            if (parallel && batchCount > 1 && pool.getParallelism() > 1) {
+                // Lazily created world state (solidity masks, the pathfinder) must exist before threads read it
+                for (int i = 0; i < dueCount; i++) {
+                    scheduler.getDueNPC(i).prepareUpdate(scheduler.getDueDelta(i));
+                }
+                pool.invoke(new BatchTask(0, batchCount));
+            } else {
+                for (int batch = 0; batch < batchCount; batch++) {
+                    runBatch(batch);
+                }
+            }
+        } finally {
+            this.scheduler = null;
+            this.player = null;
+        }
+
+        // Merge: apply the side effects in list order
+        for (int batch = 0; batch < batchCount; batch++) {
+            buffers.get(batch).apply(world != null ? world.getPathfinder() : null);
+        }
+    }
+
+    private void runBatch(int batch) {
+        NPCCommands commands = buffers.get(batch);
+        int end = Math.min(scheduler.getDueCount(), (batch + 1) * BATCH_SIZE);
+        for (int i = batch * BATCH_SIZE; i < end; i++) {
+            NPC npc = scheduler.getDueNPC(i);
+            npc.setCommands(commands);
+            npc.update(scheduler.getDueDelta(i), player);
+            npc.setCommands(null);
+        }
+    }
+
+    /**
+     * Turns parallel updates on or off. Results are the same either way.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Runs a range of batches, splitting it in halves until single batches remain.
+     */
+    private final class BatchTask extends RecursiveAction {
+        private final int first;
+        private final int last;
+
+        BatchTask(int first, int last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first == 1) {
+                runBatch(first);
+                return;
+            }
+            int middle = (first + last) >>> 1;
+            invokeAll(new BatchTask(first, middle), new BatchTask(middle, last));
+        }
+    }
+}
@@ -15,6 +15,9 @@ import io.github.inherit_this.world.*;
  * Extracted from GameScreen to reduce complexity.
  */
 public class DungeonController {
+    // Distance from the town entrance at which the first dungeon level starts generating
+    private static final float PREFETCH_DISTANCE = 256f;
+
     private final DungeonManager dungeonManager;
     private final DungeonUI dungeonUI;
     private final Player player;
@@ -56,7 +59,11 @@ public class DungeonController {
         float playerY = player.getPosition().y;
 
         if (!dungeonManager.isInDungeon()) {
-            // In town - check for dungeon entrance
+            // In town - start building the first level while the player walks up to the entrance
+            if (townDungeonEntrance.isPlayerNear(playerX, playerY, PREFETCH_DISTANCE)) {
+                dungeonManager.prefetchLevel(1);
+            }
+            // Check for dungeon entrance
             if (townDungeonEntrance.isPlayerNear(playerX, playerY, 64f)) {
                 dungeonUI.setNearbyPortal(townDungeonEntrance);
                 if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
@@ -0,0 +1,29 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Axis-aligned collision box in tiles, placed relative to the entity's position.
+ */
+public class ColliderComponent implements Component {
+    public float offsetX;
+    public float offsetY;
+    public float width;
+    public float height;
+
+    public ColliderComponent(float offsetX, float offsetY, float width, float height) {
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Checks if a point lies in the box of an entity at (x, y). Min edges are inclusive, max edges exclusive.
+     */
+    public boolean contains(float x, float y, float pointX, float pointY) {
+        float minX = x + offsetX;
+        float minY = y + offsetY;
+        return pointX >= minX && pointX < minX + width && pointY >= minY && pointY < minY + height;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Hit points of something that can be damaged and destroyed.
+ */
+public class HealthComponent implements Component {
+    public int current;
+    public int max;
+
+    public HealthComponent(int max) {
+        this.current = max;
+        this.max = max;
+    }
+
+    public boolean isDepleted() {
+        return current <= 0;
+    }
+}
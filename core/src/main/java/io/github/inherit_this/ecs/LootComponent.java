@@ -0,0 +1,18 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Gold and XP awarded when the entity is defeated or destroyed. Item drops stay with the owning class.
+ */
+public class LootComponent implements Component {
+    public int goldMin;
+    public int goldMax;
+    public int xp;
+
+    public LootComponent(int goldMin, int goldMax, int xp) {
+        this.goldMin = goldMin;
+        this.goldMax = goldMax;
+        this.xp = xp;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * Component mappers for fast component lookup in systems.
+ */
+public final class Mappers {
+    public static final ComponentMapper<PositionComponent> POSITION = ComponentMapper.getFor(PositionComponent.class);
+    public static final ComponentMapper<HealthComponent> HEALTH = ComponentMapper.getFor(HealthComponent.class);
+    public static final ComponentMapper<LootComponent> LOOT = ComponentMapper.getFor(LootComponent.class);
+    public static final ComponentMapper<RenderComponent> RENDER = ComponentMapper.getFor(RenderComponent.class);
+    public static final ComponentMapper<ColliderComponent> COLLIDER = ComponentMapper.getFor(ColliderComponent.class);
+    public static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.world.SolidityMap;
+import io.github.inherit_this.world.WorldProvider;
+
+/**
+ * Moves entities by their velocity, sweeping their collider through the world's solid tiles.
+ * Each velocity is applied for the time stored with it, then used up, so the tick delta is not used.
+ */
+public class MovementSystem extends IteratingSystem {
+
+    private WorldProvider world;
+    private final Vector2 sweepResult = new Vector2();
+
+    /**
+     * @param world World whose solid tiles block movement; null to move freely
+     */
+    public MovementSystem(WorldProvider world) {
+        super(Family.all(PositionComponent.class, VelocityComponent.class, ColliderComponent.class).get());
+        this.world = world;
+    }
+
+    public void setWorld(WorldProvider world) {
+        this.world = world;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        if (velocity.time <= 0f) {
+            return;
+        }
+        float moveX = velocity.x * velocity.time;
+        float moveY = velocity.y * velocity.time;
+        velocity.time = 0f;
+
+        Vector2 position = Mappers.POSITION.get(entity).position;
+        SolidityMap solidity = world != null ? world.getSolidityMap() : null;
+        if (solidity == null) {
+            position.add(moveX, moveY);
+            return;
+        }
+
+        // Sweep the collider's box, which needn't be centered on the position
+        ColliderComponent collider = Mappers.COLLIDER.get(entity);
+        float halfWidth = collider.width / 2f;
+        float halfHeight = collider.height / 2f;
+        float centerX = collider.offsetX + halfWidth;
+        float centerY = collider.offsetY + halfHeight;
+        solidity.sweep(position.x + centerX, position.y + centerY, halfWidth, halfHeight, moveX, moveY, sweepResult);
+        position.set(sweepResult.x - centerX, sweepResult.y - centerY);
+    }
+}
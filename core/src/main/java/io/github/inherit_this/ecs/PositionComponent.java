@@ -0,0 +1,18 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Position in tiles, plus the position at the end of the previous simulation tick for render interpolation.
+ * Shares its vectors with the game entity, so moving the entity moves the component.
+ */
+public class PositionComponent implements Component {
+    public final Vector2 position;
+    public final Vector2 previous;
+
+    public PositionComponent(Vector2 position, Vector2 previous) {
+        this.position = position;
+        this.previous = previous;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.Texture;
+
+/**
+ * Sprite drawn at the entity's position, projected from the 3D world.
+ * Captured into {@link io.github.inherit_this.simulation.SimulationSnapshot}s for the sprite renderer.
+ */
+public class RenderComponent implements Component {
+    public Texture texture;
+    // World units per position unit when projecting the sprite
+    public float worldScale;
+    // Screen offset of the sprite at full scale, e.g. so feet align with the ground (pixels)
+    public float yOffset;
+
+    public RenderComponent(Texture texture, float worldScale, float yOffset) {
+        this.texture = texture;
+        this.worldScale = worldScale;
+        this.yOffset = yOffset;
+    }
+}
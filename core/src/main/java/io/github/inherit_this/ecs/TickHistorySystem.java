@@ -0,0 +1,22 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * Remembers every position as the previous tick's, so rendering can interpolate toward the coming tick.
+ * Runs at the start of each simulation tick.
+ */
+public class TickHistorySystem extends IteratingSystem {
+
+    public TickHistorySystem() {
+        super(Family.all(PositionComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent position = Mappers.POSITION.get(entity);
+        position.previous.set(position.position);
+    }
+}
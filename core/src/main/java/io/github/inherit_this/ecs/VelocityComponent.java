@@ -0,0 +1,26 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Velocity in tiles per second and how long to move at it, applied once by the {@link MovementSystem}.
+ * Entities updated at a reduced rate catch up several ticks at once, so the time isn't always one tick.
+ */
+public class VelocityComponent implements Component {
+    public float x;
+    public float y;
+    // Seconds left to move for; the movement system uses them up
+    public float time;
+
+    public void set(float x, float y, float time) {
+        this.x = x;
+        this.y = y;
+        this.time = time;
+    }
+
+    public void stop() {
+        x = 0f;
+        y = 0f;
+        time = 0f;
+    }
+}
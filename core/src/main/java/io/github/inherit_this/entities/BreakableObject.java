@@ -2,10 +2,16 @@ package io.github.inherit_this.entities;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g3d.Model;
+import io.github.inherit_this.ecs.ColliderComponent;
+import io.github.inherit_this.ecs.HealthComponent;
+import io.github.inherit_this.ecs.LootComponent;
+import io.github.inherit_this.ecs.RenderComponent;
 import io.github.inherit_this.items.Item;
+import io.github.inherit_this.util.Constants;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Represents a breakable object in the game world (crate, pot, etc).
@@ -14,13 +20,14 @@ import java.util.List;
  */
 public class BreakableObject extends Entity {
 
+    private static final Random LOOT_RANDOM = new Random();
+
     private String name;
-    private int maxHealth;
-    private int currentHealth;
+    private final HealthComponent health;
     private List<LootDrop> lootTable;
-    private int goldMin;
-    private int goldMax;
-    private int xpReward;  // XP awarded when broken
+    private final LootComponent loot;  // Gold range and XP awarded when broken
+    // Occupies its whole tile, with the position at the tile's corner
+    private final ColliderComponent collider = new ColliderComponent(0f, 0f, 1f, 1f);
     private boolean destroyed;
 
     // 3D model support
@@ -39,15 +46,16 @@ public class BreakableObject extends Entity {
     public BreakableObject(Texture texture, float x, float y, int maxHealth, int goldMin, int goldMax) {
         super(texture, x, y);
         this.name = "Object";
-        this.maxHealth = maxHealth;
-        this.currentHealth = maxHealth;
-        this.goldMin = goldMin;
-        this.goldMax = goldMax;
-        this.xpReward = 0;
+        this.health = new HealthComponent(maxHealth);
+        this.loot = new LootComponent(goldMin, goldMax, 0);
         this.lootTable = new ArrayList<>();
         this.destroyed = false;
         this.model = null;
         this.is3D = false;
+
+        addComponents();
+        // 3D objects are drawn as models instead
+        ecsEntity.add(new RenderComponent(texture, Constants.TILE_SIZE, 0f));
     }
 
     /**
@@ -63,15 +71,20 @@ public class BreakableObject extends Entity {
     public BreakableObject(Model model, Texture texture, float x, float y, int maxHealth, int goldMin, int goldMax) {
         super(texture, x, y);
         this.name = "Object";
-        this.maxHealth = maxHealth;
-        this.currentHealth = maxHealth;
-        this.goldMin = goldMin;
-        this.goldMax = goldMax;
-        this.xpReward = 0;
+        this.health = new HealthComponent(maxHealth);
+        this.loot = new LootComponent(goldMin, goldMax, 0);
         this.lootTable = new ArrayList<>();
         this.destroyed = false;
         this.model = model;
         this.is3D = true;
+
+        addComponents();
+    }
+
+    private void addComponents() {
+        ecsEntity.add(health);
+        ecsEntity.add(loot);
+        ecsEntity.add(collider);
     }
 
     /**
@@ -95,9 +108,9 @@ public class BreakableObject extends Entity {
             return false;
         }
 
-        currentHealth -= damage;
-        if (currentHealth <= 0) {
-            currentHealth = 0;
+        health.current -= damage;
+        if (health.current <= 0) {
+            health.current = 0;
             destroyed = true;
             return true;
         }
@@ -109,23 +122,32 @@ public class BreakableObject extends Entity {
      * @return List of items and quantities to drop
      */
     public List<LootResult> generateLoot() {
+        return generateLoot(LOOT_RANDOM);
+    }
+
+    /**
+     * Gets the loot that should be dropped when this object breaks, rolling with the given random source.
+     * A seeded source makes the drops reproducible.
+     * @return List of items and quantities to drop
+     */
+    public List<LootResult> generateLoot(Random random) {
         List<LootResult> results = new ArrayList<>();
 
         // Add gold
-        int gold = goldMin + (int)(Math.random() * (goldMax - goldMin + 1));
+        int gold = loot.goldMin + (int)(random.nextDouble() * (loot.goldMax - loot.goldMin + 1));
         if (gold > 0) {
             results.add(new LootResult(null, 0, gold, 0));
         }
 
         // Add XP
-        if (xpReward > 0) {
-            results.add(new LootResult(null, 0, 0, xpReward));
+        if (loot.xp > 0) {
+            results.add(new LootResult(null, 0, 0, loot.xp));
         }
 
         // Roll for item drops
         for (LootDrop drop : lootTable) {
-            if (Math.random() < drop.dropChance) {
-                int quantity = drop.minQuantity + (int)(Math.random() * (drop.maxQuantity - drop.minQuantity + 1));
+            if (random.nextDouble() < drop.dropChance) {
+                int quantity = drop.minQuantity + (int)(random.nextDouble() * (drop.maxQuantity - drop.minQuantity + 1));
                 results.add(new LootResult(drop.item, quantity, 0, 0));
             }
         }
@@ -138,29 +160,29 @@ public class BreakableObject extends Entity {
     }
 
     public int getCurrentHealth() {
-        return currentHealth;
+        return health.current;
     }
 
     public int getMaxHealth() {
-        return maxHealth;
+        return health.max;
     }
 
     public float getHealthPercent() {
-        return (float) currentHealth / maxHealth;
+        return (float) health.current / health.max;
     }
 
     /**
      * Gets the XP reward for breaking this object.
      */
     public int getXPReward() {
-        return xpReward;
+        return loot.xp;
     }
 
     /**
      * Sets the XP reward for breaking this object.
      */
     public void setXPReward(int xp) {
-        this.xpReward = xp;
+        loot.xp = xp;
     }
 
     /**
@@ -189,8 +211,7 @@ public class BreakableObject extends Entity {
      * Checks if a world position (in tiles) is within this object's bounds.
      */
     public boolean contains(float worldX, float worldY) {
-        return worldX >= position.x && worldX < position.x + 1 &&
-               worldY >= position.y && worldY < position.y + 1;
+        return collider.contains(position.x, position.y, worldX, worldY);
     }
 
     /**
@@ -13,6 +13,8 @@ public class Enemy extends NPC {
 
     private float wanderChangeTimer = 0f;
     private static final float WANDER_CHANGE_INTERVAL = 3f; // Change direction every 3 seconds
+    // Reused as the target position in every state, so AI updates don't allocate
+    private final Vector2 moveTarget = new Vector2();
 
     public Enemy(Texture texture, float x, float y, String name, WorldProvider world) {
         super(texture, x, y, name, NPCType.HOSTILE, world);
@@ -36,7 +38,7 @@ public class Enemy extends NPC {
                     // Randomly start wandering
                     wanderChangeTimer += delta;
                     if (wanderChangeTimer >= WANDER_CHANGE_INTERVAL) {
-                        if (MathUtils.random() < 0.3f) {
+                        if (random.nextFloat() < 0.3f) {
                             state = NPCState.WANDER;
                             stateTimer = 0f;
                         }
@@ -51,8 +53,8 @@ public class Enemy extends NPC {
                 // Set random target position
                 if (targetPosition == null || wanderChangeTimer >= WANDER_CHANGE_INTERVAL) {
                     float wanderRadius = 5f;
-                    float randomAngle = MathUtils.random(0f, 360f);
-                    targetPosition = new Vector2(
+                    float randomAngle = random.nextFloat() * 360f;
+                    targetPosition = moveTarget.set(
                         position.x + MathUtils.cosDeg(randomAngle) * wanderRadius,
                         position.y + MathUtils.sinDeg(randomAngle) * wanderRadius
                     );
@@ -78,7 +80,7 @@ public class Enemy extends NPC {
             case CHASE:
                 if (targetEntity != null) {
                     // Chase the target
-                    targetPosition = new Vector2(targetEntity.getPosition());
+                    targetPosition = moveTarget.set(targetEntity.getPosition());
 
                     // Check if in attack range
                     if (inAttackRange(targetEntity)) {
@@ -107,7 +109,7 @@ public class Enemy extends NPC {
                         if (attack(targetEntity)) {
                             // Attack successful - deal damage
                             if (targetEntity instanceof Player) {
-                                ((Player) targetEntity).getStats().takeDamage(damage);
+                                damagePlayer((Player) targetEntity, damage);
                             }
                         }
                     } else {
@@ -131,14 +133,14 @@ public class Enemy extends NPC {
             case FLEE:
                 // Run away from target
                 if (targetEntity != null) {
-                    Vector2 awayDir = new Vector2(
+                    moveTarget.set(
                         position.x - targetEntity.getPosition().x,
                         position.y - targetEntity.getPosition().y
                     ).nor();
 
-                    targetPosition = new Vector2(
-                        position.x + awayDir.x * 10f,
-                        position.y + awayDir.y * 10f
+                    targetPosition = moveTarget.set(
+                        position.x + moveTarget.x * 10f,
+                        position.y + moveTarget.y * 10f
                     );
 
                     // Stop fleeing after getting far enough
@@ -163,8 +165,8 @@ public class Enemy extends NPC {
         // Give XP and gold to player
         if (killer instanceof Player) {
             Player player = (Player) killer;
-            player.getStats().addXP(xpValue);
-            player.getInventory().addGold(goldDrop);
+            player.getStats().addXP(loot.xp);
+            player.getInventory().addGold(loot.goldMin);
         }
     }
 }
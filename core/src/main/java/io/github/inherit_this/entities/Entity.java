@@ -2,19 +2,27 @@ package io.github.inherit_this.entities;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.ecs.PositionComponent;
 
 public class Entity {
-    protected Vector2 position;
+    protected final Vector2 position;
+    // Position at the end of the previous simulation tick, for render interpolation
+    protected final Vector2 previousPosition;
     protected Texture texture;
     protected float width;
     protected float height;
+    // Components of this entity for ECS systems; subclasses add their own
+    protected final com.badlogic.ashley.core.Entity ecsEntity = new com.badlogic.ashley.core.Entity();
 
     public Entity(Texture texture, float x, float y) {
         this.texture = texture;
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
 
         this.width = texture.getWidth();
         this.height = texture.getHeight();
+
+        ecsEntity.add(new PositionComponent(position, previousPosition));
     }
 
     public void render(SpriteBatch batch) {
@@ -25,6 +33,31 @@ public class Entity {
         return position;
     }
 
+    /**
+     * Remembers the current position as the previous tick's. Called at the start of every simulation tick,
+     * and after teleports so they aren't interpolated.
+     */
+    public void storePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    /**
+     * Gets the position between the previous and the latest simulation tick, for smooth rendering.
+     * @param alpha Progress from the previous tick (0) to the latest tick (1)
+     * @param out Receives the position
+     * @return The given vector
+     */
+    public Vector2 getInterpolatedPosition(float alpha, Vector2 out) {
+        return out.set(previousPosition).lerp(position, alpha);
+    }
+
+    /**
+     * The ECS entity holding this entity's components. Its component state is shared with this object.
+     */
+    public com.badlogic.ashley.core.Entity getEcsEntity() {
+        return ecsEntity;
+    }
+
     public Texture getTexture() {
         return texture;
     }
@@ -1,7 +1,17 @@
 package io.github.inherit_this.entities;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.ecs.ColliderComponent;
+import io.github.inherit_this.ecs.HealthComponent;
+import io.github.inherit_this.ecs.LootComponent;
+import io.github.inherit_this.ecs.RenderComponent;
+import io.github.inherit_this.ecs.VelocityComponent;
+import io.github.inherit_this.pathfinding.FlowField;
+import io.github.inherit_this.pathfinding.Path;
+import io.github.inherit_this.pathfinding.Pathfinder;
+import io.github.inherit_this.world.SolidityMap;
 import io.github.inherit_this.world.WorldProvider;
 
 /**
@@ -10,13 +20,26 @@ import io.github.inherit_this.world.WorldProvider;
  */
 public abstract class NPC extends Entity {
 
+    // Id of an NPC that hasn't joined a simulation yet
+    public static final int NO_ID = -1;
+
+    // Half size of the NPC's collision box in tiles
+    private static final float COLLISION_HALF_SIZE = 0.3f;
+    // Sprite offset so the feet align with the ground (pixels at full size)
+    private static final float SPRITE_Y_OFFSET = 10f;
+    // Shortest time between path searches while the target keeps moving (seconds)
+    private static final float REPATH_INTERVAL = 0.25f;
+    // Distance at which a waypoint counts as reached (tiles)
+    private static final float WAYPOINT_RADIUS = 0.1f;
+
     protected final NPCType type;
     protected final WorldProvider world;
     protected final String name;
+    // Stable id within the simulation, in the order NPCs joined it
+    private int id = NO_ID;
 
     // Stats
-    protected int maxHealth;
-    protected int currentHealth;
+    protected final HealthComponent health;
     protected int damage;
     protected float speed;
     protected float detectionRange;  // How far NPC can see player
@@ -27,14 +50,29 @@ public abstract class NPC extends Entity {
     protected Entity targetEntity;   // Current target (player or another NPC)
     protected NPCState state;
     protected float stateTimer;      // Timer for current state
+    // Own random source, so an NPC's rolls don't depend on which other NPCs update before it.
+    // Reseeded from the simulation seed and the NPC's id in assignId()
+    protected final RandomXS128 random = new RandomXS128(seedFor(0L, NO_ID));
+
+    // Movement
+    protected final ColliderComponent collider;
+    // Set by updates, applied by the MovementSystem
+    protected final VelocityComponent velocity = new VelocityComponent();
+    protected final Path path = new Path();
+    private float repathTimer = 0f;
+    private final Vector2 waypoint = new Vector2();
+
+    // Time not yet simulated while updated at a reduced rate (AI level of detail)
+    private float skippedTime = 0f;
+    // Buffer for effects on shared state while NPCs update in parallel; null applies them at once
+    private NPCCommands commands;
 
     // Combat
     protected float attackCooldown;
     protected float timeSinceLastAttack;
 
-    // Loot
-    protected int goldDrop;
-    protected int xpValue;
+    // Loot (gold is a fixed amount: goldMin == goldMax)
+    protected final LootComponent loot;
 
     public enum NPCState {
         IDLE,       // Standing still
@@ -55,21 +93,55 @@ public abstract class NPC extends Entity {
         this.timeSinceLastAttack = 0f;
 
         // Default stats (override in subclasses)
-        this.maxHealth = 100;
-        this.currentHealth = maxHealth;
+        this.health = new HealthComponent(100);
         this.damage = 10;
         this.speed = 3f;  // tiles per second
         this.detectionRange = 8f;  // tiles
         this.attackRange = 1.5f;   // tiles
         this.attackCooldown = 1.0f; // seconds
-        this.goldDrop = 10;
-        this.xpValue = 25;
+        this.loot = new LootComponent(10, 10, 25);
+        this.collider = new ColliderComponent(-COLLISION_HALF_SIZE, -COLLISION_HALF_SIZE,
+            COLLISION_HALF_SIZE * 2f, COLLISION_HALF_SIZE * 2f);
+
+        ecsEntity.add(health);
+        ecsEntity.add(loot);
+        ecsEntity.add(collider);
+        ecsEntity.add(velocity);
+        ecsEntity.add(new RenderComponent(texture, 1f, SPRITE_Y_OFFSET));
+    }
+
+    /**
+     * Gives the NPC its id within a simulation and reseeds its random source from the simulation seed
+     * and that id, so its rolls only depend on the seed and the order NPCs joined the simulation.
+     */
+    public void assignId(int id, long simulationSeed) {
+        this.id = id;
+        random.setSeed(seedFor(simulationSeed, id));
+    }
+
+    /**
+     * Get the NPC's id within its simulation, or {@link #NO_ID} before it joined one.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
-     * Update NPC behavior and AI.
+     * Mixes the simulation seed and an NPC id (SplitMix64), so neighbouring ids get unrelated seeds.
+     */
+    private static long seedFor(long simulationSeed, int id) {
+        long z = simulationSeed + (id + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Update NPC behavior and AI. The NPC doesn't move yet: it sets the velocity the
+     * {@link io.github.inherit_this.ecs.MovementSystem} moves it with afterwards.
      */
     public void update(float delta, Player player) {
+        velocity.stop();
         if (state == NPCState.DEAD) {
             return;
         }
@@ -83,6 +155,8 @@ public abstract class NPC extends Entity {
         // Move toward target position if set
         if (targetPosition != null) {
             moveToward(targetPosition, delta);
+        } else {
+            path.clear();
         }
     }
 
@@ -92,7 +166,8 @@ public abstract class NPC extends Entity {
     protected abstract void updateAI(float delta, Player player);
 
     /**
-     * Move toward a target position.
+     * Move toward a target position by setting the NPC's velocity for this update.
+     * Follows a path around walls when the world has a pathfinder, otherwise walks straight at the target.
      */
     protected void moveToward(Vector2 target, float delta) {
         float dx = target.x - position.x;
@@ -100,14 +175,122 @@ public abstract class NPC extends Entity {
         float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
         if (distance > 0.1f) {
-            float moveX = (dx / distance) * speed * delta;
-            float moveY = (dy / distance) * speed * delta;
+            Pathfinder pathfinder = world.getPathfinder();
+            if (pathfinder != null) {
+                nextWaypoint(pathfinder, target, delta);
+            } else {
+                waypoint.set(target);
+            }
 
-            // Simple movement (no collision for now)
-            position.x += moveX;
-            position.y += moveY;
+            float waypointX = waypoint.x - position.x;
+            float waypointY = waypoint.y - position.y;
+            float waypointDistance = (float) Math.sqrt(waypointX * waypointX + waypointY * waypointY);
+            if (waypointDistance == 0f) {
+                return;
+            }
+            // Don't overshoot waypoints
+            float step = Math.min(speed * delta, waypointDistance);
+            if (step > 0f) {
+                float stepSpeed = step / delta;
+                velocity.set((waypointX / waypointDistance) * stepSpeed, (waypointY / waypointDistance) * stepSpeed, delta);
+            }
         } else {
             targetPosition = null;
+            path.clear();
+        }
+    }
+
+    /**
+     * Sets {@link #waypoint} to the next point on the path to the target.
+     * Uses the pathfinder's flow field when it leads to the target's tile. Otherwise searches again when the target has moved to another tile (at most every {@link #REPATH_INTERVAL})
+     * or a partial path ran out. Until a path is found the NPC heads straight for the target.
+     */
+    private void nextWaypoint(Pathfinder pathfinder, Vector2 target, float delta) {
+        int goalX = (int) Math.floor(target.x);
+        int goalY = (int) Math.floor(target.y);
+        repathTimer -= delta;
+
+        // Target on the shared flow field's tile (the player): follow the field instead of searching
+        FlowField flowField = pathfinder.getFlowField();
+        if (flowField.isGoal(goalX, goalY) && flowField.getWaypoint(position.x, position.y, waypoint)) {
+            path.clear();
+            if ((int) Math.floor(position.x) == goalX && (int) Math.floor(position.y) == goalY) {
+                waypoint.set(target);
+            }
+            return;
+        }
+
+        boolean goalMoved = !path.hasGoal() || path.getGoalX() != goalX || path.getGoalY() != goalY;
+        boolean ranOut = !path.hasNext() && path.isPartial();
+        if ((goalMoved && repathTimer <= 0f) || ranOut) {
+            if (commands != null) {
+                // Searched after the update phase; keep following the old path until then
+                commands.requestPath(this, goalX, goalY);
+            } else {
+                searchPath(pathfinder, goalX, goalY);
+            }
+        }
+
+        // Walk to tile centers, and to the target itself on the last tile
+        while (path.hasNext() && !path.isLastWaypoint()
+                && position.dst2(path.getNextX() + 0.5f, path.getNextY() + 0.5f) <= WAYPOINT_RADIUS * WAYPOINT_RADIUS) {
+            path.advance();
+        }
+        if (path.hasNext() && !path.isLastWaypoint()) {
+            waypoint.set(path.getNextX() + 0.5f, path.getNextY() + 0.5f);
+        } else {
+            waypoint.set(target);
+        }
+    }
+
+    /**
+     * Searches a new path from the NPC's tile to a goal tile.
+     */
+    void searchPath(Pathfinder pathfinder, int goalX, int goalY) {
+        Pathfinder.Result result = pathfinder.findPath(
+            (int) Math.floor(position.x), (int) Math.floor(position.y), goalX, goalY, path);
+        if (result != Pathfinder.Result.DEFERRED) {
+            repathTimer = REPATH_INTERVAL;
+            // The path starts on the tile the NPC is already standing on
+            path.advance();
+        }
+    }
+
+    /**
+     * Loads the shared state the next update reads: the pathfinder and the solidity of the tiles
+     * the NPC can reach in the given time. Afterwards the update only reads shared state, so it
+     * can run alongside other NPCs' updates.
+     */
+    public void prepareUpdate(float delta) {
+        if (world == null) {
+            return;
+        }
+        world.getPathfinder();
+        SolidityMap solidity = world.getSolidityMap();
+        if (solidity != null) {
+            // One extra tile covers the tile a sweep checks beyond the box
+            float reach = Math.max(collider.width, collider.height) / 2f + speed * delta + 1f;
+            solidity.prefetch((int) Math.floor(position.x - reach), (int) Math.floor(position.y - reach),
+                (int) Math.floor(position.x + reach), (int) Math.floor(position.y + reach));
+        }
+    }
+
+    /**
+     * Sets the buffer that records this NPC's effects on shared state during updates.
+     * @param commands Buffer, or null to apply effects immediately
+     */
+    public void setCommands(NPCCommands commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * Deals damage to the player, or records it when updating in parallel.
+     */
+    protected void damagePlayer(Player player, int amount) {
+        if (commands != null) {
+            commands.damagePlayer(player, amount);
+        } else {
+            player.getStats().takeDamage(amount);
         }
     }
 
@@ -119,10 +302,10 @@ public abstract class NPC extends Entity {
             return;
         }
 
-        currentHealth -= amount;
+        health.current -= amount;
 
-        if (currentHealth <= 0) {
-            currentHealth = 0;
+        if (health.current <= 0) {
+            health.current = 0;
             state = NPCState.DEAD;
             onDeath(attacker);
         } else {
@@ -184,14 +367,31 @@ public abstract class NPC extends Entity {
         return distanceTo(target) <= attackRange;
     }
 
+    /**
+     * Records a tick this NPC was not updated in, so the time is caught up on its next update.
+     */
+    public void skipUpdate(float delta) {
+        skippedTime += delta;
+    }
+
+    /**
+     * Returns the time skipped since the last update and resets it.
+     */
+    public float takeSkippedTime() {
+        float time = skippedTime;
+        skippedTime = 0f;
+        return time;
+    }
+
     // Getters
     public NPCType getType() { return type; }
     public String getName() { return name; }
-    public int getCurrentHealth() { return currentHealth; }
-    public int getMaxHealth() { return maxHealth; }
+    public int getCurrentHealth() { return health.current; }
+    public int getMaxHealth() { return health.max; }
     public NPCState getState() { return state; }
     public boolean isDead() { return state == NPCState.DEAD; }
-    public int getGoldDrop() { return goldDrop; }
-    public int getXPValue() { return xpValue; }
+    public int getGoldDrop() { return loot.goldMin; }
+    public int getXPValue() { return loot.xp; }
     public int getDamage() { return damage; }
+    public float getDetectionRange() { return detectionRange; }
 }
@@ -0,0 +1,86 @@
+package io.github.inherit_this.entities;
+
+import io.github.inherit_this.pathfinding.Pathfinder;
+
+import java.util.Arrays;
+
+/**
+ * Records what NPC updates do to shared state (damage to the player and path searches), so several
+ * NPCs can update on different threads at once. Each thread records into its own buffer, and
+ * {@link #apply} then runs the recorded commands on one thread, in the order they were recorded.
+ */
+public class NPCCommands {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Player[] damageTargets = new Player[INITIAL_CAPACITY];
+    private float[] damageAmounts = new float[INITIAL_CAPACITY];
+    private int damageCount = 0;
+
+    private NPC[] pathRequesters = new NPC[INITIAL_CAPACITY];
+    // Goal tile of each path request, as x, y pairs
+    private int[] pathGoals = new int[INITIAL_CAPACITY * 2];
+    private int pathRequestCount = 0;
+
+    /**
+     * Records damage dealt to the player.
+     */
+    public void damagePlayer(Player player, float amount) {
+        if (damageCount == damageTargets.length) {
+            damageTargets = Arrays.copyOf(damageTargets, damageCount * 2);
+            damageAmounts = Arrays.copyOf(damageAmounts, damageCount * 2);
+        }
+        damageTargets[damageCount] = player;
+        damageAmounts[damageCount] = amount;
+        damageCount++;
+    }
+
+    /**
+     * Records that an NPC needs a new path to a goal tile.
+     */
+    public void requestPath(NPC npc, int goalX, int goalY) {
+        if (pathRequestCount == pathRequesters.length) {
+            pathRequesters = Arrays.copyOf(pathRequesters, pathRequestCount * 2);
+            pathGoals = Arrays.copyOf(pathGoals, pathRequestCount * 4);
+        }
+        pathRequesters[pathRequestCount] = npc;
+        pathGoals[pathRequestCount * 2] = goalX;
+        pathGoals[pathRequestCount * 2 + 1] = goalY;
+        pathRequestCount++;
+    }
+
+    /**
+     * Applies the recorded damage, then runs the recorded path searches, each in recording order.
+     * Clears the buffer afterwards.
+     * @param pathfinder Pathfinder for the path searches; null drops them
+     */
+    public void apply(Pathfinder pathfinder) {
+        for (int i = 0; i < damageCount; i++) {
+            damageTargets[i].getStats().takeDamage(damageAmounts[i]);
+        }
+        if (pathfinder != null) {
+            for (int i = 0; i < pathRequestCount; i++) {
+                pathRequesters[i].searchPath(pathfinder, pathGoals[i * 2], pathGoals[i * 2 + 1]);
+            }
+        }
+        clear();
+    }
+
+    /**
+     * Drops all recorded commands.
+     */
+    public void clear() {
+        Arrays.fill(damageTargets, 0, damageCount, null);
+        Arrays.fill(pathRequesters, 0, pathRequestCount, null);
+        damageCount = 0;
+        pathRequestCount = 0;
+    }
+
+    public int getDamageCount() {
+        return damageCount;
+    }
+
+    public int getPathRequestCount() {
+        return pathRequestCount;
+    }
+}
@@ -4,6 +4,8 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.inherit_this.items.Equipment;
 import io.github.inherit_this.items.Inventory;
 import io.github.inherit_this.util.Constants;
+import io.github.inherit_this.util.SpatialGrid;
+import io.github.inherit_this.world.SolidityMap;
 import io.github.inherit_this.world.WorldProvider;
 
 public class Player extends Entity {
@@ -16,9 +18,12 @@ public class Player extends Entity {
     private Equipment equipment;
     private PlayerStats stats;
     private java.util.List<BreakableObject> breakableObjects;
+    private SpatialGrid<BreakableObject> breakableObjectIndex;
+    private final java.util.List<BreakableObject> nearbyObjects = new java.util.ArrayList<>();
 
     // Mouse-based movement
     private Vector2 targetPosition = null;
+    private final Vector2 sweepResult = new Vector2();
     // Arrival threshold in tiles (0.15625 tiles = 5 pixels at 32px/tile)
     private static final float ARRIVAL_THRESHOLD = 0.15625f;
     private float facingAngle = 0f; // Angle player is facing (in degrees, raw movement angle)
@@ -27,6 +32,8 @@ public class Player extends Entity {
     // Collision box size in tiles (player hitbox is about 1 tile)
     private static final float COLLISION_HALF_WIDTH = 0.5f;  // 0.5 tiles = 16 pixels
     private static final float COLLISION_HALF_HEIGHT = 0.5f; // 0.5 tiles = 16 pixels
+    // Distance between player and object centers below which they collide
+    private static final float OBJECT_COLLISION_RADIUS = 0.7f;
 
     // Combat
     private float timeSinceLastAttack = 0f;
@@ -83,6 +90,8 @@ public class Player extends Entity {
                 if (noClip) {
                     position.x += moveX;
                     position.y += moveY;
+                } else if (world.getSolidityMap() != null) {
+                    moveSwept(world.getSolidityMap(), moveX, moveY);
                 } else {
                     float newX = position.x + moveX;
                     float newY = position.y + moveY;
@@ -138,6 +147,31 @@ public class Player extends Entity {
         return facingDirection;
     }
 
+    /**
+     * Moves the player with a swept box against the world's solidity map, so the player stops
+     * flush against walls and slides along them. Breakable objects still block the move.
+     */
+    private void moveSwept(SolidityMap solidity, float moveX, float moveY) {
+        solidity.sweep(position.x, position.y, COLLISION_HALF_WIDTH, COLLISION_HALF_HEIGHT,
+            moveX, moveY, sweepResult);
+
+        if (!isCollidingWithObjects(sweepResult.x, sweepResult.y)) {
+            position.set(sweepResult);
+        } else {
+            // Try sliding along the object. The sweep keeps both axes clear of tiles, so only objects are checked;
+            // if X stays put, Y is swept again from there since the first sweep moved Y at the new X
+            if (!isCollidingWithObjects(sweepResult.x, position.y)) {
+                position.x = sweepResult.x;
+            } else {
+                solidity.sweep(position.x, position.y, COLLISION_HALF_WIDTH, COLLISION_HALF_HEIGHT,
+                    0f, moveY, sweepResult);
+            }
+            if (!isCollidingWithObjects(position.x, sweepResult.y)) {
+                position.y = sweepResult.y;
+            }
+        }
+    }
+
     /**
      * Checks if the player collides with solid tiles or breakable objects at the given position.
      * @param x X position in tiles
@@ -145,6 +179,20 @@ public class Player extends Entity {
      * @return true if colliding with any solid tile or breakable object
      */
     private boolean isColliding(float x, float y) {
+        return isCollidingWithTiles(x, y) || isCollidingWithObjects(x, y);
+    }
+
+    /**
+     * Checks if the player's hitbox touches a solid tile.
+     * Uses the world's solidity map when available, otherwise probes the four corners of the hitbox.
+     */
+    private boolean isCollidingWithTiles(float x, float y) {
+        SolidityMap solidity = world.getSolidityMap();
+        if (solidity != null) {
+            return solidity.overlaps(x - COLLISION_HALF_WIDTH, y - COLLISION_HALF_HEIGHT,
+                                     x + COLLISION_HALF_WIDTH, y + COLLISION_HALF_HEIGHT);
+        }
+
         // Check collision at the four corners of the player's hitbox
         // Positions are in tiles, world.isSolidAtPosition expects pixel coordinates
         float pixelX = x * Constants.TILE_SIZE;
@@ -157,9 +205,23 @@ public class Player extends Entity {
         boolean bottomLeft = world.isSolidAtPosition(pixelX - halfWidthPixels, pixelY - halfHeightPixels);
         boolean bottomRight = world.isSolidAtPosition(pixelX + halfWidthPixels, pixelY - halfHeightPixels);
 
+        return topLeft || topRight || bottomLeft || bottomRight;
+    }
+
+    /**
+     * Checks if the player overlaps a breakable object that hasn't been destroyed.
+     */
+    private boolean isCollidingWithObjects(float x, float y) {
+        // Only objects whose tile origin is near the player can overlap, so ask the index for those
+        java.util.List<BreakableObject> candidates = breakableObjects;
+        if (breakableObjectIndex != null) {
+            nearbyObjects.clear();
+            candidates = breakableObjectIndex.queryRadius(x - 0.5f, y - 0.5f, OBJECT_COLLISION_RADIUS, nearbyObjects);
+        }
+
         // Check collision with breakable objects
-        if (breakableObjects != null) {
-            for (BreakableObject obj : breakableObjects) {
+        if (candidates != null) {
+            for (BreakableObject obj : candidates) {
                 if (obj.isDestroyed()) continue;
 
                 // Check if player's position overlaps with object's tile
@@ -172,13 +234,13 @@ public class Player extends Entity {
                 float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
                 // Both player and object have ~0.5 tile radius
-                if (distance < 0.7f) {
+                if (distance < OBJECT_COLLISION_RADIUS) {
                     return true;
                 }
             }
         }
 
-        return topLeft || topRight || bottomLeft || bottomRight;
+        return false;
     }
 
 
@@ -189,6 +251,7 @@ public class Player extends Entity {
      */
     public void setPosition(float x, float y) {
         position.set(x, y);
+        storePreviousPosition(); // Teleport, don't interpolate
     }
 
     /**
@@ -201,6 +264,7 @@ public class Player extends Entity {
         // Add 0.5 to center the player on the tile
         position.x = x + 0.5f;
         position.y = y + 0.5f;
+        storePreviousPosition(); // Teleport, don't interpolate
     }
 
     /**
@@ -240,6 +304,14 @@ public class Player extends Entity {
         this.breakableObjects = objects;
     }
 
+    /**
+     * Set a spatial index of breakable objects (keyed by tile position) for collision detection.
+     * When set, only nearby objects are checked instead of the whole list.
+     */
+    public void setBreakableObjectIndex(SpatialGrid<BreakableObject> index) {
+        this.breakableObjectIndex = index;
+    }
+
     public Inventory getInventory() {
         return inventory;
     }
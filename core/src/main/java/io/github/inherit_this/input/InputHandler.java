@@ -4,8 +4,10 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.simulation.SimulationSnapshot;
 import io.github.inherit_this.util.Constants;
 
 /**
@@ -34,6 +36,9 @@ public class InputHandler {
     private boolean tiltUp = false;
     private boolean tiltDown = false;
 
+    // Interpolated player position the camera follows
+    private final Vector2 followPosition = new Vector2();
+
     public InputHandler(PerspectiveCamera camera, Player player) {
         this.camera = camera;
         this.player = player;
@@ -82,9 +87,27 @@ public class InputHandler {
 
     /**
      * Update camera position to follow the player.
-     * Uses spherical coordinates: horizontal angle, vertical angle (pitch), and distance.
      */
     public void updateCameraPosition() {
+        updateCameraPosition(player.getPosition().x, player.getPosition().y);
+    }
+
+    /**
+     * Update camera position to follow the player's position in a simulation snapshot, interpolated within its tick.
+     * @param alpha Progress from the previous tick (0) to the latest tick (1)
+     */
+    public void updateCameraPosition(SimulationSnapshot snapshot, float alpha) {
+        snapshot.getPlayerPosition(alpha, followPosition);
+        updateCameraPosition(followPosition.x, followPosition.y);
+    }
+
+    /**
+     * Moves the camera to look at a position.
+     * Uses spherical coordinates: horizontal angle, vertical angle (pitch), and distance.
+     * @param playerX X position in tiles
+     * @param playerY Y position in tiles
+     */
+    private void updateCameraPosition(float playerX, float playerY) {
         // Convert angles to radians
         float horizontalRad = (float) Math.toRadians(cameraAngle);
         float pitchRad = (float) Math.toRadians(cameraPitch);
@@ -99,8 +122,8 @@ public class InputHandler {
         float offsetZ = horizontalDistance * (float) Math.sin(horizontalRad);
 
         // Convert player position from tiles to pixels for 3D camera
-        float playerPixelX = player.getPosition().x * Constants.TILE_SIZE;
-        float playerPixelZ = player.getPosition().y * Constants.TILE_SIZE;
+        float playerPixelX = playerX * Constants.TILE_SIZE;
+        float playerPixelZ = playerY * Constants.TILE_SIZE;
 
         camera.position.set(
             playerPixelX + offsetX,
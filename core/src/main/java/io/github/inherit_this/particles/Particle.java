@@ -9,6 +9,8 @@ import com.badlogic.gdx.math.Vector3;
 /**
  * Represents a single particle with physics (velocity, gravity) and lifetime.
  * Rendered as 2D sprite projected from 3D world space (like player rendering).
+ * {@link ParticleSystem} keeps its particles in a {@link ParticleBuffer} with the same physics;
+ * this class is for standalone particles.
  */
 public class Particle {
     private TextureRegion textureRegion;
@@ -20,6 +22,9 @@ public class Particle {
     private Color tintColor;
     private float size;
 
+    // Reused for screen projection, render runs on the render thread only
+    private static final Vector3 screenPos = new Vector3();
+
     /**
      * Creates a new particle.
      * @param textureRegion The texture region to render
@@ -85,7 +90,7 @@ public class Particle {
      */
     public void render(SpriteBatch batch, PerspectiveCamera camera) {
         // Project 3D world position to screen coordinates
-        Vector3 screenPos = camera.project(new Vector3(position));
+        Vector3 screenPos = camera.project(Particle.screenPos.set(position));
 
         // Calculate alpha for fade out in last 30% of lifetime
         float alpha = 1.0f;
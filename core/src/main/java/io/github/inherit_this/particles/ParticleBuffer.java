@@ -0,0 +1,188 @@
+package io.github.inherit_this.particles;
+
+/**
+ * Fixed-capacity particle storage in struct-of-arrays layout: one float array per attribute.
+ * Particles live in a ring buffer ordered by spawn time. Dead particles are compacted out in place
+ * during {@link #update}, and spawning into a full buffer evicts the oldest particle.
+ * Nothing is allocated after construction, so tens of thousands of particles cost no GC.
+ *
+ * Use {@link #slot(int)} to map a particle index (0 = oldest) to its array index.
+ */
+public class ParticleBuffer {
+
+    // Ground friction applied to horizontal velocity each update while resting on the ground
+    private static final float GROUND_FRICTION = 0.95f;
+
+    private final int capacity;
+    private final int mask;
+
+    // Attributes, indexed by slot
+    final float[] posX;
+    final float[] posY;
+    final float[] posZ;
+    final float[] velX;
+    final float[] velY;
+    final float[] velZ;
+    final float[] life;
+    final float[] maxLife;
+    final float[] gravity;
+    final float[] red;
+    final float[] green;
+    final float[] blue;
+    final float[] size;
+    final byte[] region;
+
+    private int head = 0;   // Slot of the oldest particle
+    private int count = 0;
+    private int evictedCount = 0;
+
+    /**
+     * @param capacity Maximum number of live particles, rounded up to a power of two
+     */
+    public ParticleBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int rounded = 1;
+        while (rounded < capacity) {
+            rounded <<= 1;
+        }
+        this.capacity = rounded;
+        this.mask = this.capacity - 1;
+        posX = new float[this.capacity];
+        posY = new float[this.capacity];
+        posZ = new float[this.capacity];
+        velX = new float[this.capacity];
+        velY = new float[this.capacity];
+        velZ = new float[this.capacity];
+        life = new float[this.capacity];
+        maxLife = new float[this.capacity];
+        gravity = new float[this.capacity];
+        red = new float[this.capacity];
+        green = new float[this.capacity];
+        blue = new float[this.capacity];
+        size = new float[this.capacity];
+        region = new byte[this.capacity];
+    }
+
+    /**
+     * Adds a particle, evicting the oldest one if the buffer is full.
+     * Positions and velocities are in world pixels (per second).
+     * @param regionIndex Texture region of the particle, interpreted by the renderer
+     */
+    public void spawn(float x, float y, float z, float velocityX, float velocityY, float velocityZ,
+                      float lifetime, float gravityY, float r, float g, float b, float particleSize,
+                      int regionIndex) {
+        if (count == capacity) {
+            head = (head + 1) & mask;
+            count--;
+            evictedCount++;
+        }
+        int i = (head + count) & mask;
+        posX[i] = x;
+        posY[i] = y;
+        posZ[i] = z;
+        velX[i] = velocityX;
+        velY[i] = velocityY;
+        velZ[i] = velocityZ;
+        life[i] = lifetime;
+        maxLife[i] = lifetime;
+        gravity[i] = gravityY;
+        red[i] = r;
+        green[i] = g;
+        blue[i] = b;
+        size[i] = particleSize;
+        region[i] = (byte) regionIndex;
+        count++;
+    }
+
+    /**
+     * Updates particle physics (same rules as {@link Particle#update}) and removes dead particles.
+     * Survivors are moved down over the dead ones in one pass, keeping spawn order.
+     * @param delta Time since last update (seconds)
+     */
+    public void update(float delta) {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            int i = (head + read) & mask;
+            float remaining = life[i] - delta;
+            if (remaining <= 0) {
+                continue;
+            }
+            life[i] = remaining;
+
+            // Apply velocity, then gravity
+            posX[i] += velX[i] * delta;
+            posY[i] += velY[i] * delta;
+            posZ[i] += velZ[i] * delta;
+            velY[i] += gravity[i] * delta;
+
+            // Ground collision - particles settle on the ground
+            if (posY[i] <= 0) {
+                posY[i] = 0;
+                velY[i] = 0;
+                velX[i] *= GROUND_FRICTION;
+                velZ[i] *= GROUND_FRICTION;
+            }
+
+            if (write != read) {
+                move(i, (head + write) & mask);
+            }
+            write++;
+        }
+        count = write;
+    }
+
+    private void move(int from, int to) {
+        posX[to] = posX[from];
+        posY[to] = posY[from];
+        posZ[to] = posZ[from];
+        velX[to] = velX[from];
+        velY[to] = velY[from];
+        velZ[to] = velZ[from];
+        life[to] = life[from];
+        maxLife[to] = maxLife[from];
+        gravity[to] = gravity[from];
+        red[to] = red[from];
+        green[to] = green[from];
+        blue[to] = blue[from];
+        size[to] = size[from];
+        region[to] = region[from];
+    }
+
+    /**
+     * Array index of a particle.
+     * @param index Particle index, 0 (oldest) to {@link #size()} - 1 (newest)
+     */
+    public int slot(int index) {
+        return (head + index) & mask;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Total number of particles evicted because the buffer was full.
+     */
+    public int getEvictedCount() {
+        return evictedCount;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    // Attribute getters by slot, for renderers and tests
+
+    public float getX(int slot) { return posX[slot]; }
+    public float getY(int slot) { return posY[slot]; }
+    public float getZ(int slot) { return posZ[slot]; }
+    public float getLife(int slot) { return life[slot]; }
+    public float getMaxLife(int slot) { return maxLife[slot]; }
+}
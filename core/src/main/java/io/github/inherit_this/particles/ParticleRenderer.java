@@ -0,0 +1,157 @@
+package io.github.inherit_this.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.RenderableProvider;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Draws every particle of a {@link ParticleBuffer} as camera-facing quads in the 3D pass, with one draw call.
+ * Each frame the live particles are written into a dynamic vertex buffer (center, corner offset, color, UVs);
+ * the {@link ParticleShader} orients the quads on the GPU.
+ * All particle texture regions must be on the same texture.
+ */
+public class ParticleRenderer implements RenderableProvider {
+
+    // Position (3) + packed color (1) + texture coordinates (2) + corner offset (2)
+    private static final int VERTEX_SIZE = 8;
+    private static final int VERTICES_PER_PARTICLE = 4;
+    private static final int INDICES_PER_PARTICLE = 6;
+    // Short indices address at most 65536 vertices
+    private static final int MAX_BATCH_PARTICLES = 65536 / VERTICES_PER_PARTICLE;
+
+    private final TextureRegion[] regions;
+    private final int maxParticles;
+    private final Mesh mesh;
+    private final float[] vertices;
+    private final Material material;
+    private final ParticleShader shader;
+    private int particleCount = 0;
+
+    /**
+     * @param regions Particle texture regions, indexed by the buffer's region indices
+     * @param maxParticles Most particles drawn per frame; extra particles are skipped
+     */
+    public ParticleRenderer(TextureRegion[] regions, int maxParticles) {
+        this.regions = regions;
+        this.maxParticles = Math.min(maxParticles, MAX_BATCH_PARTICLES);
+        this.vertices = new float[this.maxParticles * VERTICES_PER_PARTICLE * VERTEX_SIZE];
+
+        mesh = new Mesh(false, this.maxParticles * VERTICES_PER_PARTICLE, this.maxParticles * INDICES_PER_PARTICLE,
+            VertexAttribute.Position(),
+            VertexAttribute.ColorPacked(),
+            VertexAttribute.TexCoords(0),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_corner"));
+
+        // Quad indices never change, only the vertices do
+        short[] indices = new short[this.maxParticles * INDICES_PER_PARTICLE];
+        for (int i = 0, vertex = 0; i < indices.length; i += INDICES_PER_PARTICLE, vertex += VERTICES_PER_PARTICLE) {
+            indices[i] = (short) vertex;
+            indices[i + 1] = (short) (vertex + 1);
+            indices[i + 2] = (short) (vertex + 2);
+            indices[i + 3] = (short) (vertex + 2);
+            indices[i + 4] = (short) (vertex + 3);
+            indices[i + 5] = (short) vertex;
+        }
+        mesh.setIndices(indices);
+
+        material = new Material(
+            TextureAttribute.createDiffuse(regions[0].getTexture()),
+            new BlendingAttribute(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA)
+        );
+        shader = new ParticleShader();
+        shader.init();
+    }
+
+    /**
+     * Writes the live particles into the vertex buffer. Call before passing this renderer to ModelBatch.
+     * Particles fade out and shrink in the last 30% of their lifetime.
+     */
+    public void update(ParticleBuffer particles) {
+        int count = Math.min(particles.size(), maxParticles);
+        int v = 0;
+
+        for (int n = 0; n < count; n++) {
+            int i = particles.slot(n);
+
+            float alpha = 1.0f;
+            float scale = 3.0f;
+            float fadeStart = particles.maxLife[i] * 0.3f;
+            if (particles.life[i] < fadeStart) {
+                alpha = particles.life[i] / fadeStart;
+                scale = alpha;
+            }
+
+            float half = particles.size[i] * scale / 2f;
+            float x = particles.posX[i];
+            // Raise the quad by half its size so particles resting on the floor aren't cut in half by it
+            float y = particles.posY[i] + half;
+            float z = particles.posZ[i];
+            float color = Color.toFloatBits(particles.red[i], particles.green[i], particles.blue[i], alpha);
+
+            TextureRegion region = regions[particles.region[i]];
+            float u = region.getU();
+            float v1 = region.getV();
+            float u2 = region.getU2();
+            float v2 = region.getV2();
+
+            v = putVertex(v, x, y, z, color, u, v2, -half, -half);
+            v = putVertex(v, x, y, z, color, u2, v2, half, -half);
+            v = putVertex(v, x, y, z, color, u2, v1, half, half);
+            v = putVertex(v, x, y, z, color, u, v1, -half, half);
+        }
+
+        mesh.setVertices(vertices, 0, v);
+        particleCount = count;
+    }
+
+    private int putVertex(int offset, float x, float y, float z, float color,
+                          float u, float v, float cornerX, float cornerY) {
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = z;
+        vertices[offset + 3] = color;
+        vertices[offset + 4] = u;
+        vertices[offset + 5] = v;
+        vertices[offset + 6] = cornerX;
+        vertices[offset + 7] = cornerY;
+        return offset + VERTEX_SIZE;
+    }
+
+    /**
+     * Submits all particles as a single renderable.
+     */
+    @Override
+    public void getRenderables(Array<Renderable> renderables, Pool<Renderable> pool) {
+        if (particleCount == 0) {
+            return;
+        }
+        Renderable renderable = pool.obtain();
+        renderable.worldTransform.idt();
+        renderable.material = material;
+        renderable.environment = null;
+        renderable.bones = null;
+        renderable.userData = null;
+        renderable.meshPart.set("particles", mesh, 0, particleCount * INDICES_PER_PARTICLE, GL20.GL_TRIANGLES);
+        renderable.shader = shader;
+        renderables.add(renderable);
+    }
+
+    public int getParticleCount() {
+        return particleCount;
+    }
+
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.inherit_this.particles;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Billboard shader for particle quads. Each vertex carries the particle center and its corner offset;
+ * the vertex shader spreads the corners along the camera's right and up axes, so quads always face
+ * the camera without any per-particle work on the CPU.
+ * Particles are depth tested against the world but don't write depth, so they never hide each other.
+ */
+public class ParticleShader implements Shader {
+
+    private static final String VERTEX_SHADER =
+        "attribute vec3 a_position;\n" +
+        "attribute vec4 a_color;\n" +
+        "attribute vec2 a_texCoord0;\n" +
+        "attribute vec2 a_corner;\n" +
+        "uniform mat4 u_projViewTrans;\n" +
+        "uniform vec3 u_cameraRight;\n" +
+        "uniform vec3 u_cameraUp;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoord;\n" +
+        "void main() {\n" +
+        "    vec3 worldPos = a_position + u_cameraRight * a_corner.x + u_cameraUp * a_corner.y;\n" +
+        "    v_color = a_color;\n" +
+        "    v_texCoord = a_texCoord0;\n" +
+        "    gl_Position = u_projViewTrans * vec4(worldPos, 1.0);\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "uniform sampler2D u_texture;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoord;\n" +
+        "void main() {\n" +
+        "    vec4 color = texture2D(u_texture, v_texCoord) * v_color;\n" +
+        "    if (color.a <= 0.01) discard;\n" +
+        "    gl_FragColor = color;\n" +
+        "}\n";
+
+    private ShaderProgram program;
+    private RenderContext context;
+    private final Vector3 right = new Vector3();
+    private final Vector3 up = new Vector3();
+
+    @Override
+    public void init() {
+        program = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!program.isCompiled()) {
+            Gdx.app.error("ParticleShader", "Failed to compile particle shader: " + program.getLog());
+        }
+    }
+
+    @Override
+    public int compareTo(Shader other) {
+        return 0;
+    }
+
+    @Override
+    public boolean canRender(Renderable renderable) {
+        return renderable.shader == this;
+    }
+
+    @Override
+    public void begin(Camera camera, RenderContext context) {
+        this.context = context;
+        program.bind();
+        program.setUniformMatrix("u_projViewTrans", camera.combined);
+
+        // Camera-facing axes, shared by every particle this frame
+        right.set(camera.direction).crs(camera.up).nor();
+        up.set(right).crs(camera.direction).nor();
+        program.setUniformf("u_cameraRight", right);
+        program.setUniformf("u_cameraUp", up);
+
+        context.setDepthTest(GL20.GL_LEQUAL);
+        context.setDepthMask(false);
+        context.setBlending(true, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        context.setCullFace(0);
+    }
+
+    @Override
+    public void render(Renderable renderable) {
+        TextureAttribute texture = (TextureAttribute) renderable.material.get(TextureAttribute.Diffuse);
+        program.setUniformi("u_texture", context.textureBinder.bind(texture.textureDescription));
+        renderable.meshPart.render(program);
+    }
+
+    @Override
+    public void end() {
+        context.setDepthMask(true);
+        context = null;
+    }
+
+    @Override
+    public void dispose() {
+        if (program != null) {
+            program.dispose();
+            program = null;
+        }
+    }
+}
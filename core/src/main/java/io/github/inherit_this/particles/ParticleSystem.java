@@ -3,34 +3,54 @@ package io.github.inherit_this.particles;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import io.github.inherit_this.entities.BreakableObject;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 /**
  * Manages all active particles in the game.
  * Handles updating, rendering, and cleanup of particles.
- * Renders particles as 2D sprites projected from 3D world positions (like player rendering).
+ * Renders particles as camera-facing billboards in the 3D pass, so walls and objects occlude them.
+ *
+ * Particles are stored in a fixed-capacity {@link ParticleBuffer}; when it is full the oldest particles
+ * are replaced. Spawning, updating and rendering allocate nothing.
  */
 public class ParticleSystem {
-    private List<Particle> particles;
+    private final ParticleBuffer particles;
     private PerspectiveCamera camera;
 
-    // Particle textures
-    private Texture woodParticle1;
-    private Texture woodParticle2;
-    private Texture stoneParticle1;
-    private Texture stoneParticle2;
+    // Particle textures, packed onto one page so all particles can be drawn together
+    private static final String[] TEXTURE_PATHS = {
+        "particles/wood_particle_1.png",
+        "particles/wood_particle_2.png",
+        "particles/stone_particle_1.png",
+        "particles/stone_particle_2.png"
+    };
+    private static final int ATLAS_PAGE_SIZE = 256;
+    private TextureAtlas particleAtlas;
+    // Created on first render, once there is something to draw
+    private ParticleRenderer renderer;
+
+    // Regions shared by all particles; particles store an index into this table
+    private static final int WOOD_REGION_1 = 0;
+    private static final int WOOD_REGION_2 = 1;
+    private static final int STONE_REGION_1 = 2;
+    private static final int STONE_REGION_2 = 3;
+    private final TextureRegion[] regions = new TextureRegion[4];
 
     private static final float PARTICLE_SIZE = 4f; // 4x4 pixels
+    private static final int MAX_PARTICLES = 16384;
+    private static final float GRAVITY = -300f;
+
+    private static final Color WOOD_COLOR = new Color(0.8f, 0.6f, 0.4f, 1.0f); // Brown-ish
+    private static final Color STONE_COLOR = new Color(0.7f, 0.7f, 0.7f, 1.0f); // Gray-ish
 
     public ParticleSystem(PerspectiveCamera camera) {
-        this.particles = new ArrayList<>();
+        this.particles = new ParticleBuffer(MAX_PARTICLES);
         this.camera = camera;
 
         // Load particle textures
@@ -39,10 +59,19 @@ public class ParticleSystem {
 
     private void loadParticleTextures() {
         try {
-            woodParticle1 = new Texture(Gdx.files.internal("particles/wood_particle_1.png"));
-            woodParticle2 = new Texture(Gdx.files.internal("particles/wood_particle_2.png"));
-            stoneParticle1 = new Texture(Gdx.files.internal("particles/stone_particle_1.png"));
-            stoneParticle2 = new Texture(Gdx.files.internal("particles/stone_particle_2.png"));
+            PixmapPacker packer = new PixmapPacker(ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+            for (String path : TEXTURE_PATHS) {
+                Pixmap pixmap = new Pixmap(Gdx.files.internal(path));
+                packer.pack(path, pixmap);
+                pixmap.dispose();
+            }
+            particleAtlas = packer.generateTextureAtlas(
+                Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+            packer.dispose();
+
+            for (int i = 0; i < TEXTURE_PATHS.length; i++) {
+                regions[i] = particleAtlas.findRegion(TEXTURE_PATHS[i]);
+            }
 
             Gdx.app.log("ParticleSystem", "Loaded particle textures");
         } catch (Exception e) {
@@ -75,9 +104,9 @@ public class ParticleSystem {
         // Determine material type from object name
         MaterialType materialType = getMaterialType(obj);
 
-        // Get particle textures for this material
-        Texture[] textures = getTexturesForMaterial(materialType);
-        if (textures == null || textures.length == 0) {
+        // Get particle textures for this material (two variants each)
+        int firstRegion = getFirstRegionForMaterial(materialType);
+        if (regions[firstRegion] == null || regions[firstRegion + 1] == null) {
             Gdx.app.error("ParticleSystem", "No textures available for material: " + materialType);
             return;
         }
@@ -88,8 +117,7 @@ public class ParticleSystem {
         // Spawn particles
         for (int i = 0; i < particleCount; i++) {
             // Randomly pick one of the two texture variants
-            Texture particleTexture = textures[(int) (Math.random() * textures.length)];
-            TextureRegion textureRegion = new TextureRegion(particleTexture);
+            int regionIndex = firstRegion + (Math.random() < 0.5 ? 0 : 1);
 
             // Random direction (spherical coordinates)
             float angle = (float) (Math.random() * Math.PI * 2);
@@ -107,26 +135,14 @@ public class ParticleSystem {
             // Random lifetime (0.5 to 1.5 seconds)
             float lifetime = 0.5f + (float) Math.random() * 1.0f;
 
-            // Gravity (negative to pull down)
-            float gravity = -300f;
-
-            // Apply slight random tint variation (±10% on each color channel)
-            Color tintColor = new Color(
-                baseColor.r * (0.9f + (float) Math.random() * 0.2f),
-                baseColor.g * (0.9f + (float) Math.random() * 0.2f),
-                baseColor.b * (0.9f + (float) Math.random() * 0.2f),
-                1.0f
-            );
-            // Clamp to valid range
-            tintColor.clamp();
-
-            Particle particle = new Particle(
-                textureRegion, worldX, worldY, worldZ,
-                velocityX, velocityY, velocityZ,
-                lifetime, gravity, tintColor, PARTICLE_SIZE
-            );
+            // Apply slight random tint variation (±10% on each color channel), clamped to valid range
+            float red = Math.min(1f, baseColor.r * (0.9f + (float) Math.random() * 0.2f));
+            float green = Math.min(1f, baseColor.g * (0.9f + (float) Math.random() * 0.2f));
+            float blue = Math.min(1f, baseColor.b * (0.9f + (float) Math.random() * 0.2f));
 
-            particles.add(particle);
+            particles.spawn(worldX, worldY, worldZ,
+                velocityX, velocityY, velocityZ,
+                lifetime, GRAVITY, red, green, blue, PARTICLE_SIZE, regionIndex);
         }
     }
 
@@ -151,16 +167,15 @@ public class ParticleSystem {
     }
 
     /**
-     * Get particle textures for a material type.
+     * Get the first of the two particle texture regions for a material type.
      */
-    private Texture[] getTexturesForMaterial(MaterialType materialType) {
+    private int getFirstRegionForMaterial(MaterialType materialType) {
         switch (materialType) {
-            case WOOD:
-                return new Texture[]{woodParticle1, woodParticle2};
             case STONE:
-                return new Texture[]{stoneParticle1, stoneParticle2};
+                return STONE_REGION_1;
+            case WOOD:
             default:
-                return new Texture[]{woodParticle1, woodParticle2};
+                return WOOD_REGION_1;
         }
     }
 
@@ -178,9 +193,9 @@ public class ParticleSystem {
         MaterialType materialType = getMaterialType(obj);
         switch (materialType) {
             case WOOD:
-                return new Color(0.8f, 0.6f, 0.4f, 1.0f); // Brown-ish
+                return WOOD_COLOR;
             case STONE:
-                return new Color(0.7f, 0.7f, 0.7f, 1.0f); // Gray-ish
+                return STONE_COLOR;
             default:
                 return Color.WHITE;
         }
@@ -191,23 +206,26 @@ public class ParticleSystem {
      * @param delta Time since last frame (seconds)
      */
     public void update(float delta) {
-        Iterator<Particle> iterator = particles.iterator();
-        while (iterator.hasNext()) {
-            Particle particle = iterator.next();
-            if (!particle.update(delta)) {
-                iterator.remove();
-            }
-        }
+        particles.update(delta);
     }
 
     /**
-     * Render all particles as 2D sprites projected from 3D world positions.
-     * @param batch SpriteBatch to render with (must be between begin/end)
+     * Render all particles as billboards with one draw call.
+     * @param modelBatch ModelBatch to render with (must be between begin/end)
      */
-    public void render(SpriteBatch batch) {
-        for (Particle particle : particles) {
-            particle.render(batch, camera);
+    public void render(ModelBatch modelBatch) {
+        if (particles.size() == 0) {
+            return;
+        }
+        if (renderer == null) {
+            if (regions[WOOD_REGION_1] == null) {
+                return;
+            }
+            renderer = new ParticleRenderer(regions, particles.getCapacity());
         }
+
+        renderer.update(particles);
+        modelBatch.render(renderer);
     }
 
     /**
@@ -217,6 +235,13 @@ public class ParticleSystem {
         return particles.size();
     }
 
+    /**
+     * Get the total number of particles replaced because the particle limit was reached.
+     */
+    public int getEvictedParticleCount() {
+        return particles.getEvictedCount();
+    }
+
     /**
      * Clear all particles.
      */
@@ -228,9 +253,13 @@ public class ParticleSystem {
      * Dispose of resources.
      */
     public void dispose() {
-        if (woodParticle1 != null) woodParticle1.dispose();
-        if (woodParticle2 != null) woodParticle2.dispose();
-        if (stoneParticle1 != null) stoneParticle1.dispose();
-        if (stoneParticle2 != null) stoneParticle2.dispose();
+        if (renderer != null) {
+            renderer.dispose();
+            renderer = null;
+        }
+        if (particleAtlas != null) {
+            particleAtlas.dispose();
+            particleAtlas = null;
+        }
     }
 }
@@ -0,0 +1,106 @@
+package io.github.inherit_this.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.world.SolidityMap;
+
+/**
+ * Flow field (Dijkstra map) toward a single goal tile, shared by every NPC heading for that tile.
+ * One search outward from the goal stores, for each tile within a radius, the next tile on the
+ * cheapest path to the goal; NPCs then look up their next step in constant time instead of each
+ * searching its own path. The field is only recomputed when the goal moves to another tile.
+ * Not thread-safe: use from the simulation thread only.
+ */
+public class FlowField {
+
+    private final SolidityMap solidity;
+    private final int widthInTiles;
+    private final int heightInTiles;
+    private final int radius;
+    private final GridSearch search;
+
+    private boolean hasGoal = false;
+    private int goalX;
+    private int goalY;
+
+    /**
+     * @param solidity Solidity of tiles [0, width) x [0, height)
+     * @param radius Tiles covered in each direction around the goal
+     */
+    public FlowField(SolidityMap solidity, int widthInTiles, int heightInTiles, int radius) {
+        this.solidity = solidity;
+        this.widthInTiles = widthInTiles;
+        this.heightInTiles = heightInTiles;
+        this.radius = radius;
+        this.search = new GridSearch((2 * radius + 1) * (2 * radius + 1));
+    }
+
+    /**
+     * Points the field at a goal tile, recomputing it if the goal changed.
+     * @return Number of tiles searched, 0 if the field was already up to date
+     */
+    public int setGoal(int tileX, int tileY) {
+        if (hasGoal && tileX == goalX && tileY == goalY) {
+            return 0;
+        }
+        hasGoal = true;
+        goalX = tileX;
+        goalY = tileY;
+
+        // Window around the goal, clipped to the world; an empty window leaves every tile unreached
+        int minX = Math.max(0, tileX - radius);
+        int minY = Math.max(0, tileY - radius);
+        int maxX = Math.min(widthInTiles - 1, tileX + radius);
+        int maxY = Math.min(heightInTiles - 1, tileY + radius);
+        return search.expandAll(solidity, minX, minY, Math.max(0, maxX - minX + 1), Math.max(0, maxY - minY + 1),
+            tileX, tileY);
+    }
+
+    /**
+     * Forgets the goal so the next {@link #setGoal} recomputes the field, e.g. after tiles changed.
+     */
+    public void invalidate() {
+        hasGoal = false;
+    }
+
+    /**
+     * Checks if the field currently leads to a tile.
+     */
+    public boolean isGoal(int tileX, int tileY) {
+        return hasGoal && tileX == goalX && tileY == goalY;
+    }
+
+    /**
+     * Looks up where to walk next from a position: the center of the next tile toward the goal,
+     * or the goal tile's center when already on it.
+     * @param x Position X in tiles
+     * @param y Position Y in tiles
+     * @return false if the position is outside the field or can't reach the goal
+     */
+    public boolean getWaypoint(float x, float y, Vector2 out) {
+        int tileX = (int) Math.floor(x);
+        int tileY = (int) Math.floor(y);
+        if (!hasGoal || !search.reached(tileX, tileY)) {
+            return false;
+        }
+
+        int next = search.getParent(tileX, tileY);
+        if (next < 0) {
+            out.set(goalX + 0.5f, goalY + 0.5f);
+        } else {
+            int width = search.getWidth();
+            out.set(search.getOriginX() + next % width + 0.5f, search.getOriginY() + next / width + 0.5f);
+        }
+        return true;
+    }
+
+    /**
+     * Path cost in tiles from a tile to the goal, or -1 if the tile is outside the field or can't reach it.
+     */
+    public float getCost(int tileX, int tileY) {
+        return hasGoal && search.reached(tileX, tileY) ? search.getCost(tileX, tileY) : -1f;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.inherit_this.pathfinding;
+
+import io.github.inherit_this.world.SolidityMap;
+
+/**
+ * A* over a rectangular window of a {@link SolidityMap}, with 8-way moves that never cut wall corners.
+ * Node state lives in arrays allocated once and reused: a stamp per search marks which entries are
+ * current, so the open and closed sets never have to be cleared.
+ */
+final class GridSearch {
+
+    static final float DIAGONAL_COST = 1.4142135f;
+
+    // Orthogonal directions first, then diagonals
+    private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final int maxNodes;
+    private final float[] cost;
+    private final int[] parent;
+    private final int[] seen;
+    private final int[] closed;
+    private final NodeHeap open;
+    private int stamp = 0;
+    private int[] trace = new int[64];
+
+    private SolidityMap solidity;
+    private int originX;
+    private int originY;
+    private int width;
+    private int height;
+
+    /**
+     * @param maxNodes Largest window (width * height) searched
+     */
+    GridSearch(int maxNodes) {
+        this.maxNodes = maxNodes;
+        this.cost = new float[maxNodes];
+        this.parent = new int[maxNodes];
+        this.seen = new int[maxNodes];
+        this.closed = new int[maxNodes];
+        this.open = new NodeHeap(256);
+    }
+
+    /**
+     * Searches for the cheapest path from start to goal inside the window.
+     * Check {@link #reached} on the goal afterwards.
+     * @return Number of nodes expanded
+     */
+    int findPath(SolidityMap solidity, int originX, int originY, int width, int height,
+                 int startX, int startY, int goalX, int goalY) {
+        return run(solidity, originX, originY, width, height, startX, startY, goalX, goalY, true);
+    }
+
+    /**
+     * Finds the cheapest path from start to every tile of the window it can reach (Dijkstra).
+     * @return Number of nodes expanded
+     */
+    int expandAll(SolidityMap solidity, int originX, int originY, int width, int height, int startX, int startY) {
+        return run(solidity, originX, originY, width, height, startX, startY, 0, 0, false);
+    }
+
+    private int run(SolidityMap solidity, int originX, int originY, int width, int height,
+                    int startX, int startY, int goalX, int goalY, boolean toGoal) {
+        if (width * height > maxNodes) {
+            throw new IllegalArgumentException("Search window " + width + "x" + height + " exceeds " + maxNodes + " nodes");
+        }
+        this.solidity = solidity;
+        this.originX = originX;
+        this.originY = originY;
+        this.width = width;
+        this.height = height;
+        nextStamp();
+        open.clear();
+
+        // The start may be solid (e.g. an NPC pushed into a wall); it can still walk out
+        if (!contains(startX, startY)) {
+            return 0;
+        }
+        int start = index(startX, startY);
+        cost[start] = 0f;
+        parent[start] = -1;
+        seen[start] = stamp;
+        open.push(start, toGoal ? heuristic(startX, startY, goalX, goalY) : 0f);
+
+        int expanded = 0;
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (closed[current] == stamp) {
+                continue; // Stale entry, the node was reached more cheaply
+            }
+            closed[current] = stamp;
+            expanded++;
+
+            int x = originX + current % width;
+            int y = originY + current / width;
+            if (toGoal && x == goalX && y == goalY) {
+                break;
+            }
+
+            for (int dir = 0; dir < 8; dir++) {
+                int nx = x + DX[dir];
+                int ny = y + DY[dir];
+                if (!isOpen(nx, ny)) {
+                    continue;
+                }
+                // Diagonal moves need both orthogonal neighbours open
+                if (dir >= 4 && (!isOpen(nx, y) || !isOpen(x, ny))) {
+                    continue;
+                }
+
+                int next = index(nx, ny);
+                if (closed[next] == stamp) {
+                    continue;
+                }
+                float newCost = cost[current] + (dir < 4 ? 1f : DIAGONAL_COST);
+                if (seen[next] == stamp && newCost >= cost[next]) {
+                    continue;
+                }
+                seen[next] = stamp;
+                cost[next] = newCost;
+                parent[next] = current;
+                open.push(next, toGoal ? newCost + heuristic(nx, ny, goalX, goalY) : newCost);
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Checks if the last search found the cheapest path to a tile.
+     */
+    boolean reached(int x, int y) {
+        return contains(x, y) && closed[index(x, y)] == stamp;
+    }
+
+    /**
+     * Cost of the cheapest path to a tile the last search reached.
+     */
+    float getCost(int x, int y) {
+        return cost[index(x, y)];
+    }
+
+    /**
+     * Window index of the tile a reached tile was reached from, or -1 for the start.
+     * Window indices run row by row: index = (y - originY) * width + (x - originX).
+     */
+    int getParent(int x, int y) {
+        return parent[index(x, y)];
+    }
+
+    int getOriginX() {
+        return originX;
+    }
+
+    int getOriginY() {
+        return originY;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Appends the path from the start of the last search to a reached tile.
+     */
+    void appendPath(int x, int y, Path out) {
+        int count = 0;
+        for (int node = index(x, y); node != -1; node = parent[node]) {
+            if (count == trace.length) {
+                trace = java.util.Arrays.copyOf(trace, count * 2);
+            }
+            trace[count++] = node;
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            out.add(originX + trace[i] % width, originY + trace[i] / width);
+        }
+    }
+
+    private void nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(seen, 0);
+            java.util.Arrays.fill(closed, 0);
+            stamp = 0;
+        }
+        stamp++;
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= originX && y >= originY && x < originX + width && y < originY + height;
+    }
+
+    private boolean isOpen(int x, int y) {
+        return contains(x, y) && !solidity.isSolid(x, y);
+    }
+
+    private int index(int x, int y) {
+        return (y - originY) * width + (x - originX);
+    }
+
+    /**
+     * Octile distance: exact cost on an empty 8-way grid, so A* stays optimal.
+     */
+    private static float heuristic(int x, int y, int goalX, int goalY) {
+        int dx = Math.abs(x - goalX);
+        int dy = Math.abs(y - goalY);
+        return dx + dy + (DIAGONAL_COST - 2f) * Math.min(dx, dy);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.inherit_this.pathfinding;
+
+/**
+ * Binary min-heap of node indices keyed by a float priority, reused between searches.
+ * Priorities can't be lowered in place: a node is pushed again with its better priority
+ * and callers skip the stale entry when it is popped.
+ */
+final class NodeHeap {
+
+    private int[] nodes;
+    private float[] keys;
+    private int size = 0;
+
+    NodeHeap(int capacity) {
+        nodes = new int[capacity];
+        keys = new float[capacity];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(int node, float key) {
+        if (size == nodes.length) {
+            nodes = java.util.Arrays.copyOf(nodes, size * 2);
+            keys = java.util.Arrays.copyOf(keys, size * 2);
+        }
+
+        // Sift up
+        int i = size++;
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (keys[up] <= key) {
+                break;
+            }
+            nodes[i] = nodes[up];
+            keys[i] = keys[up];
+            i = up;
+        }
+        nodes[i] = node;
+        keys[i] = key;
+    }
+
+    /**
+     * Priority of the node {@link #pop()} would return.
+     */
+    float peekKey() {
+        return keys[0];
+    }
+
+    int pop() {
+        int top = nodes[0];
+        size--;
+        if (size > 0) {
+            // Sift the last entry down from the root
+            int node = nodes[size];
+            float key = keys[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                keys[i] = keys[child];
+                i = child;
+            }
+            nodes[i] = node;
+            keys[i] = key;
+        }
+        return top;
+    }
+}
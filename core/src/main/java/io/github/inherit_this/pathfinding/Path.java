@@ -0,0 +1,144 @@
+package io.github.inherit_this.pathfinding;
+
+/**
+ * A path through the tile grid as a list of waypoint tiles, filled by {@link Pathfinder} and reused
+ * by its owner between searches. Straight runs of steps are collapsed into their end points, so
+ * consecutive waypoints may be several tiles apart but are always joined by a straight line of open tiles.
+ */
+public class Path {
+
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int size = 0;
+    private int index = 0;
+
+    // Direction of the last step, to merge straight runs
+    private int stepX;
+    private int stepY;
+
+    private boolean hasGoal = false;
+    private int goalX;
+    private int goalY;
+    private boolean partial = false;
+
+    /**
+     * Removes all waypoints and forgets the goal.
+     */
+    public void clear() {
+        size = 0;
+        index = 0;
+        hasGoal = false;
+        partial = false;
+    }
+
+    void setGoal(int goalX, int goalY) {
+        this.goalX = goalX;
+        this.goalY = goalY;
+        this.hasGoal = true;
+    }
+
+    void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+
+    /**
+     * Appends a tile one step (8-way) from the last one. Repeated tiles are ignored.
+     */
+    void add(int x, int y) {
+        if (size > 0) {
+            int dx = Integer.signum(x - xs[size - 1]);
+            int dy = Integer.signum(y - ys[size - 1]);
+            if (dx == 0 && dy == 0) {
+                return;
+            }
+            if (size > 1 && dx == stepX && dy == stepY) {
+                // Same direction as the last step: extend the run
+                xs[size - 1] = x;
+                ys[size - 1] = y;
+                return;
+            }
+            stepX = dx;
+            stepY = dy;
+        }
+
+        if (size == xs.length) {
+            xs = java.util.Arrays.copyOf(xs, size * 2);
+            ys = java.util.Arrays.copyOf(ys, size * 2);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * Checks if a search has filled this path, even if it found no way to the goal.
+     */
+    public boolean hasGoal() {
+        return hasGoal;
+    }
+
+    public int getGoalX() {
+        return goalX;
+    }
+
+    public int getGoalY() {
+        return goalY;
+    }
+
+    /**
+     * A partial path stops short of the goal; search again from its end to continue.
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of waypoints, including the start tile.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    /**
+     * Checks if there are waypoints left to walk to.
+     */
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    /**
+     * Checks if the next waypoint is the end of the path.
+     */
+    public boolean isLastWaypoint() {
+        return index == size - 1;
+    }
+
+    public int getNextX() {
+        return xs[index];
+    }
+
+    public int getNextY() {
+        return ys[index];
+    }
+
+    /**
+     * Moves on to the following waypoint.
+     */
+    public void advance() {
+        if (index < size) {
+            index++;
+        }
+    }
+}
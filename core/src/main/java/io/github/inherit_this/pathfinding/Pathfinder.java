@@ -0,0 +1,509 @@
+package io.github.inherit_this.pathfinding;
+
+import io.github.inherit_this.util.Constants;
+import io.github.inherit_this.world.SolidityMap;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Path search over a bounded world's {@link SolidityMap}, for NPCs.
+ *
+ * Nearby goals are searched directly with A* in a window around the start and goal.
+ * Farther goals use hierarchical A* (HPA*): the world is split into clusters the size of a chunk, and an
+ * abstract graph links the entrances between neighbouring clusters, with costs of the paths inside each
+ * cluster computed once and cached. For every goal tile a search tree over that graph is cached, so any
+ * number of NPCs hunting the same target share one abstract search; each NPC then only searches its own
+ * cluster and refines the next few clusters of its route into tiles.
+ * NPCs chasing the player skip path searches entirely and follow a shared {@link FlowField} toward the player's tile.
+ *
+ * Searches are limited by a node budget per tick: once it is spent, queries return {@link Result#DEFERRED}
+ * and callers keep their current path until a later tick. A query that starts within the budget always
+ * finishes. Not thread-safe: use from the simulation thread only.
+ */
+public class Pathfinder {
+
+    public enum Result {
+        FOUND,      // Path filled in (possibly partial)
+        NOT_FOUND,  // Goal unreachable; path is empty
+        DEFERRED    // Node budget spent this tick; path untouched
+    }
+
+    public static final int DEFAULT_NODE_BUDGET = 4096;
+
+    private static final int CLUSTER_SIZE = Constants.CHUNK_SIZE;
+    // Goals within this many tiles (per axis) are first searched directly
+    private static final int LOCAL_RANGE = 24;
+    // Room around start and goal for direct searches to walk around obstacles
+    private static final int LOCAL_MARGIN = 4;
+    private static final int MAX_WINDOW_SIZE = 2 * (LOCAL_RANGE + LOCAL_MARGIN) + 1;
+    // Abstract searches stop beyond this path cost in tiles; NPCs give up long before
+    private static final float MAX_ABSTRACT_COST = 256f;
+    // Clusters refined into tiles per query; the rest of the route is searched again when reached
+    private static final int MAX_REFINED_LEGS = 12;
+    private static final int GOAL_CACHE_SIZE = 8;
+    // Flow field reach around its goal: enemy detection range plus room to walk around walls
+    private static final int FLOW_FIELD_RADIUS = 16;
+    private static final float UNREACHABLE = Float.MAX_VALUE;
+
+    private final SolidityMap solidity;
+    private final int widthInTiles;
+    private final int heightInTiles;
+    private final int clustersX;
+    private final int clustersY;
+    private final GridSearch search = new GridSearch(MAX_WINDOW_SIZE * MAX_WINDOW_SIZE);
+    private final NodeHeap abstractOpen = new NodeHeap(256);
+    private final FlowField flowField;
+
+    // Abstract graph: each entrance has a node on both sides of the cluster border, linked as partners
+    private boolean graphDirty = true;
+    private int nodeCount = 0;
+    private int[] nodeX = new int[256];
+    private int[] nodeY = new int[256];
+    private int[] nodeCluster = new int[256];
+    private int[] nodeSlot = new int[256];
+    private int[] nodePartner = new int[256];
+    private final int[][] clusterNodes;
+    private final int[] clusterNodeCount;
+    // Path costs between the entrances of a cluster (slot * count + slot), computed on first use
+    private final float[][] clusterCosts;
+
+    // Most recently used goal trees; evicted trees are recycled
+    private final Map<Long, GoalTree> goalTrees = new LinkedHashMap<Long, GoalTree>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, GoalTree> eldest) {
+            if (size() > GOAL_CACHE_SIZE) {
+                spareTree = eldest.getValue();
+                return true;
+            }
+            return false;
+        }
+    };
+    private GoalTree spareTree;
+
+    private int nodeBudget = DEFAULT_NODE_BUDGET;
+    private int budgetRemaining = DEFAULT_NODE_BUDGET;
+    private int nodesExpandedThisTick = 0;
+    private int nodesExpandedLastTick = 0;
+    private long deferredQueryCount = 0;
+
+    /**
+     * Search tree over the abstract graph rooted at a goal tile: the cost from every node to the goal
+     * and the next node on the way, or -1 where the remaining path stays inside the goal's cluster.
+     */
+    private static class GoalTree {
+        float[] cost = new float[0];
+        int[] next = new int[0];
+
+        void reset(int nodeCount) {
+            if (cost.length < nodeCount) {
+                cost = new float[nodeCount];
+                next = new int[nodeCount];
+            }
+            Arrays.fill(cost, 0, nodeCount, UNREACHABLE);
+            Arrays.fill(next, 0, nodeCount, -1);
+        }
+    }
+
+    /**
+     * @param solidity Solidity of tiles [0, width) x [0, height); everything outside counts as solid
+     */
+    public Pathfinder(SolidityMap solidity, int widthInTiles, int heightInTiles) {
+        this.solidity = solidity;
+        this.widthInTiles = widthInTiles;
+        this.heightInTiles = heightInTiles;
+        this.clustersX = (widthInTiles + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.clustersY = (heightInTiles + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.clusterNodes = new int[clustersX * clustersY][];
+        this.clusterNodeCount = new int[clustersX * clustersY];
+        this.clusterCosts = new float[clustersX * clustersY][];
+        this.flowField = new FlowField(solidity, widthInTiles, heightInTiles, FLOW_FIELD_RADIUS);
+    }
+
+    /**
+     * Starts a new simulation tick, refilling the node budget.
+     */
+    public void beginTick() {
+        budgetRemaining = nodeBudget;
+        nodesExpandedLastTick = nodesExpandedThisTick;
+        nodesExpandedThisTick = 0;
+    }
+
+    /**
+     * Points the shared flow field at a tile, usually the player's, recomputing it only when the tile changed.
+     * The search counts against this tick's node budget but is never deferred.
+     */
+    public void updateFlowField(int tileX, int tileY) {
+        spend(flowField.setGoal(tileX, tileY));
+    }
+
+    /**
+     * Flow field NPCs chasing the same tile share instead of searching paths, see {@link #updateFlowField}.
+     */
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    /**
+     * Searches for a path between two tiles. The path starts on the start tile and ends on the goal tile,
+     * unless it is partial.
+     * @param out Path to fill; left untouched if the query is deferred
+     */
+    public Result findPath(int startX, int startY, int goalX, int goalY, Path out) {
+        if (budgetRemaining <= 0) {
+            deferredQueryCount++;
+            return Result.DEFERRED;
+        }
+
+        out.clear();
+        out.setGoal(goalX, goalY);
+        if (!isInBounds(startX, startY) || !isInBounds(goalX, goalY) || solidity.isSolid(goalX, goalY)) {
+            return Result.NOT_FOUND;
+        }
+        if (startX == goalX && startY == goalY) {
+            out.add(startX, startY);
+            return Result.FOUND;
+        }
+
+        // Nearby goal: plain A* in a window around both ends
+        if (Math.abs(goalX - startX) <= LOCAL_RANGE && Math.abs(goalY - startY) <= LOCAL_RANGE) {
+            int minX = Math.max(0, Math.min(startX, goalX) - LOCAL_MARGIN);
+            int minY = Math.max(0, Math.min(startY, goalY) - LOCAL_MARGIN);
+            int maxX = Math.min(widthInTiles - 1, Math.max(startX, goalX) + LOCAL_MARGIN);
+            int maxY = Math.min(heightInTiles - 1, Math.max(startY, goalY) + LOCAL_MARGIN);
+            spend(search.findPath(solidity, minX, minY, maxX - minX + 1, maxY - minY + 1,
+                startX, startY, goalX, goalY));
+            if (search.reached(goalX, goalY)) {
+                search.appendPath(goalX, goalY, out);
+                return Result.FOUND;
+            }
+        }
+
+        return findHierarchicalPath(startX, startY, goalX, goalY, out);
+    }
+
+    /**
+     * Routes through the abstract graph: from the start to the best entrance of its cluster,
+     * then along the goal tree, refining each cluster crossed into tiles.
+     */
+    private Result findHierarchicalPath(int startX, int startY, int goalX, int goalY, Path out) {
+        ensureGraph();
+        GoalTree tree = getGoalTree(goalX, goalY);
+
+        int startCluster = clusterOf(startX, startY);
+        expandCluster(startCluster, startX, startY);
+        int best = -1;
+        float bestCost = UNREACHABLE;
+        for (int i = 0; i < clusterNodeCount[startCluster]; i++) {
+            int node = clusterNodes[startCluster][i];
+            if (tree.cost[node] == UNREACHABLE || !search.reached(nodeX[node], nodeY[node])) {
+                continue;
+            }
+            float total = search.getCost(nodeX[node], nodeY[node]) + tree.cost[node];
+            if (total < bestCost) {
+                bestCost = total;
+                best = node;
+            }
+        }
+        if (best < 0) {
+            return Result.NOT_FOUND;
+        }
+        search.appendPath(nodeX[best], nodeY[best], out);
+
+        int node = best;
+        for (int legs = 0; ; legs++) {
+            if (legs == MAX_REFINED_LEGS) {
+                out.setPartial(true);
+                break;
+            }
+
+            int next = tree.next[node];
+            if (next < 0) {
+                // Last leg, inside the goal's cluster
+                if (!refine(nodeCluster[node], nodeX[node], nodeY[node], goalX, goalY, out)) {
+                    out.setPartial(true);
+                }
+                break;
+            }
+
+            if (nodeCluster[next] != nodeCluster[node]) {
+                out.add(nodeX[next], nodeY[next]); // Step across the border
+            } else if (!refine(nodeCluster[node], nodeX[node], nodeY[node], nodeX[next], nodeY[next], out)) {
+                out.setPartial(true);
+                break;
+            }
+            node = next;
+        }
+        return Result.FOUND;
+    }
+
+    /**
+     * Appends the path between two tiles of a cluster.
+     * @return false if there is none inside the cluster
+     */
+    private boolean refine(int cluster, int fromX, int fromY, int toX, int toY, Path out) {
+        int originX = (cluster / clustersY) * CLUSTER_SIZE;
+        int originY = (cluster % clustersY) * CLUSTER_SIZE;
+        spend(search.findPath(solidity, originX, originY,
+            Math.min(CLUSTER_SIZE, widthInTiles - originX), Math.min(CLUSTER_SIZE, heightInTiles - originY),
+            fromX, fromY, toX, toY));
+        if (!search.reached(toX, toY)) {
+            return false;
+        }
+        search.appendPath(toX, toY, out);
+        return true;
+    }
+
+    /**
+     * Finds the paths from a tile to every tile of its cluster.
+     */
+    private void expandCluster(int cluster, int fromX, int fromY) {
+        int originX = (cluster / clustersY) * CLUSTER_SIZE;
+        int originY = (cluster % clustersY) * CLUSTER_SIZE;
+        spend(search.expandAll(solidity, originX, originY,
+            Math.min(CLUSTER_SIZE, widthInTiles - originX), Math.min(CLUSTER_SIZE, heightInTiles - originY),
+            fromX, fromY));
+    }
+
+    private GoalTree getGoalTree(int goalX, int goalY) {
+        long key = pack(goalX, goalY);
+        GoalTree tree = goalTrees.get(key);
+        if (tree != null) {
+            return tree;
+        }
+
+        tree = spareTree != null ? spareTree : new GoalTree();
+        spareTree = null;
+        buildGoalTree(tree, goalX, goalY);
+        goalTrees.put(key, tree);
+        return tree;
+    }
+
+    /**
+     * Dijkstra over the abstract graph, outward from the entrances of the goal's cluster.
+     * Edges are symmetric, so costs from the goal are also costs to the goal.
+     */
+    private void buildGoalTree(GoalTree tree, int goalX, int goalY) {
+        tree.reset(nodeCount);
+        abstractOpen.clear();
+
+        int goalCluster = clusterOf(goalX, goalY);
+        expandCluster(goalCluster, goalX, goalY);
+        for (int i = 0; i < clusterNodeCount[goalCluster]; i++) {
+            int node = clusterNodes[goalCluster][i];
+            if (search.reached(nodeX[node], nodeY[node])) {
+                tree.cost[node] = search.getCost(nodeX[node], nodeY[node]);
+                abstractOpen.push(node, tree.cost[node]);
+            }
+        }
+
+        int expanded = 0;
+        while (!abstractOpen.isEmpty()) {
+            float cost = abstractOpen.peekKey();
+            int node = abstractOpen.pop();
+            if (cost > tree.cost[node]) {
+                continue; // Stale entry
+            }
+            if (cost > MAX_ABSTRACT_COST) {
+                break;
+            }
+            expanded++;
+
+            relax(tree, nodePartner[node], cost + 1f, node);
+
+            int cluster = nodeCluster[node];
+            float[] costs = getClusterCosts(cluster);
+            int count = clusterNodeCount[cluster];
+            int slot = nodeSlot[node];
+            for (int i = 0; i < count; i++) {
+                float edge = costs[i * count + slot];
+                if (i != slot && edge != UNREACHABLE) {
+                    relax(tree, clusterNodes[cluster][i], cost + edge, node);
+                }
+            }
+        }
+        spend(expanded);
+    }
+
+    private void relax(GoalTree tree, int node, float cost, int next) {
+        if (cost < tree.cost[node]) {
+            tree.cost[node] = cost;
+            tree.next[node] = next;
+            abstractOpen.push(node, cost);
+        }
+    }
+
+    /**
+     * Path costs between all entrances of a cluster, searched inside the cluster on first use.
+     */
+    private float[] getClusterCosts(int cluster) {
+        float[] costs = clusterCosts[cluster];
+        if (costs != null) {
+            return costs;
+        }
+
+        int count = clusterNodeCount[cluster];
+        costs = new float[count * count];
+        for (int i = 0; i < count; i++) {
+            int from = clusterNodes[cluster][i];
+            expandCluster(cluster, nodeX[from], nodeY[from]);
+            for (int j = 0; j < count; j++) {
+                int to = clusterNodes[cluster][j];
+                costs[i * count + j] = search.reached(nodeX[to], nodeY[to])
+                    ? search.getCost(nodeX[to], nodeY[to]) : UNREACHABLE;
+            }
+        }
+        clusterCosts[cluster] = costs;
+        return costs;
+    }
+
+    /**
+     * Rebuilds the entrances of the abstract graph if tiles changed since it was built.
+     * Costs inside clusters are recomputed lazily.
+     */
+    private void ensureGraph() {
+        if (!graphDirty) {
+            return;
+        }
+        nodeCount = 0;
+        Arrays.fill(clusterNodeCount, 0);
+        Arrays.fill(clusterCosts, null);
+
+        for (int cx = 0; cx < clustersX; cx++) {
+            for (int cy = 0; cy < clustersY; cy++) {
+                int minX = cx * CLUSTER_SIZE;
+                int minY = cy * CLUSTER_SIZE;
+                int maxX = Math.min(minX + CLUSTER_SIZE, widthInTiles) - 1;
+                int maxY = Math.min(minY + CLUSTER_SIZE, heightInTiles) - 1;
+
+                // East border: one entrance in the middle of every open run
+                if (maxX + 1 < widthInTiles) {
+                    int runStart = -1;
+                    for (int y = minY; y <= maxY + 1; y++) {
+                        boolean open = y <= maxY && !solidity.isSolid(maxX, y) && !solidity.isSolid(maxX + 1, y);
+                        if (open && runStart < 0) {
+                            runStart = y;
+                        } else if (!open && runStart >= 0) {
+                            int mid = (runStart + y - 1) / 2;
+                            addEntrance(maxX, mid, maxX + 1, mid);
+                            runStart = -1;
+                        }
+                    }
+                }
+
+                // North border
+                if (maxY + 1 < heightInTiles) {
+                    int runStart = -1;
+                    for (int x = minX; x <= maxX + 1; x++) {
+                        boolean open = x <= maxX && !solidity.isSolid(x, maxY) && !solidity.isSolid(x, maxY + 1);
+                        if (open && runStart < 0) {
+                            runStart = x;
+                        } else if (!open && runStart >= 0) {
+                            int mid = (runStart + x - 1) / 2;
+                            addEntrance(mid, maxY, mid, maxY + 1);
+                            runStart = -1;
+                        }
+                    }
+                }
+            }
+        }
+        graphDirty = false;
+    }
+
+    private void addEntrance(int x, int y, int partnerX, int partnerY) {
+        int node = addNode(x, y);
+        int partner = addNode(partnerX, partnerY);
+        nodePartner[node] = partner;
+        nodePartner[partner] = node;
+    }
+
+    private int addNode(int x, int y) {
+        if (nodeCount == nodeX.length) {
+            int capacity = nodeCount * 2;
+            nodeX = Arrays.copyOf(nodeX, capacity);
+            nodeY = Arrays.copyOf(nodeY, capacity);
+            nodeCluster = Arrays.copyOf(nodeCluster, capacity);
+            nodeSlot = Arrays.copyOf(nodeSlot, capacity);
+            nodePartner = Arrays.copyOf(nodePartner, capacity);
+        }
+
+        int cluster = clusterOf(x, y);
+        int slot = clusterNodeCount[cluster];
+        if (clusterNodes[cluster] == null) {
+            clusterNodes[cluster] = new int[8];
+        } else if (slot == clusterNodes[cluster].length) {
+            clusterNodes[cluster] = Arrays.copyOf(clusterNodes[cluster], slot * 2);
+        }
+        clusterNodes[cluster][slot] = nodeCount;
+        clusterNodeCount[cluster]++;
+
+        nodeX[nodeCount] = x;
+        nodeY[nodeCount] = y;
+        nodeCluster[nodeCount] = cluster;
+        nodeSlot[nodeCount] = slot;
+        return nodeCount++;
+    }
+
+    /**
+     * Drops cached paths and entrances after tiles of a chunk changed.
+     * Invalidate the chunk in the solidity map first. Tiles only change in the map editor,
+     * so the whole graph is simply rebuilt on the next query.
+     */
+    public void invalidateChunk(int chunkX, int chunkY) {
+        graphDirty = true;
+        goalTrees.clear();
+        flowField.invalidate();
+    }
+
+    private void spend(int nodes) {
+        budgetRemaining -= nodes;
+        nodesExpandedThisTick += nodes;
+    }
+
+    private int clusterOf(int tileX, int tileY) {
+        return (tileX / CLUSTER_SIZE) * clustersY + tileY / CLUSTER_SIZE;
+    }
+
+    private boolean isInBounds(int tileX, int tileY) {
+        return tileX >= 0 && tileY >= 0 && tileX < widthInTiles && tileY < heightInTiles;
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Sets the number of search nodes that may be expanded per tick.
+     */
+    public void setNodeBudget(int nodeBudget) {
+        this.nodeBudget = nodeBudget;
+        this.budgetRemaining = Math.min(budgetRemaining, nodeBudget);
+    }
+
+    public int getNodeBudget() {
+        return nodeBudget;
+    }
+
+    /**
+     * Number of search nodes expanded during the previous tick.
+     */
+    public int getNodesExpandedLastTick() {
+        return nodesExpandedLastTick;
+    }
+
+    /**
+     * Total number of queries deferred because the node budget was spent.
+     */
+    public long getDeferredQueryCount() {
+        return deferredQueryCount;
+    }
+
+    /**
+     * Number of entrance nodes in the abstract graph, building it if needed.
+     */
+    public int getAbstractNodeCount() {
+        ensureGraph();
+        return nodeCount;
+    }
+}
@@ -0,0 +1,235 @@
+package io.github.inherit_this.rendering;
+
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import io.github.inherit_this.util.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hierarchical frustum culling for chunks.
+ * Keeps a sparse quadtree of chunk bounding boxes: leaves are single chunks with tight vertical bounds
+ * taken from their meshes (wall height and upper levels included), and each node's vertical bounds cover
+ * its children. Culling walks the tree top-down, so a node outside the frustum rejects all of its chunks
+ * with one test, and a node fully inside accepts them without further tests.
+ *
+ * Chunks use world X for chunk X and world Z for chunk Y, like the rest of the 3D renderer.
+ */
+public class ChunkCuller {
+
+    /**
+     * Receives the chunks that passed culling.
+     */
+    public interface ChunkVisitor {
+        void visit(int chunkX, int chunkY);
+    }
+
+    // Level 0 nodes are chunks; a top level node covers 32x32 chunks
+    private static final int MAX_LEVEL = 5;
+
+    // Height range assumed for chunks whose mesh hasn't been built yet: ground up to a two tile tall wall
+    private static final float UNKNOWN_MIN_HEIGHT = 0f;
+    private static final float UNKNOWN_MAX_HEIGHT = 2 * Constants.TILE_SIZE;
+
+    private static final int OUTSIDE = 0;
+    private static final int INTERSECTS = 1;
+    private static final int INSIDE = 2;
+
+    private static final class NodeBounds {
+        float minHeight;
+        float maxHeight;
+        int knownChunks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Map<Long, NodeBounds>[] levels = new Map[MAX_LEVEL + 1];
+
+    // Current cull query
+    private Frustum frustum;
+    private ChunkVisitor visitor;
+    private int minChunkX, minChunkY, maxChunkX, maxChunkY;
+
+    // Stats of the last cull
+    private int chunksVisited;
+    private int chunksCulled;
+    private int nodesTested;
+
+    public ChunkCuller() {
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            levels[level] = new HashMap<>();
+        }
+    }
+
+    /**
+     * Sets the vertical bounds of a chunk's geometry and updates the nodes above it.
+     * Cheap when the bounds didn't change, so it can be called every time a chunk is drawn.
+     */
+    public void setChunkBounds(int chunkX, int chunkY, float minHeight, float maxHeight) {
+        NodeBounds leaf = levels[0].get(pack(chunkX, chunkY));
+        if (leaf != null && leaf.minHeight == minHeight && leaf.maxHeight == maxHeight) {
+            return;
+        }
+        if (leaf == null) {
+            leaf = new NodeBounds();
+            leaf.knownChunks = 1;
+            levels[0].put(pack(chunkX, chunkY), leaf);
+        }
+        leaf.minHeight = minHeight;
+        leaf.maxHeight = maxHeight;
+
+        // Recompute every ancestor from its four children
+        int nodeX = chunkX;
+        int nodeY = chunkY;
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            nodeX >>= 1;
+            nodeY >>= 1;
+            NodeBounds node = levels[level].get(pack(nodeX, nodeY));
+            if (node == null) {
+                node = new NodeBounds();
+                levels[level].put(pack(nodeX, nodeY), node);
+            }
+            node.minHeight = Float.POSITIVE_INFINITY;
+            node.maxHeight = Float.NEGATIVE_INFINITY;
+            node.knownChunks = 0;
+            for (int i = 0; i < 4; i++) {
+                NodeBounds child = levels[level - 1].get(pack(nodeX * 2 + (i & 1), nodeY * 2 + (i >> 1)));
+                if (child == null) continue;
+                node.minHeight = Math.min(node.minHeight, child.minHeight);
+                node.maxHeight = Math.max(node.maxHeight, child.maxHeight);
+                node.knownChunks += child.knownChunks;
+            }
+        }
+    }
+
+    /**
+     * Forgets all chunk bounds, e.g. when switching worlds.
+     */
+    public void clear() {
+        for (Map<Long, NodeBounds> level : levels) {
+            level.clear();
+        }
+    }
+
+    /**
+     * Visits every chunk in the given chunk range whose bounding box intersects the frustum.
+     * @return Number of chunks visited
+     */
+    public int cull(Frustum frustum, int minChunkX, int minChunkY, int maxChunkX, int maxChunkY,
+                    ChunkVisitor visitor) {
+        this.frustum = frustum;
+        this.visitor = visitor;
+        this.minChunkX = minChunkX;
+        this.minChunkY = minChunkY;
+        this.maxChunkX = maxChunkX;
+        this.maxChunkY = maxChunkY;
+        chunksVisited = 0;
+        chunksCulled = 0;
+        nodesTested = 0;
+
+        for (int nodeX = minChunkX >> MAX_LEVEL; nodeX <= maxChunkX >> MAX_LEVEL; nodeX++) {
+            for (int nodeY = minChunkY >> MAX_LEVEL; nodeY <= maxChunkY >> MAX_LEVEL; nodeY++) {
+                cullNode(MAX_LEVEL, nodeX, nodeY);
+            }
+        }
+
+        this.frustum = null;
+        this.visitor = null;
+        return chunksVisited;
+    }
+
+    private void cullNode(int level, int nodeX, int nodeY) {
+        // Chunk range of the node, clipped to the query range
+        int startX = Math.max(nodeX << level, minChunkX);
+        int startY = Math.max(nodeY << level, minChunkY);
+        int endX = Math.min(((nodeX + 1) << level) - 1, maxChunkX);
+        int endY = Math.min(((nodeY + 1) << level) - 1, maxChunkY);
+        if (startX > endX || startY > endY) {
+            return;
+        }
+
+        float minHeight = UNKNOWN_MIN_HEIGHT;
+        float maxHeight = UNKNOWN_MAX_HEIGHT;
+        NodeBounds node = levels[level].get(pack(nodeX, nodeY));
+        if (node != null) {
+            if (node.knownChunks == 1 << (2 * level)) {
+                minHeight = node.minHeight;
+                maxHeight = node.maxHeight;
+            } else {
+                // Some chunks are unknown, so keep room for them
+                minHeight = Math.min(minHeight, node.minHeight);
+                maxHeight = Math.max(maxHeight, node.maxHeight);
+            }
+        }
+
+        nodesTested++;
+        int result = classify(
+            startX * Constants.CHUNK_PIXEL_SIZE, minHeight, startY * Constants.CHUNK_PIXEL_SIZE,
+            (endX + 1) * Constants.CHUNK_PIXEL_SIZE, maxHeight, (endY + 1) * Constants.CHUNK_PIXEL_SIZE);
+
+        if (result == OUTSIDE) {
+            chunksCulled += (endX - startX + 1) * (endY - startY + 1);
+        } else if (result == INSIDE || level == 0) {
+            for (int chunkX = startX; chunkX <= endX; chunkX++) {
+                for (int chunkY = startY; chunkY <= endY; chunkY++) {
+                    chunksVisited++;
+                    visitor.visit(chunkX, chunkY);
+                }
+            }
+        } else {
+            for (int i = 0; i < 4; i++) {
+                cullNode(level - 1, nodeX * 2 + (i & 1), nodeY * 2 + (i >> 1));
+            }
+        }
+    }
+
+    /**
+     * Classifies a box against the frustum using the corners nearest and farthest along each plane normal.
+     * Frustum plane normals point inwards.
+     */
+    private int classify(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        int result = INSIDE;
+        for (Plane plane : frustum.planes) {
+            Vector3 n = plane.normal;
+            float farthest = n.x * (n.x >= 0 ? maxX : minX)
+                + n.y * (n.y >= 0 ? maxY : minY)
+                + n.z * (n.z >= 0 ? maxZ : minZ) + plane.d;
+            if (farthest < 0) {
+                return OUTSIDE;
+            }
+            float nearest = n.x * (n.x >= 0 ? minX : maxX)
+                + n.y * (n.y >= 0 ? minY : maxY)
+                + n.z * (n.z >= 0 ? minZ : maxZ) + plane.d;
+            if (nearest < 0) {
+                result = INTERSECTS;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Chunks visited by the last cull.
+     */
+    public int getChunksVisited() {
+        return chunksVisited;
+    }
+
+    /**
+     * Chunks rejected by the last cull.
+     */
+    public int getChunksCulled() {
+        return chunksCulled;
+    }
+
+    /**
+     * Quadtree nodes tested against the frustum by the last cull, for profiling.
+     */
+    public int getNodesTested() {
+        return nodesTested;
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
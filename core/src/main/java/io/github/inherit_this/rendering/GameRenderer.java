@@ -8,13 +8,11 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g3d.Environment;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
-import com.badlogic.gdx.math.Vector3;
-import io.github.inherit_this.combat.CombatManager;
+import com.badlogic.gdx.math.Vector2;
 import io.github.inherit_this.entities.BreakableObject;
 import io.github.inherit_this.entities.InteractableObject;
-import io.github.inherit_this.entities.NPC;
-import io.github.inherit_this.entities.Player;
 import io.github.inherit_this.input.InputHandler;
+import io.github.inherit_this.simulation.SimulationSnapshot;
 import io.github.inherit_this.util.Constants;
 import io.github.inherit_this.world.*;
 
@@ -23,39 +21,62 @@ import java.util.List;
 /**
  * Handles all 3D rendering for the game including chunks, sprites, and previews.
  * Extracted from GameScreen to reduce complexity.
+ *
+ * Moving entities are drawn from the latest {@link SimulationSnapshot} rather than the live entities,
+ * so the simulation may advance while a frame is drawn.
  */
 public class GameRenderer {
     private final PerspectiveCamera camera;
     private final ModelBatch modelBatch;
     private final Environment environment;
-    private final Player player;
     private final InputHandler inputHandler;
-    private final CombatManager combatManager;
+    // Draws NPCs and 2D objects from the snapshot
+    private final SpriteRenderer spriteRenderer = new SpriteRenderer();
 
     // References that may change
     private WorldProvider world;
     private MapEditor mapEditor;
-    private List<BreakableObject> breakableObjects;
     private List<InteractableObject> interactableObjects;
 
+    // Static batches of the 3D object models, one draw call per model type
+    private final ObjectBatchRenderer<BreakableObject> breakableRenderer =
+        new ObjectBatchRenderer<>(obj -> obj.is3D() && !obj.isDestroyed() ? obj.getModel() : null);
+    private final ObjectBatchRenderer<InteractableObject> interactableRenderer =
+        new ObjectBatchRenderer<>(InteractableObject::getModel);
+
+    // Chunk culling
+    private final ChunkCuller chunkCuller = new ChunkCuller();
+    private final ChunkCuller.ChunkVisitor renderChunkVisitor = this::renderChunk3D;
+    private float viewerTileX;
+    private float viewerTileY;
+    private int chunksRendered;
+    private int chunksOccluded;
+
+    // Simulation state to draw, and how far into its tick (1 = end of the tick)
+    private SimulationSnapshot snapshot;
+    private float interpolationAlpha = 1f;
+    private final Vector2 renderPosition = new Vector2();
+
     // Performance tracking
     private int chunksRenderedLastFrame = 0;
     private int chunksCulledLastFrame = 0;
+    private int chunksOccludedLastFrame = 0;
 
     public GameRenderer(PerspectiveCamera camera, ModelBatch modelBatch, Environment environment,
-                        Player player, InputHandler inputHandler, CombatManager combatManager) {
+                        InputHandler inputHandler) {
         this.camera = camera;
         this.modelBatch = modelBatch;
         this.environment = environment;
-        this.player = player;
         this.inputHandler = inputHandler;
-        this.combatManager = combatManager;
     }
 
     /**
      * Set the current world provider.
      */
     public void setWorld(WorldProvider world) {
+        if (world != this.world) {
+            chunkCuller.clear();
+        }
         this.world = world;
     }
 
@@ -70,7 +91,7 @@ public class GameRenderer {
      * Set the breakable objects list.
      */
     public void setBreakableObjects(List<BreakableObject> breakableObjects) {
-        this.breakableObjects = breakableObjects;
+        breakableRenderer.setObjects(breakableObjects);
     }
 
     /**
@@ -78,70 +99,82 @@ public class GameRenderer {
      */
     public void setInteractableObjects(List<InteractableObject> interactableObjects) {
         this.interactableObjects = interactableObjects;
+        interactableRenderer.setObjects(interactableObjects);
+    }
+
+    /**
+     * Sets the simulation state to draw this frame.
+     * Entities are drawn at their positions interpolated by {@code alpha} within the snapshot's tick.
+     * @param alpha Progress from the previous tick (0) to the latest tick (1)
+     */
+    public void setSnapshot(SimulationSnapshot snapshot, float alpha) {
+        this.snapshot = snapshot;
+        this.interpolationAlpha = alpha;
     }
 
     /**
-     * Renders visible chunks in 3D with frustum culling.
-     * Only renders chunks that are actually visible in the camera's view frustum.
+     * Rebuilds the 3D object batches on the next frame.
+     * Call after objects were added, removed, moved or destroyed.
+     */
+    public void invalidateObjects() {
+        breakableRenderer.invalidate();
+        interactableRenderer.invalidate();
+    }
+
+    /**
+     * Renders visible chunks in 3D with hierarchical frustum culling and occlusion culling.
+     * Only renders chunks that are in the camera's view frustum and not hidden behind walls.
      */
     public void renderVisibleChunks3D() {
         // Player position is in tiles
-        float playerX = player.getPosition().x;
-        float playerY = player.getPosition().y;
+        snapshot.getPlayerPosition(interpolationAlpha, renderPosition);
+        viewerTileX = renderPosition.x;
+        viewerTileY = renderPosition.y;
 
         // Dynamic render radius based on camera distance
         int renderRadius = (int) Math.ceil(inputHandler.getCameraDistance() / 100f);
         renderRadius = Math.max(6, Math.min(renderRadius, 10)); // Clamp between 6-10 chunks
 
         // Convert tile position to chunk position
-        int playerChunkX = (int) Math.floor(playerX / Constants.CHUNK_SIZE);
-        int playerChunkY = (int) Math.floor(playerY / Constants.CHUNK_SIZE);
-
-        int chunksRendered = 0;
-        int chunksCulled = 0;
-
-        for (int cx = playerChunkX - renderRadius; cx <= playerChunkX + renderRadius; cx++) {
-            for (int cy = playerChunkY - renderRadius; cy <= playerChunkY + renderRadius; cy++) {
-                // Calculate chunk bounds in world space
-                float chunkWorldX = cx * Constants.CHUNK_PIXEL_SIZE;
-                float chunkWorldY = cy * Constants.CHUNK_PIXEL_SIZE;
-                float chunkSize = Constants.CHUNK_PIXEL_SIZE;
-
-                // Center point of the chunk
-                float centerX = chunkWorldX + chunkSize / 2f;
-                float centerY = 0f;
-                float centerZ = chunkWorldY + chunkSize / 2f;
-
-                // Bounding sphere radius
-                float boundingSphereRadius = (float) Math.sqrt(chunkSize * chunkSize * 2) / 2f;
-
-                // Frustum culling: Check if chunk is visible
-                if (camera.frustum.sphereInFrustum(centerX, centerY, centerZ, boundingSphereRadius)) {
-                    renderChunk3D(cx, cy);
-                    chunksRendered++;
-                } else {
-                    chunksCulled++;
-                }
-            }
-        }
+        int playerChunkX = (int) Math.floor(viewerTileX / Constants.CHUNK_SIZE);
+        int playerChunkY = (int) Math.floor(viewerTileY / Constants.CHUNK_SIZE);
+
+        chunksRendered = 0;
+        chunksOccluded = 0;
+        chunkCuller.cull(camera.frustum,
+            playerChunkX - renderRadius, playerChunkY - renderRadius,
+            playerChunkX + renderRadius, playerChunkY + renderRadius,
+            renderChunkVisitor);
 
         // Store for debug display
         this.chunksRenderedLastFrame = chunksRendered;
-        this.chunksCulledLastFrame = chunksCulled;
+        this.chunksCulledLastFrame = chunkCuller.getChunksCulled();
+        this.chunksOccludedLastFrame = chunksOccluded;
     }
 
     /**
      * Renders a single chunk in 3D using cached ModelInstances.
+     * Chunks that are hidden behind walls or still generating in the background are skipped.
      */
     private void renderChunk3D(int cx, int cy) {
-        Chunk chunk = world.getOrCreateChunk(cx, cy);
+        if (world.isChunkOccluded(cx, cy, viewerTileX, viewerTileY)) {
+            chunksOccluded++;
+            return;
+        }
+        Chunk chunk = world.requestChunk(cx, cy);
+        if (chunk == null) {
+            return;
+        }
 
         // Get cached models (created once, reused every frame)
         List<ModelInstance> models = chunk.getCachedModels();
+        // Building the mesh measured the chunk's real height, which tightens its culling bounds
+        chunkCuller.setChunkBounds(cx, cy, chunk.getMinHeight(), chunk.getMaxHeight());
+        chunksRendered++;
 
-        // Render all tiles in this chunk
-        for (ModelInstance model : models) {
-            modelBatch.render(model, environment);
+        // Render all tiles in this chunk (indexed, so no iterator is allocated per chunk per frame)
+        for (int i = 0; i < models.size(); i++) {
+            modelBatch.render(models.get(i), environment);
         }
     }
 
@@ -218,143 +251,27 @@ public class GameRenderer {
     }
 
     /**
-     * Renders 3D breakable objects using ModelBatch.
+     * Renders 3D breakable objects using ModelBatch, batched per model type.
      * Should be called during the ModelBatch rendering phase (between begin/end).
      */
     public void render3DBreakableObjects() {
-        if (breakableObjects == null) return;
-
-        for (BreakableObject obj : breakableObjects) {
-            // Skip 2D objects
-            if (!obj.is3D()) continue;
-
-            // Convert object's tile position to pixel world position
-            float worldX = obj.getPosition().x * Constants.TILE_SIZE;
-            float worldZ = obj.getPosition().y * Constants.TILE_SIZE;
-
-            // Center the object on its tile and raise it slightly off the ground
-            float centerX = worldX + Constants.TILE_SIZE / 2f;
-            float centerZ = worldZ + Constants.TILE_SIZE / 2f;
-            float yOffset = Constants.TILE_SIZE / 2f; // Center vertically (half the object's height)
-
-            // Create a ModelInstance positioned at the object's location
-            ModelInstance instance = new ModelInstance(obj.getModel());
-            instance.transform.setToTranslation(centerX, yOffset, centerZ);
-
-            // Render the 3D model
-            modelBatch.render(instance, environment);
-        }
+        breakableRenderer.render(modelBatch, environment);
     }
 
     /**
-     * Renders 3D interactable objects (chests, workbenches, anvils, shrines) using ModelBatch.
+     * Renders 3D interactable objects (chests, workbenches, anvils, shrines) using ModelBatch, batched per model type.
      * Should be called during the ModelBatch rendering phase (between begin/end).
      */
     public void render3DInteractableObjects() {
-        if (interactableObjects == null) return;
-
-        for (InteractableObject obj : interactableObjects) {
-            // Convert object's tile position to pixel world position
-            float worldX = obj.getPosition().x * Constants.TILE_SIZE;
-            float worldZ = obj.getPosition().y * Constants.TILE_SIZE;
-
-            // Center the object on its tile and raise it slightly off the ground
-            float centerX = worldX + Constants.TILE_SIZE / 2f;
-            float centerZ = worldZ + Constants.TILE_SIZE / 2f;
-            float yOffset = Constants.TILE_SIZE / 2f; // Center vertically
-
-            // Create a ModelInstance positioned at the object's location
-            ModelInstance instance = new ModelInstance(obj.getModel());
-            instance.transform.setToTranslation(centerX, yOffset, centerZ);
-
-            // Render the 3D model
-            modelBatch.render(instance, environment);
-        }
+        interactableRenderer.render(modelBatch, environment);
     }
 
     /**
-     * Renders 2D breakable objects as sprites projected from their 3D world positions.
+     * Renders NPCs and 2D breakable objects as sprites projected from their 3D world positions.
      * Should be called during the SpriteBatch rendering phase.
      */
-    public void renderBreakableObjects(SpriteBatch batch) {
-        if (breakableObjects == null) return;
-
-        for (BreakableObject obj : breakableObjects) {
-            // Skip 3D objects (rendered separately)
-            if (obj.is3D()) continue;
-
-            // Convert object's tile position to pixel world position
-            float worldX = obj.getPosition().x * Constants.TILE_SIZE;
-            float worldZ = obj.getPosition().y * Constants.TILE_SIZE;
-
-            // Project 3D world position to 2D screen position
-            Vector3 worldPos = new Vector3(worldX, 0, worldZ);
-            Vector3 screenPos = camera.project(worldPos);
-
-            // Check if object is on screen
-            if (screenPos.x >= 0 && screenPos.x <= Gdx.graphics.getWidth() &&
-                screenPos.y >= 0 && screenPos.y <= Gdx.graphics.getHeight() &&
-                screenPos.z >= 0 && screenPos.z <= 1) {
-
-                // Calculate distance-based scale
-                float distToCamera = camera.position.dst(worldPos);
-                float scale = Math.min(1.0f, 400f / distToCamera);
-
-                // Draw the sprite centered at the screen position
-                Texture tex = obj.getTexture();
-                float width = tex.getWidth() * scale;
-                float height = tex.getHeight() * scale;
-
-                batch.draw(tex,
-                    screenPos.x - width / 2f,
-                    screenPos.y - height / 2f,
-                    width, height
-                );
-            }
-        }
-    }
-
-    /**
-     * Renders NPCs as 2D sprites projected from their 3D world positions.
-     */
-    public void renderNPCs(SpriteBatch batch) {
-        for (NPC npc : combatManager.getAllNPCs()) {
-            if (npc.isDead()) {
-                continue;
-            }
-
-            // Convert NPC's tile position to pixel world position
-            float worldX = npc.getPosition().x;
-            float worldZ = npc.getPosition().y;
-
-            // Project 3D world position to 2D screen position
-            Vector3 worldPos = new Vector3(worldX, 0, worldZ);
-            Vector3 screenPos = camera.project(worldPos);
-
-            // Check if NPC is on screen
-            if (screenPos.x >= 0 && screenPos.x <= Gdx.graphics.getWidth() &&
-                screenPos.y >= 0 && screenPos.y <= Gdx.graphics.getHeight() &&
-                screenPos.z >= 0 && screenPos.z <= 1) {
-
-                // Calculate distance-based scale
-                float distToCamera = camera.position.dst(worldPos);
-                float scale = Math.min(1.0f, 400f / distToCamera);
-
-                // Draw the sprite centered at the screen position
-                Texture tex = npc.getTexture();
-                float width = tex.getWidth() * scale;
-                float height = tex.getHeight() * scale;
-                float yOffset = 10f * scale; // Slight offset so sprite feet align with ground
-
-                batch.draw(tex,
-                    screenPos.x - width / 2f,
-                    screenPos.y - height / 2f + yOffset,
-                    width, height
-                );
-
-                // TODO: Render health bar above NPC
-            }
-        }
+    public void renderSprites(SpriteBatch batch) {
+        spriteRenderer.render(batch, camera, snapshot, interpolationAlpha);
     }
 
     // Getters for debug info
@@ -365,4 +282,20 @@ public class GameRenderer {
     public int getChunksCulledLastFrame() {
         return chunksCulledLastFrame;
     }
+
+    public int getChunksOccludedLastFrame() {
+        return chunksOccludedLastFrame;
+    }
+
+    public int getCullingNodesTestedLastFrame() {
+        return chunkCuller.getNodesTested();
+    }
+
+    /**
+     * Disposes the batched object meshes. Shared resources (ModelBatch, textures) are owned elsewhere.
+     */
+    public void dispose() {
+        breakableRenderer.dispose();
+        interactableRenderer.dispose();
+    }
 }
@@ -0,0 +1,211 @@
+package io.github.inherit_this.rendering;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.math.Matrix4;
+import io.github.inherit_this.entities.Entity;
+import io.github.inherit_this.util.Constants;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Draws many copies of a few shared object models (crates, pots, chests, ...) with one draw call per model.
+ * The game runs on GLES 2.0, which has no hardware instancing, so every placed copy is baked into
+ * one static mesh per model instead. The meshes are rebuilt only when objects are added or removed,
+ * so rendering allocates nothing per frame.
+ *
+ * Models with a part too large to fit one copy into a mesh part are drawn as one instance per object.
+ *
+ * @param <T> Object type
+ */
+public class ObjectBatchRenderer<T extends Entity> {
+
+    // Short indices limit a mesh part to 65536 vertices; split larger batches into several parts
+    private static final int MAX_VERTICES_PER_PART = 65535;
+
+    private final Function<T, Model> modelOf;
+    private final Map<Model, List<T>> objectsByModel = new IdentityHashMap<>();
+    private final List<Model> batchModels = new ArrayList<>();
+    private final List<ModelInstance> batchInstances = new ArrayList<>();
+    private final Matrix4 placement = new Matrix4();
+    private final Matrix4 vertexTransform = new Matrix4();
+
+    private List<T> source;
+    private int sourceSize = -1;
+    private boolean dirty = true;
+
+    /**
+     * @param modelOf Returns the shared model of an object, or null to skip it (2D or destroyed objects)
+     */
+    public ObjectBatchRenderer(Function<T, Model> modelOf) {
+        this.modelOf = modelOf;
+    }
+
+    /**
+     * Sets the objects to draw. The list is watched for size changes; other changes
+     * (objects moved, destroyed or swapped) need {@link #invalidate()}.
+     */
+    public void setObjects(List<T> objects) {
+        this.source = objects;
+        invalidate();
+    }
+
+    /**
+     * Marks the batches for rebuilding before the next render.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Renders all objects, rebuilding the batches first if the objects changed.
+     * Must be called between ModelBatch begin/end.
+     */
+    public void render(ModelBatch modelBatch, Environment environment) {
+        if (source == null) {
+            return;
+        }
+        if (dirty || source.size() != sourceSize) {
+            rebuild();
+        }
+        for (int i = 0; i < batchInstances.size(); i++) {
+            modelBatch.render(batchInstances.get(i), environment);
+        }
+    }
+
+    /**
+     * Number of draw calls submitted per frame (one per model, more for very large batches
+     * and one per object for models too large to batch).
+     */
+    public int getBatchCount() {
+        return batchInstances.size();
+    }
+
+    private void rebuild() {
+        disposeBatches();
+        dirty = false;
+        sourceSize = source.size();
+
+        // Group objects by their shared model
+        objectsByModel.clear();
+        for (T object : source) {
+            Model model = modelOf.apply(object);
+            if (model == null) continue;
+            List<T> group = objectsByModel.get(model);
+            if (group == null) {
+                group = new ArrayList<>();
+                objectsByModel.put(model, group);
+            }
+            group.add(object);
+        }
+
+        for (Map.Entry<Model, List<T>> entry : objectsByModel.entrySet()) {
+            Model model = entry.getKey();
+            if (!fitsInPart(model.nodes)) {
+                addInstances(model, entry.getValue());
+                continue;
+            }
+            Model batch = buildBatch(model, entry.getValue());
+            batchModels.add(batch);
+            batchInstances.add(new ModelInstance(batch));
+        }
+        objectsByModel.clear();
+    }
+
+    /**
+     * Checks that a single copy of every part fits into a mesh part with short indices.
+     */
+    private static boolean fitsInPart(Iterable<Node> nodes) {
+        for (Node node : nodes) {
+            for (NodePart nodePart : node.parts) {
+                if (nodePart.meshPart.size > MAX_VERTICES_PER_PART) {
+                    return false;
+                }
+            }
+            if (!fitsInPart(node.getChildren())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Falls back to one instance of the shared model per object. The model is not owned by the batches.
+     */
+    private void addInstances(Model model, List<T> objects) {
+        for (int i = 0; i < objects.size(); i++) {
+            ModelInstance instance = new ModelInstance(model);
+            setPlacement(objects.get(i));
+            instance.transform.set(placement);
+            batchInstances.add(instance);
+        }
+    }
+
+    /**
+     * Bakes every copy of a model into one model, keeping the source model's materials.
+     */
+    private Model buildBatch(Model model, List<T> objects) {
+        ModelBuilder builder = new ModelBuilder();
+        builder.begin();
+        for (Node node : model.nodes) {
+            addNode(builder, node, objects);
+        }
+        return builder.end();
+    }
+
+    private void addNode(ModelBuilder builder, Node node, List<T> objects) {
+        for (NodePart nodePart : node.parts) {
+            // A copy adds at most one vertex per index; fitsInPart guarantees at least one copy fits
+            int verticesPerCopy = Math.max(1, nodePart.meshPart.size);
+            int copiesPerPart = MAX_VERTICES_PER_PART / verticesPerCopy;
+
+            MeshPartBuilder part = null;
+            for (int i = 0; i < objects.size(); i++) {
+                if (i % copiesPerPart == 0) {
+                    part = builder.part(node.id + "_" + i, GL20.GL_TRIANGLES,
+                        nodePart.meshPart.mesh.getVertexAttributes(), nodePart.material);
+                }
+                setPlacement(objects.get(i));
+                part.setVertexTransform(vertexTransform.set(placement).mul(node.globalTransform));
+                part.addMesh(nodePart.meshPart);
+            }
+        }
+        for (Node child : node.getChildren()) {
+            addNode(builder, child, objects);
+        }
+    }
+
+    /**
+     * Centers the object on its tile, raised by half a tile so its model sits on the ground.
+     */
+    private void setPlacement(T object) {
+        float centerX = object.getPosition().x * Constants.TILE_SIZE + Constants.TILE_SIZE / 2f;
+        float centerZ = object.getPosition().y * Constants.TILE_SIZE + Constants.TILE_SIZE / 2f;
+        float yOffset = Constants.TILE_SIZE / 2f;
+        placement.setToTranslation(centerX, yOffset, centerZ);
+    }
+
+    private void disposeBatches() {
+        for (Model model : batchModels) {
+            model.dispose();
+        }
+        batchModels.clear();
+        batchInstances.clear();
+    }
+
+    public void dispose() {
+        disposeBatches();
+        source = null;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.inherit_this.rendering;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import io.github.inherit_this.simulation.SimulationSnapshot;
+
+/**
+ * Draws the sprites of a simulation snapshot (NPCs and 2D objects) as 2D images projected from
+ * their 3D world positions, scaled down with distance from the camera.
+ * Reads only the snapshot, never the live entities.
+ */
+public class SpriteRenderer {
+
+    // Distance from the camera at which sprites are drawn at full size (world units)
+    private static final float FULL_SIZE_DISTANCE = 400f;
+
+    private final Vector2 renderPosition = new Vector2();
+    private final Vector3 projected = new Vector3();
+
+    /**
+     * Draws the sprites in snapshot order.
+     * @param alpha Progress from the start (0) to the end (1) of the snapshot's tick
+     */
+    public void render(SpriteBatch batch, Camera camera, SimulationSnapshot snapshot, float alpha) {
+        for (int i = 0; i < snapshot.getSpriteCount(); i++) {
+            snapshot.getSpritePosition(i, alpha, renderPosition);
+            float worldScale = snapshot.getSpriteWorldScale(i);
+
+            // Project 3D world position to 2D screen position
+            Vector3 worldPos = projected.set(renderPosition.x * worldScale, 0, renderPosition.y * worldScale);
+            float distToCamera = camera.position.dst(worldPos);
+            Vector3 screenPos = camera.project(worldPos);
+
+            // Check if the sprite is on screen
+            if (screenPos.x >= 0 && screenPos.x <= Gdx.graphics.getWidth() &&
+                screenPos.y >= 0 && screenPos.y <= Gdx.graphics.getHeight() &&
+                screenPos.z >= 0 && screenPos.z <= 1) {
+
+                // Draw the sprite centered at the screen position, smaller when far away
+                float scale = Math.min(1.0f, FULL_SIZE_DISTANCE / distToCamera);
+                Texture tex = snapshot.getSpriteTexture(i);
+                float width = tex.getWidth() * scale;
+                float height = tex.getHeight() * scale;
+
+                batch.draw(tex,
+                    screenPos.x - width / 2f,
+                    screenPos.y - height / 2f + snapshot.getSpriteYOffset(i) * scale,
+                    width, height
+                );
+            }
+        }
+    }
+}
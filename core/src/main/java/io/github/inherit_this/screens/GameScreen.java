@@ -33,11 +33,20 @@ import io.github.inherit_this.world.StaticWorld;
 import io.github.inherit_this.world.PortalRenderer;
 import io.github.inherit_this.world.TileTextureManager;
 import io.github.inherit_this.world.TileMesh3D;
+import io.github.inherit_this.world.DungeonPrefetcher;
 import io.github.inherit_this.entities.*;
 import io.github.inherit_this.util.Constants;
 import io.github.inherit_this.util.FontManager;
+import io.github.inherit_this.util.SpatialGrid;
 import io.github.inherit_this.debug.*;
 import io.github.inherit_this.save.SaveManager;
+import io.github.inherit_this.simulation.AttackCommand;
+import io.github.inherit_this.simulation.HitObjectCommand;
+import io.github.inherit_this.simulation.MoveToCommand;
+import io.github.inherit_this.simulation.Simulation;
+import io.github.inherit_this.simulation.SimulationListener;
+import io.github.inherit_this.simulation.SimulationSnapshot;
+import io.github.inherit_this.simulation.StopMovingCommand;
 
 public class GameScreen extends ScreenAdapter {
 
@@ -75,26 +84,33 @@ public class GameScreen extends ScreenAdapter {
     // Map editor
     private io.github.inherit_this.world.MapEditor mapEditor;
 
-    // Breakable objects
+    // Breakable objects (owned by the simulation)
     private java.util.List<BreakableObject> breakableObjects;
 
     // Interactable objects (chests, workbenches, anvils, shrines)
     private java.util.List<InteractableObject> interactableObjects;
     private InteractableObject nearbyInteractable;
 
+    // Spatial indexes over the object lists (keyed by tile position) for hover, click and proximity queries
+    private static final float OBJECT_INDEX_CELL_SIZE = 4f;
+    private SpatialGrid<BreakableObject> breakableObjectIndex;
+    private final SpatialGrid<InteractableObject> interactableObjectIndex = new SpatialGrid<>(OBJECT_INDEX_CELL_SIZE);
+    private final java.util.List<BreakableObject> breakableQueryResults = new java.util.ArrayList<>();
+    private final java.util.List<InteractableObject> interactableQueryResults = new java.util.ArrayList<>();
+
     // Particle system for visual effects
     private io.github.inherit_this.particles.ParticleSystem particleSystem;
 
-    // Combat manager (handles NPCs and enemies)
+    // Game simulation (player, NPCs, breakable objects and loot), advanced in fixed ticks
+    private Simulation simulation;
+    private final StopMovingCommand stopMovingCommand = new StopMovingCommand();
+
+    // Combat manager (handles NPCs and enemies, owned by the simulation)
     private io.github.inherit_this.combat.CombatManager combatManager;
 
     // Rendering system
     private io.github.inherit_this.rendering.GameRenderer gameRenderer;
 
-    // Fixed time step for game logic
-    private static final float FIXED_TIME_STEP = 1f / 60f; // 60 ticks per second
-    private float accumulator = 0f;
-
     // Performance tracking
     private BitmapFont fpsFont;
     private int frameCount = 0;
@@ -149,6 +165,13 @@ public class GameScreen extends ScreenAdapter {
         }
         player = new Player(spawnX, spawnY, playerTex, world);
 
+        // Initialize simulation, which owns combat and breakable objects
+        simulation = new Simulation(world, player, System.currentTimeMillis());
+        simulation.addListener(new SimulationEvents());
+        combatManager = simulation.getCombatManager();
+        breakableObjects = simulation.getBreakableObjects();
+        breakableObjectIndex = simulation.getBreakableObjectIndex();
+
         // Initialize input handler
         inputHandler = new io.github.inherit_this.input.InputHandler(camera, player);
 
@@ -199,24 +222,15 @@ public class GameScreen extends ScreenAdapter {
         mapEditor = new io.github.inherit_this.world.MapEditor(fpsFont);
         mapEditor.setWorld(world);
 
-        // Initialize breakable objects list
-        breakableObjects = new java.util.ArrayList<>();
-
         // Initialize interactable objects list
         interactableObjects = new java.util.ArrayList<>();
 
         // Initialize particle system
         particleSystem = new io.github.inherit_this.particles.ParticleSystem(camera);
 
-        // Set breakable objects on player for collision detection
-        player.setBreakableObjects(breakableObjects);
-
-        // Initialize combat manager
-        combatManager = new io.github.inherit_this.combat.CombatManager(player);
-
         // Initialize rendering system
         gameRenderer = new io.github.inherit_this.rendering.GameRenderer(
-            camera, modelBatch, environment, player, inputHandler, combatManager
+            camera, modelBatch, environment, inputHandler
         );
         gameRenderer.setWorld(world);
         gameRenderer.setBreakableObjects(breakableObjects);
@@ -249,10 +263,10 @@ public class GameScreen extends ScreenAdapter {
         // spawnTownObjects();
 
         // Add test interactable objects (press E to interact)
-        interactableObjects.add(InteractableObjectFactory.createChest(0, 5));
-        interactableObjects.add(InteractableObjectFactory.createWorkbench(-3, 0));
-        interactableObjects.add(InteractableObjectFactory.createAnvil(3, 0));
-        interactableObjects.add(InteractableObjectFactory.createShrine(0, -5));
+        addInteractableObject(InteractableObjectFactory.createChest(0, 5));
+        addInteractableObject(InteractableObjectFactory.createWorkbench(-3, 0));
+        addInteractableObject(InteractableObjectFactory.createAnvil(3, 0));
+        addInteractableObject(InteractableObjectFactory.createShrine(0, -5));
 
         // Enable VSync to prevent screen tearing
         Gdx.graphics.setVSync(true);
@@ -274,20 +288,23 @@ public class GameScreen extends ScreenAdapter {
         inputHandler.updateCameraRotation(delta);
 
         // Fixed time step for consistent game logic
-        accumulator += Math.min(delta, 0.25f); // Cap delta to prevent spiral of death
+        simulation.setPaused(debugConsole.isOpen() || inventoryOpen);
+        int ticks = simulation.advance(delta);
 
-        while (accumulator >= FIXED_TIME_STEP) {
-            // Update game logic at fixed rate
-            if (!debugConsole.isOpen() && !inventoryOpen) {
-                player.update(FIXED_TIME_STEP);
-                combatManager.update(FIXED_TIME_STEP);
-            }
-            // Always update particles (even when paused)
-            particleSystem.update(FIXED_TIME_STEP);
-            accumulator -= FIXED_TIME_STEP;
+        // Always update particles (even when paused)
+        for (int i = 0; i < ticks; i++) {
+            particleSystem.update(Simulation.TICK_DURATION);
         }
 
-        inputHandler.updateCameraPosition();
+        // Draw entities between the last two ticks so motion is smooth at any refresh rate.
+        // Rendering reads only the snapshot, never the live entities.
+        SimulationSnapshot snapshot = simulation.getSnapshot();
+        float tickAlpha = simulation.getTickAlpha();
+        inputHandler.updateCameraPosition(snapshot, tickAlpha);
+        gameRenderer.setSnapshot(snapshot, tickAlpha);
+
+        // Upload chunks that finished generating in the background
+        world.updateChunks(snapshot.getPlayerX(), snapshot.getPlayerY());
 
         // Enable depth testing for 3D rendering
         Gdx.gl.glEnable(GL20.GL_DEPTH_TEST);
@@ -307,6 +324,9 @@ public class GameScreen extends ScreenAdapter {
             gameRenderer.renderTilePreview();
         }
 
+        // Render particle effects (billboards, depth tested against the world)
+        particleSystem.render(modelBatch);
+
         modelBatch.end();
 
         // Disable depth test for UI rendering
@@ -343,11 +363,8 @@ public class GameScreen extends ScreenAdapter {
         // Render dungeon UI (level display and portal prompts)
         dungeonUI.render();
 
-        // Render breakable objects (world to screen projection)
-        gameRenderer.renderBreakableObjects(batch);
-
-        // Render NPCs (world to screen projection)
-        gameRenderer.renderNPCs(batch);
+        // Render breakable objects and NPCs (world to screen projection)
+        gameRenderer.renderSprites(batch);
 
         // Render player sprite with perspective scaling
         // Scale inversely with camera distance for proper perspective
@@ -377,14 +394,18 @@ public class GameScreen extends ScreenAdapter {
         fpsFont.draw(batch, "Frame Time: " + String.format("%.2f", delta * 1000) + "ms", 10, Gdx.graphics.getHeight() - 30);
         fpsFont.draw(batch, "Zoom: " + (int)inputHandler.getCameraDistance(), 10, Gdx.graphics.getHeight() - 50);
         // Display tile coordinates with 2 decimal places for precision
-        fpsFont.draw(batch, "Tile: (" + String.format("%.2f", player.getPosition().x) + ", " + String.format("%.2f", player.getPosition().y) + ")", 10, Gdx.graphics.getHeight() - 70);
-
-        // Calculate render radius (matches renderVisibleChunks3D calculation) (this is for speed improvements)
-        // int renderRadius = (int) Math.ceil(inputHandler.getCameraDistance() / 100f);
-        // renderRadius = Math.max(6, Math.min(renderRadius, 10));
-        // int totalInRadius = (renderRadius * 2 + 1) * (renderRadius * 2 + 1);
-        // fpsFont.draw(batch, "Chunks: " + chunksRenderedLastFrame + "/" + totalInRadius + " (R:" + renderRadius + ")", 10, Gdx.graphics.getHeight() - 90);
-        // fpsFont.draw(batch, "Culled: " + chunksCulledLastFrame + " | Loaded: " + world.getLoadedChunkCount(), 10, Gdx.graphics.getHeight() - 110);
+        fpsFont.draw(batch, "Tile: (" + String.format("%.2f", simulation.getSnapshot().getPlayerX()) + ", " + String.format("%.2f", simulation.getSnapshot().getPlayerY()) + ")", 10, Gdx.graphics.getHeight() - 70);
+
+        // Chunk culling stats
+        fpsFont.draw(batch, "Chunks: " + gameRenderer.getChunksRenderedLastFrame() + " drawn | "
+            + gameRenderer.getChunksCulledLastFrame() + " culled | "
+            + gameRenderer.getChunksOccludedLastFrame() + " occluded", 10, Gdx.graphics.getHeight() - 90);
+        fpsFont.draw(batch, "Nodes tested: " + gameRenderer.getCullingNodesTestedLastFrame()
+            + " | Loaded: " + world.getLoadedChunkCount(), 10, Gdx.graphics.getHeight() - 110);
+        DungeonPrefetcher prefetcher = dungeonController.getDungeonManager().getPrefetcher();
+        fpsFont.draw(batch, "Dungeon prefetch: " + prefetcher.getHitCount() + " hits | "
+            + prefetcher.getLateHitCount() + " late | " + prefetcher.getMissCount() + " misses | saved "
+            + prefetcher.getTimeSavedMillis() + "ms", 10, Gdx.graphics.getHeight() - 130);
 
         // Render map editor UI
         mapEditor.render(batch);
@@ -394,9 +415,6 @@ public class GameScreen extends ScreenAdapter {
             renderBreakableObjectTooltip(batch);
         }
 
-        // Render particle effects (projected from 3D world to 2D screen, like player)
-        particleSystem.render(batch);
-
         debugConsole.render();
         batch.end();
 
@@ -458,7 +476,16 @@ public class GameScreen extends ScreenAdapter {
      * Adds a breakable object to the game world.
      */
     public void addBreakableObject(BreakableObject object) {
-        breakableObjects.add(object);
+        simulation.addBreakableObject(object);
+        gameRenderer.invalidateObjects();
+    }
+
+    /**
+     * Removes all breakable objects from the game world.
+     */
+    private void clearBreakableObjects() {
+        simulation.clearBreakableObjects();
+        gameRenderer.invalidateObjects();
     }
 
     /**
@@ -473,7 +500,7 @@ public class GameScreen extends ScreenAdapter {
         }
 
         // Clear breakable objects (they're world-specific)
-        breakableObjects.clear();
+        clearBreakableObjects();
 
         // Create new world
         if (worldType.equalsIgnoreCase("static")) {
@@ -489,8 +516,7 @@ public class GameScreen extends ScreenAdapter {
         }
 
         // Update player's world reference
-        player = new Player(player.getPosition().x, player.getPosition().y, playerTex, world);
-        player.setBreakableObjects(breakableObjects);
+        simulation.setWorld(world);
 
         // Update map editor and renderer
         mapEditor.setWorld(world);
@@ -543,6 +569,7 @@ public class GameScreen extends ScreenAdapter {
         // Handle dungeon portal interactions
         dungeonController.handlePortalInteractions();
         world = dungeonController.getCurrentWorld();  // Sync world after portal use
+        simulation.setWorld(world);
         mapEditor.setWorld(world);
         gameRenderer.setWorld(world);
 
@@ -615,27 +642,19 @@ public class GameScreen extends ScreenAdapter {
                 NPC targetEnemy = combatManager.findNearestNPC(groundPosition.x, groundPosition.z, 32f);
 
                 if (targetEnemy != null && !targetEnemy.isDead()) {
-                    // Enemy found - attack if in range
-                    if (player.isInAttackRange(targetEnemy)) {
-                        // In range - attack the enemy
-                        player.attack(targetEnemy);
-                        player.stopMoving();  // Stop moving while attacking
-                    } else {
-                        // Not in range - move toward enemy to get into range
-                        // Enemy position is already in tiles
-                        player.setTargetPosition(targetEnemy.getPosition().x, targetEnemy.getPosition().y);
-                    }
+                    // Enemy found - attack if in range, otherwise move toward it
+                    simulation.submit(new AttackCommand(targetEnemy));
                 } else {
                     // No enemy - just move to clicked position
                     // groundPosition is in pixels, convert to tiles
                     float tileX = groundPosition.x / Constants.TILE_SIZE;
                     float tileZ = groundPosition.z / Constants.TILE_SIZE;
-                    player.setTargetPosition(tileX, tileZ);
+                    simulation.submit(new MoveToCommand(tileX, tileZ));
                 }
             }
         } else if (!Gdx.input.isButtonPressed(Input.Buttons.LEFT)) {
             // Stop moving when mouse button is released
-            player.stopMoving();
+            simulation.submit(stopMovingCommand);
         }
 
         // Handle hotbar F1-F5 keys
@@ -685,6 +704,8 @@ public class GameScreen extends ScreenAdapter {
      */
     public void addInteractableObject(InteractableObject obj) {
         interactableObjects.add(obj);
+        interactableObjectIndex.insert(obj, obj.getPosition().x, obj.getPosition().y);
+        gameRenderer.invalidateObjects();
     }
 
     /**
@@ -698,7 +719,7 @@ public class GameScreen extends ScreenAdapter {
         }
 
         // Clear existing breakable objects to prevent duplicates
-        breakableObjects.clear();
+        clearBreakableObjects();
 
         int playerLevel = player.getStats().getLevel();
         int townDungeonLevel = 0; // Town objects use player level only
@@ -745,7 +766,7 @@ public class GameScreen extends ScreenAdapter {
 
         // Find hovered breakable object
         BreakableObject hoveredObject = null;
-        for (BreakableObject obj : breakableObjects) {
+        for (BreakableObject obj : findBreakableObjectsAt(tileX, tileZ)) {
             if (!obj.isDestroyed() && obj.contains(tileX, tileZ)) {
                 hoveredObject = obj;
                 break;
@@ -794,69 +815,76 @@ public class GameScreen extends ScreenAdapter {
         float tileZ = groundPosition.z / Constants.TILE_SIZE;
 
         // Check if any breakable object was clicked
-        for (int i = breakableObjects.size() - 1; i >= 0; i--) {
-            BreakableObject obj = breakableObjects.get(i);
+        for (BreakableObject obj : findBreakableObjectsAt(tileX, tileZ)) {
             if (obj.contains(tileX, tileZ)) {
                 // Play attack sound
                 SoundManager.getInstance().playWithVariation(SoundType.ATTACK_SWING, 0.6f);
 
-                // Damage the object
-                boolean destroyed = obj.damage(1);
-
-                if (destroyed) {
-                    // Play appropriate break sound based on object type
-                    // We can enhance BreakableObject later to store its material type
-                    SoundManager.getInstance().playWithVariation(SoundType.OBJECT_BREAK_WOOD, 0.8f);
-
-                    // Spawn break particles
-                    float pixelX = (obj.getPosition().x + 0.5f) * Constants.TILE_SIZE;
-                    float pixelZ = (obj.getPosition().y + 0.5f) * Constants.TILE_SIZE; // Tile Y maps to world Z
-                    float pixelY = Constants.TILE_SIZE / 2f; // Start particles at object height
-                    particleSystem.createBreakEffect(
-                        obj,     // Pass the object to determine material type
-                        pixelX,
-                        pixelY,
-                        pixelZ,
-                        12,      // particle count
-                        100f,    // min speed (pixels/sec)
-                        250f     // max speed (pixels/sec)
-                    );
-
-                    // Generate and give loot to player
-                    java.util.List<BreakableObject.LootResult> loot = obj.generateLoot();
-                    for (BreakableObject.LootResult result : loot) {
-                        if (result.isGold()) {
-                            player.getInventory().addGold(result.gold);
-                            SoundManager.getInstance().playWithVariation(SoundType.LOOT_GOLD, 0.7f);
-                            Gdx.app.log("Loot", "Received " + result.gold + " gold");
-                        } else if (result.isXP()) {
-                            int levelsGained = player.getStats().addXP(result.xp);
-                            if (levelsGained > 0) {
-                                SoundManager.getInstance().play(SoundType.UI_CLICK, 1.0f);
-                                Gdx.app.log("Level", "LEVEL UP! Now level " + player.getStats().getLevel());
-                            }
-                            Gdx.app.log("Loot", "Received " + result.xp + " XP");
-                        } else if (result.isItem()) {
-                            boolean added = player.getInventory().addItem(result.item, result.quantity);
-                            if (added) {
-                                SoundManager.getInstance().play(SoundType.LOOT_ITEM, 0.7f);
-                                Gdx.app.log("Loot", "Received " + result.quantity + "x " + result.item.getName());
-                            } else {
-                                Gdx.app.log("Loot", "Inventory full! Could not add " + result.item.getName());
-                            }
-                        }
-                    }
+                // Damage the object on the next tick; results arrive through SimulationEvents
+                simulation.submit(new HitObjectCommand(obj));
+                break; // Only interact with one object per click
+            }
+        }
+    }
+
+    /**
+     * Plays sounds, spawns particles and logs for events from the simulation.
+     */
+    private class SimulationEvents implements SimulationListener {
+
+        @Override
+        public void onObjectDamaged(BreakableObject obj) {
+            // Play hit sound for damaged but not destroyed
+            SoundManager.getInstance().playWithVariation(SoundType.ATTACK_HIT, 0.5f);
+            Gdx.app.log("Object", "Damaged object - Health: " + obj.getCurrentHealth() + "/" + obj.getMaxHealth());
+        }
 
-                    // Remove destroyed object
-                    breakableObjects.remove(i);
+        @Override
+        public void onObjectDestroyed(BreakableObject obj) {
+            // Play appropriate break sound based on object type
+            // We can enhance BreakableObject later to store its material type
+            SoundManager.getInstance().playWithVariation(SoundType.OBJECT_BREAK_WOOD, 0.8f);
+
+            // Spawn break particles
+            float pixelX = (obj.getPosition().x + 0.5f) * Constants.TILE_SIZE;
+            float pixelZ = (obj.getPosition().y + 0.5f) * Constants.TILE_SIZE; // Tile Y maps to world Z
+            float pixelY = Constants.TILE_SIZE / 2f; // Start particles at object height
+            particleSystem.createBreakEffect(
+                obj,     // Pass the object to determine material type
+                pixelX,
+                pixelY,
+                pixelZ,
+                12,      // particle count
+                100f,    // min speed (pixels/sec)
+                250f     // max speed (pixels/sec)
+            );
+
+            // The simulation already removed the object
+            gameRenderer.invalidateObjects();
+        }
+
+        @Override
+        public void onLootReceived(BreakableObject.LootResult result, boolean accepted) {
+            if (result.isGold()) {
+                SoundManager.getInstance().playWithVariation(SoundType.LOOT_GOLD, 0.7f);
+                Gdx.app.log("Loot", "Received " + result.gold + " gold");
+            } else if (result.isXP()) {
+                Gdx.app.log("Loot", "Received " + result.xp + " XP");
+            } else if (result.isItem()) {
+                if (accepted) {
+                    SoundManager.getInstance().play(SoundType.LOOT_ITEM, 0.7f);
+                    Gdx.app.log("Loot", "Received " + result.quantity + "x " + result.item.getName());
                 } else {
-                    // Play hit sound for damaged but not destroyed
-                    SoundManager.getInstance().playWithVariation(SoundType.ATTACK_HIT, 0.5f);
-                    Gdx.app.log("Object", "Damaged object - Health: " + obj.getCurrentHealth() + "/" + obj.getMaxHealth());
+                    Gdx.app.log("Loot", "Inventory full! Could not add " + result.item.getName());
                 }
-                break; // Only interact with one object per click
             }
         }
+
+        @Override
+        public void onLevelUp(int newLevel) {
+            SoundManager.getInstance().play(SoundType.UI_CLICK, 1.0f);
+            Gdx.app.log("Level", "LEVEL UP! Now level " + newLevel);
+        }
     }
 
     /**
@@ -869,7 +897,10 @@ public class GameScreen extends ScreenAdapter {
         float playerY = player.getPosition().y;
         float interactDistance = 1.5f; // tiles
 
-        for (InteractableObject obj : interactableObjects) {
+        // Objects are indexed by tile origin, their center is half a tile further
+        interactableQueryResults.clear();
+        interactableObjectIndex.queryRadius(playerX - 0.5f, playerY - 0.5f, interactDistance, interactableQueryResults);
+        for (InteractableObject obj : interactableQueryResults) {
             if (obj.isPlayerNear(playerX, playerY, interactDistance)) {
                 nearbyInteractable = obj;
                 break; // Only track the first nearby object
@@ -877,6 +908,15 @@ public class GameScreen extends ScreenAdapter {
         }
     }
 
+    /**
+     * Finds breakable objects whose tile could contain a position, using the spatial index.
+     * Objects are indexed by tile origin, so any object containing the point has its origin within one tile below it.
+     */
+    private java.util.List<BreakableObject> findBreakableObjectsAt(float tileX, float tileY) {
+        breakableQueryResults.clear();
+        return breakableObjectIndex.queryAABB(tileX - 1f, tileY - 1f, tileX, tileY, breakableQueryResults);
+    }
+
     /**
      * Handles interaction with the nearby interactable object when E is pressed.
      * Opens appropriate UI based on the object type.
@@ -934,6 +974,7 @@ public class GameScreen extends ScreenAdapter {
         playerTex.dispose();
         player.dispose();
         modelBatch.dispose();
+        gameRenderer.dispose();
         fpsFont.dispose();
         particleSystem.dispose();
         TileMesh3D.getInstance().dispose();
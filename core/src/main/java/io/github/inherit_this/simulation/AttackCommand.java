@@ -0,0 +1,32 @@
+package io.github.inherit_this.simulation;
+
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.Player;
+
+/**
+ * Attacks an NPC if it is in range, otherwise walks toward it.
+ */
+public class AttackCommand implements SimulationCommand {
+
+    private final NPC target;
+
+    public AttackCommand(NPC target) {
+        this.target = target;
+    }
+
+    @Override
+    public void execute(Simulation simulation) {
+        if (target.isDead()) {
+            return;
+        }
+
+        Player player = simulation.getPlayer();
+        if (player.isInAttackRange(target)) {
+            player.attack(target);
+            player.stopMoving();  // Stop moving while attacking
+        } else {
+            // Not in range - move toward enemy to get into range
+            player.setTargetPosition(target.getPosition().x, target.getPosition().y);
+        }
+    }
+}
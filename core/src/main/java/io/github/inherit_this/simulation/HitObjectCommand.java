@@ -0,0 +1,20 @@
+package io.github.inherit_this.simulation;
+
+import io.github.inherit_this.entities.BreakableObject;
+
+/**
+ * Hits a breakable object once, breaking it and granting its loot when its health runs out.
+ */
+public class HitObjectCommand implements SimulationCommand {
+
+    private final BreakableObject object;
+
+    public HitObjectCommand(BreakableObject object) {
+        this.object = object;
+    }
+
+    @Override
+    public void execute(Simulation simulation) {
+        simulation.hitObject(object);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.inherit_this.simulation;
+
+/**
+ * Makes the player walk toward a position.
+ */
+public class MoveToCommand implements SimulationCommand {
+
+    private final float tileX;
+    private final float tileY;
+
+    /**
+     * @param tileX Target X position in tiles
+     * @param tileY Target Y position in tiles
+     */
+    public MoveToCommand(float tileX, float tileY) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+    }
+
+    @Override
+    public void execute(Simulation simulation) {
+        simulation.getPlayer().setTargetPosition(tileX, tileY);
+    }
+}
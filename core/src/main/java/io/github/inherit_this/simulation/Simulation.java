@@ -0,0 +1,364 @@
+package io.github.inherit_this.simulation;
+
+import com.badlogic.ashley.core.Engine;
+import io.github.inherit_this.combat.CombatManager;
+import io.github.inherit_this.ecs.MovementSystem;
+import io.github.inherit_this.ecs.TickHistorySystem;
+import io.github.inherit_this.entities.BreakableObject;
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.pathfinding.Pathfinder;
+import io.github.inherit_this.util.SpatialGrid;
+import io.github.inherit_this.world.WorldProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Game state and rules, advanced in fixed ticks independently of rendering and input devices.
+ * Owns the world, the player, NPCs and combat (through {@link CombatManager}), breakable objects and loot.
+ *
+ * Input arrives as {@link SimulationCommand}s, which may be submitted from any thread and are applied
+ * in order at the start of the next tick. Loot and NPC behaviour are rolled from random sources derived
+ * from the seed, so the same starting state, seed and commands always produce the same ticks.
+ * After every tick the state is copied into a {@link SimulationSnapshot}.
+ *
+ * The components of the player, breakable objects and NPCs are kept in an ECS {@link Engine}, added and
+ * removed as the entities join and leave the simulation, so systems can iterate component families instead of
+ * the entity lists. Tick history and NPC movement run as systems, and snapshots collect sprites from the
+ * position and render family. NPC AI and combat still run through {@link CombatManager}, which updates NPCs in
+ * parallel batches, and the player still moves itself, sliding along breakable objects.
+ *
+ * The simulation never touches Gdx input or GL, so it can run headless in tests and benchmarks.
+ */
+public class Simulation {
+
+    public static final float TICK_DURATION = 1f / 60f; // 60 ticks per second
+    // Longest frame advance() catches up on, to prevent the spiral of death
+    private static final float MAX_FRAME_TIME = 0.25f;
+    // Grid cell size in tiles for the breakable object index
+    private static final float OBJECT_INDEX_CELL_SIZE = 4f;
+
+    private WorldProvider world;
+    private final Player player;
+    private final CombatManager combatManager;
+    private final List<BreakableObject> breakableObjects = new ArrayList<>();
+    private final SpatialGrid<BreakableObject> breakableObjectIndex = new SpatialGrid<>(OBJECT_INDEX_CELL_SIZE);
+
+    private final Queue<SimulationCommand> commands = new ConcurrentLinkedQueue<>();
+    private final List<SimulationListener> listeners = new ArrayList<>();
+    private final Random random;
+    private final Engine engine = new Engine();
+    private final MovementSystem movementSystem;
+    // NPCs whose components are in the engine, and the NPC list modification count they match
+    private final Set<NPC> npcsInEngine = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<NPC> npcsInList = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int engineNPCModCount;
+
+    private volatile SimulationSnapshot snapshot = new SimulationSnapshot();
+    private SimulationSnapshot previousSnapshot = new SimulationSnapshot();
+
+    private long tick = 0;
+    private float accumulator = 0f;
+    private boolean paused = false;
+
+    /**
+     * @param seed Seed for random rolls made during ticks (loot and NPC behaviour)
+     */
+    public Simulation(WorldProvider world, Player player, long seed) {
+        this.world = world;
+        this.player = player;
+        this.combatManager = new CombatManager(player, seed);
+        combatManager.setWorld(world);
+        this.random = new Random(seed);
+
+        // Breakable objects block player movement
+        player.setBreakableObjects(breakableObjects);
+        player.setBreakableObjectIndex(breakableObjectIndex);
+
+        engine.addSystem(new TickHistorySystem());
+        // Run by the combat manager between NPC updates and its index update, not by the engine
+        movementSystem = new MovementSystem(world);
+        movementSystem.setProcessing(false);
+        engine.addSystem(movementSystem);
+        combatManager.setMovementSystem(movementSystem);
+        engine.addEntity(player.getEcsEntity());
+        engineNPCModCount = combatManager.getModCount();
+
+        snapshot.capture(this);
+        previousSnapshot.capture(this);
+    }
+
+    /**
+     * Queues a command for the next tick. Safe to call from any thread.
+     */
+    public void submit(SimulationCommand command) {
+        commands.add(command);
+    }
+
+    /**
+     * Runs as many ticks as fit in the elapsed time, carrying the remainder over to the next call.
+     * @param delta Time since the last call (seconds)
+     * @return Number of ticks run
+     */
+    public int advance(float delta) {
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+
+        int ticks = 0;
+        while (accumulator >= TICK_DURATION) {
+            tick();
+            accumulator -= TICK_DURATION;
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Advances the simulation by exactly one tick: applies queued commands, then updates the player and NPCs.
+     */
+    public void tick() {
+        // Keep the last tick's positions so rendering can interpolate toward this tick
+        syncEngineNPCs();
+        engine.update(TICK_DURATION);
+
+        SimulationCommand command;
+        while ((command = commands.poll()) != null) {
+            command.execute(this);
+        }
+
+        if (!paused) {
+            // NPC path searches share a node budget per tick
+            Pathfinder pathfinder = world != null ? world.getPathfinder() : null;
+            if (pathfinder != null) {
+                pathfinder.beginTick();
+            }
+            player.update(TICK_DURATION);
+            if (pathfinder != null) {
+                // Enemies chasing the player follow one flow field toward the player's tile
+                pathfinder.updateFlowField((int) Math.floor(player.getPosition().x),
+                    (int) Math.floor(player.getPosition().y));
+            }
+            combatManager.update(TICK_DURATION);
+        }
+        tick++;
+        // Drop NPCs that died during the tick
+        syncEngineNPCs();
+
+        // Reuse the older snapshot, keeping the latest one intact for readers
+        SimulationSnapshot next = previousSnapshot;
+        next.capture(this);
+        previousSnapshot = snapshot;
+        snapshot = next;
+    }
+
+    /**
+     * Adds the components of NPCs that joined the NPC list to the engine and removes those of NPCs that left it.
+     * The list may be changed directly, so it is compared with the engine's NPCs whenever its modification
+     * count changed.
+     */
+    private void syncEngineNPCs() {
+        if (engineNPCModCount == combatManager.getModCount()) {
+            return;
+        }
+
+        List<NPC> npcs = combatManager.getAllNPCs();
+        npcsInList.clear();
+        for (int i = 0; i < npcs.size(); i++) {
+            NPC npc = npcs.get(i);
+            npcsInList.add(npc);
+            if (npcsInEngine.add(npc)) {
+                engine.addEntity(npc.getEcsEntity());
+            }
+        }
+        if (npcsInEngine.size() > npcsInList.size()) {
+            Iterator<NPC> iterator = npcsInEngine.iterator();
+            while (iterator.hasNext()) {
+                NPC npc = iterator.next();
+                if (!npcsInList.contains(npc)) {
+                    engine.removeEntity(npc.getEcsEntity());
+                    iterator.remove();
+                }
+            }
+        }
+        npcsInList.clear();
+        engineNPCModCount = combatManager.getModCount();
+    }
+
+    /**
+     * Damages a breakable object by one hit. Destroyed objects are removed and their loot goes to the player.
+     * @return true if the object was destroyed
+     */
+    public boolean hitObject(BreakableObject object) {
+        if (!object.damage(1)) {
+            if (!object.isDestroyed()) {
+                for (SimulationListener listener : listeners) {
+                    listener.onObjectDamaged(object);
+                }
+            }
+            return false;
+        }
+
+        removeBreakableObject(object);
+        for (SimulationListener listener : listeners) {
+            listener.onObjectDestroyed(object);
+        }
+
+        for (BreakableObject.LootResult loot : object.generateLoot(random)) {
+            grantLoot(loot);
+        }
+        return true;
+    }
+
+    /**
+     * Gives loot to the player.
+     */
+    private void grantLoot(BreakableObject.LootResult loot) {
+        boolean accepted = true;
+        int levelsGained = 0;
+
+        if (loot.isGold()) {
+            player.getInventory().addGold(loot.gold);
+        } else if (loot.isXP()) {
+            levelsGained = player.getStats().addXP(loot.xp);
+        } else if (loot.isItem()) {
+            accepted = player.getInventory().addItem(loot.item, loot.quantity);
+        }
+
+        for (SimulationListener listener : listeners) {
+            listener.onLootReceived(loot, accepted);
+            if (levelsGained > 0) {
+                listener.onLevelUp(player.getStats().getLevel());
+            }
+        }
+    }
+
+    /**
+     * Adds a breakable object to the world.
+     */
+    public void addBreakableObject(BreakableObject object) {
+        breakableObjects.add(object);
+        breakableObjectIndex.insert(object, object.getPosition().x, object.getPosition().y);
+        engine.addEntity(object.getEcsEntity());
+    }
+
+    /**
+     * Removes a breakable object from the world.
+     */
+    public void removeBreakableObject(BreakableObject object) {
+        if (breakableObjects.remove(object)) {
+            breakableObjectIndex.remove(object);
+            engine.removeEntity(object.getEcsEntity());
+        }
+    }
+
+    /**
+     * Removes all breakable objects (they're world-specific).
+     */
+    public void clearBreakableObjects() {
+        for (int i = 0; i < breakableObjects.size(); i++) {
+            engine.removeEntity(breakableObjects.get(i).getEcsEntity());
+        }
+        breakableObjects.clear();
+        breakableObjectIndex.clear();
+    }
+
+    public void addListener(SimulationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets the world the player moves in, e.g. after entering or leaving a dungeon.
+     */
+    public void setWorld(WorldProvider world) {
+        this.world = world;
+        player.setWorld(world);
+        combatManager.setWorld(world);
+        movementSystem.setWorld(world);
+    }
+
+    public WorldProvider getWorld() {
+        return world;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public CombatManager getCombatManager() {
+        return combatManager;
+    }
+
+    /**
+     * ECS engine holding the components of the player, breakable objects and NPCs.
+     * Objects join and leave it at once; NPCs added to or removed from the NPC list directly
+     * are brought up to date at the start and end of every tick.
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Breakable objects in the world. Modify through the simulation so the spatial index and engine stay in sync.
+     */
+    public List<BreakableObject> getBreakableObjects() {
+        return breakableObjects;
+    }
+
+    /**
+     * Spatial index of breakable objects, keyed by tile position.
+     */
+    public SpatialGrid<BreakableObject> getBreakableObjectIndex() {
+        return breakableObjectIndex;
+    }
+
+    /**
+     * While paused, ticks still run and apply commands, but the player and NPCs don't update.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Number of ticks run so far.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * State at the end of the latest tick.
+     */
+    public SimulationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * State at the end of the tick before the latest one.
+     */
+    public SimulationSnapshot getPreviousSnapshot() {
+        return previousSnapshot;
+    }
+
+    /**
+     * How far the time carried over by {@link #advance} is into the next tick (0 to 1).
+     * Renderers use it to interpolate entities between their previous and latest tick positions.
+     */
+    public float getTickAlpha() {
+        return accumulator / TICK_DURATION;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.inherit_this.simulation;
+
+/**
+ * Player input for the simulation. Commands are queued with {@link Simulation#submit}
+ * and executed in order at the start of the next tick.
+ */
+public interface SimulationCommand {
+
+    /**
+     * Applies the command to the simulation. Called on the thread running the simulation.
+     */
+    void execute(Simulation simulation);
+}
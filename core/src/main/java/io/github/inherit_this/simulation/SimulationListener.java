@@ -0,0 +1,31 @@
+package io.github.inherit_this.simulation;
+
+import io.github.inherit_this.entities.BreakableObject;
+
+/**
+ * Receives game events from the simulation, e.g. to play sounds or spawn particles.
+ * Methods are called during a tick, on the thread running the simulation.
+ */
+public interface SimulationListener {
+
+    /**
+     * A breakable object was hit but not destroyed.
+     */
+    default void onObjectDamaged(BreakableObject object) {}
+
+    /**
+     * A breakable object was destroyed and removed from the simulation. Called before its loot is granted.
+     */
+    default void onObjectDestroyed(BreakableObject object) {}
+
+    /**
+     * The player received loot.
+     * @param accepted false if an item didn't fit in the inventory
+     */
+    default void onLootReceived(BreakableObject.LootResult loot, boolean accepted) {}
+
+    /**
+     * The player gained one or more levels.
+     */
+    default void onLevelUp(int newLevel) {}
+}
@@ -0,0 +1,219 @@
+package io.github.inherit_this.simulation;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.ecs.HealthComponent;
+import io.github.inherit_this.ecs.Mappers;
+import io.github.inherit_this.ecs.PositionComponent;
+import io.github.inherit_this.ecs.RenderComponent;
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copy of the simulation state at the end of a tick, for renderers, HUDs and tools.
+ * Snapshots are reused by the simulation: a snapshot stays valid until two more ticks have run.
+ * NPCs are listed in the same order as {@link io.github.inherit_this.combat.CombatManager#getAllNPCs()}.
+ *
+ * Positions are kept both at the start and the end of the tick, so a renderer can interpolate
+ * within one snapshot without reading live entities.
+ */
+public class SimulationSnapshot {
+
+    // Entities drawn as sprites, see io.github.inherit_this.rendering.SpriteRenderer
+    private static final Family SPRITES = Family.all(PositionComponent.class, RenderComponent.class).get();
+    // Floats per sprite: previous x, previous y, x, y, world scale, y offset
+    private static final int SPRITE_STRIDE = 6;
+
+    private final Vector2 playerPrevious = new Vector2();
+
+    private long tick;
+    private float playerX;
+    private float playerY;
+    private float playerPreviousX;
+    private float playerPreviousY;
+    private int playerFacing;
+    private float playerHealth;
+
+    private int npcCount;
+    private float[] npcX = new float[16];
+    private float[] npcY = new float[16];
+
+    private int breakableObjectCount;
+
+    private int spriteCount;
+    private Texture[] spriteTextures = new Texture[16];
+    private float[] spriteData = new float[16 * SPRITE_STRIDE];
+
+    /**
+     * Copies the current state of the simulation into this snapshot.
+     */
+    void capture(Simulation simulation) {
+        tick = simulation.getTick();
+
+        Player player = simulation.getPlayer();
+        playerX = player.getPosition().x;
+        playerY = player.getPosition().y;
+        player.getInterpolatedPosition(0f, playerPrevious);
+        playerPreviousX = playerPrevious.x;
+        playerPreviousY = playerPrevious.y;
+        playerFacing = player.getFacingDirection();
+        playerHealth = player.getStats().getCurrentHealth();
+
+        List<NPC> npcs = simulation.getCombatManager().getAllNPCs();
+        npcCount = npcs.size();
+        if (npcX.length < npcCount) {
+            int capacity = Math.max(npcCount, npcX.length * 2);
+            npcX = Arrays.copyOf(npcX, capacity);
+            npcY = Arrays.copyOf(npcY, capacity);
+        }
+        for (int i = 0; i < npcCount; i++) {
+            Vector2 position = npcs.get(i).getPosition();
+            npcX[i] = position != null ? position.x : Float.NaN;
+            npcY[i] = position != null ? position.y : Float.NaN;
+        }
+
+        breakableObjectCount = simulation.getBreakableObjects().size();
+        captureSprites(simulation.getEngine().getEntitiesFor(SPRITES));
+    }
+
+    /**
+     * Copies every sprite that is still standing (health not used up), in engine order.
+     */
+    private void captureSprites(ImmutableArray<Entity> entities) {
+        if (spriteTextures.length < entities.size()) {
+            int capacity = Math.max(entities.size(), spriteTextures.length * 2);
+            spriteTextures = Arrays.copyOf(spriteTextures, capacity);
+            spriteData = Arrays.copyOf(spriteData, capacity * SPRITE_STRIDE);
+        }
+
+        int count = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            HealthComponent health = Mappers.HEALTH.get(entity);
+            if (health != null && health.isDepleted()) {
+                continue;
+            }
+            PositionComponent position = Mappers.POSITION.get(entity);
+            RenderComponent render = Mappers.RENDER.get(entity);
+
+            int offset = count * SPRITE_STRIDE;
+            spriteTextures[count] = render.texture;
+            spriteData[offset] = position.previous.x;
+            spriteData[offset + 1] = position.previous.y;
+            spriteData[offset + 2] = position.position.x;
+            spriteData[offset + 3] = position.position.y;
+            spriteData[offset + 4] = render.worldScale;
+            spriteData[offset + 5] = render.yOffset;
+            count++;
+        }
+        // Don't keep textures of sprites that are gone
+        Arrays.fill(spriteTextures, count, spriteCount, null);
+        spriteCount = count;
+    }
+
+    /**
+     * Number of ticks the simulation had run when this snapshot was taken.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Player X position in tiles.
+     */
+    public float getPlayerX() {
+        return playerX;
+    }
+
+    /**
+     * Player Y position in tiles.
+     */
+    public float getPlayerY() {
+        return playerY;
+    }
+
+    /**
+     * Player position between the start (alpha 0) and the end (alpha 1) of the tick, in tiles.
+     * @return The given vector
+     */
+    public Vector2 getPlayerPosition(float alpha, Vector2 out) {
+        return out.set(playerPreviousX + (playerX - playerPreviousX) * alpha,
+                       playerPreviousY + (playerY - playerPreviousY) * alpha);
+    }
+
+    /**
+     * 8-directional facing of the player, see {@link Player#getFacingDirection()}.
+     */
+    public int getPlayerFacing() {
+        return playerFacing;
+    }
+
+    public float getPlayerHealth() {
+        return playerHealth;
+    }
+
+    public int getNPCCount() {
+        return npcCount;
+    }
+
+    /**
+     * X position in tiles of the NPC at an index, or NaN if it has no position.
+     */
+    public float getNPCX(int index) {
+        return npcX[index];
+    }
+
+    /**
+     * Y position in tiles of the NPC at an index, or NaN if it has no position.
+     */
+    public float getNPCY(int index) {
+        return npcY[index];
+    }
+
+    public int getBreakableObjectCount() {
+        return breakableObjectCount;
+    }
+
+    /**
+     * Number of sprites (NPCs and 2D objects) to draw.
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    public Texture getSpriteTexture(int index) {
+        return spriteTextures[index];
+    }
+
+    /**
+     * Sprite position between the start (alpha 0) and the end (alpha 1) of the tick.
+     * @return The given vector
+     */
+    public Vector2 getSpritePosition(int index, float alpha, Vector2 out) {
+        int offset = index * SPRITE_STRIDE;
+        float previousX = spriteData[offset];
+        float previousY = spriteData[offset + 1];
+        return out.set(previousX + (spriteData[offset + 2] - previousX) * alpha,
+                       previousY + (spriteData[offset + 3] - previousY) * alpha);
+    }
+
+    /**
+     * World units per position unit of a sprite, see {@link RenderComponent#worldScale}.
+     */
+    public float getSpriteWorldScale(int index) {
+        return spriteData[index * SPRITE_STRIDE + 4];
+    }
+
+    /**
+     * Screen offset of a sprite at full scale, see {@link RenderComponent#yOffset}.
+     */
+    public float getSpriteYOffset(int index) {
+        return spriteData[index * SPRITE_STRIDE + 5];
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.inherit_this.simulation;
+
+/**
+ * Stops the player where they are.
+ */
+public class StopMovingCommand implements SimulationCommand {
+
+    @Override
+    public void execute(Simulation simulation) {
+        simulation.getPlayer().stopMoving();
+    }
+}
@@ -0,0 +1,352 @@
+package io.github.inherit_this.util;
+
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid spatial index for point-like entities (NPCs, breakable and interactable objects).
+ * Entities are bucketed by cell, so queries only visit the cells around the query area
+ * instead of scanning every entity.
+ *
+ * Positions are stored when an entity is inserted or updated; call {@link #update} when an entity moves.
+ * Coordinates use whatever units the caller uses (usually tiles).
+ *
+ * @param <T> Entity type, compared by identity
+ */
+public class SpatialGrid<T> {
+
+    private static final class Entry<T> {
+        final T item;
+        float x;
+        float y;
+        long cell;
+
+        Entry(T item) {
+            this.item = item;
+        }
+    }
+
+    private final float cellSize;
+    // Primitive keys, so probing a cell doesn't box a Long
+    private final LongMap<List<Entry<T>>> cells = new LongMap<>();
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    // Reused by queries to avoid allocating per call
+    private final List<List<Entry<T>>> queryBuckets = new ArrayList<>();
+
+    /**
+     * @param cellSize Size of a grid cell, ideally close to the typical query radius
+     */
+    public SpatialGrid(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds an entity at a position, or moves it there if it is already indexed.
+     */
+    public void insert(T item, float x, float y) {
+        update(item, x, y);
+    }
+
+    /**
+     * Moves an entity to a new position, adding it if it isn't indexed yet.
+     * Moves within the same cell only update the stored position.
+     */
+    public void update(T item, float x, float y) {
+        long cell = cellKey(cellCoord(x), cellCoord(y));
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            entry = new Entry<>(item);
+            entries.put(item, entry);
+            addToCell(entry, cell);
+        } else if (entry.cell != cell) {
+            removeFromCell(entry);
+            addToCell(entry, cell);
+        }
+        entry.x = x;
+        entry.y = y;
+    }
+
+    /**
+     * Removes an entity from the index.
+     * @return true if the entity was indexed
+     */
+    public boolean remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) {
+            return false;
+        }
+        removeFromCell(entry);
+        return true;
+    }
+
+    public boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Finds all entities within a distance of a point (inclusive).
+     * @param out List the results are added to
+     * @return The given list
+     */
+    public List<T> queryRadius(float x, float y, float radius, List<T> out) {
+        float radiusSquared = radius * radius;
+        List<List<Entry<T>>> buckets = bucketsIn(x - radius, y - radius, x + radius, y + radius);
+        for (int i = 0; i < buckets.size(); i++) {
+            List<Entry<T>> bucket = buckets.get(i);
+            for (int j = 0; j < bucket.size(); j++) {
+                Entry<T> entry = bucket.get(j);
+                float dx = entry.x - x;
+                float dy = entry.y - y;
+                if (dx * dx + dy * dy <= radiusSquared) {
+                    out.add(entry.item);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Finds all entities inside a box (bounds inclusive).
+     * @param out List the results are added to
+     * @return The given list
+     */
+    public List<T> queryAABB(float minX, float minY, float maxX, float maxY, List<T> out) {
+        List<List<Entry<T>>> buckets = bucketsIn(minX, minY, maxX, maxY);
+        for (int i = 0; i < buckets.size(); i++) {
+            List<Entry<T>> bucket = buckets.get(i);
+            for (int j = 0; j < bucket.size(); j++) {
+                Entry<T> entry = bucket.get(j);
+                if (entry.x >= minX && entry.x <= maxX && entry.y >= minY && entry.y <= maxY) {
+                    out.add(entry.item);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Finds the entity closest to a point within a maximum distance (inclusive).
+     * @param filter Only entities accepted by the filter are considered, may be null
+     * @return The closest entity, or null if none is in range
+     */
+    public T nearest(float x, float y, float maxDistance, Predicate<T> filter) {
+        T nearest = null;
+        float nearestDist = Float.MAX_VALUE;
+
+        List<List<Entry<T>>> buckets = bucketsIn(x - maxDistance, y - maxDistance, x + maxDistance, y + maxDistance);
+        for (int i = 0; i < buckets.size(); i++) {
+            List<Entry<T>> bucket = buckets.get(i);
+            for (int j = 0; j < bucket.size(); j++) {
+                Entry<T> entry = bucket.get(j);
+                if (filter != null && !filter.test(entry.item)) continue;
+
+                float dx = entry.x - x;
+                float dy = entry.y - y;
+                float dist = (float) Math.sqrt(dx * dx + dy * dy);
+
+                if (dist < nearestDist && dist <= maxDistance) {
+                    nearest = entry.item;
+                    nearestDist = dist;
+                }
+            }
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Finds the first entity hit by a ray, treating each entity as a circle.
+     * Walks the grid cells along the ray, so only entities near the ray are tested.
+     * @param dirX Ray direction X (does not need to be normalized)
+     * @param dirY Ray direction Y
+     * @param maxDistance Maximum ray length
+     * @param hitRadius Radius of each entity's hit circle
+     * @param filter Only entities accepted by the filter are considered, may be null
+     * @return The entity hit closest to the ray origin, or null
+     */
+    public T raycast(float originX, float originY, float dirX, float dirY, float maxDistance,
+                     float hitRadius, Predicate<T> filter) {
+        float length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (length == 0f || entries.isEmpty()) {
+            return null;
+        }
+        dirX /= length;
+        dirY /= length;
+
+        // Entities in neighbouring cells can reach into the ray's cell
+        int reach = (int) Math.ceil(hitRadius / cellSize);
+        int cellX = cellCoord(originX);
+        int cellY = cellCoord(originY);
+        int stepX = dirX > 0 ? 1 : -1;
+        int stepY = dirY > 0 ? 1 : -1;
+        float tDeltaX = dirX != 0 ? Math.abs(cellSize / dirX) : Float.POSITIVE_INFINITY;
+        float tDeltaY = dirY != 0 ? Math.abs(cellSize / dirY) : Float.POSITIVE_INFINITY;
+        float tMaxX = dirX != 0 ? ((cellX + (stepX > 0 ? 1 : 0)) * cellSize - originX) / dirX : Float.POSITIVE_INFINITY;
+        float tMaxY = dirY != 0 ? ((cellY + (stepY > 0 ? 1 : 0)) * cellSize - originY) / dirY : Float.POSITIVE_INFINITY;
+        // Once the walk is this far past the best hit, no later cell can hold a closer one
+        float margin = (reach + 1) * cellSize * 1.5f;
+
+        // Bounds of the occupied cells, so the walk stops once nothing is left ahead of the ray
+        int minCellX = Integer.MAX_VALUE, minCellY = Integer.MAX_VALUE;
+        int maxCellX = Integer.MIN_VALUE, maxCellY = Integer.MIN_VALUE;
+        LongMap.Keys keys = cells.keys();
+        while (keys.hasNext) {
+            long key = keys.next();
+            int x = (int) (key >> 32);
+            int y = (int) key;
+            minCellX = Math.min(minCellX, x);
+            maxCellX = Math.max(maxCellX, x);
+            minCellY = Math.min(minCellY, y);
+            maxCellY = Math.max(maxCellY, y);
+        }
+
+        T best = null;
+        float bestT = Float.MAX_VALUE;
+        float tEnter = 0f;
+
+        while (tEnter <= maxDistance && tEnter <= bestT + margin) {
+            if ((dirX > 0 && cellX - reach > maxCellX) || (dirX < 0 && cellX + reach < minCellX)
+                || (dirY > 0 && cellY - reach > maxCellY) || (dirY < 0 && cellY + reach < minCellY)) {
+                break;
+            }
+            for (int cx = cellX - reach; cx <= cellX + reach; cx++) {
+                for (int cy = cellY - reach; cy <= cellY + reach; cy++) {
+                    List<Entry<T>> bucket = cells.get(cellKey(cx, cy));
+                    if (bucket == null) continue;
+                    for (int i = 0; i < bucket.size(); i++) {
+                        Entry<T> entry = bucket.get(i);
+                        if (filter != null && !filter.test(entry.item)) continue;
+                        float t = intersect(originX, originY, dirX, dirY, entry.x, entry.y, hitRadius);
+                        if (t >= 0f && t <= maxDistance && t < bestT) {
+                            best = entry.item;
+                            bestT = t;
+                        }
+                    }
+                }
+            }
+
+            if (tMaxX < tMaxY) {
+                tEnter = tMaxX;
+                tMaxX += tDeltaX;
+                cellX += stepX;
+            } else {
+                tEnter = tMaxY;
+                tMaxY += tDeltaY;
+                cellY += stepY;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Distance along a normalized ray to the first point inside a circle, 0 if the origin is inside,
+     * or -1 if the ray misses.
+     */
+    private static float intersect(float ox, float oy, float dirX, float dirY,
+                                   float cx, float cy, float radius) {
+        float toX = cx - ox;
+        float toY = cy - oy;
+        float distSquared = toX * toX + toY * toY;
+        float radiusSquared = radius * radius;
+        if (distSquared <= radiusSquared) {
+            return 0f;
+        }
+        float projection = toX * dirX + toY * dirY;
+        if (projection < 0f) {
+            return -1f;
+        }
+        float perpSquared = distSquared - projection * projection;
+        if (perpSquared > radiusSquared) {
+            return -1f;
+        }
+        return projection - (float) Math.sqrt(radiusSquared - perpSquared);
+    }
+
+    /**
+     * Collects the non-empty cells overlapping a box. When the box spans more cells than are occupied
+     * (e.g. an unbounded search radius), the occupied cells are returned instead of walking the box.
+     */
+    private List<List<Entry<T>>> bucketsIn(float minX, float minY, float maxX, float maxY) {
+        double minCellX = Math.floor(minX / cellSize);
+        double minCellY = Math.floor(minY / cellSize);
+        double maxCellX = Math.floor(maxX / cellSize);
+        double maxCellY = Math.floor(maxY / cellSize);
+        double span = (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+
+        List<List<Entry<T>>> buckets = queryBuckets;
+        buckets.clear();
+        if (Double.isNaN(span) || span > cells.size) {
+            for (List<Entry<T>> bucket : cells.values()) {
+                buckets.add(bucket);
+            }
+            return buckets;
+        }
+
+        for (int cx = (int) minCellX; cx <= (int) maxCellX; cx++) {
+            for (int cy = (int) minCellY; cy <= (int) maxCellY; cy++) {
+                List<Entry<T>> bucket = cells.get(cellKey(cx, cy));
+                if (bucket != null) {
+                    buckets.add(bucket);
+                }
+            }
+        }
+        return buckets;
+    }
+
+    private void addToCell(Entry<T> entry, long cell) {
+        entry.cell = cell;
+        List<Entry<T>> bucket = cells.get(cell);
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            cells.put(cell, bucket);
+        }
+        bucket.add(entry);
+    }
+
+    private void removeFromCell(Entry<T> entry) {
+        List<Entry<T>> bucket = cells.get(entry.cell);
+        if (bucket == null) {
+            return;
+        }
+        // Order within a cell doesn't matter, so swap with the last entry for O(1) removal
+        int index = bucket.indexOf(entry);
+        if (index >= 0) {
+            int last = bucket.size() - 1;
+            bucket.set(index, bucket.get(last));
+            bucket.remove(last);
+        }
+        if (bucket.isEmpty()) {
+            cells.remove(entry.cell);
+        }
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
@@ -2,9 +2,10 @@ package io.github.inherit_this.world;
 
 import java.util.Random;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import io.github.inherit_this.util.Constants;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Chunk {
@@ -15,8 +16,15 @@ public class Chunk {
     private String biome;
     private static final TileTextureManager textureManager = TileTextureManager.getInstance();
 
-    // Cache 3D models for performance
+    // Cache 3D models for performance: all tiles of the chunk merged into one model
+    private Model cachedModel = null;
     private List<ModelInstance> cachedModels = null;
+    // CPU-side mesh data built ahead of time (e.g. on a chunk worker thread), uploaded on first use
+    private ChunkMeshBuilder preparedMesh = null;
+
+    // Vertical extent of the chunk's geometry in world units, set when the mesh is built
+    private float minHeight = 0f;
+    private float maxHeight = 0f;
 
     public Chunk(int chunkX, int chunkY, String biome) {
         this.chunkX = chunkX;
@@ -26,6 +34,14 @@ public class Chunk {
         generateTiles();
     }
 
+    /**
+     * Constructor for subclasses that supply their own tiles and skip procedural generation.
+     */
+    protected Chunk(int chunkX, int chunkY) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+    }
+
     private void generateTiles() {
         // Use chunk coordinates as seed for consistent, reproducible generation
         long seed = ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
@@ -77,11 +93,33 @@ public class Chunk {
         if (x < 0 || y < 0 || x >= Constants.CHUNK_SIZE || y >= Constants.CHUNK_SIZE) {
             throw new IndexOutOfBoundsException("Tile coords out of bounds");
         }
-        List<Tile> result = new ArrayList<>();
-        if (tiles[x][y] != null) {
-            result.add(tiles[x][y]);
+        Tile tile = getTile(x, y);
+        return tile != null ? Collections.singletonList(tile) : Collections.<Tile>emptyList();
+    }
+
+    /**
+     * Checks whether any tile layer at the specified position blocks movement.
+     * Unlike {@link #getTiles(int, int)} this never allocates, so it is safe for per-frame collision checks.
+     */
+    public boolean isSolidAt(int x, int y) {
+        Tile tile = getTile(x, y);
+        return tile != null && tile.isSolid();
+    }
+
+    /**
+     * Packs the solidity of all tiles into one bitmask, bit index localX * CHUNK_SIZE + localY.
+     * Used to build a world's {@link SolidityMap}.
+     */
+    public long getSolidityMask() {
+        long mask = 0L;
+        for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
+            for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
+                if (isSolidAt(x, y)) {
+                    mask |= 1L << (x * Constants.CHUNK_SIZE + y);
+                }
+            }
         }
-        return result;
+        return mask;
     }
 
     public int getChunkX() {
@@ -94,6 +132,7 @@ public class Chunk {
 
     /**
      * Gets cached 3D models for this chunk. Creates them if not already cached.
+     * All tile quads are merged into a single model with one part per texture.
      */
     public List<ModelInstance> getCachedModels() {
         if (cachedModels == null) {
@@ -103,50 +142,98 @@ public class Chunk {
     }
 
     /**
-     * Builds and caches all tile ModelInstances for this chunk.
+     * Bakes all tiles of this chunk into one static model.
      * This is done once per chunk instead of every frame.
      */
     private void buildCachedModels() {
-        cachedModels = new ArrayList<>();
-        TileMesh3D tileMesh = TileMesh3D.getInstance();
+        ChunkMeshBuilder builder = preparedMesh;
+        preparedMesh = null;
+        if (builder == null) {
+            builder = new ChunkMeshBuilder();
+            buildMesh(builder);
+        }
 
+        setHeightBounds(builder);
+        if (builder.isEmpty()) {
+            cachedModels = Collections.emptyList();
+            return;
+        }
+        cachedModel = builder.build();
+        cachedModels = Collections.singletonList(new ModelInstance(cachedModel));
+    }
+
+    /**
+     * Builds the CPU-side mesh data without touching GL, so it can run on a worker thread
+     * before the chunk is published. The GPU upload happens in {@link #getCachedModels()}.
+     */
+    public void prepareMesh() {
+        ChunkMeshBuilder builder = new ChunkMeshBuilder();
+        buildMesh(builder);
+        setHeightBounds(builder);
+        preparedMesh = builder;
+    }
+
+    private void setHeightBounds(ChunkMeshBuilder builder) {
+        minHeight = builder.getMinHeight();
+        maxHeight = builder.getMaxHeight();
+    }
+
+    /**
+     * Lowest world Y of the chunk's geometry (walls, roofs and upper levels included).
+     * Only valid once the mesh was built, see {@link #getCachedModels()}.
+     */
+    public float getMinHeight() {
+        return minHeight;
+    }
+
+    /**
+     * Highest world Y of the chunk's geometry.
+     */
+    public float getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * Adds this chunk's tile quads to the mesh builder. Subclasses with other tile
+     * storage or layered tiles override this.
+     */
+    protected void buildMesh(ChunkMeshBuilder builder) {
         float baseX = chunkX * Constants.CHUNK_PIXEL_SIZE;
         float baseY = chunkY * Constants.CHUNK_PIXEL_SIZE;
 
         for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
             for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
                 Tile tile = tiles[x][y];
+                if (tile == null) {
+                    continue;
+                }
                 float tileWorldX = baseX + x * Constants.TILE_SIZE;
                 float tileWorldY = baseY + y * Constants.TILE_SIZE;
 
-                ModelInstance tileInstance = tileMesh.createTileInstance(
-                    tile.getTexture(),
-                    tileWorldX,
-                    tileWorldY,
-                    0f  // z = 0 for flat terrain
-                );
-
-                cachedModels.add(tileInstance);
+                builder.addTile(tile.getTexture(), tileWorldX, tileWorldY, 0f);  // z = 0 for flat terrain
             }
         }
     }
 
     /**
      * Clears cached models. Call this if chunk tiles change.
+     * The merged mesh is rebuilt on the next call to {@link #getCachedModels()}.
      */
     public void invalidateCache() {
+        if (cachedModel != null) {
+            cachedModel.dispose();
+            cachedModel = null;
+        }
         cachedModels = null;
+        preparedMesh = null;
     }
 
     /**
      * Disposes of this chunk's resources.
-     * Clears cached models to free memory.
+     * Frees the merged chunk mesh.
      */
     public void dispose() {
-        if (cachedModels != null) {
-            cachedModels.clear();
-            cachedModels = null;
-        }
+        invalidateCache();
     }
     // reload idea
     // public void reloadChunk(int chunkX, int chunkY) {
@@ -0,0 +1,174 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+import io.github.inherit_this.util.Constants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bakes all tile quads of a chunk (ground, walls, roofs) into a few static meshes,
+ * one per tile atlas page, so a chunk renders with a handful of draw calls instead of one per tile.
+ * Quads use the same placement as the per-tile models in {@link TileMesh3D}.
+ */
+public class ChunkMeshBuilder {
+
+    /** Floats per vertex: position (3), normal (3), texture coordinates (2). */
+    private static final int VERTEX_SIZE = 8;
+    /** Short indices limit a single mesh to this many vertices. */
+    private static final int MAX_VERTICES = 65532;
+
+    private final List<QuadGroup> groups = new ArrayList<>();
+    private final Map<Texture, QuadGroup> openGroups = new HashMap<>();
+    private final TileTextureManager textureManager = TileTextureManager.getInstance();
+    private final Matrix4 transform = new Matrix4();
+    private final Vector3 tmp = new Vector3();
+    private final float[] uvs = new float[8];
+    // Vertical extent of all added quads, for culling
+    private float minHeight = Float.POSITIVE_INFINITY;
+    private float maxHeight = Float.NEGATIVE_INFINITY;
+
+    /**
+     * Adds a flat ground tile (see {@link TileMesh3D#createTileInstance}).
+     */
+    public void addTile(Texture texture, float worldX, float worldY, float worldZ) {
+        TileMesh3D.setTileTransform(transform, worldX, worldY, worldZ);
+        addQuad(texture, 0);
+    }
+
+    /**
+     * Adds an angled tile such as a roof (see {@link TileMesh3D#createAngledTileInstance}).
+     */
+    public void addAngledTile(Texture texture, float worldX, float worldY,
+                              float yOffset, float angle, int direction) {
+        TileMesh3D.setAngledTileTransform(transform, worldX, worldY, yOffset, angle, direction);
+        addQuad(texture, 0);
+    }
+
+    /**
+     * Adds a wall on a tile edge (see {@link TileMesh3D#createWallInstance}).
+     */
+    public void addWall(Texture texture, float worldX, float worldY, float yOffset, int direction,
+                        float wallHeight, boolean flipped, int textureRotation) {
+        TileMesh3D.setWallTransform(transform, worldX, worldY, yOffset, direction, wallHeight, flipped);
+        addQuad(texture, textureRotation);
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    /**
+     * Lowest world Y of any added vertex, or 0 if the builder is empty.
+     */
+    public float getMinHeight() {
+        return isEmpty() ? 0f : minHeight;
+    }
+
+    /**
+     * Highest world Y of any added vertex, or 0 if the builder is empty.
+     */
+    public float getMaxHeight() {
+        return isEmpty() ? 0f : maxHeight;
+    }
+
+    /**
+     * Creates the GPU meshes and returns a model with one part per atlas page.
+     * Must be called on the render thread. The model owns its meshes; dispose it to free them.
+     */
+    public Model build() {
+        ModelBuilder modelBuilder = new ModelBuilder();
+        TileMesh3D tileMesh = TileMesh3D.getInstance();
+        modelBuilder.begin();
+
+        for (int i = 0; i < groups.size(); i++) {
+            QuadGroup group = groups.get(i);
+            Mesh mesh = new Mesh(true, group.vertices.size / VERTEX_SIZE, group.indices.size,
+                VertexAttribute.Position(), VertexAttribute.Normal(), VertexAttribute.TexCoords(0));
+            mesh.setVertices(group.vertices.items, 0, group.vertices.size);
+            mesh.setIndices(group.indices.items, 0, group.indices.size);
+
+            modelBuilder.manage(mesh);
+            modelBuilder.part("chunk" + i, mesh, GL20.GL_TRIANGLES, 0, group.indices.size,
+                tileMesh.getMaterial(group.texture));
+        }
+
+        return modelBuilder.end();
+    }
+
+    /**
+     * Clears all quads so the builder can be reused for another chunk.
+     */
+    public void clear() {
+        groups.clear();
+        openGroups.clear();
+        minHeight = Float.POSITIVE_INFINITY;
+        maxHeight = Float.NEGATIVE_INFINITY;
+    }
+
+    private void addQuad(Texture texture, int textureRotation) {
+        // Quads are grouped by atlas page, not by tile texture
+        TextureRegion region = textureManager.getRegion(texture);
+        Texture page = region.getTexture();
+        TileMesh3D.getRegionUVs(region, textureRotation, uvs);
+
+        QuadGroup group = openGroups.get(page);
+        if (group == null || group.vertices.size / VERTEX_SIZE + 4 > MAX_VERTICES) {
+            group = new QuadGroup(page);
+            groups.add(group);
+            openGroups.put(page, group);
+        }
+
+        float halfSize = Constants.TILE_SIZE / 2f;
+        short base = (short) (group.vertices.size / VERTEX_SIZE);
+
+        // Normal of the plane (up in local space), rotated into world space
+        tmp.set(0, 1, 0).rot(transform).nor();
+        float nx = tmp.x, ny = tmp.y, nz = tmp.z;
+
+        // Same corner order as TileMesh3D's plane: bottom-left, top-left, top-right, bottom-right
+        addVertex(group, -halfSize, -halfSize, nx, ny, nz, uvs[0], uvs[1]);
+        addVertex(group, -halfSize, halfSize, nx, ny, nz, uvs[2], uvs[3]);
+        addVertex(group, halfSize, halfSize, nx, ny, nz, uvs[4], uvs[5]);
+        addVertex(group, halfSize, -halfSize, nx, ny, nz, uvs[6], uvs[7]);
+
+        // Two triangles, same winding as MeshPartBuilder.rect
+        group.indices.add(base, (short) (base + 1), (short) (base + 2));
+        group.indices.add((short) (base + 2), (short) (base + 3), base);
+    }
+
+    private void addVertex(QuadGroup group, float localX, float localZ,
+                           float nx, float ny, float nz, float u, float v) {
+        tmp.set(localX, 0, localZ).mul(transform);
+        group.vertices.add(tmp.x, tmp.y, tmp.z);
+        minHeight = Math.min(minHeight, tmp.y);
+        maxHeight = Math.max(maxHeight, tmp.y);
+        group.vertices.add(nx, ny, nz);
+        group.vertices.add(u, v);
+    }
+
+    /**
+     * Vertex and index data for all quads sharing one atlas page.
+     */
+    private static class QuadGroup {
+        final Texture texture;
+        final FloatArray vertices = new FloatArray(64 * 4 * VERTEX_SIZE);
+        final ShortArray indices = new ShortArray(64 * 6);
+
+        QuadGroup(Texture texture) {
+            this.texture = texture;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates chunks in the background so walking into new territory doesn't stall the render thread.
+ * Worker threads create the chunk tiles and build the CPU-side mesh data; the render thread then
+ * uploads a limited number of finished chunks per frame in {@link #update(Map)}.
+ */
+public class ChunkPipeline {
+
+    /**
+     * Creates a chunk's tile data. Called on worker threads, so it must not make GL calls.
+     * May return null for chunks outside the world.
+     */
+    public interface ChunkFactory {
+        Chunk createChunk(int chunkX, int chunkY);
+    }
+
+    private static final int DEFAULT_UPLOADS_PER_FRAME = 4;
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final ChunkFactory factory;
+    private final ExecutorService workers;
+    private final int uploadsPerFrame;
+
+    // Finished jobs, handed from the workers to the render thread
+    private final Queue<Result> completed = new ConcurrentLinkedQueue<>();
+    // Chunks requested but not yet published (render thread only)
+    private final Set<Long> pending = new HashSet<>();
+    private volatile boolean disposed = false;
+
+    public ChunkPipeline(ChunkFactory factory) {
+        this(factory, Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)),
+            DEFAULT_UPLOADS_PER_FRAME);
+    }
+
+    public ChunkPipeline(ChunkFactory factory, int workerCount, int uploadsPerFrame) {
+        this.factory = factory;
+        this.uploadsPerFrame = uploadsPerFrame;
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "chunk-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+
+        // Workers look up tile textures and atlas regions, which must already exist
+        TileTextureManager.getInstance().preloadAllTileTextures();
+    }
+
+    /**
+     * Schedules a chunk for background generation unless it is already pending.
+     * Must be called on the render thread.
+     */
+    public void request(int chunkX, int chunkY) {
+        if (disposed || !pending.add(pack(chunkX, chunkY))) {
+            return;
+        }
+
+        try {
+            workers.execute(() -> {
+                if (disposed) {
+                    return;
+                }
+                Chunk chunk = null;
+                Exception failure = null;
+                try {
+                    chunk = factory.createChunk(chunkX, chunkY);
+                    if (chunk != null) {
+                        chunk.prepareMesh();
+                    }
+                } catch (Exception e) {
+                    // Logged and retried synchronously on the render thread
+                    failure = e;
+                }
+                completed.add(new Result(chunkX, chunkY, chunk, failure));
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(pack(chunkX, chunkY));
+        }
+    }
+
+    /**
+     * Uploads finished chunks to the GPU and publishes them into {@code chunks}.
+     * At most {@code uploadsPerFrame} chunks are uploaded per call. Must be called on the render thread.
+     * @return Number of chunks published
+     */
+    public int update(Map<Long, Chunk> chunks) {
+        int uploaded = 0;
+        while (uploaded < uploadsPerFrame) {
+            Result result = completed.poll();
+            if (result == null) {
+                break;
+            }
+
+            long key = pack(result.chunkX, result.chunkY);
+            pending.remove(key);
+            Chunk chunk = result.chunk;
+
+            if (chunks.containsKey(key)) {
+                // Chunk was created synchronously while the job was running
+                if (chunk != null) {
+                    chunk.dispose();
+                }
+                continue;
+            }
+
+            if (result.failure != null) {
+                Gdx.app.error("ChunkPipeline", "Background generation failed for chunk ("
+                    + result.chunkX + ", " + result.chunkY + "), generating on render thread", result.failure);
+                chunk = factory.createChunk(result.chunkX, result.chunkY);
+            }
+            if (chunk == null) {
+                continue;
+            }
+
+            chunk.getCachedModels();  // GL upload of the prepared mesh
+            chunks.put(key, chunk);
+            uploaded++;
+        }
+        return uploaded;
+    }
+
+    public boolean isPending(int chunkX, int chunkY) {
+        return pending.contains(pack(chunkX, chunkY));
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops the workers and discards chunks that were never published.
+     */
+    public void dispose() {
+        disposed = true;
+        workers.shutdownNow();
+
+        Result result;
+        while ((result = completed.poll()) != null) {
+            if (result.chunk != null) {
+                result.chunk.dispose();
+            }
+        }
+        pending.clear();
+    }
+
+    private long pack(int x, int y) {
+        return (((long)x) << 32) | (y & 0xffffffffL);
+    }
+
+    private static class Result {
+        final int chunkX;
+        final int chunkY;
+        final Chunk chunk;
+        // Exception thrown by the worker, or null if the chunk was generated
+        final Exception failure;
+
+        Result(int chunkX, int chunkY, Chunk chunk, Exception failure) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.chunk = chunk;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.inherit_this.world;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the number of resident chunks within a budget.
+ * Chunks are evicted least-recently-used first, but never within a radius of the player,
+ * and are regenerated deterministically by their world when requested again.
+ */
+public class ChunkResidencyManager {
+
+    // Render radius is at most 10 chunks (21x21 visible), so this leaves room for revisits
+    public static final int DEFAULT_MAX_CHUNKS = 1024;
+    public static final int DEFAULT_KEEP_RADIUS = 12;
+
+    private final int maxChunks;
+    private final int keepRadius;
+    private int evictedCount = 0;
+
+    public ChunkResidencyManager() {
+        this(DEFAULT_MAX_CHUNKS, DEFAULT_KEEP_RADIUS);
+    }
+
+    /**
+     * @param maxChunks Maximum number of resident chunks before eviction starts
+     * @param keepRadius Chunks within this many chunks of the player are never evicted
+     */
+    public ChunkResidencyManager(int maxChunks, int keepRadius) {
+        this.maxChunks = maxChunks;
+        this.keepRadius = keepRadius;
+    }
+
+    /**
+     * Creates a chunk map in access order, so iteration visits the least recently used chunk first.
+     */
+    public static Map<Long, Chunk> createChunkMap() {
+        return new LinkedHashMap<>(256, 0.75f, true);
+    }
+
+    /**
+     * Evicts and disposes chunks until the map is within budget.
+     * @param chunks Chunk map created by {@link #createChunkMap()}
+     * @param playerChunkX Player chunk X coordinate
+     * @param playerChunkY Player chunk Y coordinate
+     * @return Number of chunks evicted
+     */
+    public int evict(Map<Long, Chunk> chunks, int playerChunkX, int playerChunkY) {
+        if (chunks.size() <= maxChunks) {
+            return 0;
+        }
+
+        int evicted = 0;
+        Iterator<Chunk> iterator = chunks.values().iterator();
+        while (chunks.size() > maxChunks && iterator.hasNext()) {
+            Chunk chunk = iterator.next();
+            int distance = Math.max(Math.abs(chunk.getChunkX() - playerChunkX),
+                                    Math.abs(chunk.getChunkY() - playerChunkY));
+            if (distance <= keepRadius) {
+                continue;
+            }
+            chunk.dispose();
+            iterator.remove();
+            evicted++;
+        }
+
+        evictedCount += evicted;
+        return evicted;
+    }
+
+    /**
+     * Evicts and disposes every chunk farther than {@code radius} chunks from the player, regardless of budget.
+     * @return Number of chunks evicted
+     */
+    public int evictBeyond(Map<Long, Chunk> chunks, int playerChunkX, int playerChunkY, int radius) {
+        int evicted = 0;
+        Iterator<Chunk> iterator = chunks.values().iterator();
+        while (iterator.hasNext()) {
+            Chunk chunk = iterator.next();
+            int distance = Math.max(Math.abs(chunk.getChunkX() - playerChunkX),
+                                    Math.abs(chunk.getChunkY() - playerChunkY));
+            if (distance > radius) {
+                chunk.dispose();
+                iterator.remove();
+                evicted++;
+            }
+        }
+
+        evictedCount += evicted;
+        return evicted;
+    }
+
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    public int getKeepRadius() {
+        return keepRadius;
+    }
+
+    /**
+     * Total number of chunks evicted since this manager was created.
+     */
+    public int getEvictedCount() {
+        return evictedCount;
+    }
+}
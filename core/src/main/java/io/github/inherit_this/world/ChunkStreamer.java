@@ -0,0 +1,143 @@
+package io.github.inherit_this.world;
+
+/**
+ * Decides which chunks of a bounded world to load as the player moves.
+ * Chunks within the load radius of the player are requested nearest first, plus a few rows
+ * ahead in the direction the player last moved. Chunks are only unloaded beyond the larger
+ * unload radius, so walking back and forth over a chunk border doesn't reload the same chunks.
+ * Radii are in chunks and measured as the larger of the X and Y distance.
+ */
+public class ChunkStreamer {
+
+    /**
+     * Starts loading a chunk. Called only for chunks inside the world bounds.
+     */
+    public interface ChunkLoader {
+        void load(int chunkX, int chunkY);
+    }
+
+    // Covers the largest render radius (10 chunks)
+    public static final int DEFAULT_LOAD_RADIUS = 10;
+    public static final int DEFAULT_UNLOAD_RADIUS = 14;
+    public static final int DEFAULT_PREFETCH_DISTANCE = 3;
+
+    private final int widthInChunks;
+    private final int heightInChunks;
+    private int loadRadius = DEFAULT_LOAD_RADIUS;
+    private int unloadRadius = DEFAULT_UNLOAD_RADIUS;
+    private int prefetchDistance = DEFAULT_PREFETCH_DISTANCE;
+
+    // Player chunk at the last update
+    private boolean hasCenter = false;
+    private int centerX;
+    private int centerY;
+    // Direction of the last chunk change, -1, 0 or 1 per axis
+    private int directionX = 0;
+    private int directionY = 0;
+
+    /**
+     * @param widthInChunks World width; chunks 0 to widthInChunks - 1 are loaded
+     * @param heightInChunks World height; chunks 0 to heightInChunks - 1 are loaded
+     */
+    public ChunkStreamer(int widthInChunks, int heightInChunks) {
+        this.widthInChunks = widthInChunks;
+        this.heightInChunks = heightInChunks;
+    }
+
+    /**
+     * Requests the chunks around the player when they enter a new chunk.
+     * @param playerChunkX Player chunk X coordinate
+     * @param playerChunkY Player chunk Y coordinate
+     * @param loader Receives the chunks to load; may be called for chunks that are already loaded
+     * @return true if the player entered a new chunk, so chunks beyond the unload radius should be unloaded
+     */
+    public boolean update(int playerChunkX, int playerChunkY, ChunkLoader loader) {
+        if (hasCenter && playerChunkX == centerX && playerChunkY == centerY) {
+            return false;
+        }
+
+        if (hasCenter) {
+            directionX = Integer.signum(playerChunkX - centerX);
+            directionY = Integer.signum(playerChunkY - centerY);
+        }
+        hasCenter = true;
+        centerX = playerChunkX;
+        centerY = playerChunkY;
+
+        for (int ring = 0; ring <= loadRadius; ring++) {
+            loadRing(ring, loader);
+        }
+        for (int distance = loadRadius + 1; distance <= loadRadius + prefetchDistance; distance++) {
+            if (directionX != 0) {
+                int x = centerX + directionX * distance;
+                for (int y = centerY - loadRadius; y <= centerY + loadRadius; y++) {
+                    load(x, y, loader);
+                }
+            }
+            if (directionY != 0) {
+                int y = centerY + directionY * distance;
+                for (int x = centerX - loadRadius; x <= centerX + loadRadius; x++) {
+                    load(x, y, loader);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Requests the chunks exactly {@code ring} chunks away from the center.
+     */
+    private void loadRing(int ring, ChunkLoader loader) {
+        if (ring == 0) {
+            load(centerX, centerY, loader);
+            return;
+        }
+        for (int x = centerX - ring; x <= centerX + ring; x++) {
+            load(x, centerY - ring, loader);
+            load(x, centerY + ring, loader);
+        }
+        for (int y = centerY - ring + 1; y <= centerY + ring - 1; y++) {
+            load(centerX - ring, y, loader);
+            load(centerX + ring, y, loader);
+        }
+    }
+
+    private void load(int chunkX, int chunkY, ChunkLoader loader) {
+        if (isInBounds(chunkX, chunkY)) {
+            loader.load(chunkX, chunkY);
+        }
+    }
+
+    public boolean isInBounds(int chunkX, int chunkY) {
+        return chunkX >= 0 && chunkX < widthInChunks && chunkY >= 0 && chunkY < heightInChunks;
+    }
+
+    /**
+     * Sets how far around the player chunks are loaded and unloaded.
+     * The unload radius must leave room for the prefetched rows, or they would be unloaded right away.
+     * @throws IllegalArgumentException if the unload radius is not larger than the load radius plus the prefetch distance
+     */
+    public void setRadii(int loadRadius, int unloadRadius, int prefetchDistance) {
+        if (loadRadius < 0 || prefetchDistance < 0 || unloadRadius <= loadRadius + prefetchDistance) {
+            throw new IllegalArgumentException("Invalid streaming radii: load " + loadRadius
+                + ", unload " + unloadRadius + ", prefetch " + prefetchDistance);
+        }
+        this.loadRadius = loadRadius;
+        this.unloadRadius = unloadRadius;
+        this.prefetchDistance = prefetchDistance;
+        // Request the new area on the next update
+        hasCenter = false;
+    }
+
+    public int getLoadRadius() {
+        return loadRadius;
+    }
+
+    public int getUnloadRadius() {
+        return unloadRadius;
+    }
+
+    public int getPrefetchDistance() {
+        return prefetchDistance;
+    }
+}
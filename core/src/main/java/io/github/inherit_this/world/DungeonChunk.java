@@ -1,9 +1,7 @@
 package io.github.inherit_this.world;
 
-import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.Texture;
 import io.github.inherit_this.util.Constants;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Special chunk type for dungeons that supports multi-layer tiles
@@ -11,14 +9,58 @@ import java.util.List;
  */
 public class DungeonChunk extends Chunk {
 
-    private final DungeonGenerator generator;
+    // Wall face mask bits: bit (1 << direction) is set for each ChunkMeshBuilder.addWall direction
+    // (0 north, 1 east, 2 south, 3 west) whose neighbour is a floor tile
+    public static final int FACE_DIRECTIONS = 4;
+    public static final int WALL = 1 << 4;
+    public static final int BORDER = 1 << 5;
+
+    private static final int[] DIRECTION_DX = {0, 1, 0, -1};
+    private static final int[] DIRECTION_DY = {1, 0, -1, 0};
+
     private final Tile[][] dungeonTiles;
-    private static final TileTextureManager textureManager = TileTextureManager.getInstance();
+    // Per tile, index localX * CHUNK_SIZE + localY; the layout never changes, so this is computed once
+    private final byte[] wallFaces = new byte[Constants.CHUNK_SIZE * Constants.CHUNK_SIZE];
 
     public DungeonChunk(int chunkX, int chunkY, Tile[][] tiles, DungeonGenerator generator) {
-        super(chunkX, chunkY, "dungeon");
-        this.generator = generator;
+        super(chunkX, chunkY);
         this.dungeonTiles = tiles;
+        computeWallFaces(generator);
+    }
+
+    /**
+     * Precomputes which faces of each wall tile are visible, so mesh builds don't query the layout.
+     */
+    private void computeWallFaces(DungeonGenerator generator) {
+        int baseTileX = getChunkX() * Constants.CHUNK_SIZE;
+        int baseTileY = getChunkY() * Constants.CHUNK_SIZE;
+        int width = generator.getWidthInTiles();
+        int height = generator.getHeightInTiles();
+
+        for (int localX = 0; localX < Constants.CHUNK_SIZE; localX++) {
+            for (int localY = 0; localY < Constants.CHUNK_SIZE; localY++) {
+                int worldTileX = baseTileX + localX;
+                int worldTileY = baseTileY + localY;
+                if (!generator.isWall(worldTileX, worldTileY)) {
+                    continue;
+                }
+
+                int mask = WALL;
+                if (generator.isBorder(worldTileX, worldTileY)) {
+                    mask |= BORDER;
+                }
+                for (int direction = 0; direction < FACE_DIRECTIONS; direction++) {
+                    int adjacentX = worldTileX + DIRECTION_DX[direction];
+                    int adjacentY = worldTileY + DIRECTION_DY[direction];
+                    // Out of bounds is the outer edge, which gets no face
+                    if (adjacentX >= 0 && adjacentX < width && adjacentY >= 0 && adjacentY < height
+                            && !generator.isWall(adjacentX, adjacentY)) {
+                        mask |= 1 << direction;
+                    }
+                }
+                wallFaces[localX * Constants.CHUNK_SIZE + localY] = (byte) mask;
+            }
+        }
     }
 
     @Override
@@ -29,128 +71,60 @@ public class DungeonChunk extends Chunk {
         return dungeonTiles[x][y];
     }
 
-    @Override
-    public List<Tile> getTiles(int x, int y) {
+    /**
+     * Gets the wall face mask of a tile: {@link #WALL}, {@link #BORDER} and one bit per visible face.
+     * 0 for floor tiles.
+     */
+    public int getWallFaces(int x, int y) {
         if (x < 0 || y < 0 || x >= Constants.CHUNK_SIZE || y >= Constants.CHUNK_SIZE) {
             throw new IndexOutOfBoundsException("Tile coords out of bounds");
         }
-        List<Tile> result = new ArrayList<>();
-        if (dungeonTiles[x][y] != null) {
-            result.add(dungeonTiles[x][y]);
-        }
-        return result;
-    }
-
-    @Override
-    public List<ModelInstance> getCachedModels() {
-        // Build models with dungeon-specific logic
-        return buildDungeonModels();
+        return wallFaces[x * Constants.CHUNK_SIZE + y];
     }
 
     /**
-     * Build 3D models for dungeon tiles including 2-tile tall borders.
+     * Build 3D geometry for dungeon tiles including 2-tile tall borders.
+     * Textures come from the chunk's tiles, so nothing is looked up by name here.
      */
-    private List<ModelInstance> buildDungeonModels() {
-        List<ModelInstance> models = new ArrayList<>();
-        TileMesh3D tileMesh = TileMesh3D.getInstance();
-
+    @Override
+    protected void buildMesh(ChunkMeshBuilder builder) {
         float baseX = getChunkX() * Constants.CHUNK_PIXEL_SIZE;
         float baseY = getChunkY() * Constants.CHUNK_PIXEL_SIZE;
 
-        int baseTileX = getChunkX() * Constants.CHUNK_SIZE;
-        int baseTileY = getChunkY() * Constants.CHUNK_SIZE;
-
         for (int localX = 0; localX < Constants.CHUNK_SIZE; localX++) {
             for (int localY = 0; localY < Constants.CHUNK_SIZE; localY++) {
-                int worldTileX = baseTileX + localX;
-                int worldTileY = baseTileY + localY;
-
                 float tileWorldX = baseX + localX * Constants.TILE_SIZE;
                 float tileWorldY = baseY + localY * Constants.TILE_SIZE;
 
-                boolean isWall = generator.isWall(worldTileX, worldTileY);
-                boolean isBorder = generator.isBorder(worldTileX, worldTileY);
-
-                if (isWall) {
-                    // Get wall texture
-                    com.badlogic.gdx.graphics.Texture wallTexture =
-                        textureManager.getTexture("tiles/wood_wall.png");
-
-                    if (isBorder) {
-                        // Create 2-tile tall border wall
-                        // Level 0 (ground level)
-                        createWallModels(models, tileMesh, wallTexture, tileWorldX, tileWorldY,
-                                       worldTileX, worldTileY, 0);
-
-                        // Level 1 (one tile up)
-                        createWallModels(models, tileMesh, wallTexture, tileWorldX, tileWorldY,
-                                       worldTileX, worldTileY, 1);
-                    } else {
-                        // Regular wall (1 tile tall)
-                        createWallModels(models, tileMesh, wallTexture, tileWorldX, tileWorldY,
-                                       worldTileX, worldTileY, 0);
+                Texture texture = dungeonTiles[localX][localY].getTexture();
+                int mask = wallFaces[localX * Constants.CHUNK_SIZE + localY];
+
+                if ((mask & WALL) != 0) {
+                    // Level 0 (ground level)
+                    addWallFaces(builder, texture, tileWorldX, tileWorldY, mask, 0);
+                    if ((mask & BORDER) != 0) {
+                        // Border walls are 2 tiles tall: level 1 (one tile up)
+                        addWallFaces(builder, texture, tileWorldX, tileWorldY, mask, 1);
                     }
                 } else {
                     // Floor tile
-                    com.badlogic.gdx.graphics.Texture floorTexture =
-                        textureManager.getTexture("tiles/stone_1.png");
-
-                    ModelInstance floorInstance = tileMesh.createTileInstance(
-                        floorTexture,
-                        tileWorldX,
-                        tileWorldY,
-                        0f
-                    );
-                    models.add(floorInstance);
+                    builder.addTile(texture, tileWorldX, tileWorldY, 0f);
                 }
             }
         }
-
-        return models;
     }
 
     /**
-     * Create wall model instances for a tile, checking all 4 directions.
+     * Add a wall face for each direction set in the tile's face mask.
      */
-    private void createWallModels(List<ModelInstance> models, TileMesh3D tileMesh,
-                                 com.badlogic.gdx.graphics.Texture texture,
-                                 float tileWorldX, float tileWorldY,
-                                 int worldTileX, int worldTileY, int level) {
-
+    private void addWallFaces(ChunkMeshBuilder builder, Texture texture,
+                              float tileWorldX, float tileWorldY, int mask, int level) {
         float wallHeight = Constants.TILE_SIZE;
         float yOffset = level * wallHeight;
 
-        // Check all 4 directions for adjacent floor tiles
-        // If there's a floor adjacent, create a wall facing that direction
-        int[][] directions = {
-            {0, 1, 0},   // North
-            {1, 0, 1},   // East
-            {0, -1, 2},  // South
-            {-1, 0, 3}   // West
-        };
-
-        for (int[] dir : directions) {
-            int dx = dir[0];
-            int dy = dir[1];
-            int direction = dir[2];
-
-            int adjacentX = worldTileX + dx;
-            int adjacentY = worldTileY + dy;
-
-            // Check if adjacent tile is floor (or out of bounds = we want walls on edges)
-            boolean createWall = false;
-
-            if (adjacentX < 0 || adjacentX >= generator.getWidthInTiles() ||
-                adjacentY < 0 || adjacentY >= generator.getHeightInTiles()) {
-                // Out of bounds - don't create wall (it's the outer edge)
-                createWall = false;
-            } else if (!generator.isWall(adjacentX, adjacentY)) {
-                // Adjacent to floor - create wall
-                createWall = true;
-            }
-
-            if (createWall) {
-                ModelInstance wallInstance = tileMesh.createWallInstance(
+        for (int direction = 0; direction < FACE_DIRECTIONS; direction++) {
+            if ((mask & (1 << direction)) != 0) {
+                builder.addWall(
                     texture,
                     tileWorldX,
                     tileWorldY,
@@ -160,7 +134,6 @@ public class DungeonChunk extends Chunk {
                     false,  // not flipped
                     0       // no texture rotation
                 );
-                models.add(wallInstance);
             }
         }
     }
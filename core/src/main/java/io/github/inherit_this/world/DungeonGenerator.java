@@ -2,139 +2,673 @@ package io.github.inherit_this.world;
 
 import io.github.inherit_this.util.Constants;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
 /**
  * Generates procedural dungeon layouts using maze and room algorithms.
  * Supports seed-based generation for reproducibility.
+ *
+ * The level is split into a grid of regions of about {@link #REGION_SIZE} tiles. Each region has its own
+ * random source, derived from the config seed and the region's position, and is filled and carved on a
+ * fork-join pool; regions write disjoint words of the layout bitset, so they never interfere. Neighbouring regions are then
+ * stitched together on the calling thread, in a fixed order and with per-edge random sources. The layout
+ * therefore only depends on the config, never on the thread count.
+ * Callers that can't afford a whole level at once can run {@link #generateStep()} once per frame instead.
  */
 public class DungeonGenerator {
 
+    private static final int[] NO_REGIONS = new int[0];
+
+    // Region edge length in tiles; large enough for several rooms
+    public static final int REGION_SIZE = 16 * Constants.CHUNK_SIZE;
+
+    // Salts keeping the random sources of regions and stitches apart
+    private static final long CARVE_SALT = 0x43415256L;
+    private static final long STITCH_SALT = 0x53544954L;
+
     private final DungeonConfig config;
-    private final Random random;
+    private final ForkJoinPool pool;
 
     // Dungeon grid in TILES (not chunks)
     private final int widthInTiles;
     private final int heightInTiles;
-    private boolean[][] walls;  // true = wall, false = floor
+    // Walls as a bitset, column by column: bit y of column x is word x * wordsPerColumn + y / 64 (set = wall).
+    // Columns start on a new word, so regions never share a word and can write it without synchronization.
+    private final int wordsPerColumn;
+    private final long[] walls;
+
+    // Carving regions, row by row
+    private Region[] regions;
+    private int regionsX;
+    private int regionsY;
 
-    // Track rooms for open dungeons
-    private List<Room> rooms;
+    // Maze cells visited by the backtracker (maze styles only)
+    private boolean[][] visited;
 
+    // Connected floor regions visible in each chunk (floor tiles and wall faces), indexed by chunkX * heightInChunks + chunkY.
+    // Chunks of solid wall mass have none.
+    private int[][] chunkRegions;
+    private int regionCount;
+
+    // Generation progress, see generateStep(); index of the next region to carve or label
+    private Stage stage = Stage.REGIONS;
+    private int stageIndex;
+    // Set from any thread to stop generating, see cancel()
+    private volatile boolean cancelled;
+
+    /**
+     * Generates on the common fork-join pool.
+     */
     public DungeonGenerator(DungeonConfig config) {
+        this(config, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Pool regions are carved and labelled on
+     */
+    public DungeonGenerator(DungeonConfig config, ForkJoinPool pool) {
         this.config = config;
-        this.random = new Random(config.getSeed());
+        this.pool = pool;
         this.widthInTiles = config.getWidthInChunks() * Constants.CHUNK_SIZE;
         this.heightInTiles = config.getHeightInChunks() * Constants.CHUNK_SIZE;
-        this.walls = new boolean[widthInTiles][heightInTiles];
-        this.rooms = new ArrayList<>();
+        this.wordsPerColumn = (heightInTiles + 63) >>> 6;
+        this.walls = new long[widthInTiles * wordsPerColumn];
     }
 
     /**
-     * Generate the dungeon layout.
+     * Generate the dungeon layout, or the rest of it if {@link #generateStep()} already did part of the work.
+     * Regions are carved and labelled in parallel on the generator's pool.
      */
     public void generate() {
-        // Start with all walls
-        fillWithWalls();
+        if (stage == Stage.REGIONS && !cancelled) {
+            createRegions(true);
+            startStage(Stage.CARVE);
+        }
+        if (stage == Stage.CARVE && !cancelled) {
+            pool.invoke(new RangeTask(stageIndex, regions.length, index -> {
+                if (!cancelled) carveRegion(regions[index]);
+            }));
+            if (!cancelled) startStage(Stage.STITCH);
+        }
+        if (stage == Stage.STITCH && !cancelled) {
+            stitchRegions();
+            startStage(Stage.LABEL);
+        }
+        if (stage == Stage.LABEL && !cancelled) {
+            pool.invoke(new RangeTask(stageIndex, regions.length, index -> {
+                if (!cancelled) labelRegion(regions[index]);
+            }));
+            if (!cancelled) startStage(Stage.CONNECT);
+        }
+        if (stage == Stage.CONNECT && !cancelled) {
+            connectRegions();
+            startStage(Stage.DONE);
+        }
+    }
 
-        // Generate based on style
-        if (config.getStyle() == DungeonConfig.DungeonStyle.OPEN) {
-            generateRoomBased();
-        } else {
-            generateMazeBased();
+    /**
+     * Does the next slice of generation on the calling thread: one region's carving or labelling, or one of the
+     * passes joining them. Lets callers spread generation over several frames; the layout is the same as
+     * {@link #generate()}'s.
+     * @return true once the layout is complete; never true after {@link #cancel()}
+     */
+    public boolean generateStep() {
+        if (cancelled) {
+            return false;
+        }
+        switch (stage) {
+            case REGIONS:
+                createRegions(true);
+                startStage(Stage.CARVE);
+                break;
+            case CARVE:
+                carveRegion(regions[stageIndex++]);
+                if (stageIndex == regions.length) {
+                    startStage(Stage.STITCH);
+                }
+                break;
+            case STITCH:
+                stitchRegions();
+                startStage(Stage.LABEL);
+                break;
+            case LABEL:
+                labelRegion(regions[stageIndex++]);
+                if (stageIndex == regions.length) {
+                    startStage(Stage.CONNECT);
+                }
+                break;
+            case CONNECT:
+                connectRegions();
+                startStage(Stage.DONE);
+                break;
+            case DONE:
+                break;
         }
+        return stage == Stage.DONE;
+    }
+
+    /**
+     * Whether the layout is complete.
+     */
+    public boolean isGenerated() {
+        return stage == Stage.DONE;
+    }
+
+    /**
+     * Stops generation at the next region, e.g. when a level built in the background is no longer wanted.
+     * May be called from any thread. The layout is left incomplete and can't be finished.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void startStage(Stage next) {
+        stage = next;
+        stageIndex = 0;
+    }
+
+    /**
+     * Connects neighbouring regions, then adds the border walls.
+     */
+    private void stitchRegions() {
+        boolean open = config.getStyle() == DungeonConfig.DungeonStyle.OPEN;
+        for (int regionY = 0; regionY < regionsY; regionY++) {
+            for (int regionX = 0; regionX < regionsX; regionX++) {
+                Region region = regions[regionY * regionsX + regionX];
+                if (regionX + 1 < regionsX) {
+                    Region right = regions[regionY * regionsX + regionX + 1];
+                    if (open) stitchRooms(region, right, true); else stitchMaze(region, right, true);
+                }
+                if (regionY + 1 < regionsY) {
+                    Region top = regions[(regionY + 1) * regionsX + regionX];
+                    if (open) stitchRooms(region, top, false); else stitchMaze(region, top, false);
+                }
+            }
+        }
+
+        // Only needed while carving
+        visited = null;
 
         // Add 2-tile tall border walls
         createBorder();
     }
 
     /**
-     * Fill entire grid with walls.
+     * Compresses the layout for storage while the level is inactive; see {@link #fromCompressedLayout}.
      */
-    private void fillWithWalls() {
-        for (int x = 0; x < widthInTiles; x++) {
-            for (int y = 0; y < heightInTiles; y++) {
-                walls[x][y] = true;
+    public byte[] compressLayout() {
+        return LayoutCodec.encode(walls, wordsPerColumn, heightInTiles);
+    }
+
+    /**
+     * Recreates a generated dungeon from {@link #compressLayout()} output, without generating it again.
+     * Finds its floor regions on the common fork-join pool.
+     * @param config Config the layout was generated with
+     */
+    public static DungeonGenerator fromCompressedLayout(DungeonConfig config, byte[] layout) {
+        return fromCompressedLayout(config, layout, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recreates a generated dungeon from {@link #compressLayout()} output, without generating it again.
+     * @param config Config the layout was generated with
+     * @param pool Pool the floor regions are found on
+     */
+    public static DungeonGenerator fromCompressedLayout(DungeonConfig config, byte[] layout, ForkJoinPool pool) {
+        DungeonGenerator generator = new DungeonGenerator(config, pool);
+        LayoutCodec.decode(layout, generator.walls, generator.wordsPerColumn, generator.heightInTiles);
+        generator.createRegions(false);
+        // Only the floor regions are left to find
+        generator.startStage(Stage.LABEL);
+        generator.generate();
+        return generator;
+    }
+
+    /**
+     * @param carve Whether the regions will be carved; restored layouts only label them
+     */
+    private void createRegions(boolean carve) {
+        if (config.getStyle() == DungeonConfig.DungeonStyle.OPEN) {
+            createRoomRegions();
+        } else {
+            createMazeRegions(carve);
+        }
+    }
+
+    /**
+     * Labels the floor areas of one carving region and records which of them each chunk part in the region shows.
+     * A chunk shows an area if it has a floor tile of it, or a wall tile facing one of its floor tiles.
+     * Tile labels only live while the region is labelled; just the labels along its edges are kept,
+     * for {@link #connectRegions()}.
+     */
+    private void labelRegion(Region region) {
+        int width = region.maxX - region.minX;
+        int height = region.maxY - region.minY;
+        int[] labels = new int[width * height];  // area by local tile x * height + y, numbered from 1; 0 = wall
+        int[] stack = new int[width * height];
+        int areas = 0;
+        for (int startX = 0; startX < width; startX++) {
+            for (int startY = 0; startY < height; startY++) {
+                int start = startX * height + startY;
+                if (labels[start] != 0 || wall(region.minX + startX, region.minY + startY)) continue;
+
+                int label = ++areas;
+                int size = 0;
+                labels[start] = label;
+                stack[size++] = start;
+                while (size > 0) {
+                    int index = stack[--size];
+                    int x = index / height;
+                    int y = index % height;
+                    size = pushFloor(region, labels, stack, size, x + 1, y, label);
+                    size = pushFloor(region, labels, stack, size, x - 1, y, label);
+                    size = pushFloor(region, labels, stack, size, x, y + 1, label);
+                    size = pushFloor(region, labels, stack, size, x, y - 1, label);
+                }
             }
         }
+        region.areaCount = areas;
+
+        region.leftEdge = Arrays.copyOfRange(labels, 0, height);
+        region.rightEdge = Arrays.copyOfRange(labels, (width - 1) * height, width * height);
+        region.bottomEdge = new int[width];
+        region.topEdge = new int[width];
+        for (int x = 0; x < width; x++) {
+            region.bottomEdge[x] = labels[x * height];
+            region.topEdge[x] = labels[x * height + height - 1];
+        }
+
+        findChunkAreas(region, labels);
+    }
+
+    /**
+     * Floods a tile in region-local coordinates if it is unlabelled floor inside the region.
+     */
+    private int pushFloor(Region region, int[] labels, int[] stack, int size, int x, int y, int label) {
+        int height = region.maxY - region.minY;
+        if (x < 0 || y < 0 || x >= region.maxX - region.minX || y >= height
+            || wall(region.minX + x, region.minY + y)) {
+            return size;
+        }
+        int index = x * height + y;
+        if (labels[index] != 0) {
+            return size;
+        }
+        labels[index] = label;
+        stack[size] = index;
+        return size + 1;
     }
 
     /**
-     * Generate using recursive backtracker maze algorithm.
-     * Good for NARROW/WINDING dungeons.
+     * Records the areas shown by the part of each chunk inside a region. Wall faces toward floor in
+     * neighbouring regions are added by {@link #connectRegions()}.
+     */
+    private void findChunkAreas(Region region, int[] labels) {
+        int width = region.maxX - region.minX;
+        int height = region.maxY - region.minY;
+        region.minChunkX = region.minX / Constants.CHUNK_SIZE;
+        region.minChunkY = region.minY / Constants.CHUNK_SIZE;
+        int chunksX = (region.maxX - 1) / Constants.CHUNK_SIZE - region.minChunkX + 1;
+        region.chunksY = (region.maxY - 1) / Constants.CHUNK_SIZE - region.minChunkY + 1;
+        region.chunkAreas = new int[chunksX * region.chunksY][];
+
+        // Large enough for every floor tile in and around a chunk
+        int[] found = new int[(Constants.CHUNK_SIZE + 2) * (Constants.CHUNK_SIZE + 2)];
+        for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+            int fromX = Math.max(0, (region.minChunkX + chunkX) * Constants.CHUNK_SIZE - region.minX);
+            int toX = Math.min(width, (region.minChunkX + chunkX + 1) * Constants.CHUNK_SIZE - region.minX);
+            for (int chunkY = 0; chunkY < region.chunksY; chunkY++) {
+                int fromY = Math.max(0, (region.minChunkY + chunkY) * Constants.CHUNK_SIZE - region.minY);
+                int toY = Math.min(height, (region.minChunkY + chunkY + 1) * Constants.CHUNK_SIZE - region.minY);
+                int count = 0;
+                for (int x = fromX; x < toX; x++) {
+                    for (int y = fromY; y < toY; y++) {
+                        int label = labels[x * height + y];
+                        if (label != 0) {
+                            count = addRegion(found, count, label);
+                            continue;
+                        }
+                        // Wall faces show the floor next to them
+                        for (int dir = 0; dir < 4; dir++) {
+                            int nx = x + (dir == 0 ? 1 : dir == 1 ? -1 : 0);
+                            int ny = y + (dir == 2 ? 1 : dir == 3 ? -1 : 0);
+                            if (nx < 0 || ny < 0 || nx >= width || ny >= height || labels[nx * height + ny] == 0) continue;
+                            count = addRegion(found, count, labels[nx * height + ny]);
+                        }
+                    }
+                }
+                region.chunkAreas[chunkX * region.chunksY + chunkY] = Arrays.copyOf(found, count);
+            }
+        }
+    }
+
+    /**
+     * Merges floor areas touching across region edges and records which regions each chunk shows.
+     * Areas are numbered region by region and always merge into the lower number, so the result doesn't
+     * depend on the order regions were labelled in.
+     */
+    private void connectRegions() {
+        int areaCount = 0;
+        for (Region region : regions) {
+            region.areaBase = areaCount;
+            areaCount += region.areaCount;
+        }
+        int[] parent = new int[areaCount];
+        for (int area = 0; area < areaCount; area++) {
+            parent[area] = area;
+        }
+
+        for (int regionY = 0; regionY < regionsY; regionY++) {
+            for (int regionX = 0; regionX < regionsX; regionX++) {
+                Region region = regions[regionY * regionsX + regionX];
+                if (regionX + 1 < regionsX) {
+                    connectEdge(region, regions[regionY * regionsX + regionX + 1], true, parent, false);
+                }
+                if (regionY + 1 < regionsY) {
+                    connectEdge(region, regions[(regionY + 1) * regionsX + regionX], false, parent, false);
+                }
+            }
+        }
+
+        // Areas only ever merge into lower numbers, so one pass in order points every area at its root
+        regionCount = 0;
+        for (int area = 0; area < areaCount; area++) {
+            if (parent[area] == area) {
+                regionCount++;
+            } else {
+                parent[area] = parent[parent[area]];
+            }
+        }
+
+        chunkRegions = new int[config.getWidthInChunks() * config.getHeightInChunks()][];
+        Arrays.fill(chunkRegions, NO_REGIONS);
+        for (Region region : regions) {
+            for (int i = 0; i < region.chunkAreas.length; i++) {
+                int chunkX = region.minChunkX + i / region.chunksY;
+                int chunkY = region.minChunkY + i % region.chunksY;
+                for (int area : region.chunkAreas[i]) {
+                    addChunkRegion(chunkX, chunkY, parent[region.areaBase + area - 1]);
+                }
+            }
+        }
+        for (int regionY = 0; regionY < regionsY; regionY++) {
+            for (int regionX = 0; regionX < regionsX; regionX++) {
+                Region region = regions[regionY * regionsX + regionX];
+                if (regionX + 1 < regionsX) {
+                    connectEdge(region, regions[regionY * regionsX + regionX + 1], true, parent, true);
+                }
+                if (regionY + 1 < regionsY) {
+                    connectEdge(region, regions[(regionY + 1) * regionsX + regionX], false, parent, true);
+                }
+            }
+        }
+
+        // Only needed while labelling
+        for (Region region : regions) {
+            region.clearLabels();
+        }
+    }
+
+    /**
+     * Walks the edge between two neighbouring regions. Merges the areas of floor tiles facing each other,
+     * or, once areas are merged, adds the areas that wall tiles on one side face on the other to their chunks.
+     * @param horizontal true if {@code next} is right of {@code region}, false if above it
+     */
+    private void connectEdge(Region region, Region next, boolean horizontal, int[] parent, boolean addFaces) {
+        int[] edge = horizontal ? region.rightEdge : region.topEdge;
+        int[] nextEdge = horizontal ? next.leftEdge : next.bottomEdge;
+        int start = horizontal ? region.minY : region.minX;
+        for (int i = 0; i < edge.length; i++) {
+            int area = edge[i];
+            int nextArea = nextEdge[i];
+            if (area != 0 && nextArea != 0) {
+                if (!addFaces) {
+                    mergeAreas(parent, region.areaBase + area - 1, next.areaBase + nextArea - 1);
+                }
+            } else if (addFaces && area != nextArea) {
+                // The wall tile on one side faces the floor on the other
+                int along = start + i;
+                if (area == 0) {
+                    int x = horizontal ? region.maxX - 1 : along;
+                    int y = horizontal ? along : region.maxY - 1;
+                    addChunkRegion(x / Constants.CHUNK_SIZE, y / Constants.CHUNK_SIZE, parent[next.areaBase + nextArea - 1]);
+                } else {
+                    int x = horizontal ? next.minX : along;
+                    int y = horizontal ? along : next.minY;
+                    addChunkRegion(x / Constants.CHUNK_SIZE, y / Constants.CHUNK_SIZE, parent[region.areaBase + area - 1]);
+                }
+            }
+        }
+    }
+
+    private static void mergeAreas(int[] parent, int area1, int area2) {
+        int root1 = findRoot(parent, area1);
+        int root2 = findRoot(parent, area2);
+        if (root1 < root2) {
+            parent[root2] = root1;
+        } else if (root2 < root1) {
+            parent[root1] = root2;
+        }
+    }
+
+    private static int findRoot(int[] parent, int area) {
+        while (parent[area] != area) {
+            parent[area] = parent[parent[area]];
+            area = parent[area];
+        }
+        return area;
+    }
+
+    /**
+     * Adds a region to a chunk's region list unless it is already there.
+     */
+    private void addChunkRegion(int chunkX, int chunkY, int region) {
+        int index = chunkX * config.getHeightInChunks() + chunkY;
+        int[] shown = chunkRegions[index];
+        for (int existing : shown) {
+            if (existing == region) return;
+        }
+        shown = Arrays.copyOf(shown, shown.length + 1);
+        shown[shown.length - 1] = region;
+        chunkRegions[index] = shown;
+    }
+
+    /**
+     * Appends an area label to the first {@code count} entries of a scratch array unless it is
+     * already among them. A chunk usually shows one or two areas, so the entries are searched linearly.
+     * @return The new number of entries
+     */
+    private static int addRegion(int[] found, int count, int region) {
+        for (int i = 0; i < count; i++) {
+            if (found[i] == region) return count;
+        }
+        found[count] = region;
+        return count + 1;
+    }
+
+    /**
+     * Splits the tile grid into room regions. The last row and column take the remainder, so no region
+     * is smaller than {@link #REGION_SIZE} unless the whole dungeon is.
+     */
+    private void createRoomRegions() {
+        regionsX = Math.max(1, widthInTiles / REGION_SIZE);
+        regionsY = Math.max(1, heightInTiles / REGION_SIZE);
+        regions = new Region[regionsX * regionsY];
+        for (int regionY = 0; regionY < regionsY; regionY++) {
+            for (int regionX = 0; regionX < regionsX; regionX++) {
+                Region region = new Region(regionX, regionY);
+                region.minX = regionX * REGION_SIZE;
+                region.minY = regionY * REGION_SIZE;
+                region.maxX = regionX == regionsX - 1 ? widthInTiles : region.minX + REGION_SIZE;
+                region.maxY = regionY == regionsY - 1 ? heightInTiles : region.minY + REGION_SIZE;
+                regions[regionY * regionsX + regionX] = region;
+            }
+        }
+    }
+
+    /**
+     * Splits the maze cell grid into regions. Each region owns whole cells, and its tiles are the tiles of
+     * its cells plus the wall line before them; the outer regions also own the border and the leftover
+     * tiles past the last cell. Regions are a multiple of 64 cells, so their tile bounds are word aligned.
      */
-    private void generateMazeBased() {
+    private void createMazeRegions(boolean carve) {
         int cellSize = config.getCorridorWidth() + 1;  // Cell size in tiles
         int mazeWidth = (widthInTiles - 2) / cellSize;  // -2 for border
         int mazeHeight = (heightInTiles - 2) / cellSize;
+        int cellsPerRegion = Math.max(1, REGION_SIZE / (64 * cellSize)) * 64;
+        if (carve) {
+            visited = new boolean[Math.max(0, mazeWidth)][Math.max(0, mazeHeight)];
+        }
 
-        boolean[][] visited = new boolean[mazeWidth][mazeHeight];
-        Stack<int[]> stack = new Stack<>();
+        regionsX = Math.max(1, mazeWidth / cellsPerRegion);
+        regionsY = Math.max(1, mazeHeight / cellsPerRegion);
+        regions = new Region[regionsX * regionsY];
+        for (int regionY = 0; regionY < regionsY; regionY++) {
+            for (int regionX = 0; regionX < regionsX; regionX++) {
+                Region region = new Region(regionX, regionY);
+                region.minCellX = regionX * cellsPerRegion;
+                region.minCellY = regionY * cellsPerRegion;
+                region.maxCellX = regionX == regionsX - 1 ? Math.max(0, mazeWidth) : region.minCellX + cellsPerRegion;
+                region.maxCellY = regionY == regionsY - 1 ? Math.max(0, mazeHeight) : region.minCellY + cellsPerRegion;
+                region.minX = regionX == 0 ? 0 : region.minCellX * cellSize;
+                region.minY = regionY == 0 ? 0 : region.minCellY * cellSize;
+                region.maxX = regionX == regionsX - 1 ? widthInTiles : region.maxCellX * cellSize;
+                region.maxY = regionY == regionsY - 1 ? heightInTiles : region.maxCellY * cellSize;
+                regions[regionY * regionsX + regionX] = region;
+            }
+        }
+    }
+
+    /**
+     * Fills a region with walls and carves it. Runs on pool threads, touching only the region's tiles and cells.
+     */
+    private void carveRegion(Region region) {
+        for (int x = region.minX; x < region.maxX; x++) {
+            fillWalls(x, region.minY, region.maxY);
+        }
+
+        Random random = new Random(seedFor(CARVE_SALT, region.regionX, region.regionY));
+        if (config.getStyle() == DungeonConfig.DungeonStyle.OPEN) {
+            generateRoomBased(region, random);
+        } else {
+            generateMazeBased(region, random);
+        }
+    }
+
+    /**
+     * Derives the seed of a region or stitch from the config seed (SplitMix64 finalizer).
+     */
+    private long seedFor(long salt, int a, int b) {
+        long z = config.getSeed() ^ salt * 0x9E3779B97F4A7C15L;
+        z += (((long) a) << 32) | (b & 0xffffffffL);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Generate a region using recursive backtracker maze algorithm.
+     * Good for NARROW/WINDING dungeons.
+     */
+    private void generateMazeBased(Region region, Random random) {
+        int cellSize = config.getCorridorWidth() + 1;
+        int regionWidth = region.maxCellX - region.minCellX;
+        int regionHeight = region.maxCellY - region.minCellY;
+        if (regionWidth <= 0 || regionHeight <= 0) {
+            return;
+        }
+
+        // Every cell is pushed once; cells are stored as x * mazeHeight + y
+        int mazeHeight = visited[0].length;
+        int[] stack = new int[regionWidth * regionHeight];
+        int[] neighbors = new int[4];
+        int size = 0;
 
         // Start at random position
-        int startX = random.nextInt(mazeWidth);
-        int startY = random.nextInt(mazeHeight);
-        stack.push(new int[]{startX, startY});
+        int startX = region.minCellX + random.nextInt(regionWidth);
+        int startY = region.minCellY + random.nextInt(regionHeight);
+        stack[size++] = startX * mazeHeight + startY;
         visited[startX][startY] = true;
 
         // Carve starting cell
         carveMazeCell(startX, startY, cellSize);
 
         // Recursive backtracker
-        while (!stack.isEmpty()) {
-            int[] current = stack.peek();
-            int x = current[0];
-            int y = current[1];
+        while (size > 0) {
+            int current = stack[size - 1];
+            int x = current / mazeHeight;
+            int y = current % mazeHeight;
 
-            // Get unvisited neighbors
-            List<int[]> neighbors = getUnvisitedNeighbors(x, y, mazeWidth, mazeHeight, visited);
+            // Get unvisited neighbors: North, East, South, West
+            int count = 0;
+            if (y - 1 >= region.minCellY && !visited[x][y - 1]) neighbors[count++] = current - 1;
+            if (x + 1 < region.maxCellX && !visited[x + 1][y]) neighbors[count++] = current + mazeHeight;
+            if (y + 1 < region.maxCellY && !visited[x][y + 1]) neighbors[count++] = current + 1;
+            if (x - 1 >= region.minCellX && !visited[x - 1][y]) neighbors[count++] = current - mazeHeight;
 
-            if (neighbors.isEmpty()) {
-                stack.pop();
+            if (count == 0) {
+                size--;
             } else {
                 // Choose random neighbor
-                int[] next = neighbors.get(random.nextInt(neighbors.size()));
-                int nx = next[0];
-                int ny = next[1];
+                int next = neighbors[random.nextInt(count)];
+                int nx = next / mazeHeight;
+                int ny = next % mazeHeight;
 
                 // Carve path between current and next
                 carvePathBetween(x, y, nx, ny, cellSize);
                 carveMazeCell(nx, ny, cellSize);
 
                 visited[nx][ny] = true;
-                stack.push(next);
+                stack[size++] = next;
             }
         }
 
         // Occasionally carve extra connections for less linear paths
         if (config.getLayout() == DungeonConfig.DungeonLayout.WINDING) {
-            addExtraConnections(mazeWidth, mazeHeight, cellSize, visited);
+            addExtraConnections(region, cellSize, random);
         }
     }
 
     /**
-     * Generate using room placement and corridor connections.
+     * Generate a region using room placement and corridor connections.
      * Good for OPEN dungeons.
      */
-    private void generateRoomBased() {
-        int numRooms = (int)(widthInTiles * heightInTiles * config.getRoomDensity() / 1000);
+    private void generateRoomBased(Region region, Random random) {
+        int regionWidth = region.maxX - region.minX;
+        int regionHeight = region.maxY - region.minY;
+        // Rooms keep 2 tiles from the region edges, so corridors between them stay inside
+        int maxWidth = Math.min(config.getRoomMaxSize(), regionWidth - 5);
+        int maxHeight = Math.min(config.getRoomMaxSize(), regionHeight - 5);
+        int minWidth = Math.min(config.getRoomMinSize(), maxWidth);
+        int minHeight = Math.min(config.getRoomMinSize(), maxHeight);
+        if (minWidth < 1 || minHeight < 1) {
+            return;
+        }
+
+        // At least one room, so the region can be stitched to its neighbours
+        int numRooms = Math.max(1, (int)(regionWidth * regionHeight * config.getRoomDensity() / 1000));
         int attempts = 0;
         int maxAttempts = numRooms * 10;
 
-        while (rooms.size() < numRooms && attempts < maxAttempts) {
+        while (region.rooms.size() < numRooms && attempts < maxAttempts) {
             attempts++;
 
-            int roomWidth = random.nextInt(config.getRoomMaxSize() - config.getRoomMinSize() + 1)
-                          + config.getRoomMinSize();
-            int roomHeight = random.nextInt(config.getRoomMaxSize() - config.getRoomMinSize() + 1)
-                           + config.getRoomMinSize();
-            int roomX = random.nextInt(widthInTiles - roomWidth - 4) + 2;  // -4 and +2 for border
-            int roomY = random.nextInt(heightInTiles - roomHeight - 4) + 2;
+            int roomWidth = random.nextInt(maxWidth - minWidth + 1) + minWidth;
+            int roomHeight = random.nextInt(maxHeight - minHeight + 1) + minHeight;
+            int roomX = region.minX + random.nextInt(regionWidth - roomWidth - 4) + 2;
+            int roomY = region.minY + random.nextInt(regionHeight - roomHeight - 4) + 2;
 
             Room newRoom = new Room(roomX, roomY, roomWidth, roomHeight);
 
             // Check if room overlaps with existing rooms
             boolean overlaps = false;
-            for (Room room : rooms) {
+            for (Room room : region.rooms) {
                 if (newRoom.intersects(room)) {
                     overlaps = true;
                     break;
@@ -145,12 +679,64 @@ public class DungeonGenerator {
                 carveRoom(newRoom);
 
                 // Connect to previous room with corridor
-                if (!rooms.isEmpty()) {
-                    Room prevRoom = rooms.get(rooms.size() - 1);
-                    connectRooms(prevRoom, newRoom);
+                if (!region.rooms.isEmpty()) {
+                    Room prevRoom = region.rooms.get(region.rooms.size() - 1);
+                    connectRooms(prevRoom, newRoom, random);
                 }
 
-                rooms.add(newRoom);
+                region.rooms.add(newRoom);
+            }
+        }
+    }
+
+    /**
+     * Connects the rooms of two neighbouring regions that are closest to their shared edge.
+     * @param horizontal true if {@code next} is right of {@code region}, false if above it
+     */
+    private void stitchRooms(Region region, Region next, boolean horizontal) {
+        if (region.rooms.isEmpty() || next.rooms.isEmpty()) {
+            return;
+        }
+        Room from = region.rooms.get(0);
+        for (Room room : region.rooms) {
+            if (horizontal ? room.centerX() > from.centerX() : room.centerY() > from.centerY()) {
+                from = room;
+            }
+        }
+        Room to = next.rooms.get(0);
+        for (Room room : next.rooms) {
+            if (horizontal ? room.centerX() < to.centerX() : room.centerY() < to.centerY()) {
+                to = room;
+            }
+        }
+        connectRooms(from, to, new Random(seedFor(STITCH_SALT, region.regionX * 2 + (horizontal ? 0 : 1), region.regionY)));
+    }
+
+    /**
+     * Opens passages between the edge cells of two neighbouring maze regions.
+     * Winding mazes get extra passages at the same rate as {@link #addExtraConnections}.
+     * @param horizontal true if {@code next} is right of {@code region}, false if above it
+     */
+    private void stitchMaze(Region region, Region next, boolean horizontal) {
+        int cellSize = config.getCorridorWidth() + 1;
+        int min = horizontal ? region.minCellY : region.minCellX;
+        int span = (horizontal ? region.maxCellY : region.maxCellX) - min;
+        int edge = (horizontal ? region.maxCellX : region.maxCellY) - 1;
+        if (span <= 0 || edge < 0 || (horizontal ? next.maxCellX <= next.minCellX : next.maxCellY <= next.minCellY)) {
+            return;
+        }
+
+        Random random = new Random(seedFor(STITCH_SALT, region.regionX * 2 + (horizontal ? 0 : 1), region.regionY));
+        int passages = 1;
+        if (config.getLayout() == DungeonConfig.DungeonLayout.WINDING) {
+            passages += span / 20;
+        }
+        for (int i = 0; i < passages; i++) {
+            int along = min + random.nextInt(span);
+            if (horizontal) {
+                carvePathBetween(edge, along, edge + 1, along, cellSize);
+            } else {
+                carvePathBetween(along, edge, along, edge + 1, cellSize);
             }
         }
     }
@@ -167,7 +753,7 @@ public class DungeonGenerator {
                 int x = tileX + dx;
                 int y = tileY + dy;
                 if (x < widthInTiles - 1 && y < heightInTiles - 1) {
-                    walls[x][y] = false;
+                    clearWall(x, y);
                 }
             }
         }
@@ -190,42 +776,26 @@ public class DungeonGenerator {
         for (int x = startX; x < endX; x++) {
             for (int y = startY; y < endY; y++) {
                 if (x >= 0 && x < widthInTiles && y >= 0 && y < heightInTiles) {
-                    walls[x][y] = false;
+                    clearWall(x, y);
                 }
             }
         }
     }
 
     /**
-     * Get unvisited neighbors of a maze cell.
+     * Add extra connections within a region for more complex mazes.
      */
-    private List<int[]> getUnvisitedNeighbors(int x, int y, int width, int height, boolean[][] visited) {
-        List<int[]> neighbors = new ArrayList<>();
-
-        // North, East, South, West
-        int[][] dirs = {{0, -1}, {1, 0}, {0, 1}, {-1, 0}};
-
-        for (int[] dir : dirs) {
-            int nx = x + dir[0];
-            int ny = y + dir[1];
-
-            if (nx >= 0 && nx < width && ny >= 0 && ny < height && !visited[nx][ny]) {
-                neighbors.add(new int[]{nx, ny});
-            }
+    private void addExtraConnections(Region region, int cellSize, Random random) {
+        int regionWidth = region.maxCellX - region.minCellX;
+        int regionHeight = region.maxCellY - region.minCellY;
+        if (regionWidth < 2 || regionHeight < 2) {
+            return;
         }
-
-        return neighbors;
-    }
-
-    /**
-     * Add extra connections for more complex mazes.
-     */
-    private void addExtraConnections(int mazeWidth, int mazeHeight, int cellSize, boolean[][] visited) {
-        int numConnections = mazeWidth * mazeHeight / 20;
+        int numConnections = regionWidth * regionHeight / 20;
 
         for (int i = 0; i < numConnections; i++) {
-            int x = random.nextInt(mazeWidth - 1);
-            int y = random.nextInt(mazeHeight - 1);
+            int x = region.minCellX + random.nextInt(regionWidth - 1);
+            int y = region.minCellY + random.nextInt(regionHeight - 1);
 
             if (visited[x][y] && visited[x + 1][y]) {
                 carvePathBetween(x, y, x + 1, y, cellSize);
@@ -243,7 +813,7 @@ public class DungeonGenerator {
         for (int x = room.x; x < room.x + room.width; x++) {
             for (int y = room.y; y < room.y + room.height; y++) {
                 if (x >= 1 && x < widthInTiles - 1 && y >= 1 && y < heightInTiles - 1) {
-                    walls[x][y] = false;
+                    clearWall(x, y);
                 }
             }
         }
@@ -252,7 +822,7 @@ public class DungeonGenerator {
     /**
      * Connect two rooms with a corridor.
      */
-    private void connectRooms(Room room1, Room room2) {
+    private void connectRooms(Room room1, Room room2, Random random) {
         int x1 = room1.centerX();
         int y1 = room1.centerY();
         int x2 = room2.centerX();
@@ -278,7 +848,7 @@ public class DungeonGenerator {
             for (int dy = 0; dy < config.getCorridorWidth(); dy++) {
                 int corridorY = y + dy - config.getCorridorWidth() / 2;
                 if (x >= 1 && x < widthInTiles - 1 && corridorY >= 1 && corridorY < heightInTiles - 1) {
-                    walls[x][corridorY] = false;
+                    clearWall(x, corridorY);
                 }
             }
         }
@@ -292,7 +862,7 @@ public class DungeonGenerator {
             for (int dx = 0; dx < config.getCorridorWidth(); dx++) {
                 int corridorX = x + dx - config.getCorridorWidth() / 2;
                 if (corridorX >= 1 && corridorX < widthInTiles - 1 && y >= 1 && y < heightInTiles - 1) {
-                    walls[corridorX][y] = false;
+                    clearWall(corridorX, y);
                 }
             }
         }
@@ -304,13 +874,11 @@ public class DungeonGenerator {
     private void createBorder() {
         // Mark all border tiles as walls (they'll be rendered as 2-tile tall walls)
         for (int x = 0; x < widthInTiles; x++) {
-            walls[x][0] = true;
-            walls[x][heightInTiles - 1] = true;
-        }
-        for (int y = 0; y < heightInTiles; y++) {
-            walls[0][y] = true;
-            walls[widthInTiles - 1][y] = true;
+            setWall(x, 0);
+            setWall(x, heightInTiles - 1);
         }
+        fillWalls(0, 0, heightInTiles);
+        fillWalls(widthInTiles - 1, 0, heightInTiles);
     }
 
     /**
@@ -320,7 +888,34 @@ public class DungeonGenerator {
         if (tileX < 0 || tileX >= widthInTiles || tileY < 0 || tileY >= heightInTiles) {
             return true;
         }
-        return walls[tileX][tileY];
+        return wall(tileX, tileY);
+    }
+
+    private boolean wall(int x, int y) {
+        // Shifts only use the low 6 bits of y
+        return (walls[x * wordsPerColumn + (y >>> 6)] & (1L << y)) != 0;
+    }
+
+    private void setWall(int x, int y) {
+        walls[x * wordsPerColumn + (y >>> 6)] |= 1L << y;
+    }
+
+    private void clearWall(int x, int y) {
+        walls[x * wordsPerColumn + (y >>> 6)] &= ~(1L << y);
+    }
+
+    /**
+     * Sets the walls of column x from minY (inclusive) to maxY (exclusive).
+     */
+    private void fillWalls(int x, int minY, int maxY) {
+        int base = x * wordsPerColumn;
+        for (int y = minY; y < maxY; ) {
+            int bit = y & 63;
+            int count = Math.min(64 - bit, maxY - y);
+            long mask = count == 64 ? -1L : ((1L << count) - 1) << bit;
+            walls[base + (y >>> 6)] |= mask;
+            y += count;
+        }
     }
 
     /**
@@ -331,10 +926,126 @@ public class DungeonGenerator {
                tileY == 0 || tileY == heightInTiles - 1;
     }
 
+    /**
+     * Checks if two chunks show a common floor region, i.e. floor in one can be walked to from the other.
+     * Chunks of solid wall and chunks outside the dungeon show nothing. From a chunk without floor
+     * (e.g. inside a wall), every chunk with floor counts as connected.
+     */
+    public boolean isChunkConnected(int chunkX, int chunkY, int fromChunkX, int fromChunkY) {
+        int[] regions = getChunkRegions(chunkX, chunkY);
+        if (regions.length == 0) {
+            return false;
+        }
+        int[] fromRegions = getChunkRegions(fromChunkX, fromChunkY);
+        if (fromRegions.length == 0) {
+            return true;
+        }
+        for (int region : regions) {
+            for (int fromRegion : fromRegions) {
+                if (region == fromRegion) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a chunk shows no floor at all: it has no floor tiles and no wall faces toward floor.
+     * Chunks outside the dungeon count as solid.
+     */
+    public boolean isChunkSolid(int chunkX, int chunkY) {
+        return getChunkRegions(chunkX, chunkY).length == 0;
+    }
+
+    private int[] getChunkRegions(int chunkX, int chunkY) {
+        if (chunkRegions == null || chunkX < 0 || chunkY < 0
+            || chunkX >= config.getWidthInChunks() || chunkY >= config.getHeightInChunks()) {
+            return NO_REGIONS;
+        }
+        return chunkRegions[chunkX * config.getHeightInChunks() + chunkY];
+    }
+
+    /**
+     * Number of separate floor regions in the dungeon.
+     */
+    public int getRegionCount() { return regionCount; }
+
+    /**
+     * Number of regions the level was carved in.
+     */
+    public int getCarvingRegionCount() { return regions == null ? 0 : regions.length; }
+
     public int getWidthInTiles() { return widthInTiles; }
     public int getHeightInTiles() { return heightInTiles; }
     public DungeonConfig getConfig() { return config; }
 
+    /**
+     * Part of the level carved on its own. Tile bounds are exclusive at the max end; maze regions
+     * also own a range of maze cells.
+     */
+    private static class Region {
+        final int regionX, regionY;
+        int minX, minY, maxX, maxY;
+        int minCellX, minCellY, maxCellX, maxCellY;
+        final List<Room> rooms = new ArrayList<>();
+
+        // Floor areas found by labelling, numbered from 1, and the number of the first one across all regions
+        int areaCount, areaBase;
+        // Area of each tile along the region's edges (0 = wall), bottom to top and left to right
+        int[] leftEdge, rightEdge, bottomEdge, topEdge;
+        // Areas shown by the part of each chunk inside the region, indexed by local chunkX * chunksY + chunkY
+        int minChunkX, minChunkY, chunksY;
+        int[][] chunkAreas;
+
+        Region(int regionX, int regionY) {
+            this.regionX = regionX;
+            this.regionY = regionY;
+        }
+
+        void clearLabels() {
+            leftEdge = rightEdge = bottomEdge = topEdge = null;
+            chunkAreas = null;
+        }
+    }
+
+    /**
+     * Steps of generation, in order.
+     */
+    private enum Stage {
+        REGIONS,
+        CARVE,
+        STITCH,
+        LABEL,
+        CONNECT,
+        DONE
+    }
+
+    /**
+     * Runs an action for a range of indices, splitting the range in halves until single indices remain.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private final int first;
+        private final int last;
+        private final IntConsumer action;
+
+        RangeTask(int first, int last, IntConsumer action) {
+            this.first = first;
+            this.last = last;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first <= 1) {
+                if (last > first) {
+                    action.accept(first);
+                }
+                return;
+            }
+            int middle = (first + last) >>> 1;
+            invokeAll(new RangeTask(first, middle, action), new RangeTask(middle, last, action));
+        }
+    }
+
     /**
      * Simple room class for room-based generation.
      */
@@ -1,22 +1,32 @@
 package io.github.inherit_this.world;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
  * Manages dungeon levels and transitions between town and dungeons.
  * Handles dungeon generation, level progression, and return portals.
+ * Only the current level is kept as a live world; levels the player has left are kept as
+ * compressed layouts and rebuilt from them on re-entry instead of being generated again.
  */
 public class DungeonManager {
 
     private static DungeonManager instance;
 
+    // Maximum number of visited levels kept as compressed layouts (least recently visited are dropped).
+    // A 64x64 chunk level takes at most 32 KB plus a tag byte per column (512) compressed,
+    // versus megabytes of chunks and meshes when live.
+    public static final int MAX_CACHED_DUNGEONS = 64;
+
     // Currently active dungeon world (null if in town)
     private DungeonWorld currentDungeon;
     private int currentLevel;
 
-    // Cache of generated dungeons by level
-    private Map<Integer, DungeonWorld> dungeonCache;
+    // Compressed layouts of visited levels other than the current one, in access order (least recently visited first)
+    private Map<Integer, byte[]> dungeonCache;
 
     // Last position in town before entering dungeon
     private float townReturnX;
@@ -25,8 +35,17 @@ public class DungeonManager {
     // Dungeon generation settings
     private long baseSeed = 42L;  // Base seed for dungeons
 
+    // Threads generating dungeon layouts; half the cores, so generation never takes every core from NPC updates
+    public static final int GENERATION_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Generates layouts, apart from the common pool NPCs update on. Created on first use and after dispose()
+    private ForkJoinPool generationPool;
+
+    // Builds the level the player is likely to enter next in the background. Created along with the pool
+    private DungeonPrefetcher prefetcher;
+
     private DungeonManager() {
-        this.dungeonCache = new HashMap<>();
+        this.dungeonCache = new LinkedHashMap<>(16, 0.75f, true);
         this.currentLevel = 0;  // 0 = town
     }
 
@@ -37,6 +56,20 @@ public class DungeonManager {
         return instance;
     }
 
+    /**
+     * Pool dungeon layouts are generated on; recreated if the manager was disposed.
+     */
+    private ForkJoinPool getGenerationPool() {
+        if (generationPool == null) {
+            generationPool = new ForkJoinPool(GENERATION_PARALLELISM, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("dungeon-generation-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        return generationPool;
+    }
+
     /**
      * Enter a dungeon at the specified level.
      * @param level The dungeon level (1 = first level)
@@ -47,21 +80,100 @@ public class DungeonManager {
     public DungeonWorld enterDungeon(int level, float townX, float townY) {
         this.townReturnX = townX;
         this.townReturnY = townY;
+
+        if (currentDungeon == null || level != currentDungeon.getConfig().getDungeonLevel()) {
+            storeCurrentDungeon();
+
+            // Restore a visited level, otherwise take the prefetched one or generate it
+            byte[] layout = dungeonCache.remove(level);
+            if (layout != null) {
+                currentDungeon = new DungeonWorld(
+                    DungeonGenerator.fromCompressedLayout(createConfig(level), layout, getGenerationPool()));
+            } else {
+                currentDungeon = getPrefetcher().take(createConfig(level));
+                if (currentDungeon == null) {
+                    currentDungeon = new DungeonWorld(createConfig(level), getGenerationPool());
+                }
+            }
+        }
         this.currentLevel = level;
+        return currentDungeon;
+    }
 
-        // Get or create dungeon for this level
-        if (!dungeonCache.containsKey(level)) {
-            dungeonCache.put(level, generateDungeon(level));
+    /**
+     * Starts building a dungeon level in the background unless it was already visited.
+     * Call on the render thread when the player approaches the way into the level, e.g. the town entrance;
+     * a level being prefetched is dropped when another one is prefetched.
+     */
+    public void prefetchLevel(int level) {
+        // Called every frame near an entrance, so check before building a config
+        if (level < 1 || isLevelCached(level) || getPrefetcher().isPrefetching(level)) {
+            return;
         }
+        // Spawn chunks can only be built off the render thread once tile textures are loaded
+        getPrefetcher().prefetch(createConfig(level), TileTextureManager.getInstance().isPreloaded());
+    }
 
-        currentDungeon = dungeonCache.get(level);
-        return currentDungeon;
+    /**
+     * Get the prefetcher; recreated if the manager was disposed.
+     */
+    public DungeonPrefetcher getPrefetcher() {
+        if (prefetcher == null) {
+            prefetcher = new DungeonPrefetcher(getGenerationPool());
+        }
+        return prefetcher;
     }
 
     /**
-     * Generate a new dungeon for the specified level.
+     * Compresses the current dungeon's layout into the cache and disposes its chunks.
+     * Drops the least recently visited levels beyond {@link #MAX_CACHED_DUNGEONS};
+     * dungeons are seeded by level, so a dropped level regenerates identically on re-entry.
      */
-    private DungeonWorld generateDungeon(int level) {
+    private void storeCurrentDungeon() {
+        if (currentDungeon == null) {
+            return;
+        }
+        dungeonCache.put(currentDungeon.getConfig().getDungeonLevel(), currentDungeon.getGenerator().compressLayout());
+        currentDungeon.dispose();
+        currentDungeon = null;
+
+        Iterator<Integer> iterator = dungeonCache.keySet().iterator();
+        while (dungeonCache.size() > MAX_CACHED_DUNGEONS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Get the number of visited dungeon levels currently cached, including the current one.
+     */
+    public int getCachedDungeonCount() {
+        return dungeonCache.size() + (currentDungeon != null ? 1 : 0);
+    }
+
+    /**
+     * Whether a level's layout is kept, live or compressed, so entering it doesn't generate it again.
+     */
+    public boolean isLevelCached(int level) {
+        return dungeonCache.containsKey(level)
+            || (currentDungeon != null && currentDungeon.getConfig().getDungeonLevel() == level);
+    }
+
+    /**
+     * Get the total size of the compressed layouts of inactive levels, in bytes.
+     */
+    public long getCachedLayoutBytes() {
+        long bytes = 0L;
+        for (byte[] layout : dungeonCache.values()) {
+            bytes += layout.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Creates the generation config for the specified level.
+     */
+    private DungeonConfig createConfig(int level) {
         // Create seed based on base seed + level
         long seed = baseSeed + level * 1000;
 
@@ -83,8 +195,7 @@ public class DungeonManager {
             layout = DungeonConfig.DungeonLayout.WINDING;
         }
 
-        DungeonConfig config = new DungeonConfig(seed, level, 64, 64, style, layout);
-        return new DungeonWorld(config);
+        return new DungeonConfig(seed, level, 64, 64, style, layout);
     }
 
     /**
@@ -92,9 +203,8 @@ public class DungeonManager {
      * @return Array of [townX, townY] for player spawn position
      */
     public float[] exitToTown() {
-        // Keep current dungeon in cache so player can return
-        // Just return the town position
-        currentDungeon = null;
+        // Keep the dungeon's layout so the player can return to the same level
+        storeCurrentDungeon();
         currentLevel = 0;
 
         return new float[]{townReturnX, townReturnY};
@@ -102,13 +212,14 @@ public class DungeonManager {
 
     /**
      * Get the player's spawn position for a dungeon level.
+     * Only known for the current level; inactive levels hold just their compressed layout.
+     * @throws IllegalStateException if the level isn't the current one
      */
     public int[] getDungeonSpawnPosition(int level) {
-        DungeonWorld dungeon = dungeonCache.get(level);
-        if (dungeon != null) {
-            return dungeon.getSpawnPosition();
+        if (currentDungeon == null || currentDungeon.getConfig().getDungeonLevel() != level) {
+            throw new IllegalStateException("Dungeon level " + level + " is not the current level");
         }
-        return new int[]{0, 0};
+        return currentDungeon.getSpawnPosition();
     }
 
     /**
@@ -136,11 +247,14 @@ public class DungeonManager {
      * Clear all cached dungeons (useful for testing or resetting).
      */
     public void clearDungeons() {
-        for (DungeonWorld dungeon : dungeonCache.values()) {
-            dungeon.dispose();
+        if (currentDungeon != null) {
+            currentDungeon.dispose();
+            currentDungeon = null;
         }
         dungeonCache.clear();
-        currentDungeon = null;
+        if (prefetcher != null) {
+            prefetcher.cancel();
+        }
         currentLevel = 0;
     }
 
@@ -154,9 +268,18 @@ public class DungeonManager {
     }
 
     /**
-     * Dispose of resources.
+     * Dispose of resources: dungeons, the prefetch thread and the generation pool.
+     * The manager stays usable; the thread and pool are created again when next needed.
      */
     public void dispose() {
         clearDungeons();
+        if (prefetcher != null) {
+            prefetcher.dispose();
+            prefetcher = null;
+        }
+        if (generationPool != null) {
+            generationPool.shutdown();
+            generationPool = null;
+        }
     }
 }
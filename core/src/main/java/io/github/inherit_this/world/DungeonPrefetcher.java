@@ -0,0 +1,241 @@
+package io.github.inherit_this.world;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Speculatively builds a dungeon level on a background thread before the player enters it:
+ * the layout, and optionally the spawn-area chunks with their meshes. The level is handed over
+ * in one piece by {@link #take}; until then the render thread never sees it.
+ *
+ * Only one level is prefetched at a time; a replaced or cancelled build stops at its next region or step.
+ * Counts how often a prefetched level was ready (hit),
+ * still being built (late hit) or not prefetched at all (miss), and the build time saved.
+ */
+public class DungeonPrefetcher {
+
+    // Same area DungeonController preloads on entry
+    public static final int SPAWN_CHUNK_RADIUS = 3;
+
+    private final ExecutorService executor;
+    // Pool the layout's regions are generated on
+    private final ForkJoinPool generationPool;
+
+    // Render thread only
+    private DungeonConfig pendingConfig;
+    private BuildTask pendingTask;
+    private Future<Result> pending;
+
+    private int hitCount = 0;
+    private int lateHitCount = 0;
+    private int missCount = 0;
+    private long savedNanos = 0L;
+
+    /**
+     * @param generationPool Pool layouts are generated on, kept apart from the pool NPCs update on
+     */
+    public DungeonPrefetcher(ForkJoinPool generationPool) {
+        this.generationPool = generationPool;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dungeon-prefetch");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts building a level in the background, replacing any other prefetch.
+     * Does nothing if the same level is already being prefetched.
+     * @param prepareChunks Also build the spawn-area chunks; tile textures must be preloaded
+     *                      (see {@link TileTextureManager#isPreloaded()})
+     */
+    public void prefetch(DungeonConfig config, boolean prepareChunks) {
+        if (pending != null && sameLevel(pendingConfig, config)) {
+            return;
+        }
+        // A replaced level holds no GL resources yet, so it is simply dropped
+        cancel();
+
+        BuildTask task = new BuildTask(config, prepareChunks);
+        try {
+            pending = executor.submit(task);
+            pendingTask = task;
+            pendingConfig = config;
+        } catch (RejectedExecutionException e) {
+            // Disposed; levels are generated on entry instead
+        }
+    }
+
+    /**
+     * Hands over the prefetched level for a config, waiting for it if it is still being built.
+     * @return The level, or null if it wasn't prefetched (or its prefetch failed)
+     */
+    public DungeonWorld take(DungeonConfig config) {
+        if (pending == null || !sameLevel(pendingConfig, config)) {
+            missCount++;
+            return null;
+        }
+
+        Future<Result> future = pending;
+        pending = null;
+        pendingTask = null;
+        pendingConfig = null;
+
+        boolean ready = future.isDone();
+        long waitStart = System.nanoTime();
+        Result result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            missCount++;
+            return null;
+        } catch (ExecutionException e) {
+            missCount++;
+            return null;
+        }
+        if (result == null) {
+            missCount++;
+            return null;
+        }
+        long waited = System.nanoTime() - waitStart;
+
+        if (ready) {
+            hitCount++;
+        } else {
+            lateHitCount++;
+        }
+        savedNanos += Math.max(0L, result.buildNanos - waited);
+        return result.world;
+    }
+
+    public boolean isPrefetching(DungeonConfig config) {
+        return pending != null && sameLevel(pendingConfig, config);
+    }
+
+    /**
+     * Whether a level with this number is being built or waiting to be taken, whatever its config.
+     */
+    public boolean isPrefetching(int dungeonLevel) {
+        return pending != null && pendingConfig.getDungeonLevel() == dungeonLevel;
+    }
+
+    /**
+     * Drops the pending prefetch, if any, and stops its build early.
+     */
+    public void cancel() {
+        if (pending != null) {
+            pendingTask.cancel();
+            pending.cancel(true);
+            pending = null;
+            pendingTask = null;
+            pendingConfig = null;
+        }
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    public void dispose() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private static boolean sameLevel(DungeonConfig a, DungeonConfig b) {
+        return a.getSeed() == b.getSeed()
+            && a.getDungeonLevel() == b.getDungeonLevel()
+            && a.getWidthInChunks() == b.getWidthInChunks()
+            && a.getHeightInChunks() == b.getHeightInChunks()
+            && a.getStyle() == b.getStyle()
+            && a.getLayout() == b.getLayout();
+    }
+
+    /**
+     * Levels that were ready when entered.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Levels that were still being built when entered; the rest of the build was waited for.
+     */
+    public int getLateHitCount() {
+        return lateHitCount;
+    }
+
+    /**
+     * Levels that had to be generated on entry.
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Build time taken off the render thread by prefetching, in milliseconds.
+     */
+    public long getTimeSavedMillis() {
+        return savedNanos / 1_000_000L;
+    }
+
+    /**
+     * Builds one level. Checks for cancellation between generation and each later step,
+     * so a dropped level doesn't keep the generation pool busy.
+     */
+    private final class BuildTask implements Callable<Result> {
+        private final DungeonConfig config;
+        private final boolean prepareChunks;
+        private volatile boolean cancelled;
+        private volatile DungeonGenerator generator;
+
+        BuildTask(DungeonConfig config, boolean prepareChunks) {
+            this.config = config;
+            this.prepareChunks = prepareChunks;
+        }
+
+        @Override
+        public Result call() {
+            long start = System.nanoTime();
+            DungeonGenerator generator = new DungeonGenerator(config, generationPool);
+            // Published before checking the flag, so cancel() either sees the generator or is seen here
+            this.generator = generator;
+            if (cancelled) {
+                return null;
+            }
+            generator.generate();
+            if (cancelled) {
+                return null;
+            }
+
+            DungeonWorld world = new DungeonWorld(generator);
+            if (prepareChunks) {
+                world.prepareSpawnChunks(SPAWN_CHUNK_RADIUS);
+            }
+            return cancelled ? null : new Result(world, System.nanoTime() - start);
+        }
+
+        void cancel() {
+            cancelled = true;
+            DungeonGenerator current = generator;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+
+    private static class Result {
+        final DungeonWorld world;
+        final long buildNanos;
+
+        Result(DungeonWorld world, long buildNanos) {
+            this.world = world;
+            this.buildNanos = buildNanos;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package io.github.inherit_this.world;
 
 import com.badlogic.gdx.graphics.Texture;
+import io.github.inherit_this.pathfinding.Pathfinder;
 import io.github.inherit_this.util.Constants;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Procedural dungeon world that generates dungeon chunks based on a DungeonGenerator.
@@ -13,8 +14,12 @@ public class DungeonWorld implements WorldProvider {
 
     private final DungeonConfig config;
     private final DungeonGenerator generator;
-    private final Map<Long, Chunk> chunks = new HashMap<>();
+    private final Map<Long, Chunk> chunks = ChunkResidencyManager.createChunkMap();
+    private final ChunkResidencyManager residency = new ChunkResidencyManager();
     private final TileTextureManager textureManager = TileTextureManager.getInstance();
+    private ChunkPipeline pipeline;
+    private final SolidityMap solidityMap;
+    private Pathfinder pathfinder;
 
     // Dungeon bounds in chunks
     private final int minChunkX = 0;
@@ -22,14 +27,40 @@ public class DungeonWorld implements WorldProvider {
     private final int maxChunkX;
     private final int maxChunkY;
 
+    /**
+     * Generates the layout on the common fork-join pool.
+     */
     public DungeonWorld(DungeonConfig config) {
-        this.config = config;
-        this.generator = new DungeonGenerator(config);
+        this(config, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param generationPool Pool the layout is generated on
+     */
+    public DungeonWorld(DungeonConfig config, ForkJoinPool generationPool) {
+        this(generateLayout(config, generationPool));
+    }
+
+    /**
+     * Creates a dungeon world from an already generated layout,
+     * e.g. one restored with {@link DungeonGenerator#fromCompressedLayout}.
+     */
+    public DungeonWorld(DungeonGenerator generator) {
+        this.config = generator.getConfig();
+        this.generator = generator;
         this.maxChunkX = config.getWidthInChunks() - 1;
         this.maxChunkY = config.getHeightInChunks() - 1;
 
-        // Generate the dungeon layout
+        // Walls come straight from the layout, so collision never has to build chunks.
+        // Everything outside the dungeon is solid.
+        this.solidityMap = new SolidityMap(this::computeSolidityMask,
+            generator.getWidthInTiles(), generator.getHeightInTiles(), true);
+    }
+
+    private static DungeonGenerator generateLayout(DungeonConfig config, ForkJoinPool generationPool) {
+        DungeonGenerator generator = new DungeonGenerator(config, generationPool);
         generator.generate();
+        return generator;
     }
 
     @Override
@@ -48,6 +79,43 @@ public class DungeonWorld implements WorldProvider {
         return chunks.get(key);
     }
 
+    @Override
+    public Chunk requestChunk(int chunkX, int chunkY) {
+        if (chunkX < minChunkX || chunkX > maxChunkX ||
+            chunkY < minChunkY || chunkY > maxChunkY) {
+            return null;
+        }
+
+        Chunk chunk = chunks.get(pack(chunkX, chunkY));
+        if (chunk == null) {
+            getPipeline().request(chunkX, chunkY);
+        }
+        return chunk;
+    }
+
+    @Override
+    public void updateChunks(float playerTileX, float playerTileY) {
+        if (pipeline != null) {
+            pipeline.update(chunks);
+        }
+        residency.evict(chunks,
+            Math.floorDiv((int) Math.floor(playerTileX), Constants.CHUNK_SIZE),
+            Math.floorDiv((int) Math.floor(playerTileY), Constants.CHUNK_SIZE));
+    }
+
+    @Override
+    public int getEvictedChunkCount() {
+        return residency.getEvictedCount();
+    }
+
+    private ChunkPipeline getPipeline() {
+        if (pipeline == null) {
+            // The dungeon layout is read-only after generation, so workers can share the generator
+            pipeline = new ChunkPipeline(this::generateDungeonChunk);
+        }
+        return pipeline;
+    }
+
     /**
      * Generate a dungeon chunk based on the dungeon layout.
      */
@@ -120,8 +188,49 @@ public class DungeonWorld implements WorldProvider {
 
     @Override
     public boolean isSolidAtPosition(float worldX, float worldY) {
-        Tile tile = getTileAtPosition(worldX, worldY);
-        return tile != null && tile.isSolid();
+        int tileX = (int) Math.floor(worldX / Constants.TILE_SIZE);
+        int tileY = (int) Math.floor(worldY / Constants.TILE_SIZE);
+        return solidityMap.isSolid(tileX, tileY);
+    }
+
+    /**
+     * Only chunks of solid wall mass are hidden: walls have no top faces, so they build no geometry.
+     * Floor behind walls is not, even if it isn't connected to the viewer's - the camera is pitched
+     * and walls are only one tile tall, so it sees over them.
+     */
+    @Override
+    public boolean isChunkOccluded(int chunkX, int chunkY, float viewerTileX, float viewerTileY) {
+        return generator.isChunkSolid(chunkX, chunkY);
+    }
+
+    @Override
+    public SolidityMap getSolidityMap() {
+        return solidityMap;
+    }
+
+    @Override
+    public Pathfinder getPathfinder() {
+        if (pathfinder == null) {
+            pathfinder = new Pathfinder(solidityMap, generator.getWidthInTiles(), generator.getHeightInTiles());
+        }
+        return pathfinder;
+    }
+
+    /**
+     * Packs the walls of one chunk into a solidity mask. Every wall tile is solid.
+     */
+    private long computeSolidityMask(int chunkX, int chunkY) {
+        int baseTileX = chunkX * Constants.CHUNK_SIZE;
+        int baseTileY = chunkY * Constants.CHUNK_SIZE;
+        long mask = 0L;
+        for (int localX = 0; localX < Constants.CHUNK_SIZE; localX++) {
+            for (int localY = 0; localY < Constants.CHUNK_SIZE; localY++) {
+                if (generator.isWall(baseTileX + localX, baseTileY + localY)) {
+                    mask |= 1L << (localX * Constants.CHUNK_SIZE + localY);
+                }
+            }
+        }
+        return mask;
     }
 
     @Override
@@ -131,6 +240,31 @@ public class DungeonWorld implements WorldProvider {
         return chunks.get(pack(chunkX, chunkY));
     }
 
+    /**
+     * Builds the chunks {@link #preloadChunks} would load, including their meshes, without touching GL.
+     * Lets a background thread prepare a level before it is handed to the render thread; must not be
+     * called once the world is in use. Tile textures must be preloaded.
+     * @return Number of chunks built
+     */
+    public int prepareSpawnChunks(int radius) {
+        int centerX = config.getWidthInChunks() / 2;
+        int centerY = config.getHeightInChunks() / 2;
+
+        int count = 0;
+        for (int cx = Math.max(minChunkX, centerX - radius); cx <= Math.min(maxChunkX, centerX + radius); cx++) {
+            for (int cy = Math.max(minChunkY, centerY - radius); cy <= Math.min(maxChunkY, centerY + radius); cy++) {
+                long key = pack(cx, cy);
+                if (!chunks.containsKey(key)) {
+                    Chunk chunk = generateDungeonChunk(cx, cy);
+                    chunk.prepareMesh();
+                    chunks.put(key, chunk);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     @Override
     public int preloadChunks(int radius) {
         int centerX = config.getWidthInChunks() / 2;
@@ -159,6 +293,10 @@ public class DungeonWorld implements WorldProvider {
 
     @Override
     public void dispose() {
+        if (pipeline != null) {
+            pipeline.dispose();
+            pipeline = null;
+        }
         for (Chunk chunk : chunks.values()) {
             chunk.dispose();
         }
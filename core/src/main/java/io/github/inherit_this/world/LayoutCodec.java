@@ -0,0 +1,194 @@
+package io.github.inherit_this.world;
+
+import java.util.Arrays;
+
+/**
+ * Compresses bit-packed layouts for storage while a dungeon level is inactive.
+ * Each column of tiles is stored in whichever form is smaller:
+ * <ul>
+ *   <li>{@link #RUNS} - a varint run count, then the varint lengths of alternating wall and floor runs,
+ *       starting with walls. Room layouts have long runs, so most of their columns take a few bytes.</li>
+ *   <li>{@link #WORDS} - the column's words as they are, 8 little-endian bytes each. Mazes change every
+ *       tile or two, so their columns never grow past the bitset.</li>
+ * </ul>
+ */
+final class LayoutCodec {
+
+    private static final byte RUNS = 0;
+    private static final byte WORDS = 1;
+
+    private LayoutCodec() {
+    }
+
+    /**
+     * @param words Layout bitset, column by column; set bits are walls
+     * @param wordsPerColumn Words per column, with the unused high bits of the last word clear
+     * @param columnHeight Tiles per column
+     */
+    static byte[] encode(long[] words, int wordsPerColumn, int columnHeight) {
+        ByteWriter out = new ByteWriter(64 + words.length);
+        ByteWriter runs = new ByteWriter(64);
+        int rawSize = 1 + wordsPerColumn * 8;
+
+        for (int base = 0; base < words.length; base += wordsPerColumn) {
+            runs.clear();
+            int runCount = 0;
+            boolean wall = true;
+            int runStart = 0;
+            for (int y = 0; y < columnHeight && runs.size() < rawSize; y++) {
+                boolean tileWall = (words[base + (y >>> 6)] & (1L << y)) != 0;
+                if (tileWall != wall) {
+                    runs.writeVarInt(y - runStart);
+                    runCount++;
+                    runStart = y;
+                    wall = tileWall;
+                }
+            }
+            runs.writeVarInt(columnHeight - runStart);
+            runCount++;
+
+            if (runs.size() + 5 < rawSize) {
+                out.write(RUNS);
+                out.writeVarInt(runCount);
+                out.write(runs);
+            } else {
+                out.write(WORDS);
+                for (int i = 0; i < wordsPerColumn; i++) {
+                    out.writeLong(words[base + i]);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes into {@code words}, which must be sized for the encoded layout.
+     * @throws IllegalArgumentException if the data doesn't match the layout size
+     */
+    static void decode(byte[] data, long[] words, int wordsPerColumn, int columnHeight) {
+        ByteReader in = new ByteReader(data);
+        Arrays.fill(words, 0L);
+        for (int base = 0; base < words.length; base += wordsPerColumn) {
+            byte tag = in.read();
+            if (tag == WORDS) {
+                for (int i = 0; i < wordsPerColumn; i++) {
+                    words[base + i] = in.readLong();
+                }
+                continue;
+            }
+
+            int runCount = in.readVarInt();
+            int y = 0;
+            for (int run = 0; run < runCount; run++) {
+                int length = in.readVarInt();
+                if (y + length > columnHeight) {
+                    throw new IllegalArgumentException("Layout column longer than " + columnHeight + " tiles");
+                }
+                if (run % 2 == 0) {
+                    // Wall run
+                    for (int wallY = y; wallY < y + length; wallY++) {
+                        words[base + (wallY >>> 6)] |= 1L << wallY;
+                    }
+                }
+                y += length;
+            }
+            if (y != columnHeight) {
+                throw new IllegalArgumentException("Layout column has " + y + " tiles, expected " + columnHeight);
+            }
+        }
+        if (!in.isAtEnd()) {
+            throw new IllegalArgumentException("Layout data longer than " + words.length / wordsPerColumn + " columns");
+        }
+    }
+
+    /**
+     * Growable byte buffer.
+     */
+    private static final class ByteWriter {
+        private byte[] bytes;
+        private int size = 0;
+
+        ByteWriter(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void write(byte b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[size++] = b;
+        }
+
+        void write(ByteWriter other) {
+            for (int i = 0; i < other.size; i++) {
+                write(other.bytes[i]);
+            }
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((byte) value);
+        }
+
+        void writeLong(long value) {
+            for (int byteIndex = 0; byteIndex < 8; byteIndex++) {
+                write((byte) (value >>> (byteIndex * 8)));
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+    private static final class ByteReader {
+        private final byte[] bytes;
+        private int position = 0;
+
+        ByteReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        byte read() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Layout data too short");
+            }
+            return bytes[position++];
+        }
+
+        int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = read();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        long readLong() {
+            long value = 0L;
+            for (int byteIndex = 0; byteIndex < 8; byteIndex++) {
+                value |= (read() & 0xFFL) << (byteIndex * 8);
+            }
+            return value;
+        }
+
+        boolean isAtEnd() {
+            return position == bytes.length;
+        }
+    }
+}
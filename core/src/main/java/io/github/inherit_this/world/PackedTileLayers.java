@@ -0,0 +1,259 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.graphics.Texture;
+import io.github.inherit_this.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact storage for the tile layers of one chunk.
+ * Instead of a Tile object per layer, each layer is a few bytes spread over parallel arrays,
+ * with textures and tile types shared through a small per-chunk palette.
+ * Layers of cell i are stored at indices cellStart[i] until cellStart[i + 1].
+ *
+ * Read layers with a {@link Cursor}, which does not allocate.
+ */
+public class PackedTileLayers {
+
+    public static final int CELL_COUNT = Constants.CHUNK_SIZE * Constants.CHUNK_SIZE;
+
+    private static final int FLAG_SOLID = 1;
+    private static final int FLAG_FLIPPED = 2;
+    private static final TileLayer[] LAYERS = TileLayer.values();
+
+    // Palette of distinct texture/type pairs used in this chunk
+    private final Texture[] paletteTextures;
+    private final TileType[] paletteTypes;
+
+    private final short[] cellStart;
+    private final short[] paletteIndex;
+    private final byte[] layer;
+    private final byte[] direction;
+    private final byte[] level;
+    private final byte[] flags;
+    private final byte[] rotation;
+
+    private PackedTileLayers(Builder builder) {
+        int count = builder.count;
+        this.paletteTextures = builder.paletteTextures.toArray(new Texture[0]);
+        this.paletteTypes = builder.paletteTypes.toArray(new TileType[0]);
+        this.cellStart = Arrays.copyOf(builder.cellStart, CELL_COUNT + 1);
+        this.paletteIndex = Arrays.copyOf(builder.paletteIndex, count);
+        this.layer = Arrays.copyOf(builder.layer, count);
+        this.direction = Arrays.copyOf(builder.direction, count);
+        this.level = Arrays.copyOf(builder.level, count);
+        this.flags = Arrays.copyOf(builder.flags, count);
+        this.rotation = Arrays.copyOf(builder.rotation, count);
+    }
+
+    /**
+     * Number of layers stored in a cell.
+     * @param cell Cell index (localX * CHUNK_SIZE + localY)
+     */
+    public int getLayerCount(int cell) {
+        return cellStart[cell + 1] - cellStart[cell];
+    }
+
+    /**
+     * Total number of layers stored in all cells.
+     */
+    public int getTotalLayerCount() {
+        return cellStart[CELL_COUNT];
+    }
+
+    public int getPaletteSize() {
+        return paletteTextures.length;
+    }
+
+    /**
+     * Checks whether any layer in a cell blocks movement, without allocating.
+     */
+    public boolean isSolid(int cell) {
+        for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+            if ((flags[i] & FLAG_SOLID) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates Tile objects for all layers of a cell.
+     * Only used by code that still needs Tile instances; rendering and collision read the arrays directly.
+     */
+    public List<Tile> toTiles(int cell) {
+        List<Tile> tiles = new ArrayList<>(getLayerCount(cell));
+        for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+            tiles.add(createTile(i));
+        }
+        return tiles;
+    }
+
+    /**
+     * Creates a Tile for the first (ground) layer of a cell, or null if the cell is empty.
+     */
+    public Tile firstTile(int cell) {
+        return getLayerCount(cell) > 0 ? createTile(cellStart[cell]) : null;
+    }
+
+    private Tile createTile(int i) {
+        int p = paletteIndex[i];
+        return new Tile(paletteTextures[p], (flags[i] & FLAG_SOLID) != 0, paletteTypes[p],
+            LAYERS[layer[i]], -1f, direction[i], level[i], (flags[i] & FLAG_FLIPPED) != 0, rotation[i]);
+    }
+
+    /**
+     * Reusable read cursor over the layers of one cell.
+     * <pre>
+     * cursor.reset(cell);
+     * while (cursor.next()) { ... cursor.getTexture() ... }
+     * </pre>
+     */
+    public class Cursor {
+        private int index;
+        private int end;
+
+        /**
+         * Positions the cursor before the first layer of a cell.
+         */
+        public Cursor reset(int cell) {
+            index = cellStart[cell] - 1;
+            end = cellStart[cell + 1];
+            return this;
+        }
+
+        /**
+         * Advances to the next layer.
+         * @return false when the cell has no more layers
+         */
+        public boolean next() {
+            return ++index < end;
+        }
+
+        public Texture getTexture() {
+            return paletteTextures[paletteIndex[index]];
+        }
+
+        public TileType getType() {
+            return paletteTypes[paletteIndex[index]];
+        }
+
+        public TileLayer getLayer() {
+            return LAYERS[layer[index]];
+        }
+
+        public int getDirection() {
+            return direction[index];
+        }
+
+        public int getLevel() {
+            return level[index];
+        }
+
+        public boolean isSolid() {
+            return (flags[index] & FLAG_SOLID) != 0;
+        }
+
+        public boolean isFlipped() {
+            return (flags[index] & FLAG_FLIPPED) != 0;
+        }
+
+        public int getTextureRotation() {
+            return rotation[index];
+        }
+
+        /**
+         * Packed layers never store a custom angle, so this is always the layer default.
+         */
+        public float getEffectiveAngle() {
+            return getLayer().getDefaultAngle();
+        }
+    }
+
+    /**
+     * Collects layers cell by cell. Cells must be filled in ascending index order;
+     * cells that are skipped stay empty.
+     */
+    public static class Builder {
+        private final List<Texture> paletteTextures = new ArrayList<>();
+        private final List<TileType> paletteTypes = new ArrayList<>();
+        private final short[] cellStart = new short[CELL_COUNT + 1];
+        private short[] paletteIndex = new short[CELL_COUNT];
+        private byte[] layer = new byte[CELL_COUNT];
+        private byte[] direction = new byte[CELL_COUNT];
+        private byte[] level = new byte[CELL_COUNT];
+        private byte[] flags = new byte[CELL_COUNT];
+        private byte[] rotation = new byte[CELL_COUNT];
+        private int count = 0;
+        private int cell = 0;
+
+        /**
+         * Starts adding layers to a cell.
+         * @param cell Cell index (localX * CHUNK_SIZE + localY)
+         */
+        public Builder cell(int cell) {
+            if (cell < this.cell) {
+                throw new IllegalStateException("Cells must be added in order: " + cell + " after " + this.cell);
+            }
+            while (this.cell < cell) {
+                cellStart[++this.cell] = (short) count;
+            }
+            return this;
+        }
+
+        /**
+         * Adds a layer to the current cell.
+         */
+        public Builder add(Texture texture, TileType type, TileLayer tileLayer, int tileDirection,
+                           int tileLevel, boolean solid, boolean flipped, int textureRotation) {
+            if (count == paletteIndex.length) {
+                grow();
+            }
+            paletteIndex[count] = (short) paletteIndexOf(texture, type);
+            layer[count] = (byte) tileLayer.ordinal();
+            direction[count] = (byte) tileDirection;
+            level[count] = (byte) tileLevel;
+            flags[count] = (byte) ((solid ? FLAG_SOLID : 0) | (flipped ? FLAG_FLIPPED : 0));
+            rotation[count] = (byte) textureRotation;
+            count++;
+            cellStart[cell + 1] = (short) count;
+            return this;
+        }
+
+        /**
+         * Returns true if the current cell has no layers yet.
+         */
+        public boolean isCellEmpty() {
+            return cellStart[cell] == count;
+        }
+
+        public PackedTileLayers build() {
+            cell(CELL_COUNT);
+            return new PackedTileLayers(this);
+        }
+
+        private int paletteIndexOf(Texture texture, TileType type) {
+            // Chunks use a handful of distinct tiles, so a linear scan beats hashing
+            for (int i = 0; i < paletteTextures.size(); i++) {
+                if (paletteTextures.get(i) == texture && paletteTypes.get(i) == type) {
+                    return i;
+                }
+            }
+            paletteTextures.add(texture);
+            paletteTypes.add(type);
+            return paletteTextures.size() - 1;
+        }
+
+        private void grow() {
+            int size = paletteIndex.length * 2;
+            paletteIndex = Arrays.copyOf(paletteIndex, size);
+            layer = Arrays.copyOf(layer, size);
+            direction = Arrays.copyOf(direction, size);
+            level = Arrays.copyOf(level, size);
+            flags = Arrays.copyOf(flags, size);
+            rotation = Arrays.copyOf(rotation, size);
+        }
+    }
+}
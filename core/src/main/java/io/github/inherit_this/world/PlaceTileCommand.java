@@ -22,8 +22,7 @@ public class PlaceTileCommand implements EditorCommand {
         this.layer = layer;
 
         // Capture current state for undo
-        String key = worldTileX + "," + worldTileY;
-        this.previousTileData = staticWorld.getMapData().tiles.get(key);
+        this.previousTileData = staticWorld.getTileData(worldTileX, worldTileY);
     }
 
     @Override
@@ -34,12 +33,7 @@ public class PlaceTileCommand implements EditorCommand {
     @Override
     public void undo() {
         // Restore previous state
-        String key = worldTileX + "," + worldTileY;
-        if (previousTileData == null) {
-            staticWorld.getMapData().tiles.remove(key);
-        } else {
-            staticWorld.getMapData().tiles.put(key, previousTileData);
-        }
+        staticWorld.putTileData(worldTileX, worldTileY, previousTileData);
 
         // Recreate chunk to reflect changes
         staticWorld.recreateChunkAt(worldTileX, worldTileY);
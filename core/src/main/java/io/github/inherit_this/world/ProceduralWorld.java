@@ -10,7 +10,12 @@ import io.github.inherit_this.util.Constants;
  */
 public class ProceduralWorld implements WorldProvider {
 
-    private Map<Long, Chunk> chunks = new HashMap<>();
+    private final Map<Long, Chunk> chunks = ChunkResidencyManager.createChunkMap();
+    private final ChunkResidencyManager residency = new ChunkResidencyManager();
+    private ChunkPipeline pipeline;
+    // Unbounded: the procedural world has no edges
+    private final SolidityMap solidityMap =
+        new SolidityMap((chunkX, chunkY) -> getOrCreateChunk(chunkX, chunkY).getSolidityMask());
 
     public ProceduralWorld() {
     }
@@ -24,6 +29,37 @@ public class ProceduralWorld implements WorldProvider {
         return chunks.get(key);
     }
 
+    @Override
+    public Chunk requestChunk(int chunkX, int chunkY) {
+        Chunk chunk = chunks.get(pack(chunkX, chunkY));
+        if (chunk == null) {
+            getPipeline().request(chunkX, chunkY);
+        }
+        return chunk;
+    }
+
+    @Override
+    public void updateChunks(float playerTileX, float playerTileY) {
+        if (pipeline != null) {
+            pipeline.update(chunks);
+        }
+        residency.evict(chunks,
+            Math.floorDiv((int) Math.floor(playerTileX), Constants.CHUNK_SIZE),
+            Math.floorDiv((int) Math.floor(playerTileY), Constants.CHUNK_SIZE));
+    }
+
+    @Override
+    public int getEvictedChunkCount() {
+        return residency.getEvictedCount();
+    }
+
+    private ChunkPipeline getPipeline() {
+        if (pipeline == null) {
+            pipeline = new ChunkPipeline((chunkX, chunkY) -> new Chunk(chunkX, chunkY, "grass"));
+        }
+        return pipeline;
+    }
+
     @Override
     public Tile getTileAtWorldCoords(int worldTileX, int worldTileY) {
         int chunkX = Math.floorDiv(worldTileX, Constants.CHUNK_SIZE);
@@ -45,14 +81,24 @@ public class ProceduralWorld implements WorldProvider {
 
     @Override
     public boolean isSolidAtPosition(float worldX, float worldY) {
-        Tile tile = getTileAtPosition(worldX, worldY);
-        return tile != null && tile.isSolid();
+        int tileX = (int) Math.floor(worldX / Constants.TILE_SIZE);
+        int tileY = (int) Math.floor(worldY / Constants.TILE_SIZE);
+        return solidityMap.isSolid(tileX, tileY);
+    }
+
+    @Override
+    public SolidityMap getSolidityMap() {
+        return solidityMap;
     }
 
     public void reloadChunk(int chunkX, int chunkY) {
         long key = pack(chunkX, chunkY);
-        chunks.remove(key);
+        Chunk oldChunk = chunks.remove(key);
+        if (oldChunk != null) {
+            oldChunk.dispose();
+        }
         chunks.put(key, new Chunk(chunkX, chunkY, "grass"));
+        solidityMap.invalidateChunk(chunkX, chunkY);
     }
 
     @Override
@@ -69,7 +115,12 @@ public class ProceduralWorld implements WorldProvider {
             int chunkY = (int)(key.longValue());
             newChunks.put(key, new Chunk(chunkX, chunkY, "grass"));
         }
-        chunks = newChunks;
+        for (Chunk chunk : chunks.values()) {
+            chunk.dispose();
+        }
+        chunks.clear();
+        chunks.putAll(newChunks);
+        solidityMap.clear();
     }
 
     @Override
@@ -93,6 +144,10 @@ public class ProceduralWorld implements WorldProvider {
 
     @Override
     public void dispose() {
+        if (pipeline != null) {
+            pipeline.dispose();
+            pipeline = null;
+        }
         // Dispose all chunks
         for (Chunk chunk : chunks.values()) {
             chunk.dispose();
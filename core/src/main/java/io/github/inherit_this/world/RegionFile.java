@@ -0,0 +1,376 @@
+package io.github.inherit_this.world;
+
+import io.github.inherit_this.util.Constants;
+import io.github.inherit_this.world.StaticWorld.StaticMapData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Binary map format for static worlds, read through a memory-mapped file so chunks
+ * can be loaded on demand instead of parsing the whole map up front.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header:   magic, version, name, width, height, spawnX, spawnY, defaultTile
+ * palette:  count, then each distinct layer string ("type:LAYER:dir:level:flipped:rot")
+ * extras:   count, then key/value pairs for map entries whose key isn't "x,y"
+ * index:    count, then (chunkX, chunkY, offset) per chunk with tile data
+ * records:  per chunk: cell count, then per cell: cell index (x * CHUNK_SIZE + y),
+ *           layer count, and one unsigned short palette index per layer
+ * </pre>
+ * A cell's map data is its layer strings joined with ';', so conversion from JSON is lossless.
+ */
+public class RegionFile implements Closeable {
+
+    public static final String EXTENSION = ".region";
+
+    private static final int MAGIC = 0x52474E31;  // "RGN1"
+    private static final int VERSION = 1;
+    private static final int CELLS_PER_CHUNK = Constants.CHUNK_SIZE * Constants.CHUNK_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final StaticMapData header;
+    private final String[] palette;
+    private final Map<String, String> extraEntries = new LinkedHashMap<>();
+    private final Map<Long, Integer> chunkOffsets = new HashMap<>();
+
+    private RegionFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+        // Header is read sequentially from a view; chunk records use absolute reads only,
+        // so several chunk worker threads can read the mapped buffer at once
+        ByteBuffer in = buffer.duplicate();
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a region file");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported region file version " + version);
+        }
+
+        header = new StaticMapData();
+        header.name = readString(in);
+        header.width = in.getInt();
+        header.height = in.getInt();
+        header.spawnX = in.getInt();
+        header.spawnY = in.getInt();
+        header.defaultTile = readString(in);
+
+        palette = new String[in.getInt()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = readString(in);
+        }
+
+        int extraCount = in.getInt();
+        for (int i = 0; i < extraCount; i++) {
+            String key = readString(in);
+            extraEntries.put(key, readString(in));
+        }
+
+        int chunkCount = in.getInt();
+        for (int i = 0; i < chunkCount; i++) {
+            int chunkX = in.getInt();
+            int chunkY = in.getInt();
+            chunkOffsets.put(pack(chunkX, chunkY), in.getInt());
+        }
+    }
+
+    /**
+     * Opens a region file for memory-mapped reading.
+     */
+    public static RegionFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new RegionFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates map data with this file's metadata. Tiles only contain the extra (non "x,y") entries;
+     * tile data is read per chunk with {@link #readChunk}.
+     */
+    public StaticMapData createMapData() {
+        StaticMapData mapData = new StaticMapData();
+        mapData.name = header.name;
+        mapData.width = header.width;
+        mapData.height = header.height;
+        mapData.spawnX = header.spawnX;
+        mapData.spawnY = header.spawnY;
+        mapData.defaultTile = header.defaultTile;
+        mapData.tiles = new HashMap<>(extraEntries);
+        return mapData;
+    }
+
+    /**
+     * Reads the tile data of one chunk.
+     * @param cells Output array of CHUNK_SIZE * CHUNK_SIZE entries indexed by localX * CHUNK_SIZE + localY;
+     *              cells without explicit data are set to null
+     * @return true if the chunk has any tile data
+     */
+    public boolean readChunk(int chunkX, int chunkY, String[] cells) {
+        Arrays.fill(cells, 0, CELLS_PER_CHUNK, null);
+        Integer offset = chunkOffsets.get(pack(chunkX, chunkY));
+        if (offset == null) {
+            return false;
+        }
+
+        int position = offset;
+        int cellCount = buffer.getShort(position) & 0xFFFF;
+        position += 2;
+        for (int i = 0; i < cellCount; i++) {
+            int cellIndex = buffer.get(position) & 0xFF;
+            int layerCount = buffer.get(position + 1) & 0xFF;
+            position += 2;
+            cells[cellIndex] = readCell(position, layerCount);
+            position += layerCount * 2;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the raw tile data at a world tile position, or null if the tile has no explicit data.
+     */
+    public String getCell(int worldTileX, int worldTileY) {
+        int chunkX = Math.floorDiv(worldTileX, Constants.CHUNK_SIZE);
+        int chunkY = Math.floorDiv(worldTileY, Constants.CHUNK_SIZE);
+        Integer offset = chunkOffsets.get(pack(chunkX, chunkY));
+        if (offset == null) {
+            return null;
+        }
+
+        int target = Math.floorMod(worldTileX, Constants.CHUNK_SIZE) * Constants.CHUNK_SIZE
+            + Math.floorMod(worldTileY, Constants.CHUNK_SIZE);
+        int position = offset;
+        int cellCount = buffer.getShort(position) & 0xFFFF;
+        position += 2;
+        for (int i = 0; i < cellCount; i++) {
+            int cellIndex = buffer.get(position) & 0xFF;
+            int layerCount = buffer.get(position + 1) & 0xFF;
+            position += 2;
+            if (cellIndex == target) {
+                return readCell(position, layerCount);
+            }
+            position += layerCount * 2;
+        }
+        return null;
+    }
+
+    /**
+     * Reads every tile entry back into "x,y" -> data form, including extra entries.
+     */
+    public void readAll(Map<String, String> out) {
+        out.putAll(extraEntries);
+        String[] cells = new String[CELLS_PER_CHUNK];
+        for (Long key : chunkOffsets.keySet()) {
+            int chunkX = (int) (key >> 32);
+            int chunkY = (int) key.longValue();
+            readChunk(chunkX, chunkY, cells);
+            for (int i = 0; i < CELLS_PER_CHUNK; i++) {
+                if (cells[i] != null) {
+                    int x = chunkX * Constants.CHUNK_SIZE + i / Constants.CHUNK_SIZE;
+                    int y = chunkY * Constants.CHUNK_SIZE + i % Constants.CHUNK_SIZE;
+                    out.put(x + "," + y, cells[i]);
+                }
+            }
+        }
+    }
+
+    public int getChunkCount() {
+        return chunkOffsets.size();
+    }
+
+    public int getPaletteSize() {
+        return palette.length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String readCell(int position, int layerCount) {
+        if (layerCount == 1) {
+            return palette[buffer.getShort(position) & 0xFFFF];  // Shared palette string, no copy
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int layer = 0; layer < layerCount; layer++) {
+            if (layer > 0) {
+                builder.append(';');
+            }
+            builder.append(palette[buffer.getShort(position + layer * 2) & 0xFFFF]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes map data to a region file. The file is written to a temporary path first
+     * and then moved into place, so an open reader of the old file is never left half-written.
+     */
+    public static void write(Path path, StaticMapData mapData) throws IOException {
+        Map<String, Integer> paletteIndex = new LinkedHashMap<>();
+        Map<String, String> extras = new LinkedHashMap<>();
+        // Sorted so the same map always produces the same file
+        TreeMap<Long, TreeMap<Integer, int[]>> chunkCells = new TreeMap<>();
+
+        for (Map.Entry<String, String> entry : mapData.tiles.entrySet()) {
+            String key = entry.getKey();
+            String value = entry.getValue();
+            int[] coords = parseKey(key);
+            if (coords == null || value == null) {
+                extras.put(key, value);
+                continue;
+            }
+
+            // Split with -1 keeps empty layers, so joining with ';' restores the exact string
+            String[] layers = value.split(";", -1);
+            if (layers.length > 0xFF) {
+                throw new IOException("Too many layers at " + key);
+            }
+            int[] indices = new int[layers.length];
+            for (int i = 0; i < layers.length; i++) {
+                Integer index = paletteIndex.get(layers[i]);
+                if (index == null) {
+                    index = paletteIndex.size();
+                    if (index > 0xFFFF) {
+                        throw new IOException("Tile palette exceeds 65536 entries");
+                    }
+                    paletteIndex.put(layers[i], index);
+                }
+                indices[i] = index;
+            }
+
+            int chunkX = Math.floorDiv(coords[0], Constants.CHUNK_SIZE);
+            int chunkY = Math.floorDiv(coords[1], Constants.CHUNK_SIZE);
+            int cellIndex = Math.floorMod(coords[0], Constants.CHUNK_SIZE) * Constants.CHUNK_SIZE
+                + Math.floorMod(coords[1], Constants.CHUNK_SIZE);
+            chunkCells.computeIfAbsent(pack(chunkX, chunkY), k -> new TreeMap<>()).put(cellIndex, indices);
+        }
+
+        // Header, palette and extras
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(fileBytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, mapData.name);
+        out.writeInt(mapData.width);
+        out.writeInt(mapData.height);
+        out.writeInt(mapData.spawnX);
+        out.writeInt(mapData.spawnY);
+        writeString(out, mapData.defaultTile);
+        out.writeInt(paletteIndex.size());
+        for (String layer : paletteIndex.keySet()) {
+            writeString(out, layer);
+        }
+        out.writeInt(extras.size());
+        for (Map.Entry<String, String> entry : extras.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+        out.flush();
+
+        // Chunk records
+        List<byte[]> records = new ArrayList<>();
+        for (TreeMap<Integer, int[]> cells : chunkCells.values()) {
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            record.writeShort(cells.size());
+            for (Map.Entry<Integer, int[]> cell : cells.entrySet()) {
+                record.writeByte(cell.getKey());
+                record.writeByte(cell.getValue().length);
+                for (int index : cell.getValue()) {
+                    record.writeShort(index);
+                }
+            }
+            record.flush();
+            records.add(recordBytes.toByteArray());
+        }
+
+        // Index, with absolute record offsets
+        int indexSize = 4 + chunkCells.size() * 12;
+        int offset = fileBytes.size() + indexSize;
+        out.writeInt(chunkCells.size());
+        int recordNumber = 0;
+        for (Long key : chunkCells.keySet()) {
+            out.writeInt((int) (key >> 32));
+            out.writeInt((int) key.longValue());
+            out.writeInt(offset);
+            offset += records.get(recordNumber++).length;
+        }
+        for (byte[] record : records) {
+            out.write(record);
+        }
+        out.flush();
+
+        Path absolute = path.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, fileBytes.toByteArray());
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Parses an "x,y" key, or returns null if the key doesn't round-trip exactly.
+     */
+    private static int[] parseKey(String key) {
+        int comma = key.indexOf(',');
+        if (comma <= 0) {
+            return null;
+        }
+        try {
+            int x = Integer.parseInt(key.substring(0, comma));
+            int y = Integer.parseInt(key.substring(comma + 1));
+            return (x + "," + y).equals(key) ? new int[]{x, y} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long pack(int x, int y) {
+        return (((long)x) << 32) | (y & 0xffffffffL);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.utils.Json;
+import io.github.inherit_this.world.StaticWorld.StaticMapData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Command-line tool that converts JSON maps to the binary {@link RegionFile} format.
+ * Each converted file is read back and compared with the source to make sure nothing was lost.
+ *
+ * Usage: RegionFileConverter map1.json [map2.json ...]
+ * Writes map1.region etc. next to each input file.
+ */
+public class RegionFileConverter {
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: RegionFileConverter <map.json> [more maps...]");
+            System.exit(1);
+        }
+
+        int failures = 0;
+        for (String arg : args) {
+            Path input = Paths.get(arg);
+            try {
+                Path output = convert(input);
+                System.out.println("Converted " + input + " -> " + output
+                    + " (" + Files.size(input) + " -> " + Files.size(output) + " bytes)");
+            } catch (Exception e) {
+                System.err.println("Failed to convert " + input + ": " + e.getMessage());
+                failures++;
+            }
+        }
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Converts a JSON map to a region file next to it and verifies the result.
+     * @return Path of the written region file
+     */
+    public static Path convert(Path input) throws IOException {
+        String json = new String(Files.readAllBytes(input), StandardCharsets.UTF_8);
+        StaticMapData mapData = new Json().fromJson(StaticMapData.class, json);
+        if (mapData.tiles == null) {
+            mapData.tiles = new HashMap<>();
+        }
+
+        String fileName = input.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        Path output = input.resolveSibling(baseName + RegionFile.EXTENSION);
+
+        RegionFile.write(output, mapData);
+        verify(mapData, output);
+        return output;
+    }
+
+    /**
+     * Reads a region file back and checks it matches the source map data exactly.
+     */
+    private static void verify(StaticMapData expected, Path regionPath) throws IOException {
+        try (RegionFile region = RegionFile.open(regionPath)) {
+            StaticMapData actual = region.createMapData();
+            Map<String, String> tiles = new HashMap<>();
+            region.readAll(tiles);
+
+            if (!Objects.equals(expected.name, actual.name)
+                || expected.width != actual.width
+                || expected.height != actual.height
+                || expected.spawnX != actual.spawnX
+                || expected.spawnY != actual.spawnY
+                || !Objects.equals(expected.defaultTile, actual.defaultTile)) {
+                throw new IOException("Map metadata does not match after conversion");
+            }
+            if (!expected.tiles.equals(tiles)) {
+                throw new IOException("Tile data does not match after conversion");
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.util.Constants;
+
+/**
+ * Packed solidity bitset for a world, one bit per tile.
+ * Each chunk's 8x8 tiles fit exactly in one long (bit index localX * CHUNK_SIZE + localY),
+ * stored in a primitive hash table keyed by packed chunk coordinates.
+ * Masks are computed lazily from a {@link MaskSource} and must be invalidated when tiles change.
+ *
+ * All coordinates are in tiles. Queries never allocate, so they are safe to call many times per frame.
+ * Not thread-safe: use from the render thread only. The exception is queries inside an area
+ * loaded with {@link #prefetch}: they only read, so several threads may run them at once while nothing writes.
+ */
+public class SolidityMap {
+
+    /**
+     * Computes the solidity mask of one chunk.
+     */
+    public interface MaskSource {
+        long computeMask(int chunkX, int chunkY);
+    }
+
+    // Keeps a box that was stopped by a wall just outside the wall's tile
+    private static final float SKIN = 0.001f;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final MaskSource source;
+    private final boolean bounded;
+    private final int widthInTiles;
+    private final int heightInTiles;
+    private final boolean outOfBoundsSolid;
+
+    // Open addressing table: keys/masks with a separate occupancy flag
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] masks = new long[INITIAL_CAPACITY];
+    private boolean[] used = new boolean[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Creates an unbounded solidity map (e.g. for infinite procedural worlds).
+     */
+    public SolidityMap(MaskSource source) {
+        this.source = source;
+        this.bounded = false;
+        this.widthInTiles = 0;
+        this.heightInTiles = 0;
+        this.outOfBoundsSolid = false;
+    }
+
+    /**
+     * Creates a solidity map for a world covering tiles [0, width) x [0, height).
+     * @param outOfBoundsSolid Value reported for tiles outside the world
+     */
+    public SolidityMap(MaskSource source, int widthInTiles, int heightInTiles, boolean outOfBoundsSolid) {
+        this.source = source;
+        this.bounded = true;
+        this.widthInTiles = widthInTiles;
+        this.heightInTiles = heightInTiles;
+        this.outOfBoundsSolid = outOfBoundsSolid;
+    }
+
+    /**
+     * Checks if a tile blocks movement.
+     */
+    public boolean isSolid(int tileX, int tileY) {
+        if (bounded && (tileX < 0 || tileY < 0 || tileX >= widthInTiles || tileY >= heightInTiles)) {
+            return outOfBoundsSolid;
+        }
+        int chunkX = Math.floorDiv(tileX, Constants.CHUNK_SIZE);
+        int chunkY = Math.floorDiv(tileY, Constants.CHUNK_SIZE);
+        int bit = Math.floorMod(tileX, Constants.CHUNK_SIZE) * Constants.CHUNK_SIZE
+            + Math.floorMod(tileY, Constants.CHUNK_SIZE);
+        return (getMask(chunkX, chunkY) & (1L << bit)) != 0;
+    }
+
+    /**
+     * Checks if any solid tile touches the box. Both edges are inclusive, matching corner probing:
+     * a box edge lying exactly on a tile boundary touches the tile beyond it.
+     */
+    public boolean overlaps(float minX, float minY, float maxX, float maxY) {
+        int startX = (int) Math.floor(minX);
+        int endX = (int) Math.floor(maxX);
+        int startY = (int) Math.floor(minY);
+        int endY = (int) Math.floor(maxY);
+        for (int tileX = startX; tileX <= endX; tileX++) {
+            for (int tileY = startY; tileY <= endY; tileY++) {
+                if (isSolid(tileX, tileY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves a box by (dx, dy) and stops it at the first solid tile on each axis.
+     * X is resolved before Y, so a box moving diagonally into a wall slides along it.
+     * Tiles the box already crosses are ignored, so a box stuck in a wall can move out; tiles it only
+     * touches with an edge on their boundary still block it.
+     * @param x Box center X
+     * @param y Box center Y
+     * @param out Receives the resolved box center
+     */
+    public Vector2 sweep(float x, float y, float halfWidth, float halfHeight, float dx, float dy, Vector2 out) {
+        float newX = sweepX(x, y, halfWidth, halfHeight, dx);
+        float newY = sweepY(newX, y, halfWidth, halfHeight, dy);
+        return out.set(newX, newY);
+    }
+
+    private float sweepX(float x, float y, float halfWidth, float halfHeight, float dx) {
+        if (dx == 0f) {
+            return x;
+        }
+        int minRow = (int) Math.floor(y - halfHeight);
+        int maxRow = (int) Math.floor(y + halfHeight);
+
+        if (dx > 0f) {
+            int end = (int) Math.floor(x + halfWidth + dx);
+            // A max edge on a tile boundary doesn't cross the tile beyond, so that tile is checked too
+            for (int col = (int) Math.ceil(x + halfWidth); col <= end; col++) {
+                if (isColumnSolid(col, minRow, maxRow)) {
+                    return Math.max(x, col - SKIN - halfWidth);
+                }
+            }
+        } else {
+            int end = (int) Math.floor(x - halfWidth + dx);
+            for (int col = (int) Math.floor(x - halfWidth) - 1; col >= end; col--) {
+                if (isColumnSolid(col, minRow, maxRow)) {
+                    return Math.min(x, col + 1 + halfWidth);
+                }
+            }
+        }
+        return x + dx;
+    }
+
+    private float sweepY(float x, float y, float halfWidth, float halfHeight, float dy) {
+        if (dy == 0f) {
+            return y;
+        }
+        int minCol = (int) Math.floor(x - halfWidth);
+        int maxCol = (int) Math.floor(x + halfWidth);
+
+        if (dy > 0f) {
+            int end = (int) Math.floor(y + halfHeight + dy);
+            for (int row = (int) Math.ceil(y + halfHeight); row <= end; row++) {
+                if (isRowSolid(row, minCol, maxCol)) {
+                    return Math.max(y, row - SKIN - halfHeight);
+                }
+            }
+        } else {
+            int end = (int) Math.floor(y - halfHeight + dy);
+            for (int row = (int) Math.floor(y - halfHeight) - 1; row >= end; row--) {
+                if (isRowSolid(row, minCol, maxCol)) {
+                    return Math.min(y, row + 1 + halfHeight);
+                }
+            }
+        }
+        return y + dy;
+    }
+
+    private boolean isColumnSolid(int tileX, int minTileY, int maxTileY) {
+        for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+            if (isSolid(tileX, tileY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRowSolid(int tileY, int minTileX, int maxTileX) {
+        for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+            if (isSolid(tileX, tileY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the solidity of a single tile, e.g. after a tile was placed or destroyed.
+     */
+    public void setSolid(int tileX, int tileY, boolean solid) {
+        if (bounded && (tileX < 0 || tileY < 0 || tileX >= widthInTiles || tileY >= heightInTiles)) {
+            return;
+        }
+        int chunkX = Math.floorDiv(tileX, Constants.CHUNK_SIZE);
+        int chunkY = Math.floorDiv(tileY, Constants.CHUNK_SIZE);
+        long bit = 1L << (Math.floorMod(tileX, Constants.CHUNK_SIZE) * Constants.CHUNK_SIZE
+            + Math.floorMod(tileY, Constants.CHUNK_SIZE));
+        long mask = getMask(chunkX, chunkY);
+        put(pack(chunkX, chunkY), solid ? (mask | bit) : (mask & ~bit));
+    }
+
+    /**
+     * Drops the cached mask of a chunk so it is recomputed on the next query.
+     */
+    public void invalidateChunk(int chunkX, int chunkY) {
+        long key = pack(chunkX, chunkY);
+        int slot = find(key);
+        if (!used[slot]) {
+            return;
+        }
+
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        used[slot] = false;
+        size--;
+        int mask = keys.length - 1;
+        int next = (slot + 1) & mask;
+        while (used[next]) {
+            int home = hash(keys[next]) & mask;
+            boolean movable = slot <= next ? (home <= slot || home > next) : (home <= slot && home > next);
+            if (movable) {
+                keys[slot] = keys[next];
+                masks[slot] = masks[next];
+                used[slot] = true;
+                used[next] = false;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    /**
+     * Drops all cached masks.
+     */
+    public void clear() {
+        java.util.Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Number of chunks with a cached mask.
+     */
+    public int getCachedChunkCount() {
+        return size;
+    }
+
+    /**
+     * Computes and caches the masks of every chunk touching a box of tiles (both corners inclusive),
+     * so later queries inside the box don't write to the cache.
+     */
+    public void prefetch(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        if (bounded) {
+            // Tiles outside the world never look up a mask
+            minTileX = Math.max(minTileX, 0);
+            minTileY = Math.max(minTileY, 0);
+            maxTileX = Math.min(maxTileX, widthInTiles - 1);
+            maxTileY = Math.min(maxTileY, heightInTiles - 1);
+        }
+        int maxChunkX = Math.floorDiv(maxTileX, Constants.CHUNK_SIZE);
+        int maxChunkY = Math.floorDiv(maxTileY, Constants.CHUNK_SIZE);
+        for (int chunkX = Math.floorDiv(minTileX, Constants.CHUNK_SIZE); chunkX <= maxChunkX; chunkX++) {
+            for (int chunkY = Math.floorDiv(minTileY, Constants.CHUNK_SIZE); chunkY <= maxChunkY; chunkY++) {
+                getMask(chunkX, chunkY);
+            }
+        }
+    }
+
+    private long getMask(int chunkX, int chunkY) {
+        long key = pack(chunkX, chunkY);
+        int slot = find(key);
+        if (used[slot]) {
+            return masks[slot];
+        }
+        long mask = source.computeMask(chunkX, chunkY);
+        put(key, mask);
+        return mask;
+    }
+
+    private void put(long key, long mask) {
+        int slot = find(key);
+        if (!used[slot]) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+                slot = find(key);
+            }
+            keys[slot] = key;
+            used[slot] = true;
+            size++;
+        }
+        masks[slot] = mask;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldMasks = masks;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        masks = new long[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldMasks[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
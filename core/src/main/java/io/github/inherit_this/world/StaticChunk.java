@@ -1,11 +1,9 @@
 package io.github.inherit_this.world;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import io.github.inherit_this.util.Constants;
 import io.github.inherit_this.world.StaticWorld.StaticMapData;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,76 +12,87 @@ import java.util.List;
  */
 public class StaticChunk extends Chunk {
 
-    @SuppressWarnings("unchecked")
-    private List<Tile>[][] tileLayers = (List<Tile>[][]) new List[Constants.CHUNK_SIZE][Constants.CHUNK_SIZE];
-    private int chunkX;
-    private int chunkY;
+    private final PackedTileLayers tileLayers;
+    // Tile objects are only created for cells that are asked for them through getTiles/getTile
+    private final List<Tile>[] materializedTiles;
     private static final TileTextureManager textureManager = TileTextureManager.getInstance();
 
-    // Cache 3D models for performance
-    private List<ModelInstance> cachedModels = null;
-
     public StaticChunk(int chunkX, int chunkY, StaticMapData mapData) {
-        super(chunkX, chunkY, "grass"); // Call parent constructor
-        this.chunkX = chunkX;
-        this.chunkY = chunkY;
-        generateTilesFromMapData(mapData);
+        this(chunkX, chunkY, mapData, null);
+    }
+
+    /**
+     * Creates a chunk from pre-read cell data (e.g. from a region file).
+     * @param cells Tile data per cell, indexed by localX * CHUNK_SIZE + localY; null uses the map's default tile
+     */
+    @SuppressWarnings("unchecked")
+    public StaticChunk(int chunkX, int chunkY, StaticMapData mapData, String[] cells) {
+        super(chunkX, chunkY); // Tiles come from map data, skip procedural generation
+        this.materializedTiles = (List<Tile>[]) new List[PackedTileLayers.CELL_COUNT];
+        this.tileLayers = generateTilesFromMapData(mapData, cells);
     }
 
     /**
      * Generates tiles from static map data instead of procedural generation.
      * Supports multiple layers (ground, walls, roofs) at each position.
+     * Tile data comes from {@code cells} when given, otherwise from the map data's tile table.
      */
-    private void generateTilesFromMapData(StaticMapData mapData) {
-        // Initialize all tile layer lists
-        for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
-            for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
-                tileLayers[x][y] = new ArrayList<>();
-            }
-        }
+    private PackedTileLayers generateTilesFromMapData(StaticMapData mapData, String[] cells) {
+        PackedTileLayers.Builder builder = new PackedTileLayers.Builder();
+
+        int chunkX = getChunkX();
+        int chunkY = getChunkY();
 
         // Load tiles from map data
         for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
             for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
+                builder.cell(x * Constants.CHUNK_SIZE + y);
+
                 // Calculate world tile coordinates
                 int worldTileX = chunkX * Constants.CHUNK_SIZE + x;
                 int worldTileY = chunkY * Constants.CHUNK_SIZE + y;
 
-                // Get tile data for this position (format: "tileType:layer:direction" or just "tileType")
-                String tileKey = worldTileX + "," + worldTileY;
-                String tileData = mapData.tiles.getOrDefault(tileKey, mapData.defaultTile);
-
                 // Check if outside map bounds
                 if (worldTileX < 0 || worldTileX >= mapData.width ||
                     worldTileY < 0 || worldTileY >= mapData.height) {
                     // Outside map bounds - use void tile
                     Texture texture = textureManager.getTexture("tiles/void.png");
-                    tileLayers[x][y].add(new Tile(texture, true, TileType.VOID, TileLayer.GROUND, -1f, 0, 0));
+                    builder.add(texture, TileType.VOID, TileLayer.GROUND, 0, 0, true, false, 0);
+                    continue;
+                }
+
+                // Get tile data for this position (format: "tileType:layer:direction" or just "tileType")
+                String tileData;
+                if (cells != null) {
+                    String cell = cells[x * Constants.CHUNK_SIZE + y];
+                    tileData = cell != null ? cell : mapData.defaultTile;
                 } else {
-                    // Parse tile data (supports legacy single-tile format and new multi-layer format)
-                    String[] parts = tileData.split(";");
-                    for (String part : parts) {
-                        Tile tile = parseTileData(part);
-                        if (tile != null) {
-                            tileLayers[x][y].add(tile);
-                        }
-                    }
+                    String tileKey = worldTileX + "," + worldTileY;
+                    tileData = mapData.tiles.getOrDefault(tileKey, mapData.defaultTile);
+                }
 
-                    // If no tiles were added, add default grass
-                    if (tileLayers[x][y].isEmpty()) {
-                        Texture texture = textureManager.getTexture("tiles/grass_1.png");
-                        tileLayers[x][y].add(new Tile(texture, false, TileType.GRASS, TileLayer.GROUND, -1f, 0, 0));
-                    }
+                // Parse tile data (supports legacy single-tile format and new multi-layer format)
+                String[] parts = tileData.split(";");
+                for (String part : parts) {
+                    addParsedTile(builder, part);
+                }
+
+                // If no tiles were added, add default grass
+                if (builder.isCellEmpty()) {
+                    Texture texture = textureManager.getTexture("tiles/grass_1.png");
+                    builder.add(texture, TileType.GRASS, TileLayer.GROUND, 0, 0, false, false, 0);
                 }
             }
         }
+
+        return builder.build();
     }
 
     /**
-     * Parses a single tile data string into a Tile object.
+     * Parses a single tile data string and adds it to the current cell.
      * Format: "tileType:layer:direction:level:flipped:textureRotation" or just "tileType" (defaults to GROUND layer, level 0, not flipped, 0° rotation)
      */
-    private Tile parseTileData(String tileData) {
+    private void addParsedTile(PackedTileLayers.Builder builder, String tileData) {
         String[] parts = tileData.split(":");
         String tileType = parts[0];
         TileLayer layer = parts.length > 1 ? TileLayer.valueOf(parts[1]) : TileLayer.GROUND;
@@ -96,7 +105,7 @@ public class StaticChunk extends Chunk {
         Texture texture = textureManager.getTexture("tiles/" + tileType + ".png");
         if (texture == null) {
             // Texture not found, skip this tile
-            return null;
+            return;
         }
 
         // Determine properties based on tile name and layer
@@ -113,17 +122,14 @@ public class StaticChunk extends Chunk {
             type = TileType.GRASS;
         }
 
-        return new Tile(texture, solid, type, layer, -1f, direction, level, flipped, textureRotation);
+        builder.add(texture, type, layer, direction, level, solid, flipped, textureRotation);
     }
 
     @Override
     public Tile getTile(int x, int y) {
-        if (x < 0 || y < 0 || x >= Constants.CHUNK_SIZE || y >= Constants.CHUNK_SIZE) {
-            throw new IndexOutOfBoundsException("Tile coords out of bounds");
-        }
         // Return ground tile (first tile) for backward compatibility
-        List<Tile> tiles = tileLayers[x][y];
-        return (tiles != null && !tiles.isEmpty()) ? tiles.get(0) : null;
+        List<Tile> tiles = getTiles(x, y);
+        return !tiles.isEmpty() ? tiles.get(0) : null;
     }
 
     @Override
@@ -131,97 +137,78 @@ public class StaticChunk extends Chunk {
         if (x < 0 || y < 0 || x >= Constants.CHUNK_SIZE || y >= Constants.CHUNK_SIZE) {
             throw new IndexOutOfBoundsException("Tile coords out of bounds");
         }
-        return tileLayers[x][y] != null ? tileLayers[x][y] : new ArrayList<>();
+        int cell = x * Constants.CHUNK_SIZE + y;
+        List<Tile> tiles = materializedTiles[cell];
+        if (tiles == null) {
+            tiles = tileLayers.toTiles(cell);
+            materializedTiles[cell] = tiles;
+        }
+        return tiles;
     }
 
     @Override
-    public int getChunkX() {
-        return chunkX;
+    public boolean isSolidAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= Constants.CHUNK_SIZE || y >= Constants.CHUNK_SIZE) {
+            throw new IndexOutOfBoundsException("Tile coords out of bounds");
+        }
+        return tileLayers.isSolid(x * Constants.CHUNK_SIZE + y);
     }
 
-    @Override
-    public int getChunkY() {
-        return chunkY;
+    /**
+     * Gets the packed tile layers of this chunk, for allocation-free reads with a cursor.
+     */
+    public PackedTileLayers getTileLayers() {
+        return tileLayers;
     }
 
     @Override
-    public List<ModelInstance> getCachedModels() {
-        if (cachedModels == null) {
-            buildCachedModels();
-        }
-        return cachedModels;
-    }
-
-    private void buildCachedModels() {
-        cachedModels = new ArrayList<>();
-        TileMesh3D tileMesh = TileMesh3D.getInstance();
-
-        float baseX = chunkX * Constants.CHUNK_PIXEL_SIZE;
-        float baseY = chunkY * Constants.CHUNK_PIXEL_SIZE;
+    protected void buildMesh(ChunkMeshBuilder builder) {
+        float baseX = getChunkX() * Constants.CHUNK_PIXEL_SIZE;
+        float baseY = getChunkY() * Constants.CHUNK_PIXEL_SIZE;
+        PackedTileLayers.Cursor tile = tileLayers.new Cursor();
 
         for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
             for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
                 float tileWorldX = baseX + x * Constants.TILE_SIZE;
                 float tileWorldY = baseY + y * Constants.TILE_SIZE;
 
-                // Render all tile layers at this position
-                List<Tile> tilesAtPosition = tileLayers[x][y];
-                if (tilesAtPosition != null) {
-                    for (Tile tile : tilesAtPosition) {
-                        TileLayer layer = tile.getLayer();
-                        float baseYOffset = layer != null ? layer.getYOffset() : 0f;
-                        int level = tile.getLevel();
-                        // Add level offset: each level adds one tile height (32 pixels)
-                        float yOffset = baseYOffset + (level * Constants.TILE_SIZE);
-                        float angle = tile.getEffectiveAngle();
-                        int direction = tile.getDirection();
-
-                        ModelInstance tileInstance;
-
-                        // Use wall rendering for WALL layer tiles
-                        if (layer == TileLayer.WALL) {
-                            float wallHeight = Constants.TILE_SIZE;  // Default wall height
-                            boolean flipped = tile.isFlipped();
-                            int textureRotation = tile.getTextureRotation();
-                            tileInstance = tileMesh.createWallInstance(
-                                tile.getTexture(),
-                                tileWorldX,
-                                tileWorldY,
-                                yOffset,
-                                direction,
-                                wallHeight,
-                                flipped,
-                                textureRotation
-                            );
-                        } else {
-                            // Use angled tile rendering for other layers
-                            tileInstance = tileMesh.createAngledTileInstance(
-                                tile.getTexture(),
-                                tileWorldX,
-                                tileWorldY,
-                                yOffset,
-                                angle,
-                                direction
-                            );
-                        }
-
-                        cachedModels.add(tileInstance);
+                // Add all tile layers at this position
+                tile.reset(x * Constants.CHUNK_SIZE + y);
+                while (tile.next()) {
+                    TileLayer layer = tile.getLayer();
+                    float baseYOffset = layer.getYOffset();
+                    int level = tile.getLevel();
+                    // Add level offset: each level adds one tile height (32 pixels)
+                    float yOffset = baseYOffset + (level * Constants.TILE_SIZE);
+                    float angle = tile.getEffectiveAngle();
+                    int direction = tile.getDirection();
+
+                    // Use wall rendering for WALL layer tiles
+                    if (layer == TileLayer.WALL) {
+                        float wallHeight = Constants.TILE_SIZE;  // Default wall height
+                        builder.addWall(
+                            tile.getTexture(),
+                            tileWorldX,
+                            tileWorldY,
+                            yOffset,
+                            direction,
+                            wallHeight,
+                            tile.isFlipped(),
+                            tile.getTextureRotation()
+                        );
+                    } else {
+                        // Use angled tile rendering for other layers
+                        builder.addAngledTile(
+                            tile.getTexture(),
+                            tileWorldX,
+                            tileWorldY,
+                            yOffset,
+                            angle,
+                            direction
+                        );
                     }
                 }
             }
         }
     }
-
-    @Override
-    public void invalidateCache() {
-        cachedModels = null;
-    }
-
-    @Override
-    public void dispose() {
-        if (cachedModels != null) {
-            cachedModels.clear();
-            cachedModels = null;
-        }
-    }
 }
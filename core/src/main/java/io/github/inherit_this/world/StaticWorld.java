@@ -3,29 +3,74 @@ package io.github.inherit_this.world;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
+import io.github.inherit_this.pathfinding.Pathfinder;
 import io.github.inherit_this.util.Constants;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Static world loaded from a map file (for towns and hand-crafted areas).
- * Map data is stored in JSON format and loaded at startup.
+ * Map data is stored in JSON format and loaded at startup, or in the binary
+ * {@link RegionFile} format ({@code .region}) with chunks read on demand.
+ * Either way chunks are built lazily: a {@link ChunkStreamer} loads the ones around the player
+ * in the background and chunks far behind the player are unloaded.
  */
 public class StaticWorld implements WorldProvider {
 
-    private Map<Long, Chunk> chunks = new HashMap<>();
+    private final Map<Long, Chunk> chunks = ChunkResidencyManager.createChunkMap();
+    private final ChunkResidencyManager residency = new ChunkResidencyManager();
+    private final ChunkStreamer streamer;
     private StaticMapData mapData;
     private String mapFilePath;
+    private ChunkPipeline pipeline;
+    private SolidityMap solidityMap;
+    private Pathfinder pathfinder;
+
+    // Region file backing the map (null for JSON maps). In region mode mapData.tiles only holds
+    // editor changes on top of the file; a null value resets that tile to the default tile.
+    private RegionFile region;
 
     /**
-     * Creates a StaticWorld by loading map data from a JSON file.
-     * @param mapFilePath Path to the map JSON file (relative to assets)
+     * Creates a StaticWorld by loading map data from a JSON or region file.
+     * @param mapFilePath Path to the map file (relative to assets)
      */
     public StaticWorld(String mapFilePath) {
         this.mapFilePath = mapFilePath;
-        loadMapData();
-        generateChunksFromMapData();
+        if (isRegionPath(mapFilePath)) {
+            // Chunks are read from the region file on demand
+            loadRegionFile();
+        } else {
+            loadMapData();
+        }
+        streamer = new ChunkStreamer(
+            (int) Math.ceil((double) mapData.width / Constants.CHUNK_SIZE),
+            (int) Math.ceil((double) mapData.height / Constants.CHUNK_SIZE));
+    }
+
+    public static boolean isRegionPath(String path) {
+        return path != null && path.endsWith(RegionFile.EXTENSION);
+    }
+
+    /**
+     * Opens the region file for memory-mapped chunk reads. Local files (saved edits) take priority.
+     */
+    private void loadRegionFile() {
+        try {
+            FileHandle file = Gdx.files.local(mapFilePath);
+            if (!file.exists()) {
+                file = Gdx.files.internal(mapFilePath);
+            }
+            region = RegionFile.open(file.file().toPath());
+            mapData = region.createMapData();
+            Gdx.app.log("StaticWorld", "Opened region map: " + mapData.name + " (" + mapData.width + "x" + mapData.height
+                + ", " + region.getChunkCount() + " chunks, " + region.getPaletteSize() + " palette entries)");
+        } catch (Exception e) {
+            Gdx.app.error("StaticWorld", "Failed to open region map " + mapFilePath, e);
+            region = null;
+            useFallbackMap();
+        }
     }
 
     /**
@@ -40,37 +85,133 @@ public class StaticWorld implements WorldProvider {
             Gdx.app.log("StaticWorld", "Spawn coordinates: (" + mapData.spawnX + ", " + mapData.spawnY + ")");
         } catch (Exception e) {
             Gdx.app.error("StaticWorld", "Failed to load map from " + mapFilePath, e);
-            // Create empty default map
-            mapData = new StaticMapData();
-            mapData.name = "Empty Map";
-            mapData.width = 10;
-            mapData.height = 10;
-            mapData.defaultTile = "grass_1";
-            mapData.tiles = new HashMap<>();
-            Gdx.app.log("StaticWorld", "Using fallback empty map");
+            useFallbackMap();
         }
     }
 
     /**
-     * Generates chunks from the loaded map data.
+     * Creates an empty default map.
      */
-    private void generateChunksFromMapData() {
-        int chunksX = (int) Math.ceil((double) mapData.width / Constants.CHUNK_SIZE);
-        int chunksY = (int) Math.ceil((double) mapData.height / Constants.CHUNK_SIZE);
+    private void useFallbackMap() {
+        mapData = new StaticMapData();
+        mapData.name = "Empty Map";
+        mapData.width = 10;
+        mapData.height = 10;
+        mapData.defaultTile = "grass_1";
+        mapData.tiles = new HashMap<>();
+        Gdx.app.log("StaticWorld", "Using fallback empty map");
+    }
+
+    /**
+     * Creates a single chunk from map data.
+     */
+    private void createChunkFromMapData(int chunkX, int chunkY) {
+        chunks.put(pack(chunkX, chunkY), buildChunk(chunkX, chunkY));
+        if (solidityMap != null) {
+            solidityMap.invalidateChunk(chunkX, chunkY);
+        }
+    }
+
+    /**
+     * Builds a chunk from map data. Runs on chunk worker threads too, so map data reads
+     * are synchronized with editor changes.
+     */
+    private StaticChunk buildChunk(int chunkX, int chunkY) {
+        synchronized (mapData) {
+            if (region == null) {
+                return new StaticChunk(chunkX, chunkY, mapData);
+            }
+
+            String[] cells = new String[Constants.CHUNK_SIZE * Constants.CHUNK_SIZE];
+            region.readChunk(chunkX, chunkY, cells);
+
+            // Apply editor changes on top of the region data
+            if (!mapData.tiles.isEmpty()) {
+                for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
+                    for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
+                        String key = (chunkX * Constants.CHUNK_SIZE + x) + "," + (chunkY * Constants.CHUNK_SIZE + y);
+                        if (mapData.tiles.containsKey(key)) {
+                            cells[x * Constants.CHUNK_SIZE + y] = mapData.tiles.get(key);
+                        }
+                    }
+                }
+            }
+            return new StaticChunk(chunkX, chunkY, mapData, cells);
+        }
+    }
 
-        for (int cx = 0; cx < chunksX; cx++) {
-            for (int cy = 0; cy < chunksY; cy++) {
-                createChunkFromMapData(cx, cy);
+    /**
+     * Gets the raw tile data string at a tile position, or null if it uses the default tile.
+     */
+    public String getTileData(int worldTileX, int worldTileY) {
+        String key = worldTileX + "," + worldTileY;
+        synchronized (mapData) {
+            if (region == null || mapData.tiles.containsKey(key)) {
+                return mapData.tiles.get(key);
             }
+            return region.getCell(worldTileX, worldTileY);
         }
     }
 
     /**
-     * Creates a single chunk from map data.
+     * Sets the raw tile data string at a tile position. Null resets the tile to the default tile.
+     * Does not rebuild the chunk; see {@link #recreateChunkAt}.
      */
-    private void createChunkFromMapData(int chunkX, int chunkY) {
-        StaticChunk chunk = new StaticChunk(chunkX, chunkY, mapData);
-        chunks.put(pack(chunkX, chunkY), chunk);
+    public void putTileData(int worldTileX, int worldTileY, String tileData) {
+        String key = worldTileX + "," + worldTileY;
+        synchronized (mapData) {
+            if (tileData == null && region == null) {
+                mapData.tiles.remove(key);
+            } else {
+                // In region mode a null entry overrides the file's data
+                mapData.tiles.put(key, tileData);
+            }
+        }
+    }
+
+    @Override
+    public Chunk requestChunk(int chunkX, int chunkY) {
+        Chunk chunk = chunks.get(pack(chunkX, chunkY));
+        if (chunk == null) {
+            getPipeline().request(chunkX, chunkY);
+        }
+        return chunk;
+    }
+
+    @Override
+    public void updateChunks(float playerTileX, float playerTileY) {
+        if (pipeline != null) {
+            pipeline.update(chunks);
+        }
+        int playerChunkX = Math.floorDiv((int) Math.floor(playerTileX), Constants.CHUNK_SIZE);
+        int playerChunkY = Math.floorDiv((int) Math.floor(playerTileY), Constants.CHUNK_SIZE);
+        if (streamer.update(playerChunkX, playerChunkY, this::requestChunk)) {
+            residency.evictBeyond(chunks, playerChunkX, playerChunkY, streamer.getUnloadRadius());
+        }
+        residency.evict(chunks, playerChunkX, playerChunkY);
+    }
+
+    /**
+     * Sets how far around the player chunks are streamed in and out. See {@link ChunkStreamer#setRadii}.
+     */
+    public void setStreamingRadii(int loadRadius, int unloadRadius, int prefetchDistance) {
+        streamer.setRadii(loadRadius, unloadRadius, prefetchDistance);
+    }
+
+    public ChunkStreamer getStreamer() {
+        return streamer;
+    }
+
+    @Override
+    public int getEvictedChunkCount() {
+        return residency.getEvictedCount();
+    }
+
+    private ChunkPipeline getPipeline() {
+        if (pipeline == null) {
+            pipeline = new ChunkPipeline(this::buildChunk);
+        }
+        return pipeline;
     }
 
     @Override
@@ -107,22 +248,26 @@ public class StaticWorld implements WorldProvider {
         // not just the first one (ground)
         int tileX = (int) Math.floor(worldX / Constants.TILE_SIZE);
         int tileY = (int) Math.floor(worldY / Constants.TILE_SIZE);
+        return getSolidityMap().isSolid(tileX, tileY);
+    }
 
-        int chunkX = Math.floorDiv(tileX, Constants.CHUNK_SIZE);
-        int chunkY = Math.floorDiv(tileY, Constants.CHUNK_SIZE);
-        Chunk chunk = getOrCreateChunk(chunkX, chunkY);
-
-        int localX = Math.floorMod(tileX, Constants.CHUNK_SIZE);
-        int localY = Math.floorMod(tileY, Constants.CHUNK_SIZE);
+    @Override
+    public SolidityMap getSolidityMap() {
+        if (solidityMap == null) {
+            // Tiles outside the map are void tiles, which are solid
+            solidityMap = new SolidityMap(
+                (chunkX, chunkY) -> getOrCreateChunk(chunkX, chunkY).getSolidityMask(),
+                mapData.width, mapData.height, true);
+        }
+        return solidityMap;
+    }
 
-        // Check all layers at this position
-        java.util.List<Tile> tiles = chunk.getTiles(localX, localY);
-        for (Tile tile : tiles) {
-            if (tile != null && tile.isSolid()) {
-                return true;
-            }
+    @Override
+    public Pathfinder getPathfinder() {
+        if (pathfinder == null) {
+            pathfinder = new Pathfinder(getSolidityMap(), mapData.width, mapData.height);
         }
-        return false;
+        return pathfinder;
     }
 
     @Override
@@ -134,12 +279,20 @@ public class StaticWorld implements WorldProvider {
 
     @Override
     public int preloadChunks(int radius) {
-        // StaticWorld loads all chunks at startup, so this is a no-op
-        // Just ensure cached models are built
+        // Loads around the spawn point; chunks beyond the load radius would only be unloaded again
+        int centerX = Math.floorDiv(mapData.spawnX, Constants.CHUNK_SIZE);
+        int centerY = Math.floorDiv(mapData.spawnY, Constants.CHUNK_SIZE);
+        int preloadRadius = Math.min(radius, streamer.getLoadRadius());
+
         int count = 0;
-        for (Chunk chunk : chunks.values()) {
-            chunk.getCachedModels();
-            count++;
+        for (int cx = centerX - preloadRadius; cx <= centerX + preloadRadius; cx++) {
+            for (int cy = centerY - preloadRadius; cy <= centerY + preloadRadius; cy++) {
+                if (streamer.isInBounds(cx, cy)) {
+                    // Force build cached models now instead of on first render
+                    getOrCreateChunk(cx, cy).getCachedModels();
+                    count++;
+                }
+            }
         }
         return count;
     }
@@ -151,6 +304,18 @@ public class StaticWorld implements WorldProvider {
 
     @Override
     public void dispose() {
+        if (pipeline != null) {
+            pipeline.dispose();
+            pipeline = null;
+        }
+        if (region != null) {
+            try {
+                region.close();
+            } catch (java.io.IOException e) {
+                Gdx.app.error("StaticWorld", "Failed to close region file " + mapFilePath, e);
+            }
+            region = null;
+        }
         for (Chunk chunk : chunks.values()) {
             chunk.dispose();
         }
@@ -166,10 +331,8 @@ public class StaticWorld implements WorldProvider {
      * @param layer The layer to place this tile on
      */
     public void setTileAt(int worldTileX, int worldTileY, String tileData, TileLayer layer) {
-        String key = worldTileX + "," + worldTileY;
-
         // Get existing tile data (may contain multiple layers separated by ";")
-        String existingData = mapData.tiles.get(key);
+        String existingData = getTileData(worldTileX, worldTileY);
 
         // Parse existing layers
         java.util.List<String> layers = new java.util.ArrayList<>();
@@ -217,9 +380,9 @@ public class StaticWorld implements WorldProvider {
 
         // Save to map data
         if (layers.isEmpty() || newTileData.equals(mapData.defaultTile)) {
-            mapData.tiles.remove(key);
+            putTileData(worldTileX, worldTileY, null);
         } else {
-            mapData.tiles.put(key, newTileData);
+            putTileData(worldTileX, worldTileY, newTileData);
         }
 
         // Recreate chunk with new data
@@ -236,6 +399,7 @@ public class StaticWorld implements WorldProvider {
 
         // Create new chunk with updated data
         createChunkFromMapData(chunkX, chunkY);
+        invalidatePaths(chunkX, chunkY);
     }
 
     /**
@@ -255,8 +419,7 @@ public class StaticWorld implements WorldProvider {
             worldTileY >= 0 && worldTileY < mapData.height) {
 
             // Check if there's a ground tile at this position
-            String key = worldTileX + "," + worldTileY;
-            String existingData = mapData.tiles.get(key);
+            String existingData = getTileData(worldTileX, worldTileY);
             boolean hasGround = false;
 
             if (existingData != null && !existingData.isEmpty()) {
@@ -311,8 +474,7 @@ public class StaticWorld implements WorldProvider {
         }
 
         // Check if adjacent tile has a wall on the opposite side
-        String adjacentKey = adjacentX + "," + adjacentY;
-        String adjacentData = mapData.tiles.get(adjacentKey);
+        String adjacentData = getTileData(adjacentX, adjacentY);
 
         if (adjacentData != null && !adjacentData.isEmpty()) {
             String[] parts = adjacentData.split(";");
@@ -349,17 +511,31 @@ public class StaticWorld implements WorldProvider {
 
         // Create new chunk with current map data
         createChunkFromMapData(chunkX, chunkY);
+        invalidatePaths(chunkX, chunkY);
     }
 
     /**
-     * Saves the current map data to a JSON file.
+     * Drops cached NPC paths after tiles of a chunk were edited.
+     */
+    private void invalidatePaths(int chunkX, int chunkY) {
+        if (pathfinder != null) {
+            pathfinder.invalidateChunk(chunkX, chunkY);
+        }
+    }
+
+    /**
+     * Saves the current map data to a JSON file, or to a region file if the path ends in .region.
      * Used by the map editor.
      */
     public void saveMap(String filePath) {
+        if (isRegionPath(filePath)) {
+            saveRegionFile(filePath);
+            return;
+        }
         try {
             Json json = new Json();
             json.setUsePrototypes(false);
-            String jsonString = json.prettyPrint(mapData);
+            String jsonString = json.prettyPrint(getFullMapData());
             FileHandle file = Gdx.files.local(filePath);
             file.writeString(jsonString, false);
             Gdx.app.log("StaticWorld", "Map saved to " + filePath);
@@ -368,10 +544,63 @@ public class StaticWorld implements WorldProvider {
         }
     }
 
+    /**
+     * Writes the map as a region file. If it replaces the open region file, the new file is
+     * reopened and the pending editor changes are cleared since they are now part of it.
+     */
+    private void saveRegionFile(String filePath) {
+        try {
+            Path path = Gdx.files.local(filePath).file().toPath();
+            synchronized (mapData) {
+                RegionFile.write(path, getFullMapData());
+                if (region != null && filePath.equals(mapFilePath)) {
+                    // Mapped chunks stay readable after close, so in-flight chunk reads are safe
+                    region.close();
+                    region = RegionFile.open(path);
+                    mapData.tiles = region.createMapData().tiles;
+                }
+            }
+            Gdx.app.log("StaticWorld", "Map saved to " + filePath);
+        } catch (Exception e) {
+            Gdx.app.error("StaticWorld", "Failed to save map to " + filePath, e);
+        }
+    }
+
+    /**
+     * Gets the live map data. In region mode its tiles only hold unsaved editor changes;
+     * use {@link #getTileData} or {@link #getFullMapData()} to read tiles.
+     */
     public StaticMapData getMapData() {
         return mapData;
     }
 
+    /**
+     * Gets the complete map data, merging the region file with editor changes in region mode.
+     */
+    public StaticMapData getFullMapData() {
+        if (region == null) {
+            return mapData;
+        }
+        synchronized (mapData) {
+            StaticMapData full = new StaticMapData();
+            full.name = mapData.name;
+            full.width = mapData.width;
+            full.height = mapData.height;
+            full.spawnX = mapData.spawnX;
+            full.spawnY = mapData.spawnY;
+            full.defaultTile = mapData.defaultTile;
+            region.readAll(full.tiles);
+            for (Map.Entry<String, String> entry : mapData.tiles.entrySet()) {
+                if (entry.getValue() == null) {
+                    full.tiles.remove(entry.getKey());
+                } else {
+                    full.tiles.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return full;
+        }
+    }
+
     public int getSpawnX() {
         return mapData.spawnX;
     }
@@ -0,0 +1,94 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runtime atlas of all tile textures (assets/tiles/*.png) packed onto as few pages as possible,
+ * so chunk meshes with different tile types can share one texture and material.
+ */
+public class TileAtlas {
+
+    private static final String ASSET_LIST = "assets.txt";
+    private static final String TILE_DIR = "tiles/";
+    private static final int PAGE_SIZE = 1024;
+    // Border pixels are duplicated into the padding so nearest filtering never samples a neighbour
+    private static final int PADDING = 2;
+
+    private final TextureAtlas atlas;
+
+    private TileAtlas(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Packs every tile PNG into a new atlas. Must be called on the render thread.
+     */
+    public static TileAtlas pack() {
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, true);
+
+        for (String path : listTilePaths()) {
+            try {
+                Pixmap pixmap = new Pixmap(Gdx.files.internal(path));
+                packer.pack(path, pixmap);
+                pixmap.dispose();
+            } catch (Exception e) {
+                Gdx.app.error("TileAtlas", "Failed to pack tile texture: " + path, e);
+            }
+        }
+
+        TextureAtlas atlas = packer.generateTextureAtlas(
+            Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        packer.dispose();
+
+        Gdx.app.log("TileAtlas", "Packed " + atlas.getRegions().size + " tile textures into "
+            + atlas.getTextures().size + " page(s)");
+        return new TileAtlas(atlas);
+    }
+
+    /**
+     * Lists tile texture paths from the generated assets.txt, or by listing the tiles folder.
+     */
+    static List<String> listTilePaths() {
+        List<String> paths = new ArrayList<>();
+        FileHandle assetList = Gdx.files.internal(ASSET_LIST);
+
+        if (assetList.exists()) {
+            for (String line : assetList.readString().split("\\r?\\n")) {
+                String path = line.trim();
+                if (path.startsWith(TILE_DIR) && path.endsWith(".png")) {
+                    paths.add(path);
+                }
+            }
+        } else {
+            for (FileHandle file : Gdx.files.internal(TILE_DIR).list(".png")) {
+                paths.add(TILE_DIR + file.name());
+            }
+        }
+
+        return paths;
+    }
+
+    /**
+     * Gets the packed region for a tile texture path (e.g. "tiles/grass_1.png"), or null if not packed.
+     */
+    public TextureRegion findRegion(String path) {
+        return atlas.findRegion(path);
+    }
+
+    public int getPageCount() {
+        return atlas.getTextures().size;
+    }
+
+    public void dispose() {
+        atlas.dispose();
+    }
+}
@@ -3,11 +3,13 @@ package io.github.inherit_this.world;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g3d.Material;
 import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
 import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.math.Matrix4;
 import io.github.inherit_this.util.Constants;
 
 import java.util.HashMap;
@@ -16,18 +18,32 @@ import java.util.Map;
 /**
  * Creates and manages 3D plane meshes for tiles.
  * Each tile type gets a reusable model with its texture applied.
+ * UVs point into the shared tile atlas, so all tiles on a page use the same material.
  */
 public class TileMesh3D {
 
     private static TileMesh3D instance;
     private ModelBuilder modelBuilder;
     private Map<Texture, Model> tileModels;
-    private Map<String, Model> wallModels;  // Cache for walls with different UV rotations (key: texture + rotation)
+    private Map<Texture, Model[]> wallModels;  // Cache for walls with different UV rotations (indexed by rotation)
+    private Map<Texture, Material> materials;
+
+    /**
+     * Corner UVs for each texture rotation, in the same corner order as the tile plane
+     * (bottom-left, top-left, top-right, bottom-right). Rotation 0 matches the flat tile plane.
+     */
+    private static final float[][] ROTATED_UVS = {
+        {0, 1, 1, 1, 1, 0, 0, 0},  // 0°
+        {0, 0, 0, 1, 1, 1, 1, 0},  // 90° clockwise
+        {1, 0, 0, 0, 0, 1, 1, 1},  // 180°
+        {1, 1, 1, 0, 0, 0, 0, 1}   // 270° clockwise
+    };
 
     private TileMesh3D() {
         modelBuilder = new ModelBuilder();
         tileModels = new HashMap<>();
         wallModels = new HashMap<>();
+        materials = new HashMap<>();
     }
 
     public static TileMesh3D getInstance() {
@@ -54,11 +70,59 @@ public class TileMesh3D {
      * @param textureRotation Rotation in 90° increments (0-3: 0°, 90°, 180°, 270°)
      */
     public Model getWallModel(Texture texture, int textureRotation) {
-        String key = texture.toString() + "_" + textureRotation;
-        if (!wallModels.containsKey(key)) {
-            wallModels.put(key, createWallPlane(texture, textureRotation));
+        int rotation = (textureRotation >= 0 && textureRotation < ROTATED_UVS.length) ? textureRotation : 0;
+        Model[] rotations = wallModels.get(texture);
+        if (rotations == null) {
+            rotations = new Model[ROTATED_UVS.length];
+            wallModels.put(texture, rotations);
+        }
+        if (rotations[rotation] == null) {
+            rotations[rotation] = createWallPlane(texture, rotation);
+        }
+        return rotations[rotation];
+    }
+
+    /**
+     * Gets the shared tile material (diffuse texture with alpha blending) for a texture.
+     */
+    public Material getMaterial(Texture texture) {
+        Material material = materials.get(texture);
+        if (material == null) {
+            material = new Material(
+                TextureAttribute.createDiffuse(texture),
+                new com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute(
+                    com.badlogic.gdx.graphics.GL20.GL_SRC_ALPHA,
+                    com.badlogic.gdx.graphics.GL20.GL_ONE_MINUS_SRC_ALPHA
+                )
+            );
+            materials.put(texture, material);
+        }
+        return material;
+    }
+
+    /**
+     * Gets the corner UVs (u,v pairs for the four plane corners) for a texture rotation.
+     * The returned array is shared and must not be modified.
+     */
+    public static float[] getCornerUVs(int textureRotation) {
+        if (textureRotation < 0 || textureRotation >= ROTATED_UVS.length) {
+            return ROTATED_UVS[0];
+        }
+        return ROTATED_UVS[textureRotation];
+    }
+
+    /**
+     * Writes the corner UVs for a texture rotation, mapped into an atlas region, into {@code out}.
+     */
+    public static float[] getRegionUVs(TextureRegion region, int textureRotation, float[] out) {
+        float[] uvs = getCornerUVs(textureRotation);
+        float uScale = region.getU2() - region.getU();
+        float vScale = region.getV2() - region.getV();
+        for (int i = 0; i < 8; i += 2) {
+            out[i] = region.getU() + uvs[i] * uScale;
+            out[i + 1] = region.getV() + uvs[i + 1] * vScale;
         }
-        return wallModels.get(key);
+        return out;
     }
 
     /**
@@ -68,15 +132,21 @@ public class TileMesh3D {
         Model model = getTileModel(texture);
         ModelInstance instance = new ModelInstance(model);
 
+        setTileTransform(instance.transform, worldX, worldY, worldZ);
+        return instance;
+    }
+
+    /**
+     * Sets a transform that places a flat tile plane at the given world coordinates.
+     */
+    public static Matrix4 setTileTransform(Matrix4 transform, float worldX, float worldY, float worldZ) {
         // Position the tile in world space
         // Center the tile at the given coordinates
-        instance.transform.setToTranslation(
+        return transform.setToTranslation(
             worldX + Constants.TILE_SIZE / 2f,
             worldZ,  // Height (z in 3D becomes y in our world coords)
             worldY + Constants.TILE_SIZE / 2f
         );
-
-        return instance;
     }
 
     /**
@@ -92,27 +162,35 @@ public class TileMesh3D {
                                                    float yOffset, float angle, int direction) {
         Model model = getTileModel(texture);
         ModelInstance instance = new ModelInstance(model);
+        setAngledTileTransform(instance.transform, worldX, worldY, yOffset, angle, direction);
+        return instance;
+    }
 
+    /**
+     * Sets a transform for an angled tile plane (see {@link #createAngledTileInstance}).
+     */
+    public static Matrix4 setAngledTileTransform(Matrix4 transform, float worldX, float worldY,
+                                                 float yOffset, float angle, int direction) {
         // Center position
         float centerX = worldX + Constants.TILE_SIZE / 2f;
         float centerZ = worldY + Constants.TILE_SIZE / 2f;
 
         // Set initial position
-        instance.transform.setToTranslation(centerX, yOffset, centerZ);
+        transform.setToTranslation(centerX, yOffset, centerZ);
 
         // Apply rotation based on angle (tilt for walls/roofs)
         if (angle > 0f) {
             // Rotate around X axis for tilt (0=flat, 45=angled roof, 90=vertical wall)
-            instance.transform.rotate(1, 0, 0, angle);
+            transform.rotate(1, 0, 0, angle);
         }
 
         // Apply rotation based on direction (which way the tile faces)
         if (direction > 0) {
             // Rotate around Y axis: 0=North, 1=East, 2=South, 3=West
-            instance.transform.rotate(0, 1, 0, direction * 90f);
+            transform.rotate(0, 1, 0, direction * 90f);
         }
 
-        return instance;
+        return transform;
     }
 
     /**
@@ -130,7 +208,15 @@ public class TileMesh3D {
                                            float yOffset, int direction, float wallHeight, boolean flipped, int textureRotation) {
         Model model = getWallModel(texture, textureRotation);  // Use wall model with rotated UVs
         ModelInstance instance = new ModelInstance(model);
+        setWallTransform(instance.transform, worldX, worldY, yOffset, direction, wallHeight, flipped);
+        return instance;
+    }
 
+    /**
+     * Sets a transform for a wall plane on a tile edge (see {@link #createWallInstance}).
+     */
+    public static Matrix4 setWallTransform(Matrix4 transform, float worldX, float worldY,
+                                           float yOffset, int direction, float wallHeight, boolean flipped) {
         float tileSize = Constants.TILE_SIZE;
         float halfSize = tileSize / 2f;
 
@@ -156,7 +242,7 @@ public class TileMesh3D {
         }
 
         // Set position
-        instance.transform.setToTranslation(posX, posY, posZ);
+        transform.setToTranslation(posX, posY, posZ);
 
         // Rotate around Y axis based on direction to face the correct way (must happen BEFORE X rotation)
         // Each direction needs specific rotation to orient the wall texture properly
@@ -166,21 +252,21 @@ public class TileMesh3D {
         // West (3): 270° - wall faces east from west edge
         float yRotation = direction * 90f;
         if (yRotation > 0) {
-            instance.transform.rotate(0, 1, 0, yRotation);
+            transform.rotate(0, 1, 0, yRotation);
         }
 
         // Rotate 90 degrees around X axis to make it vertical (must happen AFTER Y rotation)
-        instance.transform.rotate(1, 0, 0, 90f);
+        transform.rotate(1, 0, 0, 90f);
 
         // Scale vertically to match wall height
-        instance.transform.scale(1f, wallHeight / tileSize, 1f);
+        transform.scale(1f, wallHeight / tileSize, 1f);
 
         // Flip texture horizontally if requested (useful for seeing interior walls)
         if (flipped) {
-            instance.transform.scale(-1f, 1f, 1f);
+            transform.scale(-1f, 1f, 1f);
         }
 
-        return instance;
+        return transform;
     }
 
     /**
@@ -188,13 +274,8 @@ public class TileMesh3D {
      * The plane lies flat on the XZ plane (horizontal ground).
      */
     private Model createTilePlane(Texture texture) {
-        Material material = new Material(
-            TextureAttribute.createDiffuse(texture),
-            new com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute(
-                com.badlogic.gdx.graphics.GL20.GL_SRC_ALPHA,
-                com.badlogic.gdx.graphics.GL20.GL_ONE_MINUS_SRC_ALPHA
-            )
-        );
+        TextureRegion region = TileTextureManager.getInstance().getRegion(texture);
+        Material material = getMaterial(region.getTexture());
 
         float size = Constants.TILE_SIZE;
         float halfSize = size / 2f;
@@ -203,12 +284,14 @@ public class TileMesh3D {
         // Using createRect with appropriate vertex positions
         modelBuilder.begin();
 
-        modelBuilder.part(
+        com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder builder = modelBuilder.part(
             "tile",
             GL20.GL_TRIANGLES,
             VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal | VertexAttributes.Usage.TextureCoordinates,
             material
-        ).rect(
+        );
+        builder.setUVRange(region);  // Map UVs into the tile's atlas region
+        builder.rect(
             // Four corners of the tile plane (counter-clockwise from bottom-left)
             -halfSize, 0, -halfSize,  // bottom-left
             -halfSize, 0, halfSize,   // top-left
@@ -227,13 +310,8 @@ public class TileMesh3D {
      * @param textureRotation Additional UV rotation in 90° increments (0-3: 0°, 90°, 180°, 270°)
      */
     private Model createWallPlane(Texture texture, int textureRotation) {
-        Material material = new Material(
-            TextureAttribute.createDiffuse(texture),
-            new com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute(
-                com.badlogic.gdx.graphics.GL20.GL_SRC_ALPHA,
-                com.badlogic.gdx.graphics.GL20.GL_ONE_MINUS_SRC_ALPHA
-            )
-        );
+        TextureRegion region = TileTextureManager.getInstance().getRegion(texture);
+        Material material = getMaterial(region.getTexture());
 
         float size = Constants.TILE_SIZE;
         float halfSize = size / 2f;
@@ -249,48 +327,15 @@ public class TileMesh3D {
         com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder.VertexInfo v3 = new com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder.VertexInfo();
         com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder.VertexInfo v4 = new com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder.VertexInfo();
 
-        // Base UV coordinates (already rotated 90° to fix wall orientation)
-        float u1, v1_uv, u2, v2_uv, u3, v3_uv, u4, v4_uv;
-
-        // Apply additional texture rotation by rotating UVs
-        switch (textureRotation) {
-            case 0: // No additional rotation
-                u1 = 0; v1_uv = 1;  // bottom-left
-                u2 = 1; v2_uv = 1;  // top-left
-                u3 = 1; v3_uv = 0;  // top-right
-                u4 = 0; v4_uv = 0;  // bottom-right
-                break;
-            case 1: // 90° clockwise
-                u1 = 0; v1_uv = 0;  // bottom-left
-                u2 = 0; v2_uv = 1;  // top-left
-                u3 = 1; v3_uv = 1;  // top-right
-                u4 = 1; v4_uv = 0;  // bottom-right
-                break;
-            case 2: // 180°
-                u1 = 1; v1_uv = 0;  // bottom-left
-                u2 = 0; v2_uv = 0;  // top-left
-                u3 = 0; v3_uv = 1;  // top-right
-                u4 = 1; v4_uv = 1;  // bottom-right
-                break;
-            case 3: // 270° clockwise
-                u1 = 1; v1_uv = 1;  // bottom-left
-                u2 = 1; v2_uv = 0;  // top-left
-                u3 = 0; v3_uv = 0;  // top-right
-                u4 = 0; v4_uv = 1;  // bottom-right
-                break;
-            default:
-                u1 = 0; v1_uv = 1;
-                u2 = 1; v2_uv = 1;
-                u3 = 1; v3_uv = 0;
-                u4 = 0; v4_uv = 0;
-                break;
-        }
+        // Base UV coordinates (already rotated 90° to fix wall orientation),
+        // with the additional texture rotation applied
+        float[] uvs = getCornerUVs(textureRotation);
 
         // Set positions with calculated UV coordinates
-        v1.setPos(-halfSize, 0, -halfSize).setNor(0, 1, 0).setUV(u1, v1_uv);  // bottom-left
-        v2.setPos(-halfSize, 0, halfSize).setNor(0, 1, 0).setUV(u2, v2_uv);   // top-left
-        v3.setPos(halfSize, 0, halfSize).setNor(0, 1, 0).setUV(u3, v3_uv);    // top-right
-        v4.setPos(halfSize, 0, -halfSize).setNor(0, 1, 0).setUV(u4, v4_uv);   // bottom-right
+        v1.setPos(-halfSize, 0, -halfSize).setNor(0, 1, 0).setUV(uvs[0], uvs[1]);  // bottom-left
+        v2.setPos(-halfSize, 0, halfSize).setNor(0, 1, 0).setUV(uvs[2], uvs[3]);   // top-left
+        v3.setPos(halfSize, 0, halfSize).setNor(0, 1, 0).setUV(uvs[4], uvs[5]);    // top-right
+        v4.setPos(halfSize, 0, -halfSize).setNor(0, 1, 0).setUV(uvs[6], uvs[7]);   // bottom-right
 
         com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder builder = modelBuilder.part(
             "wall",
@@ -298,6 +343,7 @@ public class TileMesh3D {
             VertexAttributes.Usage.Position | VertexAttributes.Usage.Normal | VertexAttributes.Usage.TextureCoordinates,
             material
         );
+        builder.setUVRange(region);  // Map UVs into the tile's atlas region
 
         // Create two triangles for the quad (counter-clockwise winding)
         builder.rect(v1, v2, v3, v4);
@@ -310,9 +356,14 @@ public class TileMesh3D {
             model.dispose();
         }
         tileModels.clear();
-        for (Model model : wallModels.values()) {
-            model.dispose();
+        for (Model[] rotations : wallModels.values()) {
+            for (Model model : rotations) {
+                if (model != null) {
+                    model.dispose();
+                }
+            }
         }
         wallModels.clear();
+        materials.clear();
     }
 }
@@ -1,8 +1,10 @@
 package io.github.inherit_this.world;
 
 import com.badlogic.gdx.graphics.Texture;
-import java.util.HashMap;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Singleton texture manager to cache and reuse tile textures.
@@ -10,7 +12,12 @@ import java.util.Map;
  */
 public class TileTextureManager {
     private static TileTextureManager instance;
-    private final Map<String, Texture> textureCache = new HashMap<>();
+    // Concurrent maps: chunk workers read textures and regions off the render thread
+    private final Map<String, Texture> textureCache = new ConcurrentHashMap<>();
+    private final Map<Texture, String> texturePaths = new ConcurrentHashMap<>();
+    private final Map<Texture, TextureRegion> regionCache = new ConcurrentHashMap<>();
+    private volatile TileAtlas atlas;
+    private volatile Thread renderThread;
 
     private TileTextureManager() {
     }
@@ -28,14 +35,47 @@ public class TileTextureManager {
      */
     public Texture getTexture(String path) {
         if (!textureCache.containsKey(path)) {
+            checkRenderThread(path);
             Texture texture = new Texture(path);
             // Use nearest neighbor filtering for crisp pixel art (no blurriness when scaled)
             texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
             textureCache.put(path, texture);
+            texturePaths.put(texture, path);
         }
         return textureCache.get(path);
     }
 
+    /**
+     * Gets the tile atlas region for a texture loaded through this manager.
+     * Tile meshes use the region so every tile type can share one atlas page.
+     * Falls back to a region covering the whole texture if it is not in the atlas.
+     */
+    public TextureRegion getRegion(Texture texture) {
+        TextureRegion region = regionCache.get(texture);
+        if (region == null) {
+            String path = texturePaths.get(texture);
+            if (path != null) {
+                region = getAtlas().findRegion(path);
+            }
+            if (region == null) {
+                region = new TextureRegion(texture);
+            }
+            regionCache.put(texture, region);
+        }
+        return region;
+    }
+
+    /**
+     * Gets the tile atlas, packing it on first use.
+     */
+    public TileAtlas getAtlas() {
+        if (atlas == null) {
+            checkRenderThread("tile atlas");
+            atlas = TileAtlas.pack();
+        }
+        return atlas;
+    }
+
     /**
      * Preload commonly used textures to prevent stuttering.
      */
@@ -54,6 +94,38 @@ public class TileTextureManager {
         getTexture("tiles/mossy_stone_2.png");
         getTexture("tiles/path_1.png");
         getTexture("tiles/sand_1.png");
+
+        // Pack the tile atlas up front so the first chunk mesh doesn't stall
+        getAtlas();
+    }
+
+    /**
+     * Loads every tile texture and packs the atlas, so chunk worker threads only ever hit the cache.
+     * Must be called on the render thread; later cache misses from other threads throw.
+     */
+    public void preloadAllTileTextures() {
+        renderThread = Thread.currentThread();
+        for (String path : TileAtlas.listTilePaths()) {
+            getTexture(path);
+        }
+        getAtlas();
+    }
+
+    /**
+     * Whether {@link #preloadAllTileTextures()} has run, so tile textures can be read from any thread.
+     */
+    public boolean isPreloaded() {
+        return renderThread != null && atlas != null;
+    }
+
+    /**
+     * Textures can only be created with a GL context, so misses off the render thread are errors.
+     */
+    private void checkRenderThread(String resource) {
+        Thread owner = renderThread;
+        if (owner != null && Thread.currentThread() != owner) {
+            throw new GdxRuntimeException("Tile resource not preloaded, can't load off the render thread: " + resource);
+        }
     }
 
     /**
@@ -64,5 +136,11 @@ public class TileTextureManager {
             texture.dispose();
         }
         textureCache.clear();
+        texturePaths.clear();
+        regionCache.clear();
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
     }
 }
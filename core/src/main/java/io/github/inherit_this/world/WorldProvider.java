@@ -1,5 +1,7 @@
 package io.github.inherit_this.world;
 
+import io.github.inherit_this.pathfinding.Pathfinder;
+
 /**
  * Interface for world providers that supply terrain data.
  * Implementations can be static (loaded from file) or procedural (generated).
@@ -38,6 +40,24 @@ public interface WorldProvider {
      */
     boolean isSolidAtPosition(float worldX, float worldY);
 
+    /**
+     * Gets the packed solidity bitmap of this world, for allocation-free collision queries in tile units.
+     * Providers without one return null; callers then fall back to {@link #isSolidAtPosition}.
+     * @return The solidity map, or null if not supported
+     */
+    default SolidityMap getSolidityMap() {
+        return null;
+    }
+
+    /**
+     * Gets the pathfinder NPCs use to walk around walls in this world.
+     * Providers without bounds or solidity data return null; NPCs then walk straight at their target.
+     * @return The pathfinder, or null if not supported
+     */
+    default Pathfinder getPathfinder() {
+        return null;
+    }
+
     /**
      * Gets the active chunk at the specified world tile coordinates.
      * May return null if the chunk hasn't been loaded yet.
@@ -47,6 +67,38 @@ public interface WorldProvider {
      */
     Chunk getActiveChunk(int worldTileX, int worldTileY);
 
+    /**
+     * Requests a chunk for rendering without blocking the render thread.
+     * Providers with background generation return null until the chunk is ready.
+     * @param chunkX Chunk X coordinate
+     * @param chunkY Chunk Y coordinate
+     * @return The chunk, or null if it isn't ready yet
+     */
+    default Chunk requestChunk(int chunkX, int chunkY) {
+        return getOrCreateChunk(chunkX, chunkY);
+    }
+
+    /**
+     * Cheap occlusion test for rendering: checks if a chunk is known to be hidden from the viewer,
+     * so it can be skipped without being loaded. Providers without occlusion data never hide chunks.
+     * @param viewerTileX Viewer X position in tiles
+     * @param viewerTileY Viewer Y position in tiles
+     * @return true if nothing in the chunk can be seen from the viewer
+     */
+    default boolean isChunkOccluded(int chunkX, int chunkY, float viewerTileX, float viewerTileY) {
+        return false;
+    }
+
+    /**
+     * Per-frame chunk update, called on the render thread.
+     * Uploads and publishes chunks that finished generating in the background,
+     * and evicts chunks far from the player when over the residency budget.
+     * @param playerTileX Player X position in tiles
+     * @param playerTileY Player Y position in tiles
+     */
+    default void updateChunks(float playerTileX, float playerTileY) {
+    }
+
     /**
      * Preloads chunks in a radius around the spawn point (0,0).
      * This builds cached 3D models to prevent lag on first render.
@@ -61,6 +113,15 @@ public interface WorldProvider {
      */
     int getLoadedChunkCount();
 
+    /**
+     * Gets the total number of chunks evicted to stay within the residency budget.
+     * Evicted chunks are regenerated when requested again.
+     * @return Number of evicted chunks
+     */
+    default int getEvictedChunkCount() {
+        return 0;
+    }
+
     /**
      * Disposes of resources used by this world provider.
      * Should be called when switching worlds or exiting.
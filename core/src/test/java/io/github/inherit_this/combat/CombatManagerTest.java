@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Nested;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -273,6 +274,20 @@ class CombatManagerTest {
             assertNotEquals(pos1, pos3, "Enemy 1 and 3 should have different positions");
         }
 
+        @Test
+        @DisplayName("Spawned enemies should get ids in spawn order before their first update")
+        void testSpawnedEnemyIds() {
+            combatManager.spawnTestEnemies(new int[]{50, 50}, mockWorld, mockTexture);
+            List<NPC> npcs = combatManager.getAllNPCs();
+            assertEquals(NPC.NO_ID, npcs.get(0).getId(), "Ids are assigned when the NPCs are first synced");
+
+            combatManager.update(0.016f);
+
+            for (int i = 0; i < npcs.size(); i++) {
+                assertEquals(i, npcs.get(i).getId());
+            }
+        }
+
         @Test
         @DisplayName("spawnTestEnemies should create enemies with names")
         void testSpawnedEnemiesHaveNames() {
@@ -419,6 +434,25 @@ class CombatManagerTest {
             assertSame(mockNPC2, nearest, "Should find closest alive NPC");
         }
 
+        @Test
+        @DisplayName("Should see an NPC swapped in without the count changing")
+        void testFindNearestNPCAfterSwap() {
+            when(mockNPC1.isDead()).thenReturn(false);
+            when(mockNPC1.getPosition()).thenReturn(new Vector2(5f, 0f));
+
+            when(mockNPC2.isDead()).thenReturn(false);
+            when(mockNPC2.getPosition()).thenReturn(new Vector2(8f, 0f));
+
+            combatManager.getAllNPCs().add(mockNPC1);
+            assertSame(mockNPC1, combatManager.findNearestNPC(0f, 0f, 10f));
+
+            // One removal and one addition between queries
+            combatManager.getAllNPCs().remove(mockNPC1);
+            combatManager.getAllNPCs().add(mockNPC2);
+
+            assertSame(mockNPC2, combatManager.findNearestNPC(0f, 0f, 10f), "Removed NPC should leave the index");
+        }
+
         @Test
         @DisplayName("Should return NPC at exact max distance")
         void testFindNearestNPCAtExactMaxDistance() {
@@ -500,6 +534,42 @@ class CombatManagerTest {
 
             assertSame(mockNPC1, nearest, "Should find NPC with very large max distance");
         }
+
+        @Test
+        @DisplayName("Should follow NPCs that moved since they were indexed")
+        void testFindNearestNPCAfterMove() {
+            Vector2 position = new Vector2(100f, 100f);
+            when(mockNPC1.isDead()).thenReturn(false);
+            when(mockNPC1.getPosition()).thenReturn(position);
+
+            combatManager.getAllNPCs().add(mockNPC1);
+            assertNull(combatManager.findNearestNPC(0f, 0f, 10f), "NPC should start out of range");
+
+            position.set(2f, 2f);
+            combatManager.update(0.1f);
+
+            assertSame(mockNPC1, combatManager.findNearestNPC(0f, 0f, 10f), "Should find NPC at its new position");
+        }
+
+        @Test
+        @DisplayName("Should find all living NPCs in a radius")
+        void testFindNPCsInRadius() {
+            when(mockNPC1.isDead()).thenReturn(false);
+            when(mockNPC1.getPosition()).thenReturn(new Vector2(1f, 1f));
+            when(mockNPC2.isDead()).thenReturn(true);
+            when(mockNPC2.getPosition()).thenReturn(new Vector2(2f, 2f));
+            when(mockNPC3.isDead()).thenReturn(false);
+            when(mockNPC3.getPosition()).thenReturn(new Vector2(30f, 30f));
+
+            combatManager.getAllNPCs().add(mockNPC1);
+            combatManager.getAllNPCs().add(mockNPC2);
+            combatManager.getAllNPCs().add(mockNPC3);
+
+            List<NPC> found = combatManager.findNPCsInRadius(0f, 0f, 5f, new ArrayList<>());
+
+            assertEquals(1, found.size(), "Only the living NPC in range should be found");
+            assertSame(mockNPC1, found.get(0));
+        }
     }
 
     // ==================== Integration Tests ====================
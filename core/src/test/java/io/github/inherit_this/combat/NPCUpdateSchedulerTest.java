@@ -0,0 +1,202 @@
+package io.github.inherit_this.combat;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.NPCType;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.world.WorldProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the NPCUpdateScheduler (AI level of detail).
+ */
+@DisplayName("NPCUpdateScheduler Tests")
+class NPCUpdateSchedulerTest {
+
+    private static final float DELTA = 1f / 60f;
+
+    @Mock
+    private Texture mockTexture;
+
+    @Mock
+    private Player mockPlayer;
+
+    @Mock
+    private WorldProvider mockWorld;
+
+    private NPCUpdateScheduler scheduler;
+    private List<NPC> npcs;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mockTexture.getWidth()).thenReturn(32);
+        when(mockTexture.getHeight()).thenReturn(32);
+        when(mockPlayer.getPosition()).thenReturn(new Vector2(0f, 0f));
+
+        scheduler = new NPCUpdateScheduler();
+        npcs = new ArrayList<>();
+    }
+
+    /**
+     * NPC that only counts its updates and the time they covered.
+     */
+    private static class CountingNPC extends NPC {
+        int updates = 0;
+        float updatedTime = 0f;
+
+        CountingNPC(Texture texture, float x, float y) {
+            super(texture, x, y, "Counter", NPCType.NEUTRAL, null);
+        }
+
+        @Override
+        public void update(float delta, Player player) {
+            updates++;
+            updatedTime += delta;
+        }
+
+        @Override
+        protected void updateAI(float delta, Player player) {
+        }
+
+        void setState(NPCState state) {
+            this.state = state;
+        }
+    }
+
+    private CountingNPC addNPC(float x, float y) {
+        CountingNPC npc = new CountingNPC(mockTexture, x, y);
+        npc.assignId(npcs.size(), 0L);
+        npcs.add(npc);
+        return npc;
+    }
+
+    private void runTicks(int ticks, WorldProvider world) {
+        for (int i = 0; i < ticks; i++) {
+            scheduler.update(npcs, mockPlayer, world, DELTA);
+        }
+    }
+
+    @Test
+    @DisplayName("NPCs near the player should update every tick")
+    void testNearUpdatesEveryTick() {
+        CountingNPC npc = addNPC(10f, 0f);
+
+        runTicks(16, null);
+
+        assertEquals(16, npc.updates);
+        assertEquals(NPCUpdateScheduler.Tier.FULL, scheduler.getTier(npc, mockPlayer.getPosition(), null));
+    }
+
+    @Test
+    @DisplayName("Far NPCs should update at a reduced rate without losing time")
+    void testFarUpdatesReduced() {
+        CountingNPC npc = addNPC(100f, 0f);
+
+        runTicks(NPCUpdateScheduler.REDUCED_INTERVAL * 4, null);
+
+        assertEquals(4, npc.updates);
+        assertEquals(NPCUpdateScheduler.REDUCED_INTERVAL * 4 * DELTA, npc.updatedTime + npc.takeSkippedTime(), 0.0001f,
+            "Skipped ticks should be passed on to the next update");
+    }
+
+    @Test
+    @DisplayName("Reduced-rate updates should be spread evenly over ticks")
+    void testStaggered() {
+        List<CountingNPC> far = new ArrayList<>();
+        for (int i = 0; i < NPCUpdateScheduler.REDUCED_INTERVAL * 2; i++) {
+            far.add(addNPC(100f + i, 0f));
+        }
+
+        for (int tick = 0; tick < NPCUpdateScheduler.REDUCED_INTERVAL; tick++) {
+            int before = 0;
+            for (CountingNPC npc : far) {
+                before += npc.updates;
+            }
+            runTicks(1, null);
+            int after = 0;
+            for (CountingNPC npc : far) {
+                after += npc.updates;
+            }
+            assertEquals(2, after - before, "Same number of NPCs should update each tick");
+        }
+        assertEquals(far.size(), scheduler.getReducedRateCount());
+    }
+
+    @Test
+    @DisplayName("Removing an NPC should not shift when the others update")
+    void testStaggerStableOnRemoval() {
+        addNPC(100f, 0f);
+        CountingNPC npc = addNPC(101f, 0f);
+
+        runTicks(NPCUpdateScheduler.REDUCED_INTERVAL, null);
+        assertEquals(1, npc.updates);
+
+        npcs.remove(0);
+        runTicks(NPCUpdateScheduler.REDUCED_INTERVAL - 1, null);
+        assertEquals(1, npc.updates, "Should not update early when moved up the list");
+
+        runTicks(1, null);
+        assertEquals(2, npc.updates, "Should update exactly once per interval");
+    }
+
+    @Test
+    @DisplayName("Far NPCs in unloaded chunks should not update")
+    void testDormant() {
+        CountingNPC far = addNPC(100f, 0f);
+        CountingNPC near = addNPC(5f, 0f);
+        when(mockWorld.getActiveChunk(anyInt(), anyInt())).thenReturn(null);
+
+        runTicks(NPCUpdateScheduler.REDUCED_INTERVAL * 2, mockWorld);
+
+        assertEquals(0, far.updates);
+        assertEquals(NPCUpdateScheduler.REDUCED_INTERVAL * 2, near.updates, "Nearby NPCs are never frozen");
+        assertEquals(1, scheduler.getDormantCount());
+        assertEquals(1, scheduler.getFullRateCount());
+    }
+
+    @Test
+    @DisplayName("NPCs engaged with the player should stay at full rate when far")
+    void testEngagedStaysFull() {
+        CountingNPC npc = addNPC(100f, 0f);
+        npc.setState(NPC.NPCState.CHASE);
+
+        runTicks(8, null);
+
+        assertEquals(8, npc.updates);
+    }
+
+    @Test
+    @DisplayName("The view radius should widen the full-rate area")
+    void testViewRadius() {
+        CountingNPC npc = addNPC(60f, 0f);
+        assertEquals(NPCUpdateScheduler.Tier.REDUCED, scheduler.getTier(npc, mockPlayer.getPosition(), null));
+
+        scheduler.setViewRadius(64f);
+
+        assertEquals(NPCUpdateScheduler.Tier.FULL, scheduler.getTier(npc, mockPlayer.getPosition(), null));
+    }
+
+    @Test
+    @DisplayName("NPCs without a position should update every tick")
+    void testNoPosition() {
+        NPC npc = mock(NPC.class);
+        npcs.add(npc);
+
+        runTicks(3, null);
+
+        verify(npc, times(3)).update(DELTA, mockPlayer);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.inherit_this.combat;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.ecs.MovementSystem;
+import io.github.inherit_this.entities.Enemy;
+import io.github.inherit_this.entities.NPC;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.entities.PlayerStats;
+import io.github.inherit_this.world.WorldProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the ParallelNPCUpdater: parallel NPC updates must match serial ones exactly.
+ */
+@DisplayName("ParallelNPCUpdater Tests")
+class ParallelNPCUpdaterTest {
+
+    private static final float DELTA = 1f / 60f;
+    private static final int ENEMY_COUNT = ParallelNPCUpdater.BATCH_SIZE * 5 + 7;
+
+    @Mock
+    private Texture mockTexture;
+
+    @Mock
+    private WorldProvider mockWorld;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mockTexture.getWidth()).thenReturn(32);
+        when(mockTexture.getHeight()).thenReturn(32);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private Player createPlayer() {
+        Player player = mock(Player.class);
+        when(player.getPosition()).thenReturn(new Vector2(0f, 0f));
+        when(player.getStats()).thenReturn(new PlayerStats());
+        return player;
+    }
+
+    /**
+     * Enemies scattered around the origin; the same every call.
+     */
+    private List<NPC> createEnemies() {
+        Random random = new Random(42L);
+        List<NPC> enemies = new ArrayList<>();
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            float x = (random.nextFloat() - 0.5f) * 40f;
+            float y = (random.nextFloat() - 0.5f) * 40f;
+            Enemy enemy = new Enemy(mockTexture, x, y, "Skeleton", mockWorld);
+            enemy.assignId(i, 7L);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    /**
+     * Engine that moves the enemies by the velocities their updates set.
+     */
+    private Engine createMovement(List<NPC> enemies) {
+        Engine engine = new Engine();
+        engine.addSystem(new MovementSystem(mockWorld));
+        for (NPC enemy : enemies) {
+            engine.addEntity(enemy.getEcsEntity());
+        }
+        return engine;
+    }
+
+    @Test
+    @DisplayName("Parallel updates should give the same results as serial updates")
+    void testMatchesSerial() {
+        Player serialPlayer = createPlayer();
+        List<NPC> serialEnemies = createEnemies();
+        Engine serialMovement = createMovement(serialEnemies);
+        NPCUpdateScheduler serialScheduler = new NPCUpdateScheduler();
+        ParallelNPCUpdater serial = new ParallelNPCUpdater(pool);
+        serial.setParallel(false);
+
+        Player parallelPlayer = createPlayer();
+        List<NPC> parallelEnemies = createEnemies();
+        Engine parallelMovement = createMovement(parallelEnemies);
+        NPCUpdateScheduler parallelScheduler = new NPCUpdateScheduler();
+        ParallelNPCUpdater parallel = new ParallelNPCUpdater(pool);
+
+        for (int tick = 0; tick < 240; tick++) {
+            serialScheduler.schedule(serialEnemies, serialPlayer.getPosition(), mockWorld, DELTA);
+            serial.update(serialScheduler, serialPlayer, mockWorld);
+            serialMovement.update(DELTA);
+            parallelScheduler.schedule(parallelEnemies, parallelPlayer.getPosition(), mockWorld, DELTA);
+            parallel.update(parallelScheduler, parallelPlayer, mockWorld);
+            parallelMovement.update(DELTA);
+
+            for (int i = 0; i < ENEMY_COUNT; i++) {
+                NPC expected = serialEnemies.get(i);
+                NPC actual = parallelEnemies.get(i);
+                assertEquals(expected.getPosition(), actual.getPosition(), "Enemy " + i + " at tick " + tick);
+                assertEquals(expected.getState(), actual.getState(), "Enemy " + i + " at tick " + tick);
+            }
+            assertEquals(serialPlayer.getStats().getCurrentHealth(), parallelPlayer.getStats().getCurrentHealth(),
+                "Player health at tick " + tick);
+        }
+        assertTrue(serialPlayer.getStats().getCurrentHealth() < serialPlayer.getStats().getMaxHealth(),
+            "Enemies should have attacked the player");
+    }
+
+    @Test
+    @DisplayName("Damage dealt during updates should reach the player")
+    void testDamageApplied() {
+        Player player = createPlayer();
+        List<NPC> enemies = new ArrayList<>();
+        for (int i = 0; i < ParallelNPCUpdater.BATCH_SIZE * 2; i++) {
+            enemies.add(new Enemy(mockTexture, 0.5f, 0f, "Skeleton", mockWorld));
+        }
+        NPCUpdateScheduler scheduler = new NPCUpdateScheduler();
+        ParallelNPCUpdater updater = new ParallelNPCUpdater(pool);
+        float health = player.getStats().getCurrentHealth();
+
+        // Enemies notice the player, switch to attack, then hit once their attack cooldown is over
+        for (int tick = 0; tick < 70; tick++) {
+            scheduler.schedule(enemies, player.getPosition(), mockWorld, DELTA);
+            updater.update(scheduler, player, mockWorld);
+        }
+
+        assertTrue(player.getStats().getCurrentHealth() < health, "Player should have taken damage");
+        assertEquals(NPC.NPCState.ATTACK, enemies.get(enemies.size() - 1).getState());
+    }
+}
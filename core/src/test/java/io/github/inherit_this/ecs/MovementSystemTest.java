@@ -0,0 +1,103 @@
+package io.github.inherit_this.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.world.SolidityMap;
+import io.github.inherit_this.world.WorldProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the MovementSystem: velocities are applied once and blocked by solid tiles.
+ */
+@DisplayName("MovementSystem Tests")
+class MovementSystemTest {
+
+    private WorldProvider world;
+    private MovementSystem movementSystem;
+    private Engine engine;
+
+    @BeforeEach
+    void setUp() {
+        // 16x16 tile world with a wall column at x = 10
+        SolidityMap solidity = new SolidityMap((chunkX, chunkY) -> {
+            long mask = 0L;
+            if (chunkX == 1) {
+                for (int y = 0; y < 8; y++) {
+                    mask |= 1L << (2 * 8 + y);
+                }
+            }
+            return mask;
+        }, 16, 16, true);
+        world = mock(WorldProvider.class);
+        when(world.getSolidityMap()).thenReturn(solidity);
+
+        movementSystem = new MovementSystem(world);
+        engine = new Engine();
+        engine.addSystem(movementSystem);
+    }
+
+    private Entity createEntity(float x, float y, ColliderComponent collider) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(new Vector2(x, y), new Vector2(x, y)));
+        entity.add(new VelocityComponent());
+        entity.add(collider);
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("Should move by the velocity for its time, once")
+    void testMoveOnce() {
+        Entity entity = createEntity(3f, 5f, new ColliderComponent(-0.25f, -0.25f, 0.5f, 0.5f));
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        velocity.set(2f, -1f, 0.5f);
+
+        engine.update(1f / 60f);
+        engine.update(1f / 60f);
+
+        Vector2 position = Mappers.POSITION.get(entity).position;
+        assertEquals(4f, position.x, 0.0001f);
+        assertEquals(4.5f, position.y, 0.0001f);
+        assertEquals(0f, velocity.time);
+    }
+
+    @Test
+    @DisplayName("Should stop the collider at walls")
+    void testBlockedByWall() {
+        Entity entity = createEntity(9f, 5f, new ColliderComponent(-0.25f, -0.25f, 0.5f, 0.5f));
+        Mappers.VELOCITY.get(entity).set(2f, 0f, 0.5f);
+
+        engine.update(1f / 60f);
+
+        assertEquals(9.75f, Mappers.POSITION.get(entity).position.x, 0.0001f);
+    }
+
+    @Test
+    @DisplayName("Should sweep colliders that aren't centered on the position")
+    void testOffsetCollider() {
+        Entity entity = createEntity(9f, 5f, new ColliderComponent(0f, 0f, 0.5f, 0.5f));
+        Mappers.VELOCITY.get(entity).set(2f, 0f, 0.5f);
+
+        engine.update(1f / 60f);
+
+        assertEquals(9.5f, Mappers.POSITION.get(entity).position.x, 0.0001f);
+    }
+
+    @Test
+    @DisplayName("Should move freely without a world")
+    void testNoWorld() {
+        movementSystem.setWorld(null);
+        Entity entity = createEntity(9f, 5f, new ColliderComponent(-0.25f, -0.25f, 0.5f, 0.5f));
+        Mappers.VELOCITY.get(entity).set(2f, 0f, 1f);
+
+        engine.update(1f / 60f);
+
+        assertEquals(11f, Mappers.POSITION.get(entity).position.x, 0.0001f);
+    }
+}
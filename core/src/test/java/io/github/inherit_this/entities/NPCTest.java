@@ -1,7 +1,11 @@
 package io.github.inherit_this.entities;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.ecs.MovementSystem;
+import io.github.inherit_this.pathfinding.Pathfinder;
+import io.github.inherit_this.world.SolidityMap;
 import io.github.inherit_this.world.WorldProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,10 +68,28 @@ class NPCTest {
     class NPCBaseTests {
 
         private TestNPC npc;
+        private Engine engine;
 
         @BeforeEach
         void setUpNPC() {
-            npc = new TestNPC(mockTexture, 5f, 5f, "Test NPC", NPCType.NEUTRAL, mockWorld);
+            engine = new Engine();
+            engine.addSystem(new MovementSystem(mockWorld));
+            npc = createNPC(5f, 5f, "Test NPC");
+        }
+
+        private TestNPC createNPC(float x, float y, String name) {
+            engine.removeAllEntities();
+            TestNPC created = new TestNPC(mockTexture, x, y, name, NPCType.NEUTRAL, mockWorld);
+            engine.addEntity(created.getEcsEntity());
+            return created;
+        }
+
+        /**
+         * Updates the NPC, then moves it by the velocity it chose, as the simulation does.
+         */
+        private void updateAndMove(float delta) {
+            npc.update(delta, mockPlayer);
+            engine.update(delta);
         }
 
         @Test
@@ -220,7 +242,7 @@ class NPCTest {
             npc.takeDamage(100, mockPlayer); // Kill NPC
             Vector2 initialPos = new Vector2(npc.getPosition());
 
-            npc.update(1.0f, mockPlayer);
+            updateAndMove(1.0f);
 
             assertEquals(initialPos, npc.getPosition(), "Dead NPC should not move");
         }
@@ -231,7 +253,7 @@ class NPCTest {
             Vector2 target = new Vector2(10f, 10f);
             Vector2 initialPos = new Vector2(npc.getPosition());
 
-            npc.update(0.1f, mockPlayer); // This sets target and moves
+            updateAndMove(0.1f); // This sets target and moves
 
             float distanceMoved = initialPos.dst(npc.getPosition());
             assertTrue(distanceMoved > 0, "NPC should have moved toward target");
@@ -240,14 +262,68 @@ class NPCTest {
         @Test
         @DisplayName("MoveToward should stop when reaching target")
         void testMoveTowardArrival() {
-            npc = new TestNPC(mockTexture, 9.95f, 9.95f, "Close NPC", NPCType.NEUTRAL, mockWorld);
+            npc = createNPC(9.95f, 9.95f, "Close NPC");
 
-            npc.update(1.0f, mockPlayer); // Long update to ensure arrival
+            updateAndMove(1.0f); // Long update to ensure arrival
 
             // Should have moved close to player and stopped
             float distance = npc.getPosition().dst(mockPlayer.getPosition());
             assertTrue(distance < 0.2f, "NPC should be very close to target");
         }
+
+        /**
+         * 32x32 tile solidity with a wall column at x = 8 from y = 0 to 11, between the NPC and the player.
+         */
+        private SolidityMap createWalledSolidity() {
+            return new SolidityMap((chunkX, chunkY) -> {
+                long mask = 0L;
+                for (int y = 0; y < 12; y++) {
+                    if (chunkX == 1 && y / 8 == chunkY) {
+                        mask |= 1L << (y % 8);
+                    }
+                }
+                return mask;
+            }, 32, 32, true);
+        }
+
+        private void walkToPlayer(SolidityMap solidity) {
+            npc = createNPC(5.5f, 5.5f, "Walled NPC");
+            for (int i = 0; i < 600; i++) {
+                updateAndMove(1f / 60f);
+                assertFalse(solidity.isSolid((int) Math.floor(npc.getPosition().x), (int) Math.floor(npc.getPosition().y)),
+                    "NPC should never walk into the wall");
+            }
+        }
+
+        @Test
+        @DisplayName("MoveToward should find a way around walls")
+        void testMoveTowardAroundWall() {
+            SolidityMap solidity = createWalledSolidity();
+            when(mockWorld.getSolidityMap()).thenReturn(solidity);
+            when(mockWorld.getPathfinder()).thenReturn(new Pathfinder(solidity, 32, 32));
+
+            walkToPlayer(solidity);
+
+            float distance = npc.getPosition().dst(mockPlayer.getPosition());
+            assertTrue(distance < 0.2f, "NPC should reach the player around the wall");
+        }
+
+        @Test
+        @DisplayName("MoveToward should follow the flow field toward the player without searching paths")
+        void testMoveTowardFlowField() {
+            SolidityMap solidity = createWalledSolidity();
+            Pathfinder pathfinder = new Pathfinder(solidity, 32, 32);
+            pathfinder.updateFlowField(10, 10);
+            // No budget left for path searches: only the flow field can lead the NPC around the wall
+            pathfinder.setNodeBudget(0);
+            when(mockWorld.getSolidityMap()).thenReturn(solidity);
+            when(mockWorld.getPathfinder()).thenReturn(pathfinder);
+
+            walkToPlayer(solidity);
+
+            float distance = npc.getPosition().dst(mockPlayer.getPosition());
+            assertTrue(distance < 0.2f, "NPC should reach the player along the flow field");
+        }
     }
 
     @Nested
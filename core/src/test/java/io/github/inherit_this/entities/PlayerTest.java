@@ -1,6 +1,7 @@
 package io.github.inherit_this.entities;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
 import io.github.inherit_this.items.Equipment;
 import io.github.inherit_this.items.Inventory;
 import io.github.inherit_this.world.WorldProvider;
@@ -471,4 +472,29 @@ class PlayerTest {
         assertTrue(player.getPosition().y >= initialY,
                 "Player should be able to slide along obstacles");
     }
+
+    @Test
+    @DisplayName("Interpolated position should blend the previous and current tick")
+    void testInterpolatedPosition() {
+        player.storePreviousPosition();
+        player.setTargetPosition(10f, 5f);
+        player.update(0.1f);
+
+        float currentX = player.getPosition().x;
+        Vector2 halfway = player.getInterpolatedPosition(0.5f, new Vector2());
+        assertEquals((5f + currentX) / 2f, halfway.x, 0.0001f);
+        assertEquals(5f, halfway.y, 0.0001f);
+        assertEquals(currentX, player.getInterpolatedPosition(1f, new Vector2()).x, 0.0001f);
+    }
+
+    @Test
+    @DisplayName("Teleporting should not be interpolated")
+    void testTeleportSkipsInterpolation() {
+        player.storePreviousPosition();
+        player.setPosition(20f, 30f);
+
+        Vector2 rendered = player.getInterpolatedPosition(0f, new Vector2());
+        assertEquals(20f, rendered.x);
+        assertEquals(30f, rendered.y);
+    }
 }
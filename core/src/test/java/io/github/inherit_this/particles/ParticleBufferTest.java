@@ -0,0 +1,144 @@
+package io.github.inherit_this.particles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ParticleBuffer struct-of-arrays ring buffer.
+ */
+@DisplayName("ParticleBuffer Tests")
+class ParticleBufferTest {
+
+    private ParticleBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ParticleBuffer(4);
+    }
+
+    private void spawn(float x, float lifetime) {
+        buffer.spawn(x, 10f, 0f, 0f, 0f, 0f, lifetime, 0f, 1f, 1f, 1f, 4f, 0);
+    }
+
+    @Nested
+    @DisplayName("Storage")
+    class Storage {
+
+        @Test
+        @DisplayName("Should round capacity up to a power of two")
+        void testCapacity() {
+            assertEquals(4, buffer.getCapacity());
+            assertEquals(8, new ParticleBuffer(5).getCapacity());
+            assertEquals(1, new ParticleBuffer(1).getCapacity());
+            assertThrows(IllegalArgumentException.class, () -> new ParticleBuffer(0));
+        }
+
+        @Test
+        @DisplayName("Should store spawned particles in spawn order")
+        void testSpawn() {
+            spawn(1f, 1f);
+            spawn(2f, 1f);
+
+            assertEquals(2, buffer.size());
+            assertEquals(1f, buffer.getX(buffer.slot(0)));
+            assertEquals(2f, buffer.getX(buffer.slot(1)));
+            assertEquals(1f, buffer.getMaxLife(buffer.slot(0)));
+        }
+
+        @Test
+        @DisplayName("Should evict the oldest particles when full")
+        void testEviction() {
+            for (int i = 0; i < 6; i++) {
+                spawn(i, 1f);
+            }
+
+            assertEquals(4, buffer.size());
+            assertEquals(2, buffer.getEvictedCount());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i + 2f, buffer.getX(buffer.slot(i)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should remove all particles on clear")
+        void testClear() {
+            spawn(1f, 1f);
+            spawn(2f, 1f);
+            buffer.clear();
+
+            assertEquals(0, buffer.size());
+            spawn(3f, 1f);
+            assertEquals(3f, buffer.getX(buffer.slot(0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Update")
+    class Update {
+
+        @Test
+        @DisplayName("Should remove dead particles and keep the others in order")
+        void testRemoveDead() {
+            spawn(1f, 2f);
+            spawn(2f, 0.5f);
+            spawn(3f, 2f);
+            spawn(4f, 0.5f);
+
+            buffer.update(1f);
+
+            assertEquals(2, buffer.size());
+            assertEquals(1f, buffer.getX(buffer.slot(0)));
+            assertEquals(3f, buffer.getX(buffer.slot(1)));
+            assertEquals(1f, buffer.getLife(buffer.slot(0)), 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Should keep order after wrapping around the ring")
+        void testWrapAround() {
+            for (int i = 0; i < 6; i++) {
+                spawn(i, i % 2 == 0 ? 2f : 0.5f);
+            }
+
+            buffer.update(1f);
+
+            assertEquals(2, buffer.size());
+            assertEquals(2f, buffer.getX(buffer.slot(0)));
+            assertEquals(4f, buffer.getX(buffer.slot(1)));
+        }
+
+        @Test
+        @DisplayName("Should apply velocity and gravity")
+        void testPhysics() {
+            buffer.spawn(0f, 100f, 0f, 10f, 0f, -5f, 5f, -20f, 1f, 1f, 1f, 4f, 0);
+
+            buffer.update(0.5f);
+            int slot = buffer.slot(0);
+            assertEquals(5f, buffer.getX(slot), 0.0001f);
+            assertEquals(100f, buffer.getY(slot), 0.0001f);
+            assertEquals(-2.5f, buffer.getZ(slot), 0.0001f);
+
+            buffer.update(0.5f);
+            assertEquals(95f, buffer.getY(buffer.slot(0)), 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Should settle particles on the ground")
+        void testGroundClamp() {
+            buffer.spawn(0f, 1f, 0f, 10f, -100f, 0f, 5f, -300f, 1f, 1f, 1f, 4f, 0);
+
+            buffer.update(0.1f);
+            int slot = buffer.slot(0);
+            assertEquals(0f, buffer.getY(slot));
+            assertEquals(1f, buffer.getX(slot), 0.0001f);
+
+            // Horizontal velocity was reduced by friction
+            buffer.update(0.1f);
+            assertEquals(1f + 0.95f, buffer.getX(buffer.slot(0)), 0.0001f);
+            assertEquals(0f, buffer.getY(buffer.slot(0)));
+        }
+    }
+}
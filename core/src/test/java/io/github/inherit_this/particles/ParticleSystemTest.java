@@ -2,7 +2,7 @@ package io.github.inherit_this.particles;
 
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import io.github.inherit_this.LibGdxTestBase;
 import io.github.inherit_this.entities.BreakableObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +27,7 @@ class ParticleSystemTest extends LibGdxTestBase {
     private PerspectiveCamera mockCamera;
 
     @Mock
-    private SpriteBatch mockBatch;
+    private ModelBatch mockBatch;
 
     @Mock
     private BreakableObject mockObject;
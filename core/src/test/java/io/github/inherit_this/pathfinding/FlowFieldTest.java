@@ -0,0 +1,113 @@
+package io.github.inherit_this.pathfinding;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.world.SolidityMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the FlowField shared by NPCs chasing the same tile.
+ */
+@DisplayName("FlowField Tests")
+class FlowFieldTest {
+
+    private static final int SIZE = 32;
+
+    private boolean[][] walls;
+    private SolidityMap solidity;
+    private FlowField field;
+    private final Vector2 waypoint = new Vector2();
+
+    @BeforeEach
+    void setUp() {
+        walls = new boolean[SIZE][SIZE];
+        solidity = new SolidityMap(this::computeMask, SIZE, SIZE, true);
+        field = new FlowField(solidity, SIZE, SIZE, 8);
+    }
+
+    private long computeMask(int chunkX, int chunkY) {
+        long mask = 0L;
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                if (walls[chunkX * 8 + x][chunkY * 8 + y]) {
+                    mask |= 1L << (x * 8 + y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    @Test
+    @DisplayName("Waypoints should step toward the goal")
+    void testWaypoint() {
+        field.setGoal(10, 5);
+
+        assertTrue(field.getWaypoint(5.5f, 5.5f, waypoint));
+        assertEquals(6.5f, waypoint.x);
+        assertEquals(5.5f, waypoint.y);
+        assertEquals(5f, field.getCost(5, 5), 0.0001f);
+
+        assertTrue(field.getWaypoint(10.2f, 5.9f, waypoint), "The goal tile should lead to its own center");
+        assertEquals(10.5f, waypoint.x);
+        assertEquals(5.5f, waypoint.y);
+    }
+
+    @Test
+    @DisplayName("Following the field should lead around walls to the goal")
+    void testAroundWall() {
+        // Wall column at x = 12 from y = 0 to 9
+        for (int y = 0; y < 10; y++) {
+            walls[12][y] = true;
+        }
+        field.setGoal(14, 4);
+
+        float x = 9.5f;
+        float y = 4.5f;
+        for (int step = 0; step < 30 && !field.isGoal((int) x, (int) y); step++) {
+            assertTrue(field.getWaypoint(x, y, waypoint));
+            x = waypoint.x;
+            y = waypoint.y;
+            assertFalse(solidity.isSolid((int) x, (int) y), "Field should never lead into a wall");
+        }
+        assertTrue(field.isGoal((int) x, (int) y), "Should reach the goal");
+    }
+
+    @Test
+    @DisplayName("Tiles beyond the radius or walled off should have no waypoint")
+    void testUnreachable() {
+        // Tile (20, 21) is walled in on all four sides
+        walls[20][20] = true;
+        walls[20][22] = true;
+        walls[19][21] = true;
+        walls[21][21] = true;
+
+        field.setGoal(10, 10);
+        assertFalse(field.getWaypoint(25.5f, 10.5f, waypoint));
+        assertEquals(-1f, field.getCost(25, 10));
+
+        field.setGoal(18, 18);
+        assertFalse(field.getWaypoint(20.5f, 21.5f, waypoint));
+    }
+
+    @Test
+    @DisplayName("The field should only be recomputed when the goal tile changes")
+    void testRecompute() {
+        assertTrue(field.setGoal(10, 10) > 0);
+        assertEquals(0, field.setGoal(10, 10));
+        assertTrue(field.setGoal(11, 10) > 0);
+
+        field.invalidate();
+        assertFalse(field.isGoal(11, 10));
+        assertTrue(field.setGoal(11, 10) > 0);
+    }
+
+    @Test
+    @DisplayName("A goal outside the world should leave the field empty")
+    void testGoalOutside() {
+        assertEquals(0, field.setGoal(-50, 10));
+        assertFalse(field.getWaypoint(1.5f, 10.5f, waypoint));
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.inherit_this.pathfinding;
+
+import io.github.inherit_this.world.SolidityMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Pathfinder - direct and hierarchical searches, node budget and invalidation.
+ */
+@DisplayName("Pathfinder Tests")
+class PathfinderTest {
+
+    private static final int SIZE = 96;
+
+    private boolean[][] walls;
+    private SolidityMap solidity;
+    private Pathfinder pathfinder;
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        walls = new boolean[SIZE][SIZE];
+        solidity = new SolidityMap(this::computeMask, SIZE, SIZE, true);
+        pathfinder = new Pathfinder(solidity, SIZE, SIZE);
+        path = new Path();
+    }
+
+    private long computeMask(int chunkX, int chunkY) {
+        long mask = 0L;
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                if (walls[chunkX * 8 + x][chunkY * 8 + y]) {
+                    mask |= 1L << (x * 8 + y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Wall column at x from y = 0 up to (not including) gapY, leaving the rows above open.
+     */
+    private void addWallColumn(int x, int gapY) {
+        for (int y = 0; y < gapY; y++) {
+            walls[x][y] = true;
+        }
+    }
+
+    /**
+     * Checks that every step between waypoints is on open tiles and doesn't cut wall corners.
+     */
+    private void assertWalkable(Path path) {
+        for (int i = 1; i < path.size(); i++) {
+            int x = path.getX(i - 1);
+            int y = path.getY(i - 1);
+            int stepX = Integer.signum(path.getX(i) - x);
+            int stepY = Integer.signum(path.getY(i) - y);
+            while (x != path.getX(i) || y != path.getY(i)) {
+                assertFalse(solidity.isSolid(x + stepX, y), "Path cuts through (" + (x + stepX) + ", " + y + ")");
+                assertFalse(solidity.isSolid(x, y + stepY), "Path cuts through (" + x + ", " + (y + stepY) + ")");
+                x += stepX;
+                y += stepY;
+                assertFalse(solidity.isSolid(x, y), "Path crosses wall at (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    private int lastX(Path path) {
+        return path.getX(path.size() - 1);
+    }
+
+    private int lastY(Path path) {
+        return path.getY(path.size() - 1);
+    }
+
+    @Nested
+    @DisplayName("Direct Searches")
+    class DirectSearches {
+
+        @Test
+        @DisplayName("Open ground should give a straight path")
+        void testStraightPath() {
+            assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(5, 5, 15, 5, path));
+            assertEquals(2, path.size(), "Straight runs should collapse to their end points");
+            assertEquals(5, path.getX(0));
+            assertEquals(15, path.getX(1));
+            assertFalse(path.isPartial());
+        }
+
+        @Test
+        @DisplayName("Paths should go around walls")
+        void testAroundWall() {
+            addWallColumn(10, 12);
+
+            assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(5, 5, 15, 5, path));
+            assertWalkable(path);
+            assertEquals(15, lastX(path));
+            assertEquals(5, lastY(path));
+        }
+
+        @Test
+        @DisplayName("Start and goal on the same tile should give a single waypoint")
+        void testSameTile() {
+            assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(7, 7, 7, 7, path));
+            assertEquals(1, path.size());
+        }
+
+        @Test
+        @DisplayName("Solid or out-of-bounds goals should not be found")
+        void testInvalidGoal() {
+            walls[20][20] = true;
+            assertEquals(Pathfinder.Result.NOT_FOUND, pathfinder.findPath(5, 5, 20, 20, path));
+            assertEquals(Pathfinder.Result.NOT_FOUND, pathfinder.findPath(5, 5, -1, 5, path));
+            assertTrue(path.isEmpty());
+            assertTrue(path.hasGoal(), "A failed search should still remember its goal");
+        }
+
+        @Test
+        @DisplayName("Enclosed goals should not be found")
+        void testEnclosedGoal() {
+            for (int i = 40; i <= 44; i++) {
+                walls[i][40] = true;
+                walls[i][44] = true;
+                walls[40][i] = true;
+                walls[44][i] = true;
+            }
+            assertEquals(Pathfinder.Result.NOT_FOUND, pathfinder.findPath(10, 10, 42, 42, path));
+        }
+    }
+
+    @Nested
+    @DisplayName("Hierarchical Searches")
+    class HierarchicalSearches {
+
+        @Test
+        @DisplayName("Detours beyond the direct search window should be found through clusters")
+        void testLongDetour() {
+            // The only way past x = 40 is at the top of the map, far outside the window around start and goal
+            addWallColumn(40, 90);
+
+            int x = 30;
+            int y = 5;
+            boolean arrived = false;
+            for (int query = 0; query < 20 && !arrived; query++) {
+                pathfinder.beginTick();
+                assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(x, y, 50, 5, path));
+                assertWalkable(path);
+                // Partial paths are continued from their end, like an NPC reaching it would
+                x = lastX(path);
+                y = lastY(path);
+                arrived = !path.isPartial();
+            }
+            assertTrue(arrived, "Should reach the goal");
+            assertEquals(50, x);
+            assertEquals(5, y);
+        }
+
+        @Test
+        @DisplayName("Should build entrances between open clusters")
+        void testEntrances() {
+            // 12x12 clusters in an open map: one entrance (two nodes) per shared border
+            int borders = 2 * 11 * 12;
+            assertEquals(borders * 2, pathfinder.getAbstractNodeCount());
+        }
+
+        @Test
+        @DisplayName("Closing the only gap should make the far side unreachable after invalidation")
+        void testInvalidation() {
+            addWallColumn(40, 90);
+            pathfinder.beginTick();
+            assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(30, 5, 50, 5, path));
+
+            for (int y = 90; y < SIZE; y++) {
+                walls[40][y] = true;
+                solidity.invalidateChunk(40 / 8, y / 8);
+            }
+            pathfinder.invalidateChunk(40 / 8, 90 / 8);
+
+            pathfinder.beginTick();
+            assertEquals(Pathfinder.Result.NOT_FOUND, pathfinder.findPath(30, 5, 50, 5, path));
+        }
+    }
+
+    @Nested
+    @DisplayName("Node Budget")
+    class NodeBudget {
+
+        @Test
+        @DisplayName("Queries should be deferred once the budget is spent")
+        void testDeferred() {
+            pathfinder.setNodeBudget(1);
+            pathfinder.beginTick();
+
+            assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(5, 5, 15, 8, path),
+                "A query started within the budget should finish");
+
+            Path other = new Path();
+            assertEquals(Pathfinder.Result.DEFERRED, pathfinder.findPath(5, 5, 20, 20, other));
+            assertFalse(other.hasGoal(), "Deferred queries should leave the path untouched");
+            assertEquals(1, pathfinder.getDeferredQueryCount());
+
+            pathfinder.beginTick();
+            assertTrue(pathfinder.getNodesExpandedLastTick() > 0);
+            assertEquals(Pathfinder.Result.FOUND, pathfinder.findPath(5, 5, 20, 20, other));
+        }
+    }
+
+    @Nested
+    @DisplayName("Paths")
+    class Paths {
+
+        @Test
+        @DisplayName("Paths should be walked waypoint by waypoint")
+        void testWalking() {
+            addWallColumn(10, 12);
+            pathfinder.findPath(5, 5, 15, 5, path);
+
+            int walked = 0;
+            while (path.hasNext()) {
+                walked++;
+                boolean last = path.isLastWaypoint();
+                path.advance();
+                assertEquals(last, !path.hasNext());
+            }
+            assertEquals(path.size(), walked);
+
+            path.clear();
+            assertTrue(path.isEmpty());
+            assertFalse(path.hasGoal());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.inherit_this.rendering;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ChunkCuller quadtree.
+ */
+@DisplayName("ChunkCuller Tests")
+class ChunkCullerTest {
+
+    private ChunkCuller culler;
+    private List<int[]> visited;
+    private ChunkCuller.ChunkVisitor collect;
+
+    @BeforeEach
+    void setUp() {
+        culler = new ChunkCuller();
+        visited = new ArrayList<>();
+        collect = (chunkX, chunkY) -> visited.add(new int[]{chunkX, chunkY});
+    }
+
+    private PerspectiveCamera camera(float x, float y, float z, float dirX, float dirY, float dirZ,
+                                     float upX, float upY, float upZ) {
+        PerspectiveCamera camera = new PerspectiveCamera(67, 800, 600);
+        camera.position.set(x, y, z);
+        camera.direction.set(dirX, dirY, dirZ);
+        camera.up.set(upX, upY, upZ);
+        camera.near = 1f;
+        camera.far = 10000f;
+        camera.update();
+        return camera;
+    }
+
+    @Nested
+    @DisplayName("Frustum Rejection")
+    class FrustumRejection {
+
+        @Test
+        @DisplayName("Should accept a whole node inside the frustum with one test")
+        void testAllVisible() {
+            // High above the center of a 10x10 chunk area, looking straight down
+            PerspectiveCamera camera = camera(1280f, 5000f, 1280f, 0f, -1f, 0f, 0f, 0f, 1f);
+
+            int count = culler.cull(camera.frustum, 0, 0, 9, 9, collect);
+
+            assertEquals(100, count);
+            assertEquals(100, visited.size());
+            assertEquals(0, culler.getChunksCulled());
+            assertEquals(1, culler.getNodesTested());
+        }
+
+        @Test
+        @DisplayName("Should reject a whole node behind the camera with one test")
+        void testAllBehind() {
+            PerspectiveCamera camera = camera(0f, 100f, 0f, -1f, 0f, 0f, 0f, 1f, 0f);
+
+            int count = culler.cull(camera.frustum, 0, 0, 31, 31, collect);
+
+            assertEquals(0, count);
+            assertEquals(1024, culler.getChunksCulled());
+            assertEquals(1, culler.getNodesTested());
+        }
+
+        @Test
+        @DisplayName("Should count every chunk as either visited or culled")
+        void testPartial() {
+            // Looking along +X from the middle of the area: chunks at negative X are behind
+            PerspectiveCamera camera = camera(0f, 300f, 0f, 1f, 0f, 0f, 0f, 1f, 0f);
+
+            int count = culler.cull(camera.frustum, -10, -10, 10, 10, collect);
+
+            assertTrue(count > 0);
+            assertTrue(culler.getChunksCulled() > 0);
+            assertEquals(21 * 21, count + culler.getChunksCulled());
+            for (int[] chunk : visited) {
+                assertTrue(chunk[0] >= -1, "Chunk behind the camera was visited: " + chunk[0]);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Vertical Bounds")
+    class VerticalBounds {
+
+        // High up, looking horizontally along +X: nearby ground is below the view
+        private PerspectiveCamera highCamera() {
+            return camera(0f, 2000f, 128f, 1f, 0f, 0f, 0f, 1f, 0f);
+        }
+
+        @Test
+        @DisplayName("Should cull low chunks below the view")
+        void testLowChunksCulled() {
+            culler.cull(highCamera().frustum, 1, 0, 3, 0, collect);
+            assertTrue(visited.isEmpty());
+            assertEquals(3, culler.getChunksCulled());
+        }
+
+        @Test
+        @DisplayName("Should keep chunks whose geometry reaches into the view")
+        void testTallChunkVisible() {
+            culler.setChunkBounds(2, 0, 0f, 1500f);
+
+            culler.cull(highCamera().frustum, 1, 0, 3, 0, collect);
+
+            assertEquals(1, visited.size());
+            assertArrayEquals(new int[]{2, 0}, visited.get(0));
+        }
+
+        @Test
+        @DisplayName("Should tighten node bounds when a chunk gets lower")
+        void testShrink() {
+            culler.setChunkBounds(2, 0, 0f, 1500f);
+            culler.setChunkBounds(2, 0, 0f, 10f);
+
+            culler.cull(highCamera().frustum, 1, 0, 3, 0, collect);
+
+            assertTrue(visited.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should forget chunk bounds when cleared")
+        void testClear() {
+            culler.setChunkBounds(2, 0, 0f, 1500f);
+            culler.clear();
+
+            culler.cull(highCamera().frustum, 1, 0, 3, 0, collect);
+
+            assertTrue(visited.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package io.github.inherit_this.simulation;
+
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import io.github.inherit_this.ecs.HealthComponent;
+import io.github.inherit_this.ecs.RenderComponent;
+import io.github.inherit_this.ecs.VelocityComponent;
+import io.github.inherit_this.entities.BreakableObject;
+import io.github.inherit_this.entities.Enemy;
+import io.github.inherit_this.entities.Player;
+import io.github.inherit_this.world.WorldProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the headless Simulation - ticking, commands, snapshots and loot.
+ */
+@DisplayName("Simulation Tests")
+class SimulationTest {
+
+    @Mock
+    private Texture mockTexture;
+
+    @Mock
+    private WorldProvider mockWorld;
+
+    private Player player;
+    private Simulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mockTexture.getWidth()).thenReturn(32);
+        when(mockTexture.getHeight()).thenReturn(32);
+
+        player = new Player(5f, 5f, mockTexture, mockWorld);
+        simulation = new Simulation(mockWorld, player, 42L);
+    }
+
+    @Nested
+    @DisplayName("Ticking")
+    class Ticking {
+
+        @Test
+        @DisplayName("advance should run whole ticks and carry the remainder")
+        void testAdvance() {
+            assertEquals(2, simulation.advance(Simulation.TICK_DURATION * 2.5f));
+            assertEquals(2, simulation.getTick());
+            assertEquals(0.5f, simulation.getTickAlpha(), 0.01f);
+
+            assertEquals(1, simulation.advance(Simulation.TICK_DURATION * 0.6f));
+            assertEquals(3, simulation.getTick());
+        }
+
+        @Test
+        @DisplayName("advance should cap long frames")
+        void testAdvanceCap() {
+            int ticks = simulation.advance(10f);
+            assertTrue(ticks <= 15, "A 10 second frame should catch up at most 0.25 seconds");
+        }
+
+        @Test
+        @DisplayName("Should run many ticks headless")
+        void testManyTicks() {
+            simulation.submit(new MoveToCommand(1000f, 5f));
+            for (int i = 0; i < 10000; i++) {
+                simulation.tick();
+            }
+            assertEquals(10000, simulation.getTick());
+            assertTrue(player.getPosition().x > 5f);
+        }
+    }
+
+    @Nested
+    @DisplayName("Commands")
+    class Commands {
+
+        @Test
+        @DisplayName("Commands should apply in order on the next tick")
+        void testCommandOrder() {
+            List<Integer> executed = new ArrayList<>();
+            simulation.submit(sim -> executed.add(1));
+            simulation.submit(sim -> executed.add(2));
+            assertTrue(executed.isEmpty());
+
+            simulation.tick();
+            assertEquals(2, executed.size());
+            assertEquals(1, executed.get(0));
+            assertEquals(2, executed.get(1));
+
+            simulation.tick();
+            assertEquals(2, executed.size(), "Commands should only run once");
+        }
+
+        @Test
+        @DisplayName("Move and stop commands should drive the player")
+        void testMoveAndStop() {
+            simulation.submit(new MoveToCommand(10f, 5f));
+            simulation.tick();
+            float x = player.getPosition().x;
+            assertTrue(x > 5f);
+
+            simulation.submit(new StopMovingCommand());
+            simulation.tick();
+            simulation.tick();
+            assertEquals(x, player.getPosition().x, 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Paused ticks should apply commands without moving the player")
+        void testPaused() {
+            simulation.setPaused(true);
+            simulation.submit(new MoveToCommand(10f, 5f));
+            simulation.tick();
+            assertEquals(5f, player.getPosition().x);
+            assertEquals(1, simulation.getTick());
+
+            simulation.setPaused(false);
+            simulation.tick();
+            assertTrue(player.getPosition().x > 5f);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("Snapshots should hold the latest and previous tick")
+        void testSnapshots() {
+            simulation.submit(new MoveToCommand(10f, 5f));
+            simulation.tick();
+            simulation.tick();
+
+            SimulationSnapshot current = simulation.getSnapshot();
+            SimulationSnapshot previous = simulation.getPreviousSnapshot();
+            assertEquals(2, current.getTick());
+            assertEquals(1, previous.getTick());
+            assertEquals(player.getPosition().x, current.getPlayerX());
+            assertTrue(previous.getPlayerX() < current.getPlayerX());
+            assertEquals(5f, current.getPlayerY(), 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Ticks should keep the previous player position for interpolation")
+        void testInterpolation() {
+            simulation.submit(new MoveToCommand(10f, 5f));
+            simulation.tick();
+            float afterFirstTick = player.getPosition().x;
+            simulation.tick();
+
+            Vector2 rendered = player.getInterpolatedPosition(0f, new Vector2());
+            assertEquals(afterFirstTick, rendered.x, 0.0001f);
+            assertEquals(simulation.getPreviousSnapshot().getPlayerX(), rendered.x, 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Snapshots should carry what rendering needs without the live entities")
+        void testRenderState() {
+            BreakableObject crate = new BreakableObject(mockTexture, 3f, 3f, 2, 5, 5);
+            Enemy enemy = new Enemy(mockTexture, 30f, 30f, "Skeleton", mockWorld);
+            simulation.addBreakableObject(crate);
+            simulation.getCombatManager().getAllNPCs().add(enemy);
+            simulation.submit(new MoveToCommand(10f, 5f));
+            simulation.tick();
+            simulation.tick();
+
+            SimulationSnapshot snapshot = simulation.getSnapshot();
+            Vector2 start = snapshot.getPlayerPosition(0f, new Vector2());
+            assertEquals(simulation.getPreviousSnapshot().getPlayerX(), start.x, 0.0001f);
+            assertEquals(snapshot.getPlayerX(), snapshot.getPlayerPosition(1f, new Vector2()).x, 0.0001f);
+
+            assertEquals(2, snapshot.getSpriteCount());
+            assertSame(mockTexture, snapshot.getSpriteTexture(0));
+            Vector2 crateSprite = snapshot.getSpritePosition(0, 0.5f, new Vector2());
+            assertEquals(3f, crateSprite.x, 0.0001f);
+
+            crate.getPosition().set(8f, 8f);
+            assertEquals(3f, snapshot.getSpritePosition(0, 1f, new Vector2()).x, 0.0001f,
+                "Moving an entity should not change a taken snapshot");
+        }
+
+        @Test
+        @DisplayName("Snapshots should not change when the player moves between ticks")
+        void testSnapshotIsCopy() {
+            simulation.tick();
+            player.setPosition(20f, 20f);
+            assertEquals(5f, simulation.getSnapshot().getPlayerX());
+        }
+    }
+
+    @Nested
+    @DisplayName("Breakable Objects")
+    class BreakableObjects {
+
+        @Test
+        @DisplayName("Hits should damage, then destroy objects and grant loot")
+        void testHitObject() {
+            BreakableObject crate = new BreakableObject(mockTexture, 3f, 3f, 2, 5, 5);
+            simulation.addBreakableObject(crate);
+            SimulationListener listener = mock(SimulationListener.class);
+            simulation.addListener(listener);
+
+            simulation.submit(new HitObjectCommand(crate));
+            simulation.tick();
+            verify(listener).onObjectDamaged(crate);
+            assertEquals(1, simulation.getBreakableObjects().size());
+
+            simulation.submit(new HitObjectCommand(crate));
+            simulation.tick();
+            verify(listener).onObjectDestroyed(crate);
+            verify(listener).onLootReceived(any(), eq(true));
+            assertTrue(simulation.getBreakableObjects().isEmpty());
+            assertFalse(simulation.getBreakableObjectIndex().contains(crate));
+            assertEquals(5, player.getInventory().getGold());
+        }
+
+        @Test
+        @DisplayName("Hitting a destroyed object should do nothing")
+        void testHitDestroyed() {
+            BreakableObject pot = new BreakableObject(mockTexture, 3f, 3f, 1, 5, 5);
+            simulation.addBreakableObject(pot);
+
+            assertTrue(simulation.hitObject(pot));
+            assertFalse(simulation.hitObject(pot));
+            assertEquals(5, player.getInventory().getGold());
+        }
+
+        @Test
+        @DisplayName("Loot should be the same for the same seed")
+        void testDeterministicLoot() {
+            Player otherPlayer = new Player(5f, 5f, mockTexture, mockWorld);
+            Simulation other = new Simulation(mockWorld, otherPlayer, 42L);
+
+            for (int i = 0; i < 10; i++) {
+                simulation.hitObject(new BreakableObject(mockTexture, i, 0f, 1, 1, 1000));
+                other.hitObject(new BreakableObject(mockTexture, i, 0f, 1, 1, 1000));
+            }
+            assertEquals(player.getInventory().getGold(), otherPlayer.getInventory().getGold());
+        }
+    }
+
+    @Nested
+    @DisplayName("Components")
+    class Components {
+
+        @Test
+        @DisplayName("The engine should hold the player, objects and NPCs in order")
+        void testEngineOrder() {
+            BreakableObject crate = new BreakableObject(mockTexture, 3f, 3f, 2, 5, 5);
+            Enemy enemy = new Enemy(mockTexture, 30f, 30f, "Skeleton", mockWorld);
+            simulation.addBreakableObject(crate);
+            simulation.getCombatManager().getAllNPCs().add(enemy);
+
+            simulation.tick();
+
+            assertEquals(3, simulation.getEngine().getEntities().size());
+            assertSame(player.getEcsEntity(), simulation.getEngine().getEntities().get(0));
+            assertSame(crate.getEcsEntity(), simulation.getEngine().getEntities().get(1));
+            assertSame(enemy.getEcsEntity(), simulation.getEngine().getEntities().get(2));
+            assertEquals(2, simulation.getEngine()
+                .getEntitiesFor(Family.all(HealthComponent.class, RenderComponent.class).get()).size());
+        }
+
+        @Test
+        @DisplayName("Destroyed objects should leave the engine by the end of the tick")
+        void testRemovedFromEngine() {
+            BreakableObject pot = new BreakableObject(mockTexture, 3f, 3f, 1, 5, 5);
+            simulation.addBreakableObject(pot);
+            simulation.tick();
+            assertEquals(2, simulation.getEngine().getEntities().size());
+
+            simulation.submit(new HitObjectCommand(pot));
+            simulation.tick();
+
+            assertEquals(1, simulation.getEngine().getEntities().size());
+            assertSame(player.getEcsEntity(), simulation.getEngine().getEntities().get(0));
+        }
+
+        @Test
+        @DisplayName("NPCs removed from the list should leave the engine without touching other entities")
+        void testNPCRemovedFromEngine() {
+            BreakableObject crate = new BreakableObject(mockTexture, 3f, 3f, 2, 5, 5);
+            Enemy first = new Enemy(mockTexture, 30f, 30f, "Skeleton", mockWorld);
+            Enemy second = new Enemy(mockTexture, 32f, 30f, "Zombie", mockWorld);
+            simulation.addBreakableObject(crate);
+            simulation.getCombatManager().getAllNPCs().add(first);
+            simulation.getCombatManager().getAllNPCs().add(second);
+            simulation.tick();
+            assertEquals(4, simulation.getEngine().getEntities().size());
+
+            simulation.getCombatManager().getAllNPCs().remove(first);
+            simulation.tick();
+
+            assertEquals(3, simulation.getEngine().getEntities().size());
+            assertFalse(simulation.getEngine().getEntities().contains(first.getEcsEntity(), true));
+            assertTrue(simulation.getEngine().getEntities().contains(second.getEcsEntity(), true));
+            assertTrue(simulation.getEngine().getEntities().contains(crate.getEcsEntity(), true));
+        }
+
+        @Test
+        @DisplayName("NPCs should be moved by the movement system within the tick")
+        void testNPCMovement() {
+            Enemy enemy = new Enemy(mockTexture, 8f, 5f, "Skeleton", mockWorld);
+            simulation.getCombatManager().getAllNPCs().add(enemy);
+
+            // The enemy notices the player, then chases
+            simulation.tick();
+            simulation.tick();
+
+            assertTrue(enemy.getPosition().x < 8f, "The enemy should have chased the player");
+            assertEquals(0f, enemy.getEcsEntity().getComponent(VelocityComponent.class).time,
+                "The movement system should have used up the velocity");
+            assertEquals(enemy.getPosition().x, simulation.getSnapshot().getSpritePosition(0, 1f, new Vector2()).x,
+                0.0001f);
+
+            simulation.setPaused(true);
+            float x = enemy.getPosition().x;
+            simulation.tick();
+            assertEquals(x, enemy.getPosition().x, "Paused ticks should not move NPCs");
+        }
+
+        @Test
+        @DisplayName("Components should share state with their entities")
+        void testSharedState() {
+            BreakableObject crate = new BreakableObject(mockTexture, 3f, 3f, 3, 5, 5);
+            crate.damage(1);
+
+            assertEquals(2, crate.getEcsEntity().getComponent(HealthComponent.class).current);
+            assertTrue(crate.contains(3.5f, 3.9f));
+            assertFalse(crate.contains(4f, 3.5f));
+        }
+    }
+}
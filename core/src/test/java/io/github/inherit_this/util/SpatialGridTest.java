@@ -0,0 +1,129 @@
+package io.github.inherit_this.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SpatialGrid spatial index.
+ */
+@DisplayName("SpatialGrid Tests")
+class SpatialGridTest {
+
+    private SpatialGrid<String> grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialGrid<>(4f);
+        grid.insert("origin", 0f, 0f);
+        grid.insert("near", 3f, 4f);
+        grid.insert("far", 40f, 40f);
+        grid.insert("negative", -6f, -2f);
+    }
+
+    @Nested
+    @DisplayName("Maintenance")
+    class Maintenance {
+
+        @Test
+        @DisplayName("Should track inserted entities")
+        void testInsert() {
+            assertEquals(4, grid.size());
+            assertTrue(grid.contains("near"));
+            assertFalse(grid.contains("missing"));
+        }
+
+        @Test
+        @DisplayName("Should not duplicate entities inserted twice")
+        void testInsertTwice() {
+            grid.insert("near", 3f, 4f);
+            assertEquals(4, grid.size());
+        }
+
+        @Test
+        @DisplayName("Should move entities between cells")
+        void testUpdate() {
+            grid.update("far", 1f, 1f);
+
+            List<String> result = grid.queryRadius(0f, 0f, 2f, new ArrayList<>());
+            assertTrue(result.contains("far"));
+            assertTrue(grid.queryRadius(40f, 40f, 2f, new ArrayList<>()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should remove entities")
+        void testRemove() {
+            assertTrue(grid.remove("origin"));
+            assertFalse(grid.remove("origin"));
+            assertEquals(3, grid.size());
+            assertFalse(grid.queryRadius(0f, 0f, 1f, new ArrayList<>()).contains("origin"));
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive cell sizes")
+        void testInvalidCellSize() {
+            assertThrows(IllegalArgumentException.class, () -> new SpatialGrid<String>(0f));
+        }
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class Queries {
+
+        @Test
+        @DisplayName("Radius query should include entities on the boundary")
+        void testRadius() {
+            List<String> result = grid.queryRadius(0f, 0f, 5f, new ArrayList<>());
+            assertEquals(2, result.size());
+            assertTrue(result.contains("origin"));
+            assertTrue(result.contains("near"));
+        }
+
+        @Test
+        @DisplayName("Box query should use inclusive bounds")
+        void testAABB() {
+            List<String> result = grid.queryAABB(-6f, -2f, 0f, 0f, new ArrayList<>());
+            assertEquals(2, result.size());
+            assertTrue(result.contains("origin"));
+            assertTrue(result.contains("negative"));
+        }
+
+        @Test
+        @DisplayName("Nearest should respect the filter and distance limit")
+        void testNearest() {
+            assertEquals("origin", grid.nearest(1f, 1f, 10f, null));
+            assertEquals("near", grid.nearest(1f, 1f, 10f, s -> !s.equals("origin")));
+            assertNull(grid.nearest(20f, 20f, 5f, null));
+        }
+
+        @Test
+        @DisplayName("Nearest should handle unbounded distances")
+        void testNearestUnbounded() {
+            assertEquals("far", grid.nearest(1000f, 1000f, Float.MAX_VALUE, null));
+        }
+
+        @Test
+        @DisplayName("Raycast should return the first entity along the ray")
+        void testRaycast() {
+            grid.insert("behind", -10f, 0f);
+            grid.insert("ahead", 20f, 0.2f);
+
+            assertEquals("origin", grid.raycast(-3f, 0f, 1f, 0f, 100f, 0.5f, null));
+            assertEquals("ahead", grid.raycast(1f, 0f, 1f, 0f, 100f, 0.5f, null));
+            assertNull(grid.raycast(1f, 0f, 1f, 0f, 10f, 0.5f, null));
+        }
+
+        @Test
+        @DisplayName("Raycast should stop when nothing is left ahead")
+        void testRaycastMiss() {
+            assertNull(grid.raycast(0f, 100f, 0f, 1f, Float.MAX_VALUE, 0.5f, null));
+            assertNull(grid.raycast(0f, 0f, 0f, 0f, 10f, 0.5f, null));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.inherit_this.world;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ChunkStreamer (radius-driven chunk streaming).
+ */
+@DisplayName("ChunkStreamer Tests")
+class ChunkStreamerTest {
+
+    private ChunkStreamer streamer;
+    private List<long[]> loaded;
+
+    @BeforeEach
+    void setUp() {
+        // 64x64 chunk world with small radii
+        streamer = new ChunkStreamer(64, 64);
+        streamer.setRadii(2, 5, 2);
+        loaded = new ArrayList<>();
+    }
+
+    private void load(int chunkX, int chunkY) {
+        loaded.add(new long[] {chunkX, chunkY});
+    }
+
+    private Set<Long> loadedSet() {
+        Set<Long> set = new HashSet<>();
+        for (long[] chunk : loaded) {
+            set.add((chunk[0] << 32) | (chunk[1] & 0xffffffffL));
+        }
+        return set;
+    }
+
+    private boolean wasLoaded(int chunkX, int chunkY) {
+        return loadedSet().contains((((long) chunkX) << 32) | (chunkY & 0xffffffffL));
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("Should load every chunk within the load radius on the first update")
+        void testLoadsRadius() {
+            assertTrue(streamer.update(10, 10, ChunkStreamerTest.this::load));
+
+            assertEquals(25, loaded.size());
+            assertEquals(25, loadedSet().size(), "No chunk should be requested twice");
+            assertTrue(wasLoaded(8, 8));
+            assertTrue(wasLoaded(12, 12));
+            assertFalse(wasLoaded(13, 10));
+        }
+
+        @Test
+        @DisplayName("Should load the nearest chunks first")
+        void testNearestFirst() {
+            streamer.update(10, 10, ChunkStreamerTest.this::load);
+
+            int lastDistance = 0;
+            for (long[] chunk : loaded) {
+                int distance = (int) Math.max(Math.abs(chunk[0] - 10), Math.abs(chunk[1] - 10));
+                assertTrue(distance >= lastDistance, "Chunks should be requested in rings outward");
+                lastDistance = distance;
+            }
+        }
+
+        @Test
+        @DisplayName("Should do nothing while the player stays in the same chunk")
+        void testSameChunk() {
+            streamer.update(10, 10, ChunkStreamerTest.this::load);
+            loaded.clear();
+
+            assertFalse(streamer.update(10, 10, ChunkStreamerTest.this::load));
+            assertTrue(loaded.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should only load chunks inside the world")
+        void testBounds() {
+            streamer.update(0, 0, ChunkStreamerTest.this::load);
+
+            assertEquals(9, loaded.size());
+            for (long[] chunk : loaded) {
+                assertTrue(chunk[0] >= 0 && chunk[1] >= 0);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Prefetch")
+    class Prefetch {
+
+        @Test
+        @DisplayName("Should load rows ahead in the direction of movement")
+        void testPrefetchAhead() {
+            streamer.update(10, 10, ChunkStreamerTest.this::load);
+            loaded.clear();
+
+            streamer.update(11, 10, ChunkStreamerTest.this::load);
+
+            // Load radius 2 reaches x = 13, prefetch 2 reaches x = 15
+            assertTrue(wasLoaded(14, 10));
+            assertTrue(wasLoaded(15, 12));
+            assertFalse(wasLoaded(16, 10));
+            assertFalse(wasLoaded(7, 10), "Nothing should be prefetched behind the player");
+        }
+
+        @Test
+        @DisplayName("Should prefetch on both axes when moving diagonally")
+        void testPrefetchDiagonal() {
+            streamer.update(10, 10, ChunkStreamerTest.this::load);
+            loaded.clear();
+
+            streamer.update(9, 11, ChunkStreamerTest.this::load);
+
+            assertTrue(wasLoaded(5, 11));
+            assertTrue(wasLoaded(9, 15));
+            assertFalse(wasLoaded(13, 11));
+        }
+    }
+
+    @Nested
+    @DisplayName("Radii")
+    class Radii {
+
+        @Test
+        @DisplayName("Should reject an unload radius inside the prefetched area")
+        void testInvalidRadii() {
+            assertThrows(IllegalArgumentException.class, () -> streamer.setRadii(4, 6, 2));
+            assertThrows(IllegalArgumentException.class, () -> streamer.setRadii(-1, 6, 2));
+            assertEquals(5, streamer.getUnloadRadius(), "Rejected radii should not be applied");
+        }
+
+        @Test
+        @DisplayName("Should reload the area after the radii change")
+        void testRadiiChangeReloads() {
+            streamer.update(10, 10, ChunkStreamerTest.this::load);
+            loaded.clear();
+
+            streamer.setRadii(3, 8, 2);
+
+            assertTrue(streamer.update(10, 10, ChunkStreamerTest.this::load));
+            assertEquals(49, loaded.size());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.inherit_this.world;
+
+import io.github.inherit_this.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the DungeonChunk's precomputed wall face masks.
+ */
+@DisplayName("DungeonChunk Tests")
+class DungeonChunkTest {
+
+    private DungeonGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new DungeonGenerator(new DungeonConfig(21L, 2, 6, 6,
+            DungeonConfig.DungeonStyle.NARROW, DungeonConfig.DungeonLayout.WINDING));
+        generator.generate();
+    }
+
+    private DungeonChunk createChunk(int chunkX, int chunkY) {
+        return new DungeonChunk(chunkX, chunkY, new Tile[Constants.CHUNK_SIZE][Constants.CHUNK_SIZE], generator);
+    }
+
+    private boolean isFloor(int tileX, int tileY) {
+        return tileX >= 0 && tileY >= 0
+            && tileX < generator.getWidthInTiles() && tileY < generator.getHeightInTiles()
+            && !generator.isWall(tileX, tileY);
+    }
+
+    @Nested
+    @DisplayName("Wall Faces")
+    class WallFaces {
+
+        @Test
+        @DisplayName("Should mark a face toward every adjacent floor tile")
+        void testMatchesLayout() {
+            for (int chunkX = 0; chunkX < 6; chunkX++) {
+                for (int chunkY = 0; chunkY < 6; chunkY++) {
+                    DungeonChunk chunk = createChunk(chunkX, chunkY);
+
+                    for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
+                        for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
+                            int tileX = chunkX * Constants.CHUNK_SIZE + x;
+                            int tileY = chunkY * Constants.CHUNK_SIZE + y;
+                            int mask = chunk.getWallFaces(x, y);
+
+                            if (!generator.isWall(tileX, tileY)) {
+                                assertEquals(0, mask, "Floor tiles have no faces");
+                                continue;
+                            }
+                            assertTrue((mask & DungeonChunk.WALL) != 0);
+                            assertEquals(generator.isBorder(tileX, tileY), (mask & DungeonChunk.BORDER) != 0);
+                            assertEquals(isFloor(tileX, tileY + 1), (mask & 1) != 0, "North");
+                            assertEquals(isFloor(tileX + 1, tileY), (mask & 2) != 0, "East");
+                            assertEquals(isFloor(tileX, tileY - 1), (mask & 4) != 0, "South");
+                            assertEquals(isFloor(tileX - 1, tileY), (mask & 8) != 0, "West");
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should not add faces on the outer edge of the dungeon")
+        void testOuterEdge() {
+            DungeonChunk corner = createChunk(0, 0);
+
+            assertEquals(DungeonChunk.WALL | DungeonChunk.BORDER, corner.getWallFaces(0, 0));
+        }
+
+        @Test
+        @DisplayName("Should reject out of bounds coordinates")
+        void testBounds() {
+            DungeonChunk chunk = createChunk(0, 0);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> chunk.getWallFaces(Constants.CHUNK_SIZE, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> chunk.getWallFaces(0, -1));
+        }
+
+        @Test
+        @DisplayName("Should only report chunks without floor or faces as solid")
+        void testSolidChunks() {
+            for (int chunkX = 0; chunkX < 6; chunkX++) {
+                for (int chunkY = 0; chunkY < 6; chunkY++) {
+                    DungeonChunk chunk = createChunk(chunkX, chunkY);
+                    boolean empty = true;
+                    for (int x = 0; x < Constants.CHUNK_SIZE; x++) {
+                        for (int y = 0; y < Constants.CHUNK_SIZE; y++) {
+                            if ((chunk.getWallFaces(x, y) & ~(DungeonChunk.WALL | DungeonChunk.BORDER)) != 0
+                                || (chunk.getWallFaces(x, y) & DungeonChunk.WALL) == 0) {
+                                empty = false;
+                            }
+                        }
+                    }
+
+                    assertEquals(empty, generator.isChunkSolid(chunkX, chunkY), chunkX + "," + chunkY);
+                }
+            }
+            assertTrue(generator.isChunkSolid(-1, 0));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.inherit_this.world;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the DungeonGenerator: region-partitioned generation must be seed-stable and connected.
+ */
+@DisplayName("DungeonGenerator Tests")
+class DungeonGeneratorTest {
+
+    private ForkJoinPool singleThread;
+    private ForkJoinPool fourThreads;
+
+    @BeforeEach
+    void setUp() {
+        singleThread = new ForkJoinPool(1);
+        fourThreads = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        singleThread.shutdown();
+        fourThreads.shutdown();
+    }
+
+    private DungeonGenerator generate(DungeonConfig config, ForkJoinPool pool) {
+        DungeonGenerator generator = new DungeonGenerator(config, pool);
+        generator.generate();
+        return generator;
+    }
+
+    private int countDifferentTiles(DungeonGenerator a, DungeonGenerator b) {
+        int different = 0;
+        for (int x = 0; x < a.getWidthInTiles(); x++) {
+            for (int y = 0; y < a.getHeightInTiles(); y++) {
+                if (a.isWall(x, y) != b.isWall(x, y)) {
+                    different++;
+                }
+            }
+        }
+        return different;
+    }
+
+    @Nested
+    @DisplayName("Determinism")
+    class Determinism {
+
+        @Test
+        @DisplayName("Should generate the same layout regardless of thread count")
+        void testThreadCountIndependent() {
+            for (DungeonConfig.DungeonStyle style : DungeonConfig.DungeonStyle.values()) {
+                for (DungeonConfig.DungeonLayout layout : DungeonConfig.DungeonLayout.values()) {
+                    DungeonConfig config = new DungeonConfig(12345L, 5, 40, 36, style, layout);
+
+                    DungeonGenerator serial = generate(config, singleThread);
+                    DungeonGenerator parallel = generate(config, fourThreads);
+
+                    assertTrue(serial.getCarvingRegionCount() > 1, "Level should be split into regions");
+                    assertEquals(0, countDifferentTiles(serial, parallel), style + " " + layout);
+                    assertEquals(serial.getRegionCount(), parallel.getRegionCount());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should generate the same layout for the same seed")
+        void testSameSeed() {
+            DungeonConfig config = new DungeonConfig(99L, 3, 32, 32,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.WINDING);
+
+            assertEquals(0, countDifferentTiles(generate(config, fourThreads), generate(config, fourThreads)));
+        }
+
+        @Test
+        @DisplayName("Should generate different layouts for different seeds")
+        void testDifferentSeed() {
+            DungeonGenerator first = generate(new DungeonConfig(1L, 3, 32, 32,
+                DungeonConfig.DungeonStyle.NARROW, DungeonConfig.DungeonLayout.WINDING), fourThreads);
+            DungeonGenerator second = generate(new DungeonConfig(2L, 3, 32, 32,
+                DungeonConfig.DungeonStyle.NARROW, DungeonConfig.DungeonLayout.WINDING), fourThreads);
+
+            assertTrue(countDifferentTiles(first, second) > 0);
+        }
+
+        @Test
+        @DisplayName("Should generate the same layout in steps as in one go")
+        void testSteps() {
+            DungeonConfig config = new DungeonConfig(12345L, 5, 40, 36,
+                DungeonConfig.DungeonStyle.NARROW, DungeonConfig.DungeonLayout.WINDING);
+            DungeonGenerator whole = generate(config, fourThreads);
+
+            DungeonGenerator stepped = new DungeonGenerator(config, singleThread);
+            int steps = 1;
+            while (!stepped.generateStep()) {
+                assertFalse(stepped.isGenerated());
+                steps++;
+            }
+
+            assertTrue(stepped.isGenerated());
+            assertTrue(steps > stepped.getCarvingRegionCount(), "Each region should be its own step");
+            assertEquals(0, countDifferentTiles(whole, stepped));
+            assertEquals(whole.getRegionCount(), stepped.getRegionCount());
+            assertEquals(whole.isChunkConnected(0, 0, 39, 35), stepped.isChunkConnected(0, 0, 39, 35));
+        }
+
+        @Test
+        @DisplayName("Should finish a partly stepped layout in one go")
+        void testFinishSteps() {
+            DungeonConfig config = new DungeonConfig(7L, 2, 40, 36,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.STRAIGHT);
+            DungeonGenerator stepped = new DungeonGenerator(config, fourThreads);
+            stepped.generateStep();
+            stepped.generateStep();
+
+            stepped.generate();
+
+            assertTrue(stepped.isGenerated());
+            assertEquals(0, countDifferentTiles(generate(config, fourThreads), stepped));
+        }
+
+        @Test
+        @DisplayName("Should stop generating once cancelled")
+        void testCancel() {
+            DungeonGenerator generator = new DungeonGenerator(new DungeonConfig(7L, 2, 40, 36,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.STRAIGHT), fourThreads);
+            generator.generateStep();
+
+            generator.cancel();
+            generator.generate();
+
+            assertTrue(generator.isCancelled());
+            assertFalse(generator.isGenerated());
+            assertFalse(generator.generateStep());
+        }
+    }
+
+    @Nested
+    @DisplayName("Layout")
+    class Layout {
+
+        @Test
+        @DisplayName("Should connect every region into one floor area")
+        void testConnected() {
+            for (DungeonConfig.DungeonStyle style : DungeonConfig.DungeonStyle.values()) {
+                // Sizes that don't divide evenly into regions, and one smaller than a region
+                DungeonGenerator large = generate(new DungeonConfig(7L, 5, 37, 50, style,
+                    DungeonConfig.DungeonLayout.WINDING), fourThreads);
+                DungeonGenerator small = generate(new DungeonConfig(7L, 5, 4, 4, style,
+                    DungeonConfig.DungeonLayout.STRAIGHT), fourThreads);
+
+                assertEquals(1, large.getRegionCount(), style + " large");
+                assertEquals(1, small.getRegionCount(), style + " small");
+            }
+        }
+
+        @Test
+        @DisplayName("Should surround the dungeon with walls")
+        void testBorder() {
+            DungeonGenerator generator = generate(new DungeonConfig(3L, 1, 24, 24,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.STRAIGHT), fourThreads);
+            int width = generator.getWidthInTiles();
+            int height = generator.getHeightInTiles();
+
+            for (int x = 0; x < width; x++) {
+                assertTrue(generator.isWall(x, 0));
+                assertTrue(generator.isWall(x, height - 1));
+            }
+            for (int y = 0; y < height; y++) {
+                assertTrue(generator.isWall(0, y));
+                assertTrue(generator.isWall(width - 1, y));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression")
+    class Compression {
+
+        @Test
+        @DisplayName("Should restore the same layout from its compressed form")
+        void testRoundTrip() {
+            for (DungeonConfig.DungeonStyle style : DungeonConfig.DungeonStyle.values()) {
+                // Height that isn't a multiple of 64 tiles, so columns end in a partial word
+                DungeonConfig config = new DungeonConfig(11L, 4, 24, 21, style,
+                    DungeonConfig.DungeonLayout.WINDING);
+                DungeonGenerator original = generate(config, fourThreads);
+
+                DungeonGenerator restored = DungeonGenerator.fromCompressedLayout(config, original.compressLayout());
+
+                assertEquals(0, countDifferentTiles(original, restored), style.toString());
+                assertEquals(original.getRegionCount(), restored.getRegionCount());
+                assertEquals(original.isChunkConnected(0, 0, 23, 20), restored.isChunkConnected(0, 0, 23, 20));
+            }
+        }
+
+        @Test
+        @DisplayName("Should store room layouts smaller than their bitset")
+        void testRoomLayoutSize() {
+            DungeonConfig config = new DungeonConfig(5L, 1, 64, 64,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.STRAIGHT);
+            DungeonGenerator generator = generate(config, fourThreads);
+
+            int bitsetBytes = generator.getWidthInTiles() * generator.getHeightInTiles() / 8;
+            assertTrue(generator.compressLayout().length < bitsetBytes / 2);
+        }
+
+        @Test
+        @DisplayName("Should reject data for a different layout size")
+        void testWrongSize() {
+            DungeonConfig small = new DungeonConfig(5L, 1, 8, 8,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.STRAIGHT);
+            DungeonConfig large = new DungeonConfig(5L, 1, 16, 16,
+                DungeonConfig.DungeonStyle.OPEN, DungeonConfig.DungeonLayout.STRAIGHT);
+            byte[] layout = generate(small, singleThread).compressLayout();
+
+            assertThrows(IllegalArgumentException.class, () -> DungeonGenerator.fromCompressedLayout(large, layout));
+            assertThrows(IllegalArgumentException.class,
+                () -> DungeonGenerator.fromCompressedLayout(small, new byte[] {0, 1, 100}));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.inherit_this.world;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the DungeonManager's cache of visited levels.
+ */
+@DisplayName("DungeonManager Tests")
+class DungeonManagerTest {
+
+    private DungeonManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = DungeonManager.getInstance();
+        manager.setBaseSeed(77L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.clearDungeons();
+    }
+
+    @Nested
+    @DisplayName("Level Cache")
+    class LevelCache {
+
+        @Test
+        @DisplayName("Should keep the current level when entering it again")
+        void testReenterCurrent() {
+            DungeonWorld first = manager.enterDungeon(1, 0f, 0f);
+
+            assertSame(first, manager.enterDungeon(1, 0f, 0f));
+            assertEquals(1, manager.getCachedDungeonCount());
+        }
+
+        @Test
+        @DisplayName("Should store a left level compressed and restore the same layout")
+        void testStoreAndRestore() {
+            DungeonWorld first = manager.enterDungeon(1, 0f, 0f);
+            byte[] layout = first.getGenerator().compressLayout();
+            int regionCount = first.getGenerator().getRegionCount();
+
+            manager.enterDungeon(2, 0f, 0f);
+            assertEquals(2, manager.getCachedDungeonCount());
+            assertTrue(manager.isLevelCached(1));
+            assertEquals(layout.length, manager.getCachedLayoutBytes());
+
+            DungeonWorld restored = manager.enterDungeon(1, 0f, 0f);
+
+            assertNotSame(first, restored);
+            assertEquals(1, manager.getCurrentLevel());
+            assertArrayEquals(layout, restored.getGenerator().compressLayout());
+            assertEquals(regionCount, restored.getGenerator().getRegionCount());
+            assertTrue(manager.isLevelCached(2), "The level left for the restore should be stored");
+        }
+
+        @Test
+        @DisplayName("Should keep a level left for town")
+        void testExitToTown() {
+            manager.enterDungeon(3, 10f, 20f);
+
+            float[] townPosition = manager.exitToTown();
+
+            assertArrayEquals(new float[]{10f, 20f}, townPosition);
+            assertFalse(manager.isInDungeon());
+            assertNull(manager.getCurrentDungeon());
+            assertTrue(manager.isLevelCached(3));
+        }
+
+        @Test
+        @DisplayName("Should drop the least recently visited levels beyond the limit")
+        void testTrim() {
+            for (int level = 1; level <= DungeonManager.MAX_CACHED_DUNGEONS; level++) {
+                manager.enterDungeon(level, 0f, 0f);
+            }
+            // Visit level 1 again, so level 2 is the least recently visited
+            manager.enterDungeon(1, 0f, 0f);
+            assertEquals(DungeonManager.MAX_CACHED_DUNGEONS, manager.getCachedDungeonCount());
+
+            manager.enterDungeon(DungeonManager.MAX_CACHED_DUNGEONS + 1, 0f, 0f);
+            manager.exitToTown();
+
+            assertEquals(DungeonManager.MAX_CACHED_DUNGEONS, manager.getCachedDungeonCount());
+            assertFalse(manager.isLevelCached(2));
+            assertTrue(manager.isLevelCached(1));
+            assertTrue(manager.isLevelCached(3));
+            assertTrue(manager.isLevelCached(DungeonManager.MAX_CACHED_DUNGEONS + 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Prefetching")
+    class Prefetching {
+
+        @Test
+        @DisplayName("Should prefetch a level once and skip visited levels")
+        void testPrefetchOnce() {
+            manager.prefetchLevel(2);
+            manager.prefetchLevel(2);
+            assertTrue(manager.getPrefetcher().isPrefetching(2));
+
+            manager.enterDungeon(2, 0f, 0f);
+            manager.exitToTown();
+            manager.prefetchLevel(2);
+
+            assertFalse(manager.getPrefetcher().isPrefetching(2), "Visited levels are restored, not prefetched");
+            assertEquals(1, manager.getPrefetcher().getHitCount() + manager.getPrefetcher().getLateHitCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("Should generate and prefetch levels again after being disposed")
+        void testReuseAfterDispose() {
+            manager.enterDungeon(1, 0f, 0f);
+            DungeonPrefetcher disposedPrefetcher = manager.getPrefetcher();
+
+            manager.dispose();
+            assertFalse(manager.isInDungeon());
+
+            DungeonWorld world = manager.enterDungeon(2, 0f, 0f);
+            assertNotNull(world);
+            assertTrue(world.getGenerator().isGenerated());
+
+            manager.prefetchLevel(3);
+            assertNotSame(disposedPrefetcher, manager.getPrefetcher());
+            assertNotNull(manager.enterDungeon(3, 0f, 0f));
+            assertEquals(1, manager.getPrefetcher().getHitCount() + manager.getPrefetcher().getLateHitCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Spawn Position")
+    class SpawnPosition {
+
+        @Test
+        @DisplayName("Should give the spawn position of the current level")
+        void testCurrentLevel() {
+            DungeonWorld world = manager.enterDungeon(2, 0f, 0f);
+
+            assertArrayEquals(world.getSpawnPosition(), manager.getDungeonSpawnPosition(2));
+        }
+
+        @Test
+        @DisplayName("Should reject levels other than the current one")
+        void testOtherLevel() {
+            manager.enterDungeon(2, 0f, 0f);
+
+            assertThrows(IllegalStateException.class, () -> manager.getDungeonSpawnPosition(1));
+            manager.exitToTown();
+            assertThrows(IllegalStateException.class, () -> manager.getDungeonSpawnPosition(2));
+        }
+    }
+}
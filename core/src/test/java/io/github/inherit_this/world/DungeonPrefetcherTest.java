@@ -0,0 +1,97 @@
+package io.github.inherit_this.world;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the DungeonPrefetcher (background generation of the next dungeon level).
+ */
+@DisplayName("DungeonPrefetcher Tests")
+class DungeonPrefetcherTest {
+
+    private ForkJoinPool generationPool;
+    private DungeonPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        generationPool = new ForkJoinPool(2);
+        prefetcher = new DungeonPrefetcher(generationPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.dispose();
+        generationPool.shutdown();
+    }
+
+    private DungeonConfig createConfig(long seed, int level) {
+        return new DungeonConfig(seed, level, 16, 16,
+            DungeonConfig.DungeonStyle.NARROW, DungeonConfig.DungeonLayout.WINDING);
+    }
+
+    @Test
+    @DisplayName("Should hand over the prefetched level")
+    void testHandOver() {
+        DungeonConfig config = createConfig(42L, 2);
+        prefetcher.prefetch(config, false);
+        assertTrue(prefetcher.isPrefetching(config));
+
+        DungeonWorld world = prefetcher.take(createConfig(42L, 2));
+
+        assertNotNull(world);
+        assertFalse(prefetcher.isPrefetching(config));
+        assertEquals(1, prefetcher.getHitCount() + prefetcher.getLateHitCount());
+        assertEquals(0, prefetcher.getMissCount());
+
+        // Same layout as generating on entry
+        DungeonGenerator expected = new DungeonGenerator(config);
+        expected.generate();
+        for (int x = 0; x < expected.getWidthInTiles(); x++) {
+            for (int y = 0; y < expected.getHeightInTiles(); y++) {
+                assertEquals(expected.isWall(x, y), world.getGenerator().isWall(x, y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should count a miss for a level that wasn't prefetched")
+    void testMiss() {
+        prefetcher.prefetch(createConfig(42L, 2), false);
+
+        assertNull(prefetcher.take(createConfig(42L, 3)));
+        assertNull(prefetcher.take(createConfig(7L, 2)));
+
+        assertEquals(2, prefetcher.getMissCount());
+        assertTrue(prefetcher.isPrefetching(createConfig(42L, 2)), "Other levels shouldn't drop the prefetch");
+    }
+
+    @Test
+    @DisplayName("Should drop a cancelled or replaced prefetch")
+    void testCancel() {
+        prefetcher.prefetch(createConfig(42L, 2), false);
+        prefetcher.prefetch(createConfig(42L, 3), false);
+        assertFalse(prefetcher.isPrefetching(createConfig(42L, 2)));
+
+        prefetcher.cancel();
+
+        assertNull(prefetcher.take(createConfig(42L, 3)));
+        assertEquals(1, prefetcher.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should generate on entry after being disposed")
+    void testDisposed() {
+        prefetcher.dispose();
+
+        prefetcher.prefetch(createConfig(42L, 2), false);
+
+        assertFalse(prefetcher.isPrefetching(createConfig(42L, 2)));
+        assertNull(prefetcher.take(createConfig(42L, 2)));
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.graphics.Texture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for PackedTileLayers chunk storage.
+ */
+@DisplayName("PackedTileLayers Tests")
+class PackedTileLayersTest {
+
+    private Texture grass;
+    private Texture wall;
+    private PackedTileLayers layers;
+
+    @BeforeEach
+    void setUp() {
+        grass = mock(Texture.class);
+        wall = mock(Texture.class);
+
+        PackedTileLayers.Builder builder = new PackedTileLayers.Builder();
+        builder.cell(0).add(grass, TileType.GRASS, TileLayer.GROUND, 0, 0, false, false, 0);
+        builder.cell(5)
+            .add(grass, TileType.GRASS, TileLayer.GROUND, 0, 0, false, false, 0)
+            .add(wall, TileType.STONE, TileLayer.WALL, 2, 1, true, true, 3);
+        builder.cell(63).add(grass, TileType.GRASS, TileLayer.ROOF, 1, 0, false, false, 0);
+        layers = builder.build();
+    }
+
+    @Nested
+    @DisplayName("Layout")
+    class Layout {
+
+        @Test
+        @DisplayName("Should count layers per cell")
+        void testLayerCounts() {
+            assertEquals(1, layers.getLayerCount(0));
+            assertEquals(0, layers.getLayerCount(1));
+            assertEquals(2, layers.getLayerCount(5));
+            assertEquals(1, layers.getLayerCount(63));
+            assertEquals(4, layers.getTotalLayerCount());
+        }
+
+        @Test
+        @DisplayName("Should share palette entries between layers")
+        void testPalette() {
+            assertEquals(2, layers.getPaletteSize());
+        }
+
+        @Test
+        @DisplayName("Should reject cells added out of order")
+        void testOutOfOrder() {
+            PackedTileLayers.Builder builder = new PackedTileLayers.Builder();
+            builder.cell(10);
+            assertThrows(IllegalStateException.class, () -> builder.cell(3));
+        }
+
+        @Test
+        @DisplayName("Should grow past one layer per cell")
+        void testGrow() {
+            PackedTileLayers.Builder builder = new PackedTileLayers.Builder();
+            for (int i = 0; i < 200; i++) {
+                builder.add(grass, TileType.GRASS, TileLayer.GROUND, 0, i % 16, false, false, 0);
+            }
+            PackedTileLayers packed = builder.build();
+            assertEquals(200, packed.getLayerCount(0));
+            assertEquals(0, packed.getLayerCount(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class Reads {
+
+        @Test
+        @DisplayName("Cursor should visit all layers of a cell in order")
+        void testCursor() {
+            PackedTileLayers.Cursor cursor = layers.new Cursor();
+            cursor.reset(5);
+
+            assertTrue(cursor.next());
+            assertSame(grass, cursor.getTexture());
+            assertEquals(TileLayer.GROUND, cursor.getLayer());
+
+            assertTrue(cursor.next());
+            assertSame(wall, cursor.getTexture());
+            assertEquals(TileType.STONE, cursor.getType());
+            assertEquals(TileLayer.WALL, cursor.getLayer());
+            assertEquals(2, cursor.getDirection());
+            assertEquals(1, cursor.getLevel());
+            assertTrue(cursor.isSolid());
+            assertTrue(cursor.isFlipped());
+            assertEquals(3, cursor.getTextureRotation());
+            assertEquals(90f, cursor.getEffectiveAngle());
+
+            assertFalse(cursor.next());
+        }
+
+        @Test
+        @DisplayName("Cursor should report empty cells")
+        void testCursorEmpty() {
+            assertFalse(layers.new Cursor().reset(1).next());
+        }
+
+        @Test
+        @DisplayName("Should report solidity of any layer")
+        void testSolid() {
+            assertFalse(layers.isSolid(0));
+            assertFalse(layers.isSolid(1));
+            assertTrue(layers.isSolid(5));
+        }
+
+        @Test
+        @DisplayName("Should materialize equivalent Tile objects")
+        void testToTiles() {
+            List<Tile> tiles = layers.toTiles(5);
+            assertEquals(2, tiles.size());
+
+            Tile tile = tiles.get(1);
+            assertSame(wall, tile.getTexture());
+            assertTrue(tile.isSolid());
+            assertEquals(TileType.STONE, tile.getType());
+            assertEquals(TileLayer.WALL, tile.getLayer());
+            assertEquals(2, tile.getDirection());
+            assertEquals(1, tile.getLevel());
+            assertTrue(tile.isFlipped());
+            assertEquals(3, tile.getTextureRotation());
+            assertEquals(90f, tile.getEffectiveAngle());
+
+            assertSame(grass, layers.firstTile(0).getTexture());
+            assertNull(layers.firstTile(1));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.inherit_this.world;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary RegionFile map format.
+ */
+@DisplayName("RegionFile Tests")
+public class RegionFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private StaticWorld.StaticMapData mapData;
+
+    @BeforeEach
+    void setUp() {
+        mapData = new StaticWorld.StaticMapData();
+        mapData.name = "Test Town";
+        mapData.width = 40;
+        mapData.height = 30;
+        mapData.spawnX = 12;
+        mapData.spawnY = 7;
+        mapData.defaultTile = "grass_1";
+        mapData.tiles.put("0,0", "stone_1:GROUND:0");
+        mapData.tiles.put("3,5", "grass_2:GROUND:0:0:false:0;wood_wall:WALL:1:0:false:2");
+        mapData.tiles.put("9,1", "stone_1:GROUND:0");
+        mapData.tiles.put("5,-1", "grass_1:GROUND:0:0:false:0");
+        mapData.tiles.put("-17,-9", "sand_1");
+    }
+
+    private RegionFile writeAndOpen() throws IOException {
+        Path path = tempDir.resolve("map" + RegionFile.EXTENSION);
+        RegionFile.write(path, mapData);
+        return RegionFile.open(path);
+    }
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("Should preserve map metadata")
+        void testMetadata() throws IOException {
+            try (RegionFile region = writeAndOpen()) {
+                StaticWorld.StaticMapData read = region.createMapData();
+                assertEquals("Test Town", read.name);
+                assertEquals(40, read.width);
+                assertEquals(30, read.height);
+                assertEquals(12, read.spawnX);
+                assertEquals(7, read.spawnY);
+                assertEquals("grass_1", read.defaultTile);
+            }
+        }
+
+        @Test
+        @DisplayName("Should preserve all tile entries including out-of-bounds and negative keys")
+        void testTilesLossless() throws IOException {
+            try (RegionFile region = writeAndOpen()) {
+                Map<String, String> tiles = new HashMap<>();
+                region.readAll(tiles);
+                assertEquals(mapData.tiles, tiles);
+            }
+        }
+
+        @Test
+        @DisplayName("Should preserve empty layers and empty cells")
+        void testEmptyLayers() throws IOException {
+            mapData.tiles.put("1,1", "");
+            mapData.tiles.put("1,2", "stone_1;;grass_1;");
+
+            try (RegionFile region = writeAndOpen()) {
+                assertEquals("", region.getCell(1, 1));
+                assertEquals("stone_1;;grass_1;", region.getCell(1, 2));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep keys that are not plain tile coordinates")
+        void testExtraEntries() throws IOException {
+            mapData.tiles.put("not a key", "grass_3");
+            mapData.tiles.put("07,3", "grass_4");
+
+            try (RegionFile region = writeAndOpen()) {
+                Map<String, String> tiles = new HashMap<>();
+                region.readAll(tiles);
+                assertEquals(mapData.tiles, tiles);
+                assertEquals("grass_3", region.createMapData().tiles.get("not a key"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunk Reads")
+    class ChunkReads {
+
+        @Test
+        @DisplayName("Should read cells of a chunk by local index")
+        void testReadChunk() throws IOException {
+            try (RegionFile region = writeAndOpen()) {
+                String[] cells = new String[64];
+                assertTrue(region.readChunk(0, 0, cells));
+                assertEquals("stone_1:GROUND:0", cells[0]);
+                assertEquals("grass_2:GROUND:0:0:false:0;wood_wall:WALL:1:0:false:2", cells[3 * 8 + 5]);
+                assertNull(cells[1]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report chunks without data")
+        void testEmptyChunk() throws IOException {
+            try (RegionFile region = writeAndOpen()) {
+                String[] cells = new String[64];
+                cells[0] = "stale";
+                assertFalse(region.readChunk(4, 4, cells));
+                assertNull(cells[0]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle negative chunk coordinates")
+        void testNegativeCoordinates() throws IOException {
+            try (RegionFile region = writeAndOpen()) {
+                assertEquals("sand_1", region.getCell(-17, -9));
+                assertEquals("grass_1:GROUND:0:0:false:0", region.getCell(5, -1));
+                assertNull(region.getCell(-16, -9));
+            }
+        }
+
+        @Test
+        @DisplayName("Should intern repeated layer strings in the palette")
+        void testPalette() throws IOException {
+            try (RegionFile region = writeAndOpen()) {
+                // stone_1:GROUND:0 appears twice but is stored once
+                assertEquals(5, region.getPaletteSize());
+                assertEquals(4, region.getChunkCount());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not region files")
+    void testInvalidFile() throws IOException {
+        Path path = tempDir.resolve("bad" + RegionFile.EXTENSION);
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> RegionFile.open(path));
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.inherit_this.world;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SolidityMap collision bitset.
+ */
+@DisplayName("SolidityMap Tests")
+class SolidityMapTest {
+
+    private boolean[][] walls;
+    private int computeCount;
+    private SolidityMap map;
+
+    @BeforeEach
+    void setUp() {
+        // 16x16 tile world with a wall column at x = 10
+        walls = new boolean[16][16];
+        for (int y = 0; y < 16; y++) {
+            walls[10][y] = true;
+        }
+        computeCount = 0;
+        map = new SolidityMap(this::computeMask, 16, 16, true);
+    }
+
+    private long computeMask(int chunkX, int chunkY) {
+        computeCount++;
+        long mask = 0L;
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                if (walls[chunkX * 8 + x][chunkY * 8 + y]) {
+                    mask |= 1L << (x * 8 + y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    @Nested
+    @DisplayName("Tile Queries")
+    class TileQueries {
+
+        @Test
+        @DisplayName("Should report solid and open tiles")
+        void testIsSolid() {
+            assertTrue(map.isSolid(10, 3));
+            assertFalse(map.isSolid(9, 3));
+            assertFalse(map.isSolid(0, 0));
+        }
+
+        @Test
+        @DisplayName("Should use the out-of-bounds value outside the world")
+        void testOutOfBounds() {
+            assertTrue(map.isSolid(-1, 0));
+            assertTrue(map.isSolid(16, 5));
+
+            SolidityMap open = new SolidityMap((cx, cy) -> 0L, 16, 16, false);
+            assertFalse(open.isSolid(-1, 0));
+        }
+
+        @Test
+        @DisplayName("Should compute each chunk mask once")
+        void testMaskCaching() {
+            map.isSolid(1, 1);
+            map.isSolid(2, 7);
+            map.isSolid(10, 1);
+            assertEquals(2, computeCount);
+            assertEquals(2, map.getCachedChunkCount());
+        }
+
+        @Test
+        @DisplayName("Should recompute a chunk after invalidation")
+        void testInvalidate() {
+            assertFalse(map.isSolid(3, 3));
+            walls[3][3] = true;
+            assertFalse(map.isSolid(3, 3));
+
+            map.invalidateChunk(0, 0);
+            assertTrue(map.isSolid(3, 3));
+        }
+
+        @Test
+        @DisplayName("Should update single tiles")
+        void testSetSolid() {
+            map.setSolid(4, 4, true);
+            assertTrue(map.isSolid(4, 4));
+            map.setSolid(10, 4, false);
+            assertFalse(map.isSolid(10, 4));
+        }
+
+        @Test
+        @DisplayName("Should handle negative chunks in unbounded maps")
+        void testUnbounded() {
+            SolidityMap unbounded = new SolidityMap((cx, cy) -> cx < 0 ? -1L : 0L);
+            assertTrue(unbounded.isSolid(-1, -100));
+            assertFalse(unbounded.isSolid(0, -100));
+        }
+
+        @Test
+        @DisplayName("Should keep entries reachable after many inserts and removals")
+        void testManyChunks() {
+            SolidityMap unbounded = new SolidityMap((cx, cy) -> (cx + cy) % 2 == 0 ? 1L : 0L);
+            for (int cx = -20; cx < 20; cx++) {
+                for (int cy = -20; cy < 20; cy++) {
+                    unbounded.isSolid(cx * 8, cy * 8);
+                }
+            }
+            for (int cx = -20; cx < 20; cx += 3) {
+                unbounded.invalidateChunk(cx, 0);
+            }
+            for (int cx = -20; cx < 20; cx++) {
+                for (int cy = -20; cy < 20; cy++) {
+                    assertEquals((cx + cy) % 2 == 0, unbounded.isSolid(cx * 8, cy * 8));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Box Queries")
+    class BoxQueries {
+
+        @Test
+        @DisplayName("Should detect boxes touching a solid tile")
+        void testOverlaps() {
+            assertTrue(map.overlaps(9.2f, 3f, 10.1f, 4f));
+            assertFalse(map.overlaps(8f, 3f, 9.9f, 4f));
+        }
+
+        @Test
+        @DisplayName("Should treat box edges on a tile boundary as touching")
+        void testOverlapsInclusiveEdge() {
+            assertTrue(map.overlaps(9f, 3f, 10f, 4f));
+        }
+
+        @Test
+        @DisplayName("Should stop a box flush against a wall")
+        void testSweepStops() {
+            Vector2 out = map.sweep(8f, 5f, 0.5f, 0.5f, 3f, 0f, new Vector2());
+            assertTrue(out.x < 9.5f);
+            assertTrue(out.x > 9.49f);
+            assertEquals(5f, out.y);
+            assertFalse(map.overlaps(out.x - 0.5f, out.y - 0.5f, out.x + 0.5f, out.y + 0.5f));
+        }
+
+        @Test
+        @DisplayName("Should stop a box whose max X edge lies on the wall boundary")
+        void testSweepStopsOnBoundaryX() {
+            Vector2 out = map.sweep(9.5f, 5f, 0.5f, 0.5f, 0.3f, 0f, new Vector2());
+
+            assertEquals(9.5f, out.x, 0.0001f);
+            assertTrue(out.x + 0.5f <= 10f, "Box must not enter the wall column");
+        }
+
+        @Test
+        @DisplayName("Should stop a box whose max Y edge lies on the wall boundary")
+        void testSweepStopsOnBoundaryY() {
+            // Wall row at y = 12, left of the wall column
+            for (int x = 0; x < 10; x++) {
+                walls[x][12] = true;
+            }
+
+            Vector2 out = map.sweep(4.5f, 11.5f, 0.5f, 0.5f, 0f, 0.3f, new Vector2());
+
+            assertEquals(11.5f, out.y, 0.0001f);
+            assertTrue(out.y + 0.5f <= 12f, "Box must not enter the wall row");
+        }
+
+        @Test
+        @DisplayName("Should still move a box on a boundary away from the wall")
+        void testSweepLeavesBoundary() {
+            Vector2 out = map.sweep(9.5f, 5f, 0.5f, 0.5f, -0.3f, 0f, new Vector2());
+
+            assertEquals(9.2f, out.x, 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Should slide along a wall when moving diagonally")
+        void testSweepSlides() {
+            Vector2 out = map.sweep(9f, 5f, 0.4f, 0.4f, 1f, 1f, new Vector2());
+            assertTrue(out.x < 9.6f);
+            assertEquals(6f, out.y, 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Should move freely without obstacles")
+        void testSweepFree() {
+            Vector2 out = map.sweep(3f, 3f, 0.5f, 0.5f, -1.5f, 2f, new Vector2());
+            assertEquals(1.5f, out.x, 0.0001f);
+            assertEquals(5f, out.y, 0.0001f);
+        }
+
+        @Test
+        @DisplayName("Should stop at the world edge when out of bounds is solid")
+        void testSweepWorldEdge() {
+            Vector2 out = map.sweep(1f, 1f, 0.5f, 0.5f, -3f, -3f, new Vector2());
+            assertEquals(0.5f, out.x, 0.0001f);
+            assertEquals(0.5f, out.y, 0.0001f);
+        }
+    }
+}